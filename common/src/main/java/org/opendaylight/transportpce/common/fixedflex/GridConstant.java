@@ -24,11 +24,18 @@ import org.opendaylight.yangtools.yang.common.Uint32;
 public final class GridConstant {
 
     public static final String C_BAND = "cband";
+    public static final String L_BAND = "lband";
     public static final int AVAILABLE_SLOT_VALUE = 255;
     public static final int USED_SLOT_VALUE = 0;
     public static final double GRANULARITY = 6.25;
     public static final int EFFECTIVE_BITS = 768;
     public static final double START_EDGE_FREQUENCY_THZ = 191.325;
+    public static final double L_BAND_START_EDGE_FREQUENCY_THZ = 186.125;
+    /**
+     * Spectrum indexes of the L band start at this offset, C band ones at 0.
+     * It is a multiple of 64 above EFFECTIVE_BITS so that bands never share a BitSet word nor touch each other.
+     */
+    public static final int L_BAND_INDEX_OFFSET = 1024;
     public static final double ANCHOR_FREQUENCY_THZ = 193.100;
     public static final double HZ_TO_THZ = 1.0E12;
     public static final int NB_OCTECTS = 96;
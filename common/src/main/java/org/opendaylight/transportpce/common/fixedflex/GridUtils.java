@@ -41,20 +41,29 @@ public final class GridUtils {
     }
 
     public static Map<AvailFreqMapsKey, AvailFreqMaps> initFreqMaps4FixedGrid2Available() {
+        Map<AvailFreqMapsKey, AvailFreqMaps> waveMap = new HashMap<>();
+        AvailFreqMaps availFreqMaps = initFreqMap2Available(SpectrumBand.C_BAND);
+        waveMap.put(availFreqMaps.key(), availFreqMaps);
+        return waveMap;
+    }
+
+    /**
+     * Create the frequency map of a band with all the slots available.
+     * @param band SpectrumBand
+     * @return the AvailFreqMaps of the band.
+     */
+    public static AvailFreqMaps initFreqMap2Available(SpectrumBand band) {
         byte[] byteArray = new byte[GridConstant.NB_OCTECTS];
         Arrays.fill(byteArray, (byte) GridConstant.AVAILABLE_SLOT_VALUE);
-        Map<AvailFreqMapsKey, AvailFreqMaps> waveMap = new HashMap<>();
-        AvailFreqMaps availFreqMaps = new AvailFreqMapsBuilder().setMapName(GridConstant.C_BAND)
+        return new AvailFreqMapsBuilder().setMapName(band.getMapName())
                 .setFreqMapGranularity(
                     new FrequencyGHz(Decimal64.valueOf(BigDecimal.valueOf(GridConstant.GRANULARITY)).scaleTo(5)))
                 .setStartEdgeFreq(
-                    new FrequencyTHz(Decimal64.valueOf(BigDecimal.valueOf(GridConstant.START_EDGE_FREQUENCY_THZ))
+                    new FrequencyTHz(Decimal64.valueOf(BigDecimal.valueOf(band.getStartEdgeFrequencyThz()))
                             .scaleTo(8)))
                 .setEffectiveBits(Uint16.valueOf(GridConstant.EFFECTIVE_BITS))
                 .setFreqMap(byteArray)
                 .build();
-        waveMap.put(availFreqMaps.key(), availFreqMaps);
-        return waveMap;
     }
 
     /**
@@ -69,11 +78,11 @@ public final class GridUtils {
 
     /**
      * Compute the start frequency in THz for the given index.
-     * @param index int
+     * @param index int, spectrum index of a C or L band slot
      * @return the start frequency in THz for the provided index.
      */
     public static BigDecimal getStartFrequencyFromIndex(int index) {
-        int nvalue = index - 284;
+        int nvalue = getNFromFrequencyIndex(index);
 
         return BigDecimal.valueOf(GridConstant.CENTRAL_FREQUENCY_THZ).add(
                         BigDecimal.valueOf(GridConstant.GRANULARITY)
@@ -96,8 +105,8 @@ public final class GridUtils {
      * Get the bit index for the frequency.
      *
      * @param atozMinFrequency BigDecimal
-     * @return the bit index of the frequency. Throw IllegalArgumentException if
-     *         index not in range of 0 GridConstant.EFFECTIVE_BITS
+     * @return the bit index of the frequency, offset by the index offset of its band. Throw
+     *         IllegalArgumentException if index not in range of 0 GridConstant.EFFECTIVE_BITS of any band
      */
     public static int getIndexFromFrequency(Decimal64 atozMinFrequency) {
 
@@ -108,11 +117,13 @@ public final class GridUtils {
                                     .divide(BigDecimal.valueOf(GridConstant.GRANULARITY))
                             );
 
-        int index = (int) Math.round(nvalue.add(BigDecimal.valueOf(284)).doubleValue());
-        if (index < 0 || index > GridConstant.EFFECTIVE_BITS) {
-            throw new IllegalArgumentException("Frequency not in range " + atozMinFrequency);
+        for (SpectrumBand band : SpectrumBand.values()) {
+            int index = (int) Math.round(nvalue.add(BigDecimal.valueOf(band.getAnchorIndex())).doubleValue());
+            if (index >= 0 && index <= GridConstant.EFFECTIVE_BITS) {
+                return band.toSpectrumIndex(index);
+            }
         }
-        return index;
+        throw new IllegalArgumentException("Frequency not in range " + atozMinFrequency);
     }
 
     /**
@@ -258,12 +269,13 @@ public final class GridUtils {
     }
 
     /**
-     * Get the N value of range -284 +484 from frequency index array.
-     * @param frequencyIndex the frequency index f range 0 768.
+     * Get the N value of range -284 +484 from frequency index array, -1116 -348 for the L band.
+     * @param frequencyIndex the frequency index f range 0 768, offset by the index offset of its band.
      * @return the N value
      */
     public static int getNFromFrequencyIndex(int frequencyIndex) {
-        return frequencyIndex - 284;
+        SpectrumBand band = SpectrumBand.fromSpectrumIndex(frequencyIndex);
+        return band.toLocalIndex(frequencyIndex) - band.getAnchorIndex();
     }
 
     /**
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.common.fixedflex;
+
+import org.opendaylight.yang.gen.v1.http.org.openroadm.network.types.rev250110.available.freq.map.AvailFreqMapsKey;
+
+/**
+ * Bands of the optical spectrum, in order of preference for the spectrum assignment.
+ * Each band has its own frequency map of {@link GridConstant#EFFECTIVE_BITS} slots of
+ * {@link GridConstant#GRANULARITY} GHz, whose local slot indexes are mapped to a single spectrum index space
+ * by adding the index offset of the band. C band indexes are thus unchanged, and an index identifies both the
+ * band and the slot.
+ */
+public enum SpectrumBand {
+
+    C_BAND(GridConstant.C_BAND, GridConstant.START_EDGE_FREQUENCY_THZ, 0),
+    L_BAND(GridConstant.L_BAND, GridConstant.L_BAND_START_EDGE_FREQUENCY_THZ, GridConstant.L_BAND_INDEX_OFFSET);
+
+    private final String mapName;
+    private final AvailFreqMapsKey mapKey;
+    private final double startEdgeFrequencyThz;
+    private final int indexOffset;
+    private final int anchorIndex;
+
+    SpectrumBand(String mapName, double startEdgeFrequencyThz, int indexOffset) {
+        this.mapName = mapName;
+        this.mapKey = new AvailFreqMapsKey(mapName);
+        this.startEdgeFrequencyThz = startEdgeFrequencyThz;
+        this.indexOffset = indexOffset;
+        // Local index of the 193.1 THz anchor frequency, 284 for the C band
+        this.anchorIndex = (int) Math.round(
+            (GridConstant.ANCHOR_FREQUENCY_THZ - startEdgeFrequencyThz) * 1000 / GridConstant.GRANULARITY);
+    }
+
+    public String getMapName() {
+        return mapName;
+    }
+
+    public AvailFreqMapsKey getMapKey() {
+        return mapKey;
+    }
+
+    public double getStartEdgeFrequencyThz() {
+        return startEdgeFrequencyThz;
+    }
+
+    public int getIndexOffset() {
+        return indexOffset;
+    }
+
+    /**
+     * Get the local index of the 193.1 THz anchor frequency, possibly out of the band.
+     * @return the number of slots between the start edge of the band and the anchor frequency.
+     */
+    public int getAnchorIndex() {
+        return anchorIndex;
+    }
+
+    /**
+     * Convert a local slot index of the band to a spectrum index.
+     * @param localIndex slot index in the frequency map of the band
+     * @return the spectrum index
+     */
+    public int toSpectrumIndex(int localIndex) {
+        return localIndex + indexOffset;
+    }
+
+    /**
+     * Convert a spectrum index to a local slot index of the band.
+     * @param spectrumIndex spectrum index of a slot of the band
+     * @return the slot index in the frequency map of the band
+     */
+    public int toLocalIndex(int spectrumIndex) {
+        return spectrumIndex - indexOffset;
+    }
+
+    /**
+     * Get the band of a spectrum index.
+     * @param spectrumIndex int
+     * @return the band the index belongs to.
+     */
+    public static SpectrumBand fromSpectrumIndex(int spectrumIndex) {
+        return spectrumIndex >= GridConstant.L_BAND_INDEX_OFFSET ? L_BAND : C_BAND;
+    }
+}
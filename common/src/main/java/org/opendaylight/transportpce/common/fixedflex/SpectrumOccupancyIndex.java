@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.common.fixedflex;
+
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * In-memory view of the spectrum occupancy of the openroadm-topology.
+ * It keeps the frequency map of every band of every ROADM degree and SRG, and derives the frequency maps of every
+ * ROADM-to-ROADM link as the slots available on both of its degrees. Occupancy statistics are computed over all the
+ * bands when a map changes, so that they can be queried without reading the datastore.
+ */
+public interface SpectrumOccupancyIndex {
+
+    /**
+     * Update the frequency map of a band of a degree or SRG node.
+     *
+     * @param nodeId the openroadm-topology node id (e.g. ROADM-A1-DEG1)
+     * @param band the band of the frequency map
+     * @param freqMap the available frequency map of the band, as stored in the topology
+     */
+    void updateNode(String nodeId, SpectrumBand band, byte[] freqMap);
+
+    /**
+     * Update the C-band frequency map of a degree or SRG node.
+     *
+     * @param nodeId the openroadm-topology node id (e.g. ROADM-A1-DEG1)
+     * @param freqMap the C-band available frequency map, as stored in the topology
+     */
+    default void updateNode(String nodeId, byte[] freqMap) {
+        updateNode(nodeId, SpectrumBand.C_BAND, freqMap);
+    }
+
+    void removeNode(String nodeId);
+
+    /**
+     * Update the degrees at both ends of a ROADM-to-ROADM link.
+     *
+     * @param linkId the openroadm-topology link id
+     * @param sourceNodeId the source degree node id
+     * @param destNodeId the destination degree node id
+     */
+    void updateLink(String linkId, String sourceNodeId, String destNodeId);
+
+    void removeLink(String linkId);
+
+    @Nullable SpectrumOccupancyStats getNodeOccupancy(String nodeId);
+
+    @Nullable SpectrumOccupancyStats getLinkOccupancy(String linkId);
+
+    Map<String, SpectrumOccupancyStats> getNodeOccupancies();
+
+    Map<String, SpectrumOccupancyStats> getLinkOccupancies();
+
+    /**
+     * Get the generation of the link occupancies.
+     * The generation is incremented every time the occupancy of a ROADM-to-ROADM link changes, so that the values
+     * derived from the link occupancies can be kept until the next change.
+     *
+     * @return the current generation
+     */
+    long getGeneration();
+
+    /**
+     * Get the ROADM-to-ROADM links on which no block of contiguous available slots, in any band, is wide enough for the
+     * given slot width.
+     *
+     * @param slotWidth the number of slots of the service
+     * @return the link ids
+     */
+    Set<String> getLinksNotFitting(int slotWidth);
+
+    /**
+     * Check if a ROADM-to-ROADM link may host a service of the given slot width.
+     *
+     * @param linkId the openroadm-topology link id
+     * @param slotWidth the number of slots of the service
+     * @return false if the link is known and has no block of available slots wide enough in any band, true otherwise.
+     */
+    default boolean fits(String linkId, int slotWidth) {
+        SpectrumOccupancyStats occupancy = getLinkOccupancy(linkId);
+        return occupancy == null || occupancy.fits(slotWidth);
+    }
+}
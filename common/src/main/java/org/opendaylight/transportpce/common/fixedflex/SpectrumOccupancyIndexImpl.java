@@ -0,0 +1,282 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.common.fixedflex;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataObjectDeleted;
+import org.opendaylight.mdsal.binding.api.DataObjectModified;
+import org.opendaylight.mdsal.binding.api.DataObjectWritten;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.common.StringConstants;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.network.topology.rev250110.Node1;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.network.types.rev250110.OpenroadmLinkType;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.network.types.rev250110.available.freq.map.AvailFreqMaps;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.network.types.rev250110.available.freq.map.AvailFreqMapsKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.NetworkId;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.Networks;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.Network;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.NetworkKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.network.Node;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.Network1;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.networks.network.Link;
+import org.opendaylight.yangtools.binding.DataObjectReference;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Spectrum occupancy index kept up to date from the openroadm-topology.
+ * The degree and SRG frequency maps and the ROADM-to-ROADM links are loaded from the initial content of the topology
+ * and followed through data tree change notifications. The frequencies service also pushes the maps it has just
+ * committed, so that the index reflects an allocation or a release as soon as it is done.
+ */
+@Component
+public class SpectrumOccupancyIndexImpl implements SpectrumOccupancyIndex, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpectrumOccupancyIndexImpl.class);
+    private static final DataObjectReference<Node> TOPOLOGY_NODE_II = DataObjectReference.builder(Networks.class)
+            .child(Network.class, new NetworkKey(new NetworkId(StringConstants.OPENROADM_TOPOLOGY)))
+            .child(Node.class)
+            .build();
+    private static final DataObjectReference<Link> TOPOLOGY_LINK_II = DataObjectReference.builder(Networks.class)
+            .child(Network.class, new NetworkKey(new NetworkId(StringConstants.OPENROADM_TOPOLOGY)))
+            .augmentation(Network1.class)
+            .child(Link.class)
+            .build();
+
+    private record LinkEnds(String sourceNodeId, String destNodeId) {
+    }
+
+    // Guarded by this
+    private final Map<String, Map<SpectrumBand, long[]>> nodeFreqMaps = new HashMap<>();
+    private final Map<String, LinkEnds> links = new HashMap<>();
+    private final Map<String, Set<String>> nodeLinks = new HashMap<>();
+    // Read without locking
+    private final Map<String, SpectrumOccupancyStats> nodeOccupancies = new ConcurrentHashMap<>();
+    private final Map<String, SpectrumOccupancyStats> linkOccupancies = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final List<Registration> listeners = new ArrayList<>();
+
+    /**
+     * Instantiate an index only updated through its update methods.
+     */
+    public SpectrumOccupancyIndexImpl() {
+    }
+
+    /**
+     * Instantiate an index following the openroadm-topology.
+     *
+     * @param dataBroker Provides access to the conceptual data tree store used by the implementation.
+     */
+    @Activate
+    public SpectrumOccupancyIndexImpl(@Reference DataBroker dataBroker) {
+        listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION, TOPOLOGY_NODE_II,
+                this::onNodeChanged));
+        listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION, TOPOLOGY_LINK_II,
+                this::onLinkChanged));
+        LOG.info("SpectrumOccupancyIndexImpl instantiated");
+    }
+
+    @Deactivate
+    @Override
+    public void close() {
+        listeners.forEach(Registration::close);
+        listeners.clear();
+        LOG.info("SpectrumOccupancyIndexImpl closed");
+    }
+
+    @Override
+    public synchronized void updateNode(String nodeId, SpectrumBand band, byte[] freqMap) {
+        Map<SpectrumBand, long[]> freqMaps =
+            nodeFreqMaps.computeIfAbsent(nodeId, k -> new EnumMap<>(SpectrumBand.class));
+        freqMaps.put(band, BitSet.valueOf(freqMap).toLongArray());
+        nodeOccupancies.put(nodeId, occupancy(freqMaps));
+        nodeLinks.getOrDefault(nodeId, Set.of()).forEach(this::updateLinkOccupancy);
+    }
+
+    @Override
+    public synchronized void removeNode(String nodeId) {
+        nodeFreqMaps.remove(nodeId);
+        nodeOccupancies.remove(nodeId);
+        nodeLinks.getOrDefault(nodeId, Set.of()).forEach(linkOccupancies::remove);
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public synchronized void updateLink(String linkId, String sourceNodeId, String destNodeId) {
+        LinkEnds previous = links.put(linkId, new LinkEnds(sourceNodeId, destNodeId));
+        if (previous != null) {
+            unbind(linkId, previous);
+        }
+        nodeLinks.computeIfAbsent(sourceNodeId, k -> new HashSet<>()).add(linkId);
+        nodeLinks.computeIfAbsent(destNodeId, k -> new HashSet<>()).add(linkId);
+        updateLinkOccupancy(linkId);
+    }
+
+    @Override
+    public synchronized void removeLink(String linkId) {
+        LinkEnds previous = links.remove(linkId);
+        if (previous != null) {
+            unbind(linkId, previous);
+        }
+        linkOccupancies.remove(linkId);
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public @Nullable SpectrumOccupancyStats getNodeOccupancy(String nodeId) {
+        return nodeOccupancies.get(nodeId);
+    }
+
+    @Override
+    public @Nullable SpectrumOccupancyStats getLinkOccupancy(String linkId) {
+        return linkOccupancies.get(linkId);
+    }
+
+    @Override
+    public Map<String, SpectrumOccupancyStats> getNodeOccupancies() {
+        return Map.copyOf(nodeOccupancies);
+    }
+
+    @Override
+    public Map<String, SpectrumOccupancyStats> getLinkOccupancies() {
+        return Map.copyOf(linkOccupancies);
+    }
+
+    @Override
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    @Override
+    public Set<String> getLinksNotFitting(int slotWidth) {
+        return linkOccupancies.entrySet().stream()
+            .filter(entry -> !entry.getValue().fits(slotWidth))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+    }
+
+    private void unbind(String linkId, LinkEnds ends) {
+        for (String nodeId : List.of(ends.sourceNodeId(), ends.destNodeId())) {
+            Set<String> boundLinks = nodeLinks.get(nodeId);
+            if (boundLinks != null) {
+                boundLinks.remove(linkId);
+                if (boundLinks.isEmpty()) {
+                    nodeLinks.remove(nodeId);
+                }
+            }
+        }
+    }
+
+    private void updateLinkOccupancy(String linkId) {
+        generation.incrementAndGet();
+        LinkEnds ends = links.get(linkId);
+        Map<SpectrumBand, long[]> source = ends == null ? null : nodeFreqMaps.get(ends.sourceNodeId());
+        Map<SpectrumBand, long[]> dest = ends == null ? null : nodeFreqMaps.get(ends.destNodeId());
+        if (source == null || dest == null) {
+            linkOccupancies.remove(linkId);
+            return;
+        }
+        // Only the bands known on both degrees may be used on the link
+        Map<SpectrumBand, long[]> freqMaps = new EnumMap<>(SpectrumBand.class);
+        source.forEach((band, sourceWords) -> {
+            long[] destWords = dest.get(band);
+            if (destWords != null) {
+                long[] words = new long[Math.min(sourceWords.length, destWords.length)];
+                for (int i = 0; i < words.length; i++) {
+                    words[i] = sourceWords[i] & destWords[i];
+                }
+                freqMaps.put(band, words);
+            }
+        });
+        if (freqMaps.isEmpty()) {
+            linkOccupancies.remove(linkId);
+            return;
+        }
+        linkOccupancies.put(linkId, occupancy(freqMaps));
+    }
+
+    private static SpectrumOccupancyStats occupancy(Map<SpectrumBand, long[]> freqMaps) {
+        SpectrumOccupancyStats occupancy = null;
+        for (long[] words : freqMaps.values()) {
+            SpectrumOccupancyStats bandOccupancy = SpectrumOccupancyStats.of(words, GridConstant.EFFECTIVE_BITS);
+            occupancy = occupancy == null ? bandOccupancy : occupancy.plus(bandOccupancy);
+        }
+        return occupancy;
+    }
+
+    private void onNodeChanged(List<DataTreeModification<Node>> changes) {
+        for (DataTreeModification<Node> change : changes) {
+            switch (change.getRootNode()) {
+                case DataObjectWritten<Node> writtenNode -> updateNode(writtenNode.dataAfter());
+                case DataObjectModified<Node> modifiedNode -> updateNode(modifiedNode.dataAfter());
+                case DataObjectDeleted<Node> deletedNode -> removeNode(deletedNode.dataBefore().getNodeId().getValue());
+            }
+        }
+    }
+
+    private void updateNode(Node node) {
+        Node1 node1 = node.augmentation(Node1.class);
+        if (node1 == null) {
+            return;
+        }
+        Map<AvailFreqMapsKey, AvailFreqMaps> availFreqMaps = null;
+        if (node1.getDegreeAttributes() != null) {
+            availFreqMaps = node1.getDegreeAttributes().getAvailFreqMaps();
+        } else if (node1.getSrgAttributes() != null) {
+            availFreqMaps = node1.getSrgAttributes().getAvailFreqMaps();
+        }
+        if (availFreqMaps == null) {
+            return;
+        }
+        for (SpectrumBand band : SpectrumBand.values()) {
+            AvailFreqMaps bandFreqMap = availFreqMaps.get(band.getMapKey());
+            if (bandFreqMap != null && bandFreqMap.getFreqMap() != null) {
+                updateNode(node.getNodeId().getValue(), band, bandFreqMap.getFreqMap());
+            }
+        }
+    }
+
+    private void onLinkChanged(List<DataTreeModification<Link>> changes) {
+        for (DataTreeModification<Link> change : changes) {
+            switch (change.getRootNode()) {
+                case DataObjectWritten<Link> writtenLink -> updateLink(writtenLink.dataAfter());
+                case DataObjectModified<Link> modifiedLink -> updateLink(modifiedLink.dataAfter());
+                case DataObjectDeleted<Link> deletedLink -> removeLink(deletedLink.dataBefore().getLinkId().getValue());
+            }
+        }
+    }
+
+    private void updateLink(Link link) {
+        org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Link1 link1 =
+            link.augmentation(org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Link1.class);
+        if (link1 == null || link1.getLinkType() != OpenroadmLinkType.ROADMTOROADM
+                || link.getSource() == null || link.getDestination() == null) {
+            return;
+        }
+        updateLink(link.getLinkId().getValue(), link.getSource().getSourceNode().getValue(),
+                link.getDestination().getDestNode().getValue());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.common.fixedflex;
+
+/**
+ * Occupancy of a frequency map, or of the frequency maps of several bands, computed once when a map changes.
+ *
+ * @param freeSlots number of available slots
+ * @param largestFreeBlock size of the largest block of contiguous available slots
+ * @param freeBlocks number of blocks of contiguous available slots
+ * @param slots number of slots of the maps
+ */
+public record SpectrumOccupancyStats(int freeSlots, int largestFreeBlock, int freeBlocks, int slots) {
+
+    /**
+     * Compute the occupancy of a frequency map.
+     * The map is scanned one 64 bit word at a time, jumping from one block boundary to the next.
+     *
+     * @param words the frequency map words, where 1 is an available slot and 0 an occupied one
+     * @param nbBits the number of slots of the map
+     * @return the frequency map occupancy
+     */
+    public static SpectrumOccupancyStats of(long[] words, int nbBits) {
+        int free = 0;
+        int largest = 0;
+        int blocks = 0;
+        int run = 0;
+        for (int wordIndex = 0; wordIndex * Long.SIZE < nbBits; wordIndex++) {
+            long word = wordIndex < words.length ? words[wordIndex] : 0L;
+            int remaining = nbBits - wordIndex * Long.SIZE;
+            if (remaining < Long.SIZE) {
+                word &= (1L << remaining) - 1;
+            }
+            free += Long.bitCount(word);
+            int bit = 0;
+            while (bit < Long.SIZE) {
+                long shifted = word >>> bit;
+                if ((shifted & 1L) != 0) {
+                    int ones = Long.numberOfTrailingZeros(~shifted);
+                    run += ones;
+                    bit += ones;
+                } else {
+                    if (run > 0) {
+                        blocks++;
+                        largest = Math.max(largest, run);
+                        run = 0;
+                    }
+                    bit += shifted == 0 ? Long.SIZE - bit : Long.numberOfTrailingZeros(shifted);
+                }
+            }
+        }
+        if (run > 0) {
+            blocks++;
+            largest = Math.max(largest, run);
+        }
+        return new SpectrumOccupancyStats(free, largest, blocks, nbBits);
+    }
+
+    /**
+     * Combine the occupancy of the frequency maps of two bands.
+     * A block of available slots never spans two bands, so the largest free block is the largest of both.
+     *
+     * @param other the occupancy of the frequency map of another band
+     * @return the occupancy of both maps
+     */
+    public SpectrumOccupancyStats plus(SpectrumOccupancyStats other) {
+        return new SpectrumOccupancyStats(freeSlots + other.freeSlots,
+            Math.max(largestFreeBlock, other.largestFreeBlock), freeBlocks + other.freeBlocks, slots + other.slots);
+    }
+
+    /**
+     * Utilization ratio of the maps, the share of their slots that are not available.
+     */
+    public double utilization() {
+        return slots == 0 ? 0 : 1 - (double) freeSlots / slots;
+    }
+
+    /**
+     * Fragmentation ratio of the map, 1 - largest free block / free slots.
+     * It is 0 when all the available slots are contiguous (or when none is available), and tends towards 1 when the
+     * available slots are scattered in many small blocks.
+     */
+    public double fragmentation() {
+        return freeSlots == 0 ? 0 : 1 - (double) largestFreeBlock / freeSlots;
+    }
+
+    /**
+     * Check if a service of the given slot width may still find a block of contiguous available slots.
+     * This does not take center frequency granularity into account, so a false result is definitive while a true
+     * result still requires a spectrum assignment.
+     */
+    public boolean fits(int slotWidth) {
+        return largestFreeBlock >= slotWidth;
+    }
+}
@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.opendaylight.transportpce.common.ServiceRateConstant;
@@ -72,6 +73,45 @@ public class GridUtilsTest {
         assertEquals(768, GridUtils.getIndexFromFrequency(Decimal64.valueOf("196.125")), "Index should be 768");
     }
 
+    @Test
+    void getIndexFromLBandFrequencyTest() {
+        assertEquals(GridConstant.L_BAND_INDEX_OFFSET, GridUtils.getIndexFromFrequency(Decimal64.valueOf("186.125")),
+            "First slot of the L band should follow the C band ones");
+        assertEquals(GridConstant.L_BAND_INDEX_OFFSET + 767,
+            GridUtils.getIndexFromFrequency(Decimal64.valueOf("190.91875")), "Index should be 1791");
+        assertEquals(GridConstant.L_BAND_INDEX_OFFSET + 768,
+            GridUtils.getIndexFromFrequency(Decimal64.valueOf("190.925")), "Index should be 1792");
+        assertEquals(1025, GridUtils.getLowerSpectralIndexFromFrequency(Decimal64.valueOf("186.125")),
+            "Lower spectral index should be 1025");
+        assertThrows(IllegalArgumentException.class,
+            () -> GridUtils.getIndexFromFrequency(Decimal64.valueOf("191")), "Frequency between the bands");
+    }
+
+    @Test
+    void lBandIndexesRoundTripTest() {
+        for (int i = GridConstant.L_BAND_INDEX_OFFSET; i < GridConstant.L_BAND_INDEX_OFFSET + 768; i++) {
+            BigDecimal frequency = GridUtils.getStartFrequencyFromIndex(i);
+            assertEquals(i, GridUtils.getIndexFromFrequency(Decimal64.valueOf(frequency)));
+            assertEquals(0, frequency.add(BigDecimal.valueOf(0.00625))
+                .compareTo(GridUtils.getStopFrequencyFromIndex(i)));
+        }
+        assertEquals(0, BigDecimal.valueOf(186.125)
+            .compareTo(GridUtils.getStartFrequencyFromIndex(GridConstant.L_BAND_INDEX_OFFSET)));
+        assertEquals(-1116, GridUtils.getNFromFrequencyIndex(GridConstant.L_BAND_INDEX_OFFSET));
+        assertEquals(-284, GridUtils.getNFromFrequencyIndex(0));
+        assertEquals(SpectrumBand.L_BAND, SpectrumBand.fromSpectrumIndex(GridConstant.L_BAND_INDEX_OFFSET + 768));
+        assertEquals(SpectrumBand.C_BAND, SpectrumBand.fromSpectrumIndex(768));
+    }
+
+    @Test
+    void initLBandFreqMap2AvailableTest() {
+        AvailFreqMaps availFreqMaps = GridUtils.initFreqMap2Available(SpectrumBand.L_BAND);
+        assertEquals(new AvailFreqMapsKey(GridConstant.L_BAND), availFreqMaps.key());
+        assertEquals(0, BigDecimal.valueOf(186.125)
+            .compareTo(availFreqMaps.getStartEdgeFreq().getValue().decimalValue()));
+        assertEquals(768, BitSet.valueOf(availFreqMaps.getFreqMap()).cardinality());
+    }
+
     @Test
     void getIndexFromFrequencyExceptionTest() {
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
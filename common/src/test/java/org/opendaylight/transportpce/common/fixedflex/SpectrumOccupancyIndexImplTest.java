@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.common.fixedflex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SpectrumOccupancyIndexImplTest {
+
+    private SpectrumOccupancyIndexImpl index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SpectrumOccupancyIndexImpl();
+    }
+
+    private static byte[] freqMap(int... occupiedRanges) {
+        BitSet bitSet = new BitSet(GridConstant.EFFECTIVE_BITS);
+        bitSet.set(0, GridConstant.EFFECTIVE_BITS);
+        for (int i = 0; i < occupiedRanges.length; i += 2) {
+            bitSet.clear(occupiedRanges[i], occupiedRanges[i + 1] + 1);
+        }
+        return Arrays.copyOf(bitSet.toByteArray(), GridConstant.NB_OCTECTS);
+    }
+
+    @Test
+    void statsOfEmptyAndFullMaps() {
+        assertEquals(new SpectrumOccupancyStats(GridConstant.EFFECTIVE_BITS, GridConstant.EFFECTIVE_BITS, 1,
+                GridConstant.EFFECTIVE_BITS),
+            SpectrumOccupancyStats.of(new long[] {-1L, -1L, -1L, -1L, -1L, -1L, -1L, -1L, -1L, -1L, -1L, -1L},
+                GridConstant.EFFECTIVE_BITS));
+        SpectrumOccupancyStats full = SpectrumOccupancyStats.of(new long[12], GridConstant.EFFECTIVE_BITS);
+        assertEquals(new SpectrumOccupancyStats(0, 0, 0, GridConstant.EFFECTIVE_BITS), full);
+        assertEquals(0.0, full.fragmentation());
+        assertEquals(1.0, full.utilization());
+        assertFalse(full.fits(1));
+    }
+
+    @Test
+    void statsCountBlocksAcrossWords() {
+        // Free blocks: 0-59, 70-199 (across two word boundaries), 300-767
+        index.updateNode("ROADM-A-DEG1", freqMap(60, 69, 200, 299));
+        SpectrumOccupancyStats stats = index.getNodeOccupancy("ROADM-A-DEG1");
+        assertEquals(new SpectrumOccupancyStats(60 + 130 + 468, 468, 3, GridConstant.EFFECTIVE_BITS), stats);
+        assertEquals(1 - 468.0 / 658, stats.fragmentation(), 1e-9);
+    }
+
+    @Test
+    void linkOccupancyIsTheIntersectionOfBothDegrees() {
+        index.updateLink("link-AB", "ROADM-A-DEG1", "ROADM-B-DEG2");
+        assertNull(index.getLinkOccupancy("link-AB"), "No occupancy until both degrees are known");
+        assertTrue(index.fits("link-AB", 8), "Unknown links should not be pruned");
+        index.updateNode("ROADM-A-DEG1", freqMap(8, 767));
+        index.updateNode("ROADM-B-DEG2", freqMap(4, 4));
+        // Only slots 0-3 and 5-7 are free on both ends
+        assertEquals(new SpectrumOccupancyStats(7, 4, 2, GridConstant.EFFECTIVE_BITS),
+            index.getLinkOccupancy("link-AB"));
+        assertFalse(index.fits("link-AB", 8));
+        assertTrue(index.fits("link-AB", 4));
+        assertEquals(Set.of("link-AB"), index.getLinksNotFitting(8));
+
+        index.updateNode("ROADM-A-DEG1", freqMap());
+        assertEquals(new SpectrumOccupancyStats(767, 763, 2, GridConstant.EFFECTIVE_BITS),
+            index.getLinkOccupancy("link-AB"));
+        assertTrue(index.getLinksNotFitting(8).isEmpty());
+    }
+
+    @Test
+    void removingNodeOrLinkDropsLinkOccupancy() {
+        index.updateNode("ROADM-A-DEG1", freqMap());
+        index.updateNode("ROADM-B-DEG2", freqMap());
+        index.updateLink("link-AB", "ROADM-A-DEG1", "ROADM-B-DEG2");
+        assertEquals(1, index.getLinkOccupancies().size());
+        index.removeNode("ROADM-B-DEG2");
+        assertNull(index.getLinkOccupancy("link-AB"));
+        index.updateNode("ROADM-B-DEG2", freqMap());
+        assertEquals(1, index.getLinkOccupancies().size());
+        index.removeLink("link-AB");
+        assertTrue(index.getLinkOccupancies().isEmpty());
+        assertEquals(2, index.getNodeOccupancies().size());
+    }
+
+    @Test
+    void generationChangesWithLinkOccupancies() {
+        index.updateLink("link-AB", "ROADM-A-DEG1", "ROADM-B-DEG2");
+        long generation = index.getGeneration();
+        index.updateNode("ROADM-A-SRG1", freqMap(0, 7));
+        assertEquals(generation, index.getGeneration(), "An SRG update does not change the link occupancies");
+        index.updateNode("ROADM-A-DEG1", freqMap(0, 7));
+        assertTrue(index.getGeneration() > generation);
+        generation = index.getGeneration();
+        index.removeLink("link-AB");
+        assertTrue(index.getGeneration() > generation);
+    }
+
+    @Test
+    void linkFitsInTheLBandWhenTheCBandIsFull() {
+        index.updateLink("link-AB", "ROADM-A-DEG1", "ROADM-B-DEG2");
+        index.updateNode("ROADM-A-DEG1", freqMap(0, 767));
+        index.updateNode("ROADM-B-DEG2", freqMap());
+        assertFalse(index.fits("link-AB", 8));
+        index.updateNode("ROADM-A-DEG1", SpectrumBand.L_BAND, freqMap(0, 99));
+        assertFalse(index.fits("link-AB", 8), "The L band is not known on both degrees yet");
+        index.updateNode("ROADM-B-DEG2", SpectrumBand.L_BAND, freqMap());
+        SpectrumOccupancyStats stats = index.getLinkOccupancy("link-AB");
+        assertEquals(new SpectrumOccupancyStats(668, 668, 1, 2 * GridConstant.EFFECTIVE_BITS), stats);
+        assertEquals(1 - 668.0 / (2 * GridConstant.EFFECTIVE_BITS), stats.utilization(), 1e-9);
+        assertTrue(index.fits("link-AB", 8));
+        assertTrue(index.getLinksNotFitting(8).isEmpty());
+        assertEquals(new SpectrumOccupancyStats(668, 668, 1, 2 * GridConstant.EFFECTIVE_BITS),
+            index.getNodeOccupancy("ROADM-A-DEG1"));
+    }
+}
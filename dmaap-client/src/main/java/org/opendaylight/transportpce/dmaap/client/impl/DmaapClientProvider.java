@@ -12,6 +12,7 @@ import org.opendaylight.transportpce.dmaap.client.listener.NbiNotificationsHandl
 import org.opendaylight.yangtools.concepts.Registration;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
@@ -33,6 +34,7 @@ public class DmaapClientProvider {
 
     private static final Logger LOG = LoggerFactory.getLogger(DmaapClientProvider.class);
     private Registration listenerRegistration;
+    private NbiNotificationsHandler listener;
 
     @Activate
     public DmaapClientProvider(@Reference NotificationService notificationService, Configuration config) {
@@ -41,7 +43,7 @@ public class DmaapClientProvider {
 
     public DmaapClientProvider(NotificationService notificationService, String baseUrl,
             String username, String password) {
-        final var listener = new NbiNotificationsHandler(baseUrl, username, password);
+        listener = new NbiNotificationsHandler(baseUrl, username, password);
         listenerRegistration = notificationService.registerCompositeListener(listener.getCompositeListener());
         LOG.info("DmaapClientProvider Session Initiated");
     }
@@ -49,8 +51,10 @@ public class DmaapClientProvider {
     /**
      * Method called when the blueprint container is destroyed.
      */
+    @Deactivate
     public void close() {
         listenerRegistration.close();
+        listener.close();
         LOG.info("DmaapClientProvider Closed");
     }
 }
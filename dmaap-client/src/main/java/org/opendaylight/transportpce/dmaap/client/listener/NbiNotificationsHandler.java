@@ -8,7 +8,6 @@
 package org.opendaylight.transportpce.dmaap.client.listener;
 
 import java.util.Set;
-import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import org.glassfish.jersey.client.authentication.HttpAuthenticationFeature;
@@ -16,19 +15,19 @@ import org.glassfish.jersey.client.proxy.WebResourceFactory;
 import org.glassfish.jersey.jackson.JacksonFeature;
 import org.glassfish.jersey.logging.LoggingFeature;
 import org.opendaylight.mdsal.binding.api.NotificationService.CompositeListener;
+import org.opendaylight.transportpce.dmaap.client.publisher.DmaapPublisher;
 import org.opendaylight.transportpce.dmaap.client.resource.EventsApi;
 import org.opendaylight.transportpce.dmaap.client.resource.config.JsonConfigurator;
-import org.opendaylight.transportpce.dmaap.client.resource.model.CreatedEvent;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationAlarmService;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationProcessService;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishTapiNotificationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class NbiNotificationsHandler {
+public class NbiNotificationsHandler implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(NbiNotificationsHandler.class);
     private String topic = "unauthenticated.TPCE";
-    private EventsApi api;
+    private final DmaapPublisher publisher;
 
     public NbiNotificationsHandler(String baseUrl, String username, String password) {
         LOG.info("Dmaap server {} for user {}", baseUrl, username);
@@ -40,8 +39,7 @@ public class NbiNotificationsHandler {
         }
         client.register(new LoggingFeature(java.util.logging.Logger.getLogger(this.getClass().getName())))
         .register(JacksonFeature.class).register(JsonConfigurator.class);
-        api = WebResourceFactory.newResource(EventsApi.class, client.target(baseUrl));
-
+        publisher = new DmaapPublisher(WebResourceFactory.newResource(EventsApi.class, client.target(baseUrl)));
     }
 
     public CompositeListener getCompositeListener() {
@@ -56,18 +54,19 @@ public class NbiNotificationsHandler {
     }
 
     void onPublishNotificationProcessService(PublishNotificationProcessService notification) {
-        try {
-            CreatedEvent response = api.sendEvent(topic, notification);
-            LOG.info("Response received {}", response);
-        } catch (WebApplicationException e) {
-            LOG.warn("Cannot send event {}", notification, e);
-        }
+        publisher.publish(topic, notification);
+    }
 
+    void onPublishNotificationAlarmService(PublishNotificationAlarmService notification) {
+        publisher.publish(topic + ".ALARM", notification);
     }
 
-    private void onPublishNotificationAlarmService(PublishNotificationAlarmService notification) {
+    void onPublishTapiNotificationService(PublishTapiNotificationService notification) {
+        publisher.publish(topic + ".TAPI", notification);
     }
 
-    private void onPublishTapiNotificationService(PublishTapiNotificationService notification) {
+    @Override
+    public void close() {
+        publisher.close();
     }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.dmaap.client.publisher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.WebApplicationException;
+import org.opendaylight.transportpce.dmaap.client.resource.EventsApi;
+import org.opendaylight.transportpce.dmaap.client.resource.model.CreatedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous publisher of events to the DMaaP message router.
+ *
+ * <p>Events are stored in a bounded queue and sent by a single worker thread, so that the
+ * caller, typically a MD-SAL notification listener, is never blocked by the message router.
+ * The events queued together are grouped per topic and posted in batches.
+ * A failed post is retried with an exponential backoff before its events are dropped.
+ * An unexpected error, such as an event that cannot be serialized, only drops the events concerned.
+ * When the queue is full, new events are dropped.
+ */
+public class DmaapPublisher implements AutoCloseable {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    public static final int DEFAULT_BATCH_SIZE = 50;
+    public static final int DEFAULT_MAX_RETRIES = 3;
+    public static final long DEFAULT_RETRY_BACKOFF_MS = 500;
+
+    private static final Logger LOG = LoggerFactory.getLogger(DmaapPublisher.class);
+    private static final long POLL_TIMEOUT_MS = 500;
+    private static final long CLOSE_TIMEOUT_MS = 5000;
+
+    private final EventsApi api;
+    private final BlockingQueue<Event> queue;
+    private final int batchSize;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+    private final ExecutorService executor;
+    private volatile boolean running = true;
+
+    private record Event(String topic, Object content) {
+    }
+
+    public DmaapPublisher(EventsApi api) {
+        this(api, DEFAULT_QUEUE_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_MAX_RETRIES, DEFAULT_RETRY_BACKOFF_MS);
+    }
+
+    public DmaapPublisher(EventsApi api, int queueCapacity, int batchSize, int maxRetries, long retryBackoffMs) {
+        this.api = api;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMs = retryBackoffMs;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dmaap-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.execute(this::run);
+    }
+
+    /**
+     * Queue an event for publication, without waiting for the message router.
+     *
+     * @param topic topic of the event
+     * @param event event to publish
+     * @return true if the event is queued, false if it is dropped because the queue is full or the publisher closed.
+     */
+    public boolean publish(String topic, Object event) {
+        if (!running) {
+            LOG.warn("Publisher closed, event {} dropped", event);
+            return false;
+        }
+        if (!queue.offer(new Event(topic, event))) {
+            LOG.warn("Publication queue full, event {} dropped", event);
+            return false;
+        }
+        return true;
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            List<Event> events = new ArrayList<>();
+            try {
+                Event event = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    continue;
+                }
+                events.add(event);
+            } catch (InterruptedException e) {
+                LOG.debug("Publisher interrupted");
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(events);
+            Map<String, List<Object>> topicEvents = new LinkedHashMap<>();
+            for (Event event : events) {
+                topicEvents.computeIfAbsent(event.topic(), topic -> new ArrayList<>()).add(event.content());
+            }
+            for (Map.Entry<String, List<Object>> entry : topicEvents.entrySet()) {
+                List<Object> contents = entry.getValue();
+                for (int i = 0; i < contents.size(); i += batchSize) {
+                    if (!send(entry.getKey(), contents.subList(i, Math.min(i + batchSize, contents.size())))) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Post a batch of events, retrying with an exponential backoff.
+     *
+     * @return false if the publisher has been interrupted.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private boolean send(String topic, List<Object> events) {
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            try {
+                CreatedEvent response = api.sendEvents(topic, events);
+                LOG.info("Response received {}", response);
+                return true;
+            } catch (WebApplicationException | ProcessingException e) {
+                if (attempt == maxRetries) {
+                    LOG.warn("Cannot send {} events to topic {}, events dropped", events.size(), topic, e);
+                    return true;
+                }
+                long backoff = retryBackoffMs << attempt;
+                LOG.debug("Cannot send {} events to topic {}, retrying in {} ms", events.size(), topic, backoff, e);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    LOG.debug("Publisher interrupted, {} events to topic {} dropped", events.size(), topic);
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            } catch (RuntimeException e) {
+                // Not a transport failure, retrying the same post would fail again
+                if (events.size() == 1) {
+                    LOG.error("Cannot send event {} to topic {}, event dropped", events.get(0), topic, e);
+                    return true;
+                }
+                LOG.warn("Cannot send {} events to topic {}, sending them one by one", events.size(), topic, e);
+                for (Object event : events) {
+                    if (!send(topic, Collections.singletonList(event))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stop the publisher, sending the events still queued if the message router answers in time.
+     */
+    @Override
+    public void close() {
+        running = false;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                LOG.warn("{} events not published before closing", queue.size());
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.transportpce.dmaap.client.resource;
 
+import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
@@ -25,4 +26,18 @@ public interface EventsApi {
     @Path("/{topic}")
     CreatedEvent sendEvent(@PathParam("topic") String topic, PublishNotificationProcessService event);
 
+    /**
+     * Post several events to a topic in a single request.
+     * The message router publishes each element of the JSON array as a separate message.
+     *
+     * @param topic topic of the events
+     * @param events events to publish
+     * @return the events created by the message router
+     */
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("/{topic}")
+    CreatedEvent sendEvents(@PathParam("topic") String topic, List<Object> events);
+
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.dmaap.client.resource.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishTapiNotificationService;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.notification.ChangedAttributes;
+import org.opendaylight.yangtools.binding.BaseIdentity;
+
+// This class is a temporary workaround while waiting jackson
+// support in yang tools https://git.opendaylight.org/gerrit/c/yangtools/+/94852
+public class PublishTapiNotificationServiceSerializer extends StdSerializer<PublishTapiNotificationService> {
+    private static final long serialVersionUID = 1L;
+
+    public PublishTapiNotificationServiceSerializer() {
+        super(PublishTapiNotificationService.class);
+    }
+
+    @Override
+    public void serialize(PublishTapiNotificationService value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (value != null) {
+            gen.writeStartObject();
+            if (value.getUuid() != null) {
+                gen.writeStringField("uuid", value.getUuid().getValue());
+            }
+            gen.writeStringField("topic", value.getTopic());
+            writeIdentityField(gen, "notification-type", value.getNotificationType());
+            writeIdentityField(gen, "target-object-type", value.getTargetObjectType());
+            if (value.getTargetObjectIdentifier() != null) {
+                gen.writeStringField("target-object-identifier", value.getTargetObjectIdentifier().getValue());
+            }
+            if (value.getEventTimeStamp() != null) {
+                gen.writeStringField("event-time-stamp", value.getEventTimeStamp().getValue());
+            }
+            if (value.getSequenceNumber() != null) {
+                gen.writeStringField("sequence-number", value.getSequenceNumber().toCanonicalString());
+            }
+            if (value.getSourceIndicator() != null) {
+                gen.writeStringField("source-indicator", value.getSourceIndicator().getName());
+            }
+            writeIdentityField(gen, "layer-protocol-name", value.getLayerProtocolName());
+            gen.writeStringField("additional-text", value.getAdditionalText());
+            gen.writeArrayFieldStart("changed-attributes");
+            for (ChangedAttributes changedAttributes : value.nonnullChangedAttributes().values()) {
+                gen.writeStartObject();
+                gen.writeStringField("value-name", changedAttributes.getValueName());
+                gen.writeStringField("old-value", changedAttributes.getOldValue());
+                gen.writeStringField("new-value", changedAttributes.getNewValue());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeIdentityField(JsonGenerator gen, String fieldName, BaseIdentity identity)
+            throws IOException {
+        if (identity != null) {
+            gen.writeStringField(fieldName, identity.implementedInterface().getSimpleName());
+        }
+    }
+
+}
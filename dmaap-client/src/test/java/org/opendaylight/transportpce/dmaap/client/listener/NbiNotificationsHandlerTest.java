@@ -9,17 +9,21 @@ package org.opendaylight.transportpce.dmaap.client.listener;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.Application;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.test.JerseyTest;
 import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opendaylight.transportpce.dmaap.client.publisher.DmaapPublisher;
 import org.opendaylight.transportpce.dmaap.client.resource.EventsApiStub;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.node.types.rev210528.NodeIdType;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.ConnectionType;
@@ -29,10 +33,14 @@ import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev2
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.service.endpoint.TxDirectionKey;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.state.types.rev191129.State;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.service.format.rev191129.ServiceFormat;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationAlarmServiceBuilder;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationProcessService;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationProcessServiceBuilder;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishTapiNotificationServiceBuilder;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.notification.process.service.ServiceAEndBuilder;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.notification.process.service.ServiceZEndBuilder;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.NOTIFICATIONTYPEATTRIBUTEVALUECHANGE;
 import org.opendaylight.yangtools.yang.common.Uint32;
 import org.opendaylight.yangtools.yang.common.Uint8;
 import org.slf4j.LoggerFactory;
@@ -45,9 +53,20 @@ public class NbiNotificationsHandlerTest extends JerseyTest {
         return new ResourceConfig(EventsApiStub.class);
     }
 
+    @BeforeEach
+    void clearStub() {
+        EventsApiStub.POSTS.clear();
+    }
+
+    private static void awaitPosts(int count) throws InterruptedException {
+        for (int i = 0; i < 100 && EventsApiStub.POSTS.size() < count; i++) {
+            Thread.sleep(100);
+        }
+    }
+
     @Test
-    void onPublishNotificationServiceTest() {
-        Logger logger = (Logger) LoggerFactory.getLogger(NbiNotificationsHandler.class);
+    void onPublishNotificationServiceTest() throws InterruptedException {
+        Logger logger = (Logger) LoggerFactory.getLogger(DmaapPublisher.class);
         ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
         listAppender.start();
         logger.addAppender(listAppender);
@@ -80,8 +99,40 @@ public class NbiNotificationsHandlerTest extends JerseyTest {
                         .build())
                 .build();
         listener.onPublishNotificationProcessService(notification);
-        // as onPublishNotificationService is a void method, we check log message to be sure everything went well
+        awaitPosts(1);
+        listener.close();
+        // as onPublishNotificationService is asynchronous, we check log message to be sure everything went well
         List<ILoggingEvent> logsList = listAppender.list;
-        assertEquals(logsList.get(1).getFormattedMessage(), "Response received CreatedEvent [serverTimeMs=1, count=1]");
+        assertEquals("Response received CreatedEvent [serverTimeMs=1, count=1]", logsList.get(0).getFormattedMessage());
+        assertEquals(1, EventsApiStub.POSTS.size());
+        assertEquals("unauthenticated.TPCE", EventsApiStub.POSTS.get(0).topic());
+        assertTrue(EventsApiStub.POSTS.get(0).body().contains("\"message\" : \"Service implemented\""));
+    }
+
+    @Test
+    void onPublishAllNotificationTypesTest() throws InterruptedException {
+        NbiNotificationsHandler listener = new NbiNotificationsHandler("http://localhost:9998", null, null);
+        listener.onPublishNotificationAlarmService(new PublishNotificationAlarmServiceBuilder()
+                .setPublisherName("ServiceListener")
+                .setServiceName("service1")
+                .setConnectionType(ConnectionType.Service)
+                .setMessage("The service is now outOfService")
+                .setOperationalState(State.OutOfService)
+                .build());
+        listener.onPublishTapiNotificationService(new PublishTapiNotificationServiceBuilder()
+                .setUuid(new Uuid("6ae5c6a5-0a9c-4b5e-9d6c-b1a6e4f8f2a1"))
+                .setTopic("6ae5c6a5-0a9c-4b5e-9d6c-b1a6e4f8f2a1")
+                .setTargetObjectIdentifier(new Uuid("6ae5c6a5-0a9c-4b5e-9d6c-b1a6e4f8f2a1"))
+                .setNotificationType(NOTIFICATIONTYPEATTRIBUTEVALUECHANGE.VALUE)
+                .build());
+        awaitPosts(2);
+        listener.close();
+
+        Map<String, String> bodies = EventsApiStub.POSTS.stream()
+                .collect(Collectors.toMap(EventsApiStub.Post::topic, EventsApiStub.Post::body));
+        assertEquals(2, bodies.size());
+        assertTrue(bodies.get("unauthenticated.TPCE.ALARM").contains("\"service-name\" : \"service1\""));
+        assertTrue(bodies.get("unauthenticated.TPCE.TAPI")
+                .contains("\"notification-type\" : \"NOTIFICATIONTYPEATTRIBUTEVALUECHANGE\""));
     }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.dmaap.client.publisher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.transportpce.dmaap.client.resource.EventsApi;
+import org.opendaylight.transportpce.dmaap.client.resource.model.CreatedEvent;
+
+class DmaapPublisherTest {
+
+    @Test
+    void eventsAreBatchedPerTopic() throws InterruptedException {
+        EventsApi api = mock(EventsApi.class);
+        CountDownLatch firstPost = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<List<Object>> posts = new ArrayList<>();
+        when(api.sendEvents(eq("topic"), anyList())).thenAnswer(invocation -> {
+            posts.add(new ArrayList<>(invocation.<List<Object>>getArgument(1)));
+            firstPost.countDown();
+            // Block the first post, so that the following events are queued together
+            release.await(10, TimeUnit.SECONDS);
+            return new CreatedEvent();
+        });
+        when(api.sendEvents(eq("other"), anyList())).thenReturn(new CreatedEvent());
+
+        try (DmaapPublisher publisher = new DmaapPublisher(api, 100, 2, 0, 10)) {
+            assertTrue(publisher.publish("topic", "event1"));
+            assertTrue(firstPost.await(10, TimeUnit.SECONDS));
+            for (String event : List.of("event2", "event3", "event4")) {
+                publisher.publish("topic", event);
+            }
+            publisher.publish("other", "event5");
+            release.countDown();
+        }
+
+        assertEquals(List.of(List.of("event1"), List.of("event2", "event3"), List.of("event4")), posts);
+        verify(api, times(1)).sendEvents("other", List.of("event5"));
+    }
+
+    @Test
+    void failedPostIsRetried() {
+        EventsApi api = mock(EventsApi.class);
+        when(api.sendEvents("topic", List.of("event1")))
+            .thenThrow(new ServiceUnavailableException())
+            .thenThrow(new ServiceUnavailableException())
+            .thenReturn(new CreatedEvent());
+
+        try (DmaapPublisher publisher = new DmaapPublisher(api, 100, 10, 3, 10)) {
+            publisher.publish("topic", "event1");
+            verify(api, timeout(5000).times(3)).sendEvents("topic", List.of("event1"));
+        }
+    }
+
+    @Test
+    void unexpectedErrorOnlyDropsTheEventConcerned() throws InterruptedException {
+        EventsApi api = mock(EventsApi.class);
+        CountDownLatch firstPost = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(api.sendEvents(eq("topic"), anyList())).thenAnswer(invocation -> {
+            List<Object> events = invocation.getArgument(1);
+            if (events.contains("event1")) {
+                firstPost.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            }
+            if (events.contains("bad")) {
+                throw new IllegalArgumentException("Cannot serialize event");
+            }
+            return new CreatedEvent();
+        });
+
+        try (DmaapPublisher publisher = new DmaapPublisher(api, 100, 10, 3, 10)) {
+            publisher.publish("topic", "event1");
+            assertTrue(firstPost.await(10, TimeUnit.SECONDS));
+            for (String event : List.of("event2", "bad", "event3")) {
+                publisher.publish("topic", event);
+            }
+            release.countDown();
+            verify(api, timeout(5000)).sendEvents("topic", List.of("event3"));
+            assertTrue(publisher.publish("topic", "event4"), "The worker should still be running");
+            verify(api, timeout(5000)).sendEvents("topic", List.of("event4"));
+        }
+        verify(api, times(1)).sendEvents("topic", List.of("event2", "bad", "event3"));
+        verify(api, times(1)).sendEvents("topic", List.of("event2"));
+        verify(api, times(1)).sendEvents("topic", List.of("bad"));
+    }
+
+    @Test
+    void eventsAreDroppedWhenQueueIsFull() throws InterruptedException {
+        EventsApi api = mock(EventsApi.class);
+        CountDownLatch firstPost = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(api.sendEvents(eq("topic"), anyList())).thenAnswer(invocation -> {
+            firstPost.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return new CreatedEvent();
+        });
+
+        try (DmaapPublisher publisher = new DmaapPublisher(api, 1, 10, 0, 10)) {
+            publisher.publish("topic", "event1");
+            assertTrue(firstPost.await(10, TimeUnit.SECONDS));
+            // The publisher is busy with event1, only one more event can be queued
+            assertTrue(publisher.publish("topic", "event2"));
+            assertFalse(publisher.publish("topic", "event3"));
+            release.countDown();
+        }
+    }
+}
@@ -7,6 +7,8 @@
  */
 package org.opendaylight.transportpce.dmaap.client.resource;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
@@ -18,11 +20,18 @@ import org.opendaylight.transportpce.dmaap.client.resource.model.CreatedEvent;
 @Path("/events")
 public class EventsApiStub {
 
+    public record Post(String topic, String body) {
+    }
+
+    // Requests received by the stub, resources being instantiated per request
+    public static final List<Post> POSTS = new CopyOnWriteArrayList<>();
+
     @POST
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     @Path("/{topic}")
     public CreatedEvent sendEvent(@PathParam("topic") String topic, String event) {
+        POSTS.add(new Post(topic, event));
         CreatedEvent response = new CreatedEvent();
         response.setCount(1);
         response.setServerTimeMs(1);
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.inventory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.sql.DataSource;
+import org.opendaylight.transportpce.common.device.DeviceTransactionManager;
+import org.opendaylight.transportpce.networkmodel.listeners.AlarmProcessor.AlarmEvent;
+import org.opendaylight.transportpce.networkmodel.listeners.AlarmProcessor.AlarmSink;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link AlarmSink} storing the device alarms processed by the network model into the inv_alarm_info table.
+ * Alarms of the nodes suppressed by a service operation are stored as well, only their logging level differs.
+ */
+@Component(service = AlarmSink.class)
+public class InventoryAlarmSink implements AlarmSink {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InventoryAlarmSink.class);
+    private static final String PIPE = "|";
+    // Position of the type column of inv_alarm_info, not provided by the alarm notification listeners
+    private static final int TYPE_INDEX = 6;
+
+    private final DeviceInventory deviceInventory;
+
+    /**
+     * Constructor invoked by OSGi injects all dependencies.
+     *
+     * @param dataSource dataSource
+     * @param deviceTransactionManager deviceTransactionManager
+     */
+    @Activate
+    public InventoryAlarmSink(@Reference DataSource dataSource,
+            @Reference DeviceTransactionManager deviceTransactionManager) {
+        this(new DeviceInventory(dataSource, new INode(dataSource,
+            new INode121(dataSource, deviceTransactionManager))));
+    }
+
+    public InventoryAlarmSink(DeviceInventory deviceInventory) {
+        this.deviceInventory = deviceInventory;
+    }
+
+    @Override
+    public void publish(List<AlarmEvent> alarms, List<AlarmEvent> suppressedAlarms) {
+        int count = 0;
+        for (AlarmEvent alarm : suppressedAlarms) {
+            count += deviceInventory.storeAlarm(toInventoryAlarm(alarm));
+        }
+        for (AlarmEvent alarm : alarms) {
+            count += deviceInventory.storeAlarm(toInventoryAlarm(alarm));
+        }
+        LOG.debug("{} alarms stored out of {}", count, alarms.size() + suppressedAlarms.size());
+    }
+
+    /**
+     * Build the alarm string expected by {@link DeviceInventory#storeAlarm(String)} from the alarm message, that is
+     * node-id|cause|direction|extension|location|notification-id|raise-time|severity|circuit-id followed by the
+     * resource fields. An empty type is inserted after the notification id.
+     *
+     * @param alarm processed alarm
+     * @return pipe-separated alarm in the order of the inv_alarm_info columns
+     */
+    static String toInventoryAlarm(AlarmEvent alarm) {
+        List<String> fields = new ArrayList<>(Arrays.asList(alarm.message().split("\\|", -1)));
+        if (fields.size() >= TYPE_INDEX) {
+            fields.add(TYPE_INDEX, "");
+        }
+        return String.join(PIPE, fields);
+    }
+}
@@ -10,6 +10,7 @@ package io.lighty.controllers.tpce;
 import io.lighty.controllers.tpce.exception.TechnicalException;
 import io.lighty.controllers.tpce.module.TransportPCE;
 import io.lighty.controllers.tpce.module.TransportPCEImpl;
+import io.lighty.controllers.tpce.utils.StartupMetrics;
 import io.lighty.controllers.tpce.utils.TPCEUtils;
 import io.lighty.controllers.tpce.utils.TpceBanner;
 import io.lighty.core.controller.api.LightyController;
@@ -33,7 +34,12 @@ import java.net.InetSocketAddress;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.DefaultParser;
 import org.apache.commons.cli.HelpFormatter;
@@ -54,6 +60,7 @@ public class Main {
     private static final Logger LOG = LoggerFactory.getLogger(Main.class);
 
     private ShutdownHook shutdownHook;
+    private StartupMetrics startupMetrics;
 
     public void start() {
         start(null, false, false, null, null, false);
@@ -63,6 +70,8 @@ public class Main {
     public void start(String restConfConfigurationFile, boolean activateNbiNotification, boolean activateTapi,
                       String olmtimer1, String olmtimer2, boolean registerShutdownHook) {
         long startTime = System.nanoTime();
+        startupMetrics = new StartupMetrics();
+        startupMetrics.register();
         TpceBanner.print();
         RestConfConfiguration restConfConfig = null;
         try {
@@ -86,8 +95,10 @@ public class Main {
             NetconfConfiguration netconfSBPConfig = NetconfConfigUtils.createDefaultNetconfConfiguration();
             startLighty(singleNodeConfiguration, restConfConfig, netconfSBPConfig, registerShutdownHook,
                     activateNbiNotification, activateTapi, olmtimer1, olmtimer2);
+            startupMetrics.ready();
             float duration = (System.nanoTime() - startTime) / 1_000_000f;
-            LOG.info("lighty.io and RESTCONF-NETCONF started in {}ms", duration);
+            LOG.info("lighty.io and RESTCONF-NETCONF started in {}ms, startup phases: {}", duration,
+                    startupMetrics.getPhaseDurations());
         } catch (ConfigurationException | ExecutionException | IOException e) {
             LOG.error("An error occured while starting application: ", e);
             throw new TechnicalException("An error occured while starting application", e);
@@ -154,46 +165,80 @@ public class Main {
 
         // 1. initialize and start Lighty controller (MD-SAL, Controller, YangTools,
         // Akka)
+        long phaseStart = System.nanoTime();
         LightyControllerBuilder lightyControllerBuilder = new LightyControllerBuilder();
         LightyController lightyController = lightyControllerBuilder.from(controllerConfiguration).build();
         lightyController.start().get();
+        startupMetrics.record("controller", phaseStart);
 
-        // 2. Start swagger server
+        // 2. build swagger, RestConf server and NetConf SBP
         LightyServerBuilder jettyServerBuilder = new LightyServerBuilder(
                 new InetSocketAddress(restConfConfiguration.getInetAddress(), restConfConfiguration.getHttpPort()));
         CommunityRestConfBuilder communityRestConfBuilder = CommunityRestConfBuilder.from(
                 RestConfConfigUtils.getRestConfConfiguration(restConfConfiguration, lightyController.getServices()));
         OpenApiLighty swagger = new OpenApiLighty(restConfConfiguration, jettyServerBuilder,
                 lightyController.getServices());
-        swagger.start().get();
-
-        // 3. start RestConf server
         CommunityRestConf communityRestConf = communityRestConfBuilder.withLightyServer(jettyServerBuilder).build();
-        communityRestConf.start().get();
-        communityRestConf.startServer();
-
-        // 4. start NetConf SBP
-        NetconfSBPlugin netconfSouthboundPlugin;
-        netconfSBPConfiguration = NetconfConfigUtils.injectServicesToTopologyConfig(netconfSBPConfiguration,
-                lightyController.getServices());
+        NetconfConfiguration netconfConfiguration = NetconfConfigUtils.injectServicesToTopologyConfig(
+                netconfSBPConfiguration, lightyController.getServices());
         NetconfTopologyPluginBuilder netconfSBPBuilder = new NetconfTopologyPluginBuilder(
-                lightyController.getServices(), netconfSBPConfiguration);
-        netconfSouthboundPlugin = netconfSBPBuilder.from(netconfSBPConfiguration, lightyController.getServices())
-                .build();
-        netconfSouthboundPlugin.start().get();
+                lightyController.getServices(), netconfConfiguration);
+        NetconfSBPlugin netconfSouthboundPlugin = netconfSBPBuilder.from(netconfConfiguration,
+                lightyController.getServices()).build();
 
-        // 5. start TransportPCE beans
-        TransportPCE transportPCE = new TransportPCEImpl(lightyController.getServices(), activateNbiNotification,
-            activateTapi, olmtimer1, olmtimer2);
-        transportPCE.start().get();
+        // 3. start swagger and RestConf server, NetConf SBP and TransportPCE beans concurrently,
+        // all of them only depending on the controller services
+        ExecutorService startupExecutor = Executors.newFixedThreadPool(3);
+        TransportPCE transportPCE;
+        try {
+            CompletableFuture<Void> restConfFuture = CompletableFuture.runAsync(
+                () -> startupMetrics.time("restconf", () -> {
+                    // swagger servlets are registered in the server before the RestConf server starts
+                    awaitStart(swagger.start());
+                    awaitStart(communityRestConf.start());
+                    communityRestConf.startServer();
+                    return null;
+                }),
+                startupExecutor);
+            CompletableFuture<Void> netconfFuture = CompletableFuture.runAsync(
+                () -> startupMetrics.time("netconf-southbound", () -> awaitStart(netconfSouthboundPlugin.start())),
+                startupExecutor);
+            CompletableFuture<TransportPCE> transportPCEFuture = CompletableFuture.supplyAsync(
+                () -> startupMetrics.time("transportpce", () -> {
+                    TransportPCE tpce = new TransportPCEImpl(lightyController.getServices(),
+                        activateNbiNotification, activateTapi, olmtimer1, olmtimer2, startupMetrics);
+                    awaitStart(tpce.start());
+                    return tpce;
+                }),
+                startupExecutor);
+            CompletableFuture.allOf(restConfFuture, netconfFuture, transportPCEFuture).get();
+            transportPCE = transportPCEFuture.get();
+        } finally {
+            startupExecutor.shutdown();
+        }
 
-        // 6. Register shutdown hook for graceful shutdown.
-        shutdownHook = new ShutdownHook(lightyController, communityRestConf, netconfSouthboundPlugin, transportPCE);
+        // 4. Register shutdown hook for graceful shutdown.
+        shutdownHook = new ShutdownHook(lightyController, communityRestConf, netconfSouthboundPlugin, transportPCE,
+                startupMetrics);
         if (registerShutdownHook) {
             Runtime.getRuntime().addShutdownHook(shutdownHook);
         }
     }
 
+    /*
+     * Wait for a module to start from a startup thread, failures being rethrown to the thread joining the startup.
+     */
+    private static Boolean awaitStart(Future<Boolean> startFuture) {
+        try {
+            return startFuture.get();
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
     public void shutdown() {
         shutdownHook.run();
     }
@@ -229,13 +274,15 @@ public class Main {
         private final CommunityRestConf communityRestConf;
         private final LightyModule netconfSouthboundPlugin;
         private final TransportPCE transportPCE;
+        private final StartupMetrics startupMetrics;
 
         ShutdownHook(LightyController lightyController, CommunityRestConf communityRestConf,
-                LightyModule netconfSouthboundPlugin, TransportPCE transportPCE) {
+                LightyModule netconfSouthboundPlugin, TransportPCE transportPCE, StartupMetrics startupMetrics) {
             this.lightyController = lightyController;
             this.communityRestConf = communityRestConf;
             this.netconfSouthboundPlugin = netconfSouthboundPlugin;
             this.transportPCE = transportPCE;
+            this.startupMetrics = startupMetrics;
         }
 
         @Override
@@ -263,6 +310,7 @@ public class Main {
             } catch (Exception e) {
                 LOG.error("Exception while shutting down lighty.io controller:", e);
             }
+            startupMetrics.unregister();
             float duration = (System.nanoTime() - startTime) / 1_000_000f;
             LOG.info("lighty.io and RESTCONF-NETCONF stopped in {}ms", duration);
         }
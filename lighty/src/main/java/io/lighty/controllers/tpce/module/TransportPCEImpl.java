@@ -7,10 +7,14 @@
  */
 package io.lighty.controllers.tpce.module;
 
+import io.lighty.controllers.tpce.utils.StartupMetrics;
 import io.lighty.core.controller.api.AbstractLightyModule;
 import io.lighty.core.controller.api.LightyServices;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
 import org.opendaylight.mdsal.binding.api.NotificationService;
@@ -22,6 +26,8 @@ import org.opendaylight.transportpce.common.crossconnect.CrossConnectImpl121;
 import org.opendaylight.transportpce.common.crossconnect.CrossConnectImpl221;
 import org.opendaylight.transportpce.common.crossconnect.CrossConnectImpl710;
 import org.opendaylight.transportpce.common.device.DeviceTransactionManagerImpl;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumOccupancyIndex;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumOccupancyIndexImpl;
 import org.opendaylight.transportpce.common.mapping.MappingUtils;
 import org.opendaylight.transportpce.common.mapping.MappingUtilsImpl;
 import org.opendaylight.transportpce.common.mapping.OCPortMappingVersion190;
@@ -57,6 +63,7 @@ import org.opendaylight.transportpce.pce.gnpy.consumer.GnpyConsumerImpl;
 import org.opendaylight.transportpce.pce.impl.PceServiceRPCImpl;
 import org.opendaylight.transportpce.pce.service.PathComputationService;
 import org.opendaylight.transportpce.pce.service.PathComputationServiceImpl;
+import org.opendaylight.transportpce.pce.spectrum.assignment.AssignSpectrumPolicy;
 import org.opendaylight.transportpce.renderer.openroadminterface.OpenRoadmInterfaceFactory;
 // Adding OTN interface
 import org.opendaylight.transportpce.renderer.provisiondevice.DeviceRendererService;
@@ -93,6 +100,7 @@ import org.slf4j.LoggerFactory;
 public class TransportPCEImpl extends AbstractLightyModule implements TransportPCE {
     private static final Logger LOG = LoggerFactory.getLogger(TransportPCEImpl.class);
     private static final long MAX_TIME_FOR_TRANSACTION = 1500;
+    private static final int STARTUP_THREADS = 4;
     // transaction beans
     // cannot use interface for DeviceTransactionManagerImpl
     // because implementation has additional public methods ...
@@ -104,14 +112,32 @@ public class TransportPCEImpl extends AbstractLightyModule implements TransportP
     // service-handler beans
     private final ServiceHandlerProvider servicehandlerProvider;
     // T-api
-    private TapiProvider tapiProvider;
+    private final TapiProvider tapiProvider;
     // nbi-notifications beans
-    private NbiNotificationsProvider nbiNotificationsProvider;
-    private List<Registration> rpcRegistrations = new ArrayList<>();
+    private final NbiNotificationsProvider nbiNotificationsProvider;
+    private final List<Registration> rpcRegistrations = new CopyOnWriteArrayList<>();
 
     public TransportPCEImpl(
             LightyServices lightyServices, boolean activateNbiNotification, boolean activateTapi,
             String olmtimer1, String olmtimer2) {
+        this(lightyServices, activateNbiNotification, activateTapi, olmtimer1, olmtimer2, new StartupMetrics());
+    }
+
+    /**
+     * Create the TransportPCE beans.
+     * The beans shared by several providers are created first, then the providers are created concurrently,
+     * the service-handler waiting for the PCE and the renderer it depends on.
+     *
+     * @param lightyServices services of the lighty.io controller
+     * @param activateNbiNotification whether the nbi-notifications provider is created
+     * @param activateTapi whether the TAPI provider is created
+     * @param olmtimer1 OLM timer 1 value
+     * @param olmtimer2 OLM timer 2 value
+     * @param startupMetrics records the creation time of each provider
+     */
+    public TransportPCEImpl(
+            LightyServices lightyServices, boolean activateNbiNotification, boolean activateTapi,
+            String olmtimer1, String olmtimer2, StartupMetrics startupMetrics) {
         LOG.info("Initializing transaction providers ...");
         deviceTransactionManager =
             new DeviceTransactionManagerImpl(lightyServices.getBindingMountPointService(), MAX_TIME_FOR_TRANSACTION);
@@ -119,151 +145,148 @@ public class TransportPCEImpl extends AbstractLightyModule implements TransportP
         networkTransaction = new NetworkTransactionImpl(dataBroker);
         ocMetaDataTransaction = new OCMetaDataTransactionImpl(dataBroker);
 
-        LOG.info("Creating network-model beans ...");
+        LOG.info("Creating shared beans ...");
         PortMapping portMapping = initPortMapping(dataBroker);
         NotificationPublishService notificationPublishService = lightyServices.getBindingNotificationPublishService();
         NetworkModelService networkModelService = new NetworkModelServiceImpl(dataBroker, deviceTransactionManager,
                 networkTransaction, portMapping, notificationPublishService);
-        new NetConfTopologyListener(networkModelService, dataBroker, deviceTransactionManager, portMapping);
-        new PortMappingListener(networkModelService);
-
         RpcProviderService rpcProviderService = lightyServices.getRpcProviderService();
         NotificationService notificationService = lightyServices.getNotificationService();
-        new NetworkUtilsImpl(dataBroker, rpcProviderService);
-        networkModelProvider = new NetworkModelProvider(networkTransaction, dataBroker, networkModelService,
-                deviceTransactionManager, portMapping, notificationService, new FrequenciesServiceImpl(dataBroker,
-                notificationPublishService));
-
-        LOG.info("Creating PCE beans ...");
-        // TODO: pass those parameters through command line
-        PathComputationService pathComputationService = new PathComputationServiceImpl(
-                networkTransaction,
-                notificationPublishService,
-                new GnpyConsumerImpl(
-                    "http://127.0.0.1:8008", "gnpy", "gnpy", lightyServices.getAdapterContext().currentSerializer()),
-                portMapping);
-        rpcRegistrations.add(new PceServiceRPCImpl(rpcProviderService, pathComputationService).getRegisteredRpc());
-
-        LOG.info("Creating OLM beans ...");
+        SpectrumOccupancyIndex spectrumOccupancyIndex = new SpectrumOccupancyIndexImpl(dataBroker);
         MappingUtils mappingUtils = new MappingUtilsImpl(dataBroker);
         CrossConnect crossConnect = initCrossConnect(mappingUtils);
         OpenRoadmInterfaces openRoadmInterfaces = initOpenRoadmInterfaces(mappingUtils, portMapping);
         OpenConfigInterfaces openConfigInterfaces = initOpenConfigInterfaces();
-        OlmPowerServiceRpcImpl olmPowerServiceRpc = new OlmPowerServiceRpcImpl(
-            new OlmPowerServiceImpl(
-                    dataBroker,
-                    new PowerMgmtImpl(
-                            openRoadmInterfaces,
-                            openConfigInterfaces,
-                            crossConnect,
-                            deviceTransactionManager,
-                            networkTransaction,
-                            portMapping,
-                            Long.valueOf(olmtimer1).longValue(),
-                            Long.valueOf(olmtimer2).longValue()),
-                    deviceTransactionManager,
-                    portMapping,
-                    mappingUtils,
-                    openRoadmInterfaces),
-            rpcProviderService);
-        rpcRegistrations.add(olmPowerServiceRpc.getRegisteredRpc());
-
-        LOG.info("Creating renderer beans ...");
-        new OpenRoadmInterfaceFactory(mappingUtils, portMapping, openRoadmInterfaces);
-        DeviceRendererService deviceRendererService = new DeviceRendererServiceImpl(
-                dataBroker,
-                deviceTransactionManager,
-                openRoadmInterfaces,
-                crossConnect,
-                mappingUtils,
-                portMapping,
-                null);
-        OtnDeviceRendererService otnDeviceRendererService = new OtnDeviceRendererServiceImpl(
-                crossConnect,
-                openRoadmInterfaces,
-                deviceTransactionManager,
-                mappingUtils,
-                portMapping,
-                null);
         //FIXME: need mdsal.binding;api.RpcService from LightyServices
         RpcService rpcService = lightyServices.getRpcConsumerRegistry();
-        RendererServiceOperations rendererServiceOperations = new RendererServiceOperationsImpl(
-                deviceRendererService, otnDeviceRendererService, dataBroker,
-                new NotificationSender(notificationPublishService),
-                portMapping,
-                rpcService);
-        rpcRegistrations.add(new DeviceRendererRPCImpl(
-                        lightyServices.getRpcProviderService(),
-                        deviceRendererService,
-                        otnDeviceRendererService)
-                    .getRegisteredRpc());
-        rpcRegistrations.add(new RendererRPCImpl(
-                rendererServiceOperations,
-                lightyServices.getRpcProviderService())
-            .getRegisteredRpc());
-
-        LOG.info("Creating service-handler beans ...");
         ServiceDataStoreOperations serviceDataStoreOperations = new ServiceDataStoreOperationsImpl(dataBroker);
-        RendererNotificationHandler rendererListener =
-            new RendererNotificationHandler(pathComputationService, notificationPublishService, networkModelService);
-        PceNotificationHandler pceListenerImpl = new PceNotificationHandler(
-                rendererServiceOperations, pathComputationService,
-                notificationPublishService, serviceDataStoreOperations);
-        NetworkModelNotificationHandler networkListener = new NetworkModelNotificationHandler(
-                notificationPublishService, serviceDataStoreOperations);
-        ServicehandlerImpl servicehandler = new ServicehandlerImpl(
-                rpcProviderService,
-                serviceDataStoreOperations,
-                pceListenerImpl,
-                rendererListener,
-                networkListener,
-                new CatalogDataStoreOperationsImpl(
-                        networkTransaction,
-                        lightyServices.getAdapterContext().currentSerializer()),
-                pathComputationService,
-                rendererServiceOperations,
-                notificationPublishService);
-        rpcRegistrations.add(servicehandler.getRegisteredRpc());
-        servicehandlerProvider = new ServiceHandlerProvider(
-                dataBroker,
-                notificationService,
-                serviceDataStoreOperations,
-                pceListenerImpl,
-                rendererListener,
-                networkListener,
-                new ServiceListener(rpcService, serviceDataStoreOperations, notificationPublishService));
 
-        if (activateTapi) {
-            LOG.info("Creating tapi beans ...");
-            TapiContext tapiContext = new TapiContext(networkTransaction);
-            TapiLink tapiLink = new TapiLinkImpl(networkTransaction,tapiContext);
-            new TapiNetworkUtilsImpl(rpcProviderService, networkTransaction, tapiLink);
-            tapiProvider = new TapiProvider(
-                    dataBroker,
-                    rpcProviderService,
-                    rpcService,
-                    notificationService,
-                    notificationPublishService,
-                    networkTransaction,
-                    serviceDataStoreOperations,
-                    networkModelService,
-                    new TapiNetworkModelNotificationHandler(networkTransaction, notificationPublishService),
-                    new TapiNetworkModelServiceImpl(
+        ExecutorService executor = Executors.newFixedThreadPool(STARTUP_THREADS);
+        try {
+            CompletableFuture<NetworkModelProvider> networkModelFuture = CompletableFuture.supplyAsync(
+                () -> startupMetrics.time("transportpce.network-model", () -> {
+                    LOG.info("Creating network-model beans ...");
+                    new NetConfTopologyListener(networkModelService, dataBroker, deviceTransactionManager,
+                            portMapping);
+                    new PortMappingListener(networkModelService);
+                    new NetworkUtilsImpl(dataBroker, rpcProviderService, spectrumOccupancyIndex);
+                    return new NetworkModelProvider(networkTransaction, dataBroker, networkModelService,
+                            deviceTransactionManager, portMapping, notificationService, new FrequenciesServiceImpl(
+                                dataBroker, notificationPublishService, spectrumOccupancyIndex),
+                            notificationPublishService);
+                }),
+                executor);
+            CompletableFuture<PathComputationService> pceFuture = CompletableFuture.supplyAsync(
+                () -> startupMetrics.time("transportpce.pce", () -> {
+                    LOG.info("Creating PCE beans ...");
+                    // TODO: pass those parameters through command line
+                    PathComputationService pathComputationService = new PathComputationServiceImpl(
                             networkTransaction,
+                            notificationPublishService,
+                            new GnpyConsumerImpl(
+                                "http://127.0.0.1:8008", "gnpy", "gnpy",
+                                lightyServices.getAdapterContext().currentSerializer()),
+                            portMapping,
+                            spectrumOccupancyIndex,
+                            AssignSpectrumPolicy.HIGH_TO_LOW);
+                    rpcRegistrations.add(
+                        new PceServiceRPCImpl(rpcProviderService, pathComputationService).getRegisteredRpc());
+                    return pathComputationService;
+                }),
+                executor);
+            CompletableFuture<Void> olmFuture = CompletableFuture.runAsync(
+                () -> startupMetrics.time("transportpce.olm", () -> {
+                    LOG.info("Creating OLM beans ...");
+                    OlmPowerServiceRpcImpl olmPowerServiceRpc = new OlmPowerServiceRpcImpl(
+                        new OlmPowerServiceImpl(
+                                dataBroker,
+                                new PowerMgmtImpl(
+                                        openRoadmInterfaces,
+                                        openConfigInterfaces,
+                                        crossConnect,
+                                        deviceTransactionManager,
+                                        networkTransaction,
+                                        portMapping,
+                                        Long.valueOf(olmtimer1).longValue(),
+                                        Long.valueOf(olmtimer2).longValue()),
+                                deviceTransactionManager,
+                                portMapping,
+                                mappingUtils,
+                                openRoadmInterfaces),
+                        rpcProviderService);
+                    rpcRegistrations.add(olmPowerServiceRpc.getRegisteredRpc());
+                    return null;
+                }),
+                executor);
+            CompletableFuture<RendererServiceOperations> rendererFuture = CompletableFuture.supplyAsync(
+                () -> startupMetrics.time("transportpce.renderer", () -> {
+                    LOG.info("Creating renderer beans ...");
+                    new OpenRoadmInterfaceFactory(mappingUtils, portMapping, openRoadmInterfaces);
+                    DeviceRendererService deviceRendererService = new DeviceRendererServiceImpl(
+                            dataBroker,
                             deviceTransactionManager,
-                            tapiLink,
-                            notificationPublishService),
-                    tapiLink,
-                    tapiContext);
-            rpcRegistrations.add(tapiProvider.getRegisteredRpcs());
-        }
-        if (activateNbiNotification) {
-            LOG.info("Creating nbi-notifications beans ...");
-            nbiNotificationsProvider = new NbiNotificationsProvider(
-                    rpcProviderService,
-                    notificationService,
-                    lightyServices.getAdapterContext().currentSerializer(),
-                    networkTransaction, null);
+                            openRoadmInterfaces,
+                            crossConnect,
+                            mappingUtils,
+                            portMapping,
+                            null);
+                    OtnDeviceRendererService otnDeviceRendererService = new OtnDeviceRendererServiceImpl(
+                            crossConnect,
+                            openRoadmInterfaces,
+                            deviceTransactionManager,
+                            mappingUtils,
+                            portMapping,
+                            null);
+                    RendererServiceOperations rendererServiceOperations = new RendererServiceOperationsImpl(
+                            deviceRendererService, otnDeviceRendererService, dataBroker,
+                            new NotificationSender(notificationPublishService),
+                            portMapping,
+                            rpcService);
+                    rpcRegistrations.add(new DeviceRendererRPCImpl(
+                                    lightyServices.getRpcProviderService(),
+                                    deviceRendererService,
+                                    otnDeviceRendererService)
+                                .getRegisteredRpc());
+                    rpcRegistrations.add(new RendererRPCImpl(
+                            rendererServiceOperations,
+                            lightyServices.getRpcProviderService())
+                        .getRegisteredRpc());
+                    return rendererServiceOperations;
+                }),
+                executor);
+            CompletableFuture<ServiceHandlerProvider> serviceHandlerFuture = pceFuture.thenCombineAsync(
+                rendererFuture,
+                (pathComputationService, rendererServiceOperations) -> startupMetrics.time(
+                    "transportpce.service-handler", () -> createServiceHandler(lightyServices,
+                        serviceDataStoreOperations, pathComputationService, rendererServiceOperations,
+                        networkModelService)),
+                executor);
+            CompletableFuture<TapiProvider> tapiFuture = activateTapi
+                ? CompletableFuture.supplyAsync(
+                    () -> startupMetrics.time("transportpce.tapi",
+                        () -> createTapi(lightyServices, serviceDataStoreOperations, networkModelService)),
+                    executor)
+                : CompletableFuture.completedFuture(null);
+            CompletableFuture<NbiNotificationsProvider> nbiNotificationsFuture = activateNbiNotification
+                ? CompletableFuture.supplyAsync(
+                    () -> startupMetrics.time("transportpce.nbi-notifications", () -> {
+                        LOG.info("Creating nbi-notifications beans ...");
+                        return new NbiNotificationsProvider(
+                                rpcProviderService,
+                                notificationService,
+                                lightyServices.getAdapterContext().currentSerializer(),
+                                networkTransaction, null);
+                    }),
+                    executor)
+                : CompletableFuture.completedFuture(null);
+            CompletableFuture.allOf(networkModelFuture, olmFuture, serviceHandlerFuture, tapiFuture,
+                nbiNotificationsFuture).join();
+            networkModelProvider = networkModelFuture.join();
+            servicehandlerProvider = serviceHandlerFuture.join();
+            tapiProvider = tapiFuture.join();
+            nbiNotificationsProvider = nbiNotificationsFuture.join();
+        } finally {
+            executor.shutdown();
         }
     }
 
@@ -302,6 +325,73 @@ public class TransportPCEImpl extends AbstractLightyModule implements TransportP
         return true;
     }
 
+    private ServiceHandlerProvider createServiceHandler(LightyServices lightyServices,
+            ServiceDataStoreOperations serviceDataStoreOperations, PathComputationService pathComputationService,
+            RendererServiceOperations rendererServiceOperations, NetworkModelService networkModelService) {
+        LOG.info("Creating service-handler beans ...");
+        DataBroker dataBroker = lightyServices.getBindingDataBroker();
+        RpcProviderService rpcProviderService = lightyServices.getRpcProviderService();
+        NotificationPublishService notificationPublishService = lightyServices.getBindingNotificationPublishService();
+        RendererNotificationHandler rendererListener =
+            new RendererNotificationHandler(pathComputationService, notificationPublishService, networkModelService);
+        PceNotificationHandler pceListenerImpl = new PceNotificationHandler(
+                rendererServiceOperations, pathComputationService,
+                notificationPublishService, serviceDataStoreOperations, rendererListener);
+        NetworkModelNotificationHandler networkListener = new NetworkModelNotificationHandler(
+                notificationPublishService, serviceDataStoreOperations);
+        ServicehandlerImpl servicehandler = new ServicehandlerImpl(
+                rpcProviderService,
+                serviceDataStoreOperations,
+                pceListenerImpl,
+                rendererListener,
+                networkListener,
+                new CatalogDataStoreOperationsImpl(
+                        networkTransaction,
+                        lightyServices.getAdapterContext().currentSerializer()),
+                pathComputationService,
+                rendererServiceOperations,
+                notificationPublishService);
+        rpcRegistrations.add(servicehandler.getRegisteredRpc());
+        return new ServiceHandlerProvider(
+                dataBroker,
+                lightyServices.getNotificationService(),
+                serviceDataStoreOperations,
+                pceListenerImpl,
+                rendererListener,
+                networkListener,
+                new ServiceListener(lightyServices.getRpcConsumerRegistry(), serviceDataStoreOperations,
+                        notificationPublishService));
+    }
+
+    private TapiProvider createTapi(LightyServices lightyServices,
+            ServiceDataStoreOperations serviceDataStoreOperations, NetworkModelService networkModelService) {
+        LOG.info("Creating tapi beans ...");
+        RpcProviderService rpcProviderService = lightyServices.getRpcProviderService();
+        NotificationPublishService notificationPublishService = lightyServices.getBindingNotificationPublishService();
+        TapiContext tapiContext = new TapiContext(networkTransaction);
+        TapiLink tapiLink = new TapiLinkImpl(networkTransaction,tapiContext);
+        new TapiNetworkUtilsImpl(rpcProviderService, networkTransaction, tapiLink);
+        TapiProvider provider = new TapiProvider(
+                lightyServices.getBindingDataBroker(),
+                rpcProviderService,
+                lightyServices.getRpcConsumerRegistry(),
+                lightyServices.getNotificationService(),
+                notificationPublishService,
+                networkTransaction,
+                serviceDataStoreOperations,
+                networkModelService,
+                new TapiNetworkModelNotificationHandler(networkTransaction, notificationPublishService),
+                new TapiNetworkModelServiceImpl(
+                        networkTransaction,
+                        deviceTransactionManager,
+                        tapiLink,
+                        notificationPublishService),
+                tapiLink,
+                tapiContext);
+        rpcRegistrations.add(provider.getRegisteredRpcs());
+        return provider;
+    }
+
     private PortMapping initPortMapping(DataBroker dataBroker) {
         PortMappingVersion710 portMappingVersion710 = new PortMappingVersion710(dataBroker, deviceTransactionManager);
         PortMappingVersion221 portMappingVersion221 = new PortMappingVersion221(dataBroker, deviceTransactionManager);
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.controllers.tpce.utils;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the duration of the startup phases of the controller and exposes them through JMX.
+ * Phases may be timed from several threads, since independent modules are started concurrently.
+ */
+public class StartupMetrics implements StartupMetricsMXBean {
+
+    public static final String OBJECT_NAME = "io.lighty.controllers.tpce:type=StartupMetrics";
+    private static final Logger LOG = LoggerFactory.getLogger(StartupMetrics.class);
+
+    private final Map<String, Long> phaseDurations = new ConcurrentHashMap<>();
+    private final long startTime = System.nanoTime();
+    private volatile long timeToReady = -1;
+
+    /**
+     * Run a startup phase and record its duration, whether it succeeds or not.
+     *
+     * @param phase name of the phase
+     * @param step the phase to run
+     * @param <T> type of the result of the phase
+     * @return the result of the phase
+     */
+    public <T> T time(String phase, Supplier<T> step) {
+        long phaseStart = System.nanoTime();
+        try {
+            return step.get();
+        } finally {
+            record(phase, phaseStart);
+        }
+    }
+
+    /**
+     * Record the duration of a startup phase ending now.
+     *
+     * @param phase name of the phase
+     * @param phaseStart value of {@link System#nanoTime()} when the phase started
+     */
+    public void record(String phase, long phaseStart) {
+        long duration = (System.nanoTime() - phaseStart) / 1_000_000;
+        phaseDurations.put(phase, duration);
+        LOG.info("Startup phase {} done in {}ms", phase, duration);
+    }
+
+    /**
+     * Mark the end of the startup.
+     */
+    public void ready() {
+        timeToReady = (System.nanoTime() - startTime) / 1_000_000;
+    }
+
+    @Override
+    public Map<String, Long> getPhaseDurations() {
+        return new TreeMap<>(phaseDurations);
+    }
+
+    @Override
+    public long getTimeToReady() {
+        return timeToReady;
+    }
+
+    /**
+     * Register these metrics in the platform MBean server, replacing the metrics of a previous startup.
+     */
+    public void register() {
+        try {
+            MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mbeanServer.isRegistered(objectName)) {
+                mbeanServer.unregisterMBean(objectName);
+            }
+            mbeanServer.registerMBean(this, objectName);
+        } catch (JMException e) {
+            LOG.warn("Unable to register startup metrics as {}", OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Unregister these metrics from the platform MBean server.
+     */
+    public void unregister() {
+        try {
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+            if (mbeanServer.isRegistered(objectName)) {
+                mbeanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            LOG.warn("Unable to unregister startup metrics {}", OBJECT_NAME, e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.controllers.tpce.utils;
+
+import java.util.Map;
+
+/**
+ * JMX view of the startup timing of the lighty.io TransportPCE controller.
+ */
+public interface StartupMetricsMXBean {
+
+    /**
+     * Get the duration of each startup phase.
+     *
+     * @return the duration in milliseconds of each completed phase, by phase name
+     */
+    Map<String, Long> getPhaseDurations();
+
+    /**
+     * Get the time the controller took to be ready.
+     *
+     * @return the duration in milliseconds between the start of the controller and the end of its startup,
+     *     -1 while the startup is not complete
+     */
+    long getTimeToReady();
+}
@@ -253,14 +253,20 @@ public final class TPCEUtils {
             // API models / opendaylight
             org.opendaylight.yang.svc.v1.http.org.opendaylight.transportpce.alarmsuppression.rev171102
                     .YangModuleInfoImpl.INSTANCE,
-            org.opendaylight.yang.svc.v1.http.org.opendaylight.transportpce.networkutils.rev250902.YangModuleInfoImpl
+            org.opendaylight.yang.svc.v1.http.org.opendaylight.transportpce.networkutils.rev261019.YangModuleInfoImpl
                     .INSTANCE,
             org.opendaylight.yang.svc.v1.http.org.opendaylight.transportpce.olm.rev210618.YangModuleInfoImpl.INSTANCE,
             org.opendaylight.yang.svc.v1.http.org.opendaylight.transportpce.pce.rev240205.YangModuleInfoImpl.INSTANCE,
+            org.opendaylight.yang.svc.v1.http.org.opendaylight.transportpce.pce.telemetry.rev261019
+                    .YangModuleInfoImpl.INSTANCE,
+            org.opendaylight.yang.svc.v1.http.org.opendaylight.transportpce.pce.path.pair.rev261019
+                    .YangModuleInfoImpl.INSTANCE,
             org.opendaylight.yang.svc.v1.http.org.opendaylight.transportpce.portmapping.rev250905.YangModuleInfoImpl
                     .INSTANCE,
             org.opendaylight.yang.svc.v1.http.org.opendaylight.transportpce.tapinetworkutils.rev230728
                     .YangModuleInfoImpl.INSTANCE,
+            org.opendaylight.yang.svc.v1.http.org.opendaylight.transportpce.tapi.pagination.rev261019
+                    .YangModuleInfoImpl.INSTANCE,
             org.opendaylight.yang.svc.v1.http.org.opendaylight.transportpce.device.renderer.rev260212
                     .YangModuleInfoImpl.INSTANCE,
             org.opendaylight.yang.svc.v1.http.org.opendaylight.transportpce.networkmodel.rev201116
@@ -269,6 +275,8 @@ public final class TPCEUtils {
                     .INSTANCE,
             org.opendaylight.yang.svc.v1.http.org.opendaylight.transportpce.servicehandler.rev201125.YangModuleInfoImpl
                     .INSTANCE,
+            org.opendaylight.yang.svc.v1.http.org.opendaylight.transportpce.servicehandler.bulk.rev261019
+                    .YangModuleInfoImpl.INSTANCE,
             org.opendaylight.yang.svc.v1.http.org.transportpce.common.types.rev251022.YangModuleInfoImpl.INSTANCE,
             org.opendaylight.yang.svc.v1.gnpy.gnpy.api.rev220221.YangModuleInfoImpl.INSTANCE,
             org.opendaylight.yang.svc.v1.gnpy.gnpy.eqpt.config.rev220221.YangModuleInfoImpl.INSTANCE,
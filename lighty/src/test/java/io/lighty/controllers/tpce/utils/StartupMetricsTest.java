@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.lighty.controllers.tpce.utils;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.Test;
+
+public class StartupMetricsTest {
+
+    @Test
+    public void phasesAreTimedEvenWhenFailing() {
+        StartupMetrics startupMetrics = new StartupMetrics();
+        assertEquals("Result of the phase should be returned", "done", startupMetrics.time("phase1", () -> "done"));
+        try {
+            startupMetrics.time("phase2", () -> {
+                throw new IllegalStateException("phase2 failure");
+            });
+            fail("The failure of the phase should be propagated");
+        } catch (IllegalStateException e) {
+            assertEquals("phase2 failure", e.getMessage());
+        }
+        assertEquals(2, startupMetrics.getPhaseDurations().size());
+        assertTrue(startupMetrics.getPhaseDurations().containsKey("phase2"));
+        assertEquals(-1, startupMetrics.getTimeToReady());
+        startupMetrics.ready();
+        assertTrue(startupMetrics.getTimeToReady() >= 0);
+    }
+
+    @Test
+    public void metricsAreExposedThroughJmx() throws Exception {
+        MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName(StartupMetrics.OBJECT_NAME);
+        StartupMetrics previousMetrics = new StartupMetrics();
+        previousMetrics.register();
+        StartupMetrics startupMetrics = new StartupMetrics();
+        startupMetrics.register();
+        startupMetrics.ready();
+        assertEquals("The last registered metrics should be exposed", startupMetrics.getTimeToReady(),
+            mbeanServer.getAttribute(objectName, "TimeToReady"));
+        startupMetrics.unregister();
+        assertFalse(mbeanServer.isRegistered(objectName));
+    }
+}
@@ -91,7 +91,7 @@ public class NbiNotificationsProvider {
         JsonStringConverter<NotificationAlarmService> converterAlarmService =
                 new JsonStringConverter<>(bindingDOMCodecServices);
         topicManager.setAlarmConverter(converterAlarmService);
-        List<String> publishersAlarmList = List.of("ServiceListener");
+        List<String> publishersAlarmList = List.of("ServiceListener", "DeviceAlarmListener");
         for (String publisherAlarm: publishersAlarmList) {
             LOG.info("Creating publisher for the following class {}", publisherAlarm);
             topicManager.addAlarmTopic(publisherAlarm);
@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.networkmodel;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.NodeId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Gather the LLDP neighbor changes notified by a node during a time window, so that a burst of notifications,
+ * such as the one raised when a node restarts, leads to a single processing of the node.
+ * The first change of a node opens its window. The changes received until the window closes are merged into
+ * the pending entry of the node, then handed over at once to the handler.
+ */
+final class LldpEventCoalescer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LldpEventCoalescer.class);
+
+    /**
+     * Neighbor lost by a node.
+     *
+     * @param interfaceName Name of the WDM line interface
+     * @param remoteSystemName Name of the neighbor node
+     * @param remoteInterfaceName Name of the WDM line interface on the neighbor node
+     */
+    record Deletion(String interfaceName, String remoteSystemName, String remoteInterfaceName) {
+    }
+
+    /**
+     * Processing of the changes gathered for a node.
+     */
+    @FunctionalInterface
+    interface Handler {
+
+        /**
+         * Process the changes of a node.
+         *
+         * @param nodeId Node name
+         * @param nodeVersion org-openroadm-device version
+         * @param neighborsCreated True if at least one neighbor has been discovered during the window
+         * @param deletions Neighbors lost during the window
+         */
+        void process(NodeId nodeId, String nodeVersion, boolean neighborsCreated, Set<Deletion> deletions);
+    }
+
+    private static final class Pending {
+        private final String nodeVersion;
+        private final Set<Deletion> deletions = new LinkedHashSet<>();
+        private boolean neighborsCreated;
+
+        private Pending(String nodeVersion) {
+            this.nodeVersion = nodeVersion;
+        }
+    }
+
+    private final ScheduledExecutorService scheduler;
+    private final long windowMs;
+    private final Handler handler;
+    private final Map<NodeId, Pending> pendingChanges = new HashMap<>();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+
+    /**
+     * Instantiate the LldpEventCoalescer.
+     *
+     * @param scheduler Executor closing the windows and running the handler
+     * @param windowMs Duration of the window opened by the first change of a node, in milliseconds
+     * @param handler Processing of the changes gathered for a node
+     */
+    LldpEventCoalescer(ScheduledExecutorService scheduler, long windowMs, Handler handler) {
+        this.scheduler = scheduler;
+        this.windowMs = windowMs;
+        this.handler = handler;
+    }
+
+    void neighborCreated(NodeId nodeId, String nodeVersion) {
+        add(nodeId, nodeVersion, null);
+    }
+
+    void neighborDeleted(NodeId nodeId, String nodeVersion, Deletion deletion) {
+        add(nodeId, nodeVersion, deletion);
+    }
+
+    private void add(NodeId nodeId, String nodeVersion, Deletion deletion) {
+        received.incrementAndGet();
+        boolean newWindow;
+        synchronized (pendingChanges) {
+            Pending pending = pendingChanges.get(nodeId);
+            newWindow = pending == null;
+            if (newWindow) {
+                pending = new Pending(nodeVersion);
+                pendingChanges.put(nodeId, pending);
+            }
+            if (deletion == null) {
+                pending.neighborsCreated = true;
+            } else {
+                pending.deletions.add(deletion);
+            }
+        }
+        if (newWindow) {
+            try {
+                scheduler.schedule(() -> flush(nodeId), windowMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                LOG.debug("LLDP scheduler unavailable, processing changes of node {} now", nodeId.getValue(), e);
+                flush(nodeId);
+            }
+        }
+    }
+
+    private void flush(NodeId nodeId) {
+        Pending pending;
+        synchronized (pendingChanges) {
+            pending = pendingChanges.remove(nodeId);
+        }
+        if (pending == null) {
+            return;
+        }
+        processed.incrementAndGet();
+        try {
+            handler.process(nodeId, pending.nodeVersion, pending.neighborsCreated, pending.deletions);
+        } catch (RuntimeException e) {
+            LOG.error("Failed to process the LLDP changes of node {}", nodeId.getValue(), e);
+        }
+    }
+
+    long getReceivedCount() {
+        return received.get();
+    }
+
+    long getProcessedCount() {
+        return processed.get();
+    }
+}
@@ -31,6 +31,8 @@ import org.opendaylight.transportpce.common.Timeouts;
 import org.opendaylight.transportpce.common.device.DeviceTransactionManager;
 import org.opendaylight.transportpce.common.mapping.PortMapping;
 import org.opendaylight.transportpce.networkmodel.dto.NodeRegistration;
+import org.opendaylight.transportpce.networkmodel.listeners.AlarmProcessor;
+import org.opendaylight.transportpce.networkmodel.listeners.AlarmSuppressionIndex;
 import org.opendaylight.transportpce.networkmodel.service.NetworkModelService;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.NodeDatamodelType;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.CreateSubscription;
@@ -64,9 +66,11 @@ public class NetConfTopologyListener implements DataTreeChangeListener<Node> {
     private final DeviceTransactionManager deviceTransactionManager;
     private final Map<String, NodeRegistration> registrations;
     private final PortMapping portMapping;
+    private final AlarmProcessor alarmProcessor;
 
     /**
-     * Instantiate the NetConfTopologyListener.
+     * Instantiate the NetConfTopologyListener with an alarm processor of its own, whose suppression index is not
+     * populated.
      *
      * @param networkModelService Service that eases data handling in topology datastores
      * @param dataBroker Provides access to the conceptual data tree store in order to register data change listeners
@@ -78,11 +82,31 @@ public class NetConfTopologyListener implements DataTreeChangeListener<Node> {
             final DataBroker dataBroker,
             DeviceTransactionManager deviceTransactionManager,
             PortMapping portMapping) {
+        this(networkModelService, dataBroker, deviceTransactionManager, portMapping,
+            new AlarmProcessor(new AlarmSuppressionIndex()));
+    }
+
+    /**
+     * Instantiate the NetConfTopologyListener.
+     *
+     * @param networkModelService Service that eases data handling in topology datastores
+     * @param dataBroker Provides access to the conceptual data tree store in order to register data change listeners
+     * @param deviceTransactionManager Manages data transactions with the netconf devices
+     * @param portMapping Store the abstraction view of the netconf device
+     * @param alarmProcessor Processing stage shared by the alarm listeners of the netconf devices
+     */
+    public NetConfTopologyListener(
+            final NetworkModelService networkModelService,
+            final DataBroker dataBroker,
+            DeviceTransactionManager deviceTransactionManager,
+            PortMapping portMapping,
+            AlarmProcessor alarmProcessor) {
         this.networkModelService = networkModelService;
         this.dataBroker = dataBroker;
         this.deviceTransactionManager = deviceTransactionManager;
         this.registrations = new ConcurrentHashMap<>();
         this.portMapping = portMapping;
+        this.alarmProcessor = alarmProcessor;
     }
 
     /** {@inheritDoc} */
@@ -189,7 +213,7 @@ public class NetConfTopologyListener implements DataTreeChangeListener<Node> {
         }
         NodeRegistration nodeRegistration =
             new NodeRegistration(
-                nodeId, openRoadmVersion, notificationService.orElseThrow(), this.dataBroker, this.portMapping);
+                nodeId, openRoadmVersion, notificationService.orElseThrow(), this.alarmProcessor, this.portMapping);
         nodeRegistration.registerListeners();
         registrations.put(nodeId, nodeRegistration);
 
@@ -246,6 +270,7 @@ public class NetConfTopologyListener implements DataTreeChangeListener<Node> {
         this.deviceTransactionManager = deviceTransactionManager;
         this.portMapping = portMapping;
         this.registrations = registrations;
+        this.alarmProcessor = new AlarmProcessor(new AlarmSuppressionIndex());
     }
 
     private boolean checkSupportedStream(
@@ -10,19 +10,30 @@ package org.opendaylight.transportpce.networkmodel;
 import java.util.ArrayList;
 import java.util.List;
 import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.NotificationPublishService;
 import org.opendaylight.mdsal.binding.api.NotificationService;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.transportpce.common.StringConstants;
 import org.opendaylight.transportpce.common.device.DeviceTransactionManager;
 import org.opendaylight.transportpce.common.mapping.PortMapping;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
+import org.opendaylight.transportpce.networkmodel.listeners.AlarmProcessor;
+import org.opendaylight.transportpce.networkmodel.listeners.AlarmProcessor.AlarmSink;
+import org.opendaylight.transportpce.networkmodel.listeners.AlarmSuppressionIndex;
+import org.opendaylight.transportpce.networkmodel.listeners.ImpactedServiceAlarmSink;
+import org.opendaylight.transportpce.networkmodel.listeners.ImpactedServiceIndex;
 import org.opendaylight.transportpce.networkmodel.listeners.PortMappingListener;
 import org.opendaylight.transportpce.networkmodel.listeners.ServiceHandlerListener;
 import org.opendaylight.transportpce.networkmodel.service.FrequenciesService;
 import org.opendaylight.transportpce.networkmodel.service.NetworkModelService;
 import org.opendaylight.transportpce.networkmodel.util.TpceNetwork;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.alarmsuppression.rev171102.ServiceNodelist;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.Network;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.Mapping;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.ServiceList;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.service.list.Services;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.servicepath.rev171017.ServicePathList;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.servicepath.rev171017.service.path.list.ServicePaths;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev251205.network.topology.topology.topology.types.TopologyNetconf;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NetworkTopology;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.TopologyId;
@@ -35,6 +46,8 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +70,17 @@ public class NetworkModelProvider {
                     .Nodes.class)
             .child(Mapping.class)
             .build();
+    private static final DataObjectReference<ServiceNodelist> SERVICE_NODELIST_II = DataObjectReference
+            .builder(ServiceNodelist.class)
+            .build();
+    private static final DataObjectReference<ServicePaths> SERVICE_PATHS_II = DataObjectReference
+            .builder(ServicePathList.class)
+            .child(ServicePaths.class)
+            .build();
+    private static final DataObjectReference<Services> SERVICES_II = DataObjectReference
+            .builder(ServiceList.class)
+            .child(Services.class)
+            .build();
 
     private final DataBroker dataBroker;
     private final NetConfTopologyListener topologyListener;
@@ -66,6 +90,9 @@ public class NetworkModelProvider {
     private NotificationService notificationService;
     private FrequenciesService frequenciesService;
     private PortMappingListener portMappingListener;
+    private final AlarmSuppressionIndex alarmSuppressionIndex;
+    private final ImpactedServiceIndex impactedServiceIndex;
+    private final AlarmProcessor alarmProcessor;
 
     /**
      * Instantiate the NetworkModelProvider.
@@ -77,6 +104,7 @@ public class NetworkModelProvider {
      * @param portMapping Store the abstraction view of the netconf device
      * @param notificationService Notification broker which allows to subscribe for notifications
      * @param frequenciesService Object that ease WDM spectrum handling
+     * @param notificationPublishService Notification broker used to notify the northbound of impacted services
      */
     @Activate
     public NetworkModelProvider(@Reference NetworkTransactionService networkTransactionService,
@@ -85,13 +113,19 @@ public class NetworkModelProvider {
             @Reference DeviceTransactionManager deviceTransactionManager,
             @Reference PortMapping portMapping,
             @Reference NotificationService notificationService,
-            @Reference FrequenciesService frequenciesService) {
+            @Reference FrequenciesService frequenciesService,
+            @Reference NotificationPublishService notificationPublishService) {
         this.dataBroker = dataBroker;
         this.notificationService = notificationService;
         this.frequenciesService = frequenciesService;
         this.listeners = new ArrayList<>();
+        this.alarmSuppressionIndex = new AlarmSuppressionIndex();
+        this.impactedServiceIndex = new ImpactedServiceIndex(portMapping);
+        this.alarmProcessor = new AlarmProcessor(alarmSuppressionIndex,
+            new ImpactedServiceAlarmSink(impactedServiceIndex, notificationPublishService),
+            AlarmProcessor.DEFAULT_QUEUE_CAPACITY, AlarmProcessor.DEFAULT_BATCH_SIZE);
         this.topologyListener = new NetConfTopologyListener(networkModelService, dataBroker, deviceTransactionManager,
-            portMapping);
+            portMapping, alarmProcessor);
         this.tpceNetwork = new TpceNetwork(networkTransactionService);
         this.portMappingListener = new PortMappingListener(networkModelService);
         this.init();
@@ -110,10 +144,30 @@ public class NetworkModelProvider {
                 topologyListener));
         listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION, MAPPING_II,
                 portMappingListener));
+        listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.OPERATIONAL, SERVICE_NODELIST_II,
+                alarmSuppressionIndex));
+        listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.OPERATIONAL, SERVICE_PATHS_II,
+                impactedServiceIndex));
+        listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.OPERATIONAL, SERVICES_II,
+                impactedServiceIndex.getServicesListener()));
         serviceHandlerListenerRegistration = notificationService.registerCompositeListener(
             new ServiceHandlerListener(frequenciesService).getCompositeListener());
     }
 
+    /**
+     * Hand the device alarms over to a sink provided by another component, such as the device inventory.
+     *
+     * @param alarmSink consumer of the processed alarms
+     */
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+    void addAlarmSink(AlarmSink alarmSink) {
+        alarmProcessor.addSink(alarmSink);
+    }
+
+    void removeAlarmSink(AlarmSink alarmSink) {
+        alarmProcessor.removeSink(alarmSink);
+    }
+
     /**
      * Method called when the OSGi service is destroyed.
      */
@@ -123,5 +177,6 @@ public class NetworkModelProvider {
         listeners.forEach(lis -> lis.close());
         listeners.clear();
         serviceHandlerListenerRegistration.close();
+        alarmProcessor.close();
     }
 }
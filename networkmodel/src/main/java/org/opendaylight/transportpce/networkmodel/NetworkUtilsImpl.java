@@ -8,6 +8,10 @@
 package org.opendaylight.transportpce.networkmodel;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import org.opendaylight.mdsal.binding.api.DataBroker;
@@ -16,26 +20,38 @@ import org.opendaylight.mdsal.binding.api.RpcProviderService;
 import org.opendaylight.mdsal.binding.api.WriteTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.transportpce.common.StringConstants;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.DeleteLink;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.DeleteLinkInput;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.DeleteLinkOutput;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.DeleteLinkOutputBuilder;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitInterDomainLinks;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitInterDomainLinksInput;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitInterDomainLinksOutput;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitInterDomainLinksOutputBuilder;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitRdmXpdrLinks;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitRdmXpdrLinksInput;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitRdmXpdrLinksOutput;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitRdmXpdrLinksOutputBuilder;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitRoadmNodes;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitRoadmNodesInput;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitRoadmNodesOutput;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitRoadmNodesOutputBuilder;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitXpdrRdmLinks;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitXpdrRdmLinksInput;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitXpdrRdmLinksOutput;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitXpdrRdmLinksOutputBuilder;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumOccupancyIndex;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumOccupancyStats;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.DeleteLink;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.DeleteLinkInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.DeleteLinkOutput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.DeleteLinkOutputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.GetSpectrumOccupancy;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.GetSpectrumOccupancyInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.GetSpectrumOccupancyOutput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.GetSpectrumOccupancyOutputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitInterDomainLinks;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitInterDomainLinksInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitInterDomainLinksOutput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitInterDomainLinksOutputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitRdmXpdrLinks;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitRdmXpdrLinksInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitRdmXpdrLinksOutput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitRdmXpdrLinksOutputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitRoadmNodes;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitRoadmNodesInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitRoadmNodesOutput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitRoadmNodesOutputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitXpdrRdmLinks;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitXpdrRdmLinksInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitXpdrRdmLinksOutput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitXpdrRdmLinksOutputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.get.spectrum.occupancy.output.LinkSpectrum;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.get.spectrum.occupancy.output.LinkSpectrumBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.get.spectrum.occupancy.output.LinkSpectrumKey;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.get.spectrum.occupancy.output.NodeSpectrum;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.get.spectrum.occupancy.output.NodeSpectrumBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.get.spectrum.occupancy.output.NodeSpectrumKey;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.NetworkId;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.Networks;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.Network;
@@ -46,8 +62,10 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.top
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.networks.network.LinkKey;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
 import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.Decimal64;
 import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.opendaylight.yangtools.yang.common.Uint16;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -65,6 +83,7 @@ public class NetworkUtilsImpl {
 
     private static final Logger LOG = LoggerFactory.getLogger(NetworkUtilsImpl.class);
     private final DataBroker dataBroker;
+    private final SpectrumOccupancyIndex spectrumOccupancyIndex;
     private final Registration rpcReg;
 
     /**
@@ -72,16 +91,20 @@ public class NetworkUtilsImpl {
      *
      * @param dataBroker Provides access to the conceptual data tree store.
      * @param rpcProvider Service that allows registering Remote Procedure Call (RPC) implementations.
+     * @param spectrumOccupancyIndex Spectrum occupancy of the openroadm-topology.
      */
     @Activate
-    public NetworkUtilsImpl(@Reference DataBroker dataBroker, @Reference RpcProviderService rpcProvider) {
+    public NetworkUtilsImpl(@Reference DataBroker dataBroker, @Reference RpcProviderService rpcProvider,
+            @Reference SpectrumOccupancyIndex spectrumOccupancyIndex) {
         this.dataBroker = dataBroker;
+        this.spectrumOccupancyIndex = spectrumOccupancyIndex;
         rpcReg = rpcProvider.registerRpcImplementations(
                 (DeleteLink) this::deleteLink,
                 (InitRoadmNodes) this::initRoadmNodes,
                 (InitXpdrRdmLinks) this::initXpdrRdmLinks,
                 (InitRdmXpdrLinks) this::initRdmXpdrLinks,
-                (InitInterDomainLinks) this::initInterDomainLinks);
+                (InitInterDomainLinks) this::initInterDomainLinks,
+                (GetSpectrumOccupancy) this::getSpectrumOccupancy);
         LOG.info("NetworkUtilsImpl instanciated");
     }
 
@@ -196,4 +219,48 @@ public class NetworkUtilsImpl {
             return RpcResultBuilder.<InitRdmXpdrLinksOutput>failed().buildFuture();
         }
     }
+
+    private ListenableFuture<RpcResult<GetSpectrumOccupancyOutput>> getSpectrumOccupancy(
+            GetSpectrumOccupancyInput input) {
+        int slotWidth = input.getSlotWidth() == null ? 0 : input.getSlotWidth().intValue();
+        LOG.info("Spectrum occupancy rpc called for slot width {}", slotWidth);
+        Map<NodeSpectrumKey, NodeSpectrum> nodeSpectrumMap = new HashMap<>();
+        spectrumOccupancyIndex.getNodeOccupancies().forEach((nodeId, occupancy) -> {
+            if (slotWidth > 0 && occupancy.fits(slotWidth)) {
+                return;
+            }
+            NodeSpectrum nodeSpectrum = new NodeSpectrumBuilder()
+                .setNodeId(nodeId)
+                .setFreeSlots(Uint16.valueOf(occupancy.freeSlots()))
+                .setLargestFreeBlock(Uint16.valueOf(occupancy.largestFreeBlock()))
+                .setFreeBlocks(Uint16.valueOf(occupancy.freeBlocks()))
+                .setFragmentation(fragmentation(occupancy))
+                .build();
+            nodeSpectrumMap.put(nodeSpectrum.key(), nodeSpectrum);
+        });
+        Map<LinkSpectrumKey, LinkSpectrum> linkSpectrumMap = new HashMap<>();
+        spectrumOccupancyIndex.getLinkOccupancies().forEach((linkId, occupancy) -> {
+            if (slotWidth > 0 && occupancy.fits(slotWidth)) {
+                return;
+            }
+            LinkSpectrum linkSpectrum = new LinkSpectrumBuilder()
+                .setLinkId(linkId)
+                .setFreeSlots(Uint16.valueOf(occupancy.freeSlots()))
+                .setLargestFreeBlock(Uint16.valueOf(occupancy.largestFreeBlock()))
+                .setFreeBlocks(Uint16.valueOf(occupancy.freeBlocks()))
+                .setFragmentation(fragmentation(occupancy))
+                .build();
+            linkSpectrumMap.put(linkSpectrum.key(), linkSpectrum);
+        });
+        return RpcResultBuilder
+            .success(new GetSpectrumOccupancyOutputBuilder()
+                .setNodeSpectrum(nodeSpectrumMap)
+                .setLinkSpectrum(linkSpectrumMap)
+                .build())
+            .buildFuture();
+    }
+
+    private static Decimal64 fragmentation(SpectrumOccupancyStats occupancy) {
+        return Decimal64.valueOf(BigDecimal.valueOf(occupancy.fragmentation()).setScale(4, RoundingMode.HALF_UP));
+    }
 }
@@ -9,18 +9,20 @@
 package org.opendaylight.transportpce.networkmodel;
 
 import com.google.common.util.concurrent.FluentFuture;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.ReadTransaction;
+import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
 import org.opendaylight.mdsal.binding.api.WriteTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.transportpce.common.StringConstants;
 import org.opendaylight.transportpce.networkmodel.util.LinkIdUtil;
 import org.opendaylight.transportpce.networkmodel.util.TopologyUtils;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitInterDomainLinksInput;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitRoadmNodesInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitInterDomainLinksInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitRoadmNodesInput;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.or.network.augmentation.rev250902.LinkClassEnum;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Link1Builder;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.TerminationPoint1;
@@ -56,12 +58,57 @@ final class OrdLink {
      *Method to create OMS links if not discovered by LLDP. This is helpful
      *     to create test topologies using simulators*
      *
-     * @param input a {@link org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902
+     * @param input a {@link org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019
      *      .InitRoadmNodesInput} object
      * @param dataBroker a {@link org.opendaylight.mdsal.binding.api.DataBroker} object
      * @return a boolean
      */
     public static boolean createRdm2RdmLinks(InitRoadmNodesInput input, DataBroker dataBroker) {
+        return createRdm2RdmLinks(List.of(input), dataBroker) >= 0;
+    }
+
+    /**
+     * Method to create several OMS links in a single transaction of the openroadm-topology, as when the
+     *     neighbors of a ROADM are discovered by LLDP.
+     *
+     * @param inputs the links to create
+     * @param dataBroker a {@link org.opendaylight.mdsal.binding.api.DataBroker} object
+     * @return the number of links that were not in the topology yet, -1 if the transaction failed
+     */
+    public static int createRdm2RdmLinks(List<InitRoadmNodesInput> inputs, DataBroker dataBroker) {
+        ReadWriteTransaction readWriteTransaction = dataBroker.newReadWriteTransaction();
+        int newLinks = 0;
+        try {
+            for (InitRoadmNodesInput input : inputs) {
+                Link link = buildRdm2RdmLink(input, dataBroker);
+                // Building link instance identifier
+                DataObjectIdentifier<Link> linkIID = DataObjectIdentifier.builder(Networks.class)
+                    .child(Network.class, new NetworkKey(new NetworkId(StringConstants.OPENROADM_TOPOLOGY)))
+                    .augmentation(Network1.class)
+                    .child(Link.class, link.key())
+                    .build();
+                if (!readWriteTransaction.exists(LogicalDatastoreType.CONFIGURATION, linkIID).get()) {
+                    newLinks++;
+                }
+                readWriteTransaction.merge(LogicalDatastoreType.CONFIGURATION, linkIID, link);
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            LOG.warn("Failed to read Roadm 2 Roadm Links of topo layer", e);
+            readWriteTransaction.cancel();
+            return -1;
+        }
+        try {
+            readWriteTransaction.commit().get();
+            LOG.info("{} links, {} of them new, added into {} layer.", inputs.size(), newLinks,
+                StringConstants.OPENROADM_TOPOLOGY);
+            return newLinks;
+        } catch (InterruptedException | ExecutionException e) {
+            LOG.warn("Failed to create Roadm 2 Roadm Link for topo layer", e);
+            return -1;
+        }
+    }
+
+    private static Link buildRdm2RdmLink(InitRoadmNodesInput input, DataBroker dataBroker) {
 
         LinkId oppositeLinkId = LinkIdUtil.getRdm2RdmOppositeLinkId(input);
 
@@ -91,32 +138,14 @@ final class OrdLink {
         linkBuilder.addAugmentation(new Link1Builder().setOppositeLink(oppositeLinkId).build());
         linkBuilder.addAugmentation(oppsiteLinkBuilder.build());
         LinkId linkId = LinkIdUtil.buildLinkId(srcNode, srcTp, destNode, destTp);
-
-        // Building link instance identifier
-        DataObjectIdentifier<Link> linkIID = DataObjectIdentifier.builder(Networks.class)
-            .child(Network.class, new NetworkKey(new NetworkId(StringConstants.OPENROADM_TOPOLOGY)))
-            .augmentation(Network1.class)
-            .child(Link.class, new LinkKey(linkId))
-            .build();
-
-        WriteTransaction writeTransaction = dataBroker.newWriteOnlyTransaction();
-        writeTransaction.merge(LogicalDatastoreType.CONFIGURATION, linkIID, linkBuilder.build());
-        try {
-            writeTransaction.commit().get();
-            LOG.info("A new link with linkId: {} added into {} layer.",
-                linkId.getValue(), StringConstants.OPENROADM_TOPOLOGY);
-            return true;
-        } catch (InterruptedException | ExecutionException e) {
-            LOG.warn("Failed to create Roadm 2 Roadm Link for topo layer", e);
-            return false;
-        }
+        return linkBuilder.withKey(new LinkKey(linkId)).build();
     }
 
     /**
      *Method to create InterDomain links that can't be discovered by LLDP. This is used
      *    to create topologies that span across several domains*
      *
-     * @param input a {@link org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902
+     * @param input a {@link org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019
      *      .InitInterDomainLinksInput} object
      * @param dataBroker a {@link org.opendaylight.mdsal.binding.api.DataBroker} object
      * @return a boolean
@@ -11,9 +11,14 @@ import static org.opendaylight.transportpce.common.StringConstants.OPENROADM_DEV
 import static org.opendaylight.transportpce.common.StringConstants.OPENROADM_DEVICE_VERSION_2_2_1;
 import static org.opendaylight.transportpce.common.StringConstants.OPENROADM_DEVICE_VERSION_7_1;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.opendaylight.mdsal.binding.api.DataBroker;
@@ -24,7 +29,8 @@ import org.opendaylight.transportpce.common.Timeouts;
 import org.opendaylight.transportpce.common.device.DeviceTransactionManager;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
 import org.opendaylight.transportpce.networkmodel.util.TopologyUtils;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitRoadmNodesInputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitRoadmNodesInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitRoadmNodesInputBuilder;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.Network;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.cp.to.degree.CpToDegree;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.Mapping;
@@ -48,11 +54,19 @@ import org.slf4j.LoggerFactory;
  */
 public class R2RLinkDiscovery {
 
+    /**
+     * Time during which the LLDP neighbor changes of a node are gathered before its links are updated.
+     */
+    public static final long LLDP_COALESCING_WINDOW_MS = 500;
     private static final Logger LOG = LoggerFactory.getLogger(R2RLinkDiscovery.class);
 
     private final DataBroker dataBroker;
     private final NetworkTransactionService networkTransactionService;
     private final DeviceTransactionManager deviceTransactionManager;
+    private final LldpEventCoalescer lldpEventCoalescer;
+    private final AtomicLong discoveredLinks = new AtomicLong();
+    private final AtomicLong updatedLinks = new AtomicLong();
+    private final AtomicLong deletedLinks = new AtomicLong();
 
     /**
      * Instantiate the R2RLinkDiscovery object.
@@ -66,6 +80,70 @@ public class R2RLinkDiscovery {
         this.dataBroker = dataBroker;
         this.deviceTransactionManager = deviceTransactionManager;
         this.networkTransactionService = networkTransactionService;
+        // The thread of the scheduler is only created at the first LLDP notification
+        this.lldpEventCoalescer = new LldpEventCoalescer(
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "lldp-link-discovery");
+                thread.setDaemon(true);
+                return thread;
+            }),
+            LLDP_COALESCING_WINDOW_MS, this::processLldpChanges);
+    }
+
+    /**
+     * Handle the discovery of a new neighbor by a node. The neighbors of the node are read once the changes notified
+     * by the node during the coalescing window are gathered, and the links are created in a single transaction.
+     *
+     * @param nodeId Node name
+     * @param nodeVersion org-openroadm-device version
+     */
+    public void onLldpNeighborCreation(NodeId nodeId, String nodeVersion) {
+        lldpEventCoalescer.neighborCreated(nodeId, nodeVersion);
+    }
+
+    /**
+     * Handle the loss of a neighbor by a node. The link is deleted with the other changes notified by the node
+     * during the coalescing window.
+     *
+     * @param nodeId Node name
+     * @param nodeVersion org-openroadm-device version
+     * @param interfaceName Name of the WDM line interface
+     * @param remoteSystemName Name of the neighbor node
+     * @param remoteInterfaceName Name of the WDM line interface on the neighbor node
+     */
+    public void onLldpNeighborDeletion(NodeId nodeId, String nodeVersion, String interfaceName,
+            String remoteSystemName, String remoteInterfaceName) {
+        lldpEventCoalescer.neighborDeleted(nodeId, nodeVersion,
+            new LldpEventCoalescer.Deletion(interfaceName, remoteSystemName, remoteInterfaceName));
+    }
+
+    private void processLldpChanges(NodeId nodeId, String nodeVersion, boolean neighborsCreated,
+            Set<LldpEventCoalescer.Deletion> deletions) {
+        for (LldpEventCoalescer.Deletion deletion : deletions) {
+            if (!deleteR2RLink(nodeId, deletion.interfaceName(), deletion.remoteSystemName(),
+                    deletion.remoteInterfaceName())) {
+                LOG.warn("Link deletion failed between {} and {} nodes.", nodeId.getValue(),
+                    deletion.remoteSystemName());
+            }
+        }
+        // The neighbor list of the device is read once, whatever the number of neighbors notified
+        if (neighborsCreated) {
+            readLLDP(nodeId, nodeVersion);
+        }
+        LOG.debug("LLDP changes of node {} processed. R2R links discovered: {}, updated: {}, deleted: {}",
+            nodeId.getValue(), discoveredLinks.get(), updatedLinks.get(), deletedLinks.get());
+    }
+
+    public long getDiscoveredLinkCount() {
+        return discoveredLinks.get();
+    }
+
+    public long getUpdatedLinkCount() {
+        return updatedLinks.get();
+    }
+
+    public long getDeletedLinkCount() {
+        return deletedLinks.get();
     }
 
     /**
@@ -186,6 +264,7 @@ public class R2RLinkDiscovery {
     private boolean rdm2rdmLinkCreatedv71(NodeId nodeId,
             org.opendaylight.yang.gen.v1.http.org.openroadm.lldp.rev200529.lldp.container.lldp.NbrList nbrList) {
         boolean success = true;
+        List<InitRoadmNodesInput> links = new ArrayList<>();
         for (org.opendaylight.yang.gen.v1.http.org.openroadm.lldp.rev200529.lldp.container.lldp.nbr.list.IfName
                 ifName : nbrList.nonnullIfName().values()) {
             if (ifName.getRemoteSysName() == null) {
@@ -200,21 +279,25 @@ public class R2RLinkDiscovery {
                     // mount cannot see its neighbors yet. The link will be detected when processing
                     // the neighbor node.
                 } else {
-                    if (!createR2RLink(nodeId, ifName.getIfName(), ifName.getRemoteSysName(),
-                            ifName.getRemotePortId())) {
+                    List<InitRoadmNodesInput> inputs = buildR2RLinkInputs(nodeId, ifName.getIfName(),
+                        ifName.getRemoteSysName(), ifName.getRemotePortId());
+                    if (inputs.isEmpty()) {
                         LOG.error("Link Creation failed between {} and {} nodes.", nodeId, ifName
                                 .getRemoteSysName());
                         success = false;
+                    } else {
+                        links.addAll(inputs);
                     }
                 }
             }
         }
-        return success;
+        return writeR2RLinks(nodeId, links) && success;
     }
 
     private boolean rdm2rdmLinkCreatedv221(NodeId nodeId,
             org.opendaylight.yang.gen.v1.http.org.openroadm.lldp.rev181019.lldp.container.lldp.NbrList nbrList) {
         boolean success = true;
+        List<InitRoadmNodesInput> links = new ArrayList<>();
         for (org.opendaylight.yang.gen.v1.http.org.openroadm.lldp.rev181019.lldp.container.lldp.nbr.list.IfName
             ifName : nbrList.nonnullIfName().values()) {
             if (ifName.getRemoteSysName() == null) {
@@ -229,20 +312,24 @@ public class R2RLinkDiscovery {
                     // mount cannot see its neighbors yet. The link will be detected when processing
                     // the neighbor node.
                 } else {
-                    if (!createR2RLink(nodeId, ifName.getIfName(), ifName.getRemoteSysName(),
-                        ifName.getRemotePortId())) {
+                    List<InitRoadmNodesInput> inputs = buildR2RLinkInputs(nodeId, ifName.getIfName(),
+                        ifName.getRemoteSysName(), ifName.getRemotePortId());
+                    if (inputs.isEmpty()) {
                         LOG.error("Link Creation failed between {} and {} nodes.", nodeId, ifName
                             .getRemoteSysName());
                         success = false;
+                    } else {
+                        links.addAll(inputs);
                     }
                 }
             }
         }
-        return success;
+        return writeR2RLinks(nodeId, links) && success;
     }
 
     private boolean rdm2rdmLinkCreatedv121(NodeId nodeId, NbrList nbrList) {
         boolean success = true;
+        List<InitRoadmNodesInput> links = new ArrayList<>();
         for (IfName ifName : nbrList.nonnullIfName().values()) {
             if (ifName.getRemoteSysName() == null) {
                 LOG.warn("LLDP subtree neighbour is empty for nodeId: {}, ifName: {}",
@@ -256,16 +343,19 @@ public class R2RLinkDiscovery {
                     // mount cannot see its neighbors yet. The link will be detected when processing
                     // the neighbor node.
                 } else {
-                    if (!createR2RLink(nodeId, ifName.getIfName(), ifName.getRemoteSysName(),
-                        ifName.getRemotePortId())) {
+                    List<InitRoadmNodesInput> inputs = buildR2RLinkInputs(nodeId, ifName.getIfName(),
+                        ifName.getRemoteSysName(), ifName.getRemotePortId());
+                    if (inputs.isEmpty()) {
                         LOG.error("Link Creation failed between {} and {} nodes.", nodeId.getValue(),
                             ifName.getRemoteSysName());
                         success = false;
+                    } else {
+                        links.addAll(inputs);
                     }
                 }
             }
         }
-        return success;
+        return writeR2RLinks(nodeId, links) && success;
     }
 
     /**
@@ -310,11 +400,18 @@ public class R2RLinkDiscovery {
      */
     public boolean createR2RLink(NodeId nodeId, String interfaceName, String remoteSystemName,
                                  String remoteInterfaceName) {
+        List<InitRoadmNodesInput> inputs = buildR2RLinkInputs(nodeId, interfaceName, remoteSystemName,
+            remoteInterfaceName);
+        return !inputs.isEmpty() && writeR2RLinks(nodeId, inputs);
+    }
+
+    private List<InitRoadmNodesInput> buildR2RLinkInputs(NodeId nodeId, String interfaceName, String remoteSystemName,
+            String remoteInterfaceName) {
         // Find which degree is associated with ethernet interface
         Integer srcDegId = getDegFromInterface(nodeId, interfaceName);
         if (srcDegId == null) {
             LOG.error("Couldnt find degree connected to Ethernet interface for nodeId: {}", nodeId);
-            return false;
+            return List.of();
         }
         // Check whether degree is Unidirectional or Bidirectional by counting
         // number of
@@ -324,7 +421,7 @@ public class R2RLinkDiscovery {
         Direction sourceDirection = getDegreeDirection(srcDegId, nodeId);
         if (Direction.NotApplicable == sourceDirection) {
             LOG.error("Couldnt find degree direction for nodeId: {} and degree: {}", nodeId, srcDegId);
-            return false;
+            return List.of();
         } else if (Direction.Bidirectional == sourceDirection) {
             srcTpTx = "DEG" + srcDegId + "-TTP-TXRX";
             srcTpRx = "DEG" + srcDegId + "-TTP-TXRX";
@@ -337,7 +434,7 @@ public class R2RLinkDiscovery {
         Integer destDegId = getDegFromInterface(destNodeId, remoteInterfaceName);
         if (destDegId == null) {
             LOG.error("Couldnt find degree connected to Ethernet interface for nodeId: {}", nodeId);
-            return false;
+            return List.of();
         }
         // Check whether degree is Unidirectional or Bidirectional by counting
         // number of
@@ -347,7 +444,7 @@ public class R2RLinkDiscovery {
         Direction destinationDirection = getDegreeDirection(destDegId, destNodeId);
         if (Direction.NotApplicable == destinationDirection) {
             LOG.error("Couldnt find degree direction for nodeId: {} and degree: {}", destNodeId, destDegId);
-            return false;
+            return List.of();
         } else if (Direction.Bidirectional == destinationDirection) {
             destTpTx = "DEG" + destDegId + "-TTP-TXRX";
             destTpRx = "DEG" + destDegId + "-TTP-TXRX";
@@ -359,33 +456,49 @@ public class R2RLinkDiscovery {
         LOG.debug(
             "Found a neighbor SrcNodeId: {} , SrcDegId: {} , SrcTPId: {}, DestNodeId:{} , DestDegId: {}, DestTPId: {}",
             nodeId.getValue(), srcDegId, srcTpTx, destNodeId, destDegId, destTpRx);
-        InitRoadmNodesInputBuilder r2rlinkBuilderAToZ = new InitRoadmNodesInputBuilder();
-        r2rlinkBuilderAToZ.setRdmANode(nodeId.getValue()).setDegANum(Uint8.valueOf(srcDegId))
-            .setTerminationPointA(srcTpTx).setRdmZNode(destNodeId.getValue()).setDegZNum(Uint8.valueOf(destDegId))
-            .setTerminationPointZ(destTpRx);
-        if (!OrdLink.createRdm2RdmLinks(r2rlinkBuilderAToZ.build(), this.dataBroker)) {
-            LOG.error("OMS Link creation failed between node: {} and nodeId: {} in A->Z direction", nodeId.getValue(),
-                destNodeId.getValue());
-            return false;
-        }
+        InitRoadmNodesInput r2rlinkAToZ = new InitRoadmNodesInputBuilder()
+            .setRdmANode(nodeId.getValue())
+            .setDegANum(Uint8.valueOf(srcDegId))
+            .setTerminationPointA(srcTpTx)
+            .setRdmZNode(destNodeId.getValue())
+            .setDegZNum(Uint8.valueOf(destDegId))
+            .setTerminationPointZ(destTpRx)
+            .build();
         // Z->A
         LOG.debug(
             "Found a neighbor SrcNodeId: {} , SrcDegId: {}"
                 + ", SrcTPId: {}, DestNodeId:{} , DestDegId: {}, DestTPId: {}",
             destNodeId, destDegId, destTpTx, nodeId.getValue(), srcDegId, srcTpRx);
 
-        InitRoadmNodesInputBuilder r2rlinkBuilderZToA = new InitRoadmNodesInputBuilder()
+        InitRoadmNodesInput r2rlinkZToA = new InitRoadmNodesInputBuilder()
             .setRdmANode(destNodeId.getValue())
             .setDegANum(Uint8.valueOf(destDegId))
             .setTerminationPointA(destTpTx)
             .setRdmZNode(nodeId.getValue())
             .setDegZNum(Uint8.valueOf(srcDegId))
-            .setTerminationPointZ(srcTpRx);
-        if (!OrdLink.createRdm2RdmLinks(r2rlinkBuilderZToA.build(), this.dataBroker)) {
-            LOG.error("OMS Link creation failed between node: {} and nodeId: {} in Z->A direction",
-                destNodeId.getValue(), nodeId.getValue());
+            .setTerminationPointZ(srcTpRx)
+            .build();
+        return List.of(r2rlinkAToZ, r2rlinkZToA);
+    }
+
+    /**
+     * Write the ROADM-to-ROADM links found for a node in a single transaction of the openroadm-topology.
+     *
+     * @param nodeId Node name
+     * @param inputs Links to create, in both directions
+     * @return True if the links are correctly created, False otherwise
+     */
+    private boolean writeR2RLinks(NodeId nodeId, List<InitRoadmNodesInput> inputs) {
+        if (inputs.isEmpty()) {
+            return true;
+        }
+        int newLinks = OrdLink.createRdm2RdmLinks(inputs, this.dataBroker);
+        if (newLinks < 0) {
+            LOG.error("OMS Link creation failed for the {} links of node: {}", inputs.size(), nodeId.getValue());
             return false;
         }
+        discoveredLinks.addAndGet(newLinks);
+        updatedLinks.addAndGet(inputs.size() - newLinks);
         return true;
     }
 
@@ -443,10 +556,14 @@ public class R2RLinkDiscovery {
             destTpTx = "DEG" + destDegId + "-TTP-TX";
             destTpRx = "DEG" + destDegId + "-TTP-RX";
         }
-        return TopologyUtils.deleteLink(nodeId.getValue() + "-" + srcDegId, destNodeId.getValue() + "-" + destDegId,
-            srcTpTx, destTpRx, networkTransactionService)
+        if (TopologyUtils.deleteLink(nodeId.getValue() + "-" + srcDegId, destNodeId.getValue() + "-" + destDegId,
+                srcTpTx, destTpRx, networkTransactionService)
             && TopologyUtils.deleteLink(destNodeId.getValue() + "-" + destDegId, nodeId.getValue() + "-" + srcDegId,
-                destTpTx, srcTpRx, networkTransactionService);
+                destTpTx, srcTpRx, networkTransactionService)) {
+            deletedLinks.addAndGet(2);
+            return true;
+        }
+        return false;
     }
 
     private Integer getDegFromInterface(NodeId nodeId, String interfaceName) {
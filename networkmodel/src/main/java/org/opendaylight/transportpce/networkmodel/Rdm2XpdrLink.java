@@ -21,7 +21,7 @@ import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.transportpce.common.StringConstants;
 import org.opendaylight.transportpce.networkmodel.util.LinkIdUtil;
 import org.opendaylight.transportpce.networkmodel.util.TopologyUtils;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.links.input.grouping.LinksInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.links.input.grouping.LinksInput;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.or.network.augmentation.rev250902.DataModelEnum;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.or.network.augmentation.rev250902.LinkClassEnum;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Link1Builder;
@@ -61,7 +61,7 @@ final class Rdm2XpdrLink {
     /**
      * createXpdrRdmLinks.
      *
-     * @param linksInput a {@link org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902
+     * @param linksInput a {@link org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019
      *      .links.input.grouping.LinksInput} object
      * @param dataBroker a {@link org.opendaylight.mdsal.binding.api.DataBroker} object
      * @return a boolean
@@ -119,7 +119,7 @@ final class Rdm2XpdrLink {
     /**
      * createRdmXpdrLinks.
      *
-     * @param linksInput a {@link org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902
+     * @param linksInput a {@link org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019
      *      .links.input.grouping.LinksInput} object
      * @param dataBroker a {@link org.opendaylight.mdsal.binding.api.DataBroker} object
      * @return a boolean
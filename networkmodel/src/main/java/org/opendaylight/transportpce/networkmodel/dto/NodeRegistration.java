@@ -9,13 +9,13 @@ package org.opendaylight.transportpce.networkmodel.dto;
 
 import java.util.ArrayList;
 import java.util.List;
-import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.NotificationService;
 import org.opendaylight.transportpce.common.StringConstants;
 import org.opendaylight.transportpce.common.mapping.PortMapping;
 import org.opendaylight.transportpce.networkmodel.listeners.AlarmNotificationListener;
 import org.opendaylight.transportpce.networkmodel.listeners.AlarmNotificationListener221;
 import org.opendaylight.transportpce.networkmodel.listeners.AlarmNotificationListener710;
+import org.opendaylight.transportpce.networkmodel.listeners.AlarmProcessor;
 import org.opendaylight.transportpce.networkmodel.listeners.DeOperationsListener;
 import org.opendaylight.transportpce.networkmodel.listeners.DeOperationsListener221;
 import org.opendaylight.transportpce.networkmodel.listeners.DeOperationsListener710;
@@ -37,7 +37,7 @@ public class NodeRegistration {
     private final String nodeId;
     private final String nodeVersion;
     private final NotificationService notificationService;
-    private final DataBroker dataBroker;
+    private final AlarmProcessor alarmProcessor;
     private final PortMapping portMapping;
     private final List<Registration> listeners;
 
@@ -47,15 +47,15 @@ public class NodeRegistration {
      * @param nodeId Node name
      * @param nodeVersion OpenROADM org-openroadm-device model version
      * @param notificationService Notification broker which allows to subscribe for notifications
-     * @param dataBroker Provides access to the conceptual data tree store. Used here to instantiate listeners
+     * @param alarmProcessor Processing stage shared by the alarm listeners of all the nodes
      * @param portMapping Store the abstraction view of the netconf OpenROADM-device
      */
     public NodeRegistration(String nodeId, String nodeVersion, NotificationService notificationService,
-            DataBroker dataBroker, PortMapping portMapping) {
+            AlarmProcessor alarmProcessor, PortMapping portMapping) {
         this.nodeId = nodeId;
         this.nodeVersion = nodeVersion;
         this.notificationService = notificationService;
-        this.dataBroker = dataBroker;
+        this.alarmProcessor = alarmProcessor;
         this.portMapping = portMapping;
         listeners = new ArrayList<Registration>();
     }
@@ -92,7 +92,7 @@ public class NodeRegistration {
     }
 
     private void registerListeners121() {
-        AlarmNotificationListener alarmListener = new AlarmNotificationListener(this.dataBroker);
+        AlarmNotificationListener alarmListener = new AlarmNotificationListener(this.alarmProcessor);
         LOG.info("Registering notification listener on OrgOpenroadmAlarmListener for node: {}", nodeId);
         listeners.add(notificationService.registerCompositeListener(alarmListener.getCompositeListener()));
 
@@ -110,7 +110,7 @@ public class NodeRegistration {
     }
 
     private void registerListeners221() {
-        AlarmNotificationListener221 alarmListener = new AlarmNotificationListener221(dataBroker);
+        AlarmNotificationListener221 alarmListener = new AlarmNotificationListener221(alarmProcessor);
         LOG.info("Registering notification listener on OrgOpenroadmAlarmListener for node: {}", nodeId);
         listeners.add(notificationService.registerCompositeListener(alarmListener.getCompositeListener()));
 
@@ -128,7 +128,7 @@ public class NodeRegistration {
     }
 
     private void registerListeners710() {
-        AlarmNotificationListener710 alarmListener = new AlarmNotificationListener710(dataBroker);
+        AlarmNotificationListener710 alarmListener = new AlarmNotificationListener710(alarmProcessor);
         LOG.info("Registering notification listener on OrgOpenroadmAlarmListener for node: {}", nodeId);
         listeners.add(notificationService.registerCompositeListener(alarmListener.getCompositeListener()));
 
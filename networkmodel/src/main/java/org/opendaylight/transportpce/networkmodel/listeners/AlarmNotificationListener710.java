@@ -7,19 +7,9 @@
  */
 package org.opendaylight.transportpce.networkmodel.listeners;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.NotificationService.CompositeListener;
-import org.opendaylight.mdsal.binding.api.ReadTransaction;
-import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.alarmsuppression.rev171102.ServiceNodelist;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.alarmsuppression.rev171102.service.nodelist.Nodelist;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.alarmsuppression.rev171102.service.nodelist.nodelist.Nodes;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.alarmsuppression.rev171102.service.nodelist.nodelist.NodesBuilder;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.alarm.rev200529.AlarmNotification;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.alarm.rev200529.alarm.ProbableCause;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.resource.rev200529.resource.ResourceType;
@@ -34,7 +24,6 @@ import org.opendaylight.yang.gen.v1.http.org.openroadm.resource.rev200529.resour
 import org.opendaylight.yang.gen.v1.http.org.openroadm.resource.rev200529.resource.resource.resource.Service;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.resource.rev200529.resource.resource.resource.Shelf;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.resource.rev200529.resource.resource.resource.Srg;
-import org.opendaylight.yangtools.binding.DataObjectIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,15 +35,15 @@ public class AlarmNotificationListener710 {
 
     private static final Logger LOG = LoggerFactory.getLogger(AlarmNotificationListener710.class);
     private static final String PIPE = "|";
-    private final DataBroker dataBroker;
+    private final AlarmProcessor alarmProcessor;
 
     /**
      * Create instance of the listener.
      *
-     * @param dataBroker Provides access to the conceptual data tree store used by the listener implementation.
+     * @param alarmProcessor Processing stage to which the alarms are handed over.
      */
-    public AlarmNotificationListener710(DataBroker dataBroker) {
-        this.dataBroker = dataBroker;
+    public AlarmNotificationListener710(AlarmProcessor alarmProcessor) {
+        this.alarmProcessor = alarmProcessor;
     }
 
     /**
@@ -74,34 +63,16 @@ public class AlarmNotificationListener710 {
      * @param notification AlarmNotification object
      */
     private void onAlarmNotification(AlarmNotification notification) {
-        List<Nodes> allNodeList = new ArrayList<>();
-        DataObjectIdentifier<ServiceNodelist> serviceNodeListIID = DataObjectIdentifier.builder(ServiceNodelist.class)
-                .build();
-        try {
-            ReadTransaction rtx = dataBroker.newReadOnlyTransaction();
-            Optional<ServiceNodelist> serviceListObject =
-                    rtx.read(LogicalDatastoreType.OPERATIONAL, serviceNodeListIID).get();
-            if (serviceListObject.isPresent()) {
-                for (Nodelist nodelist : serviceListObject.orElseThrow().nonnullNodelist().values()) {
-                    allNodeList.addAll(nodelist.nonnullNodes().values());
-                }
-            }
-        } catch (InterruptedException | ExecutionException ex) {
-            LOG.warn("Exception thrown while reading Logical Connection Point value", ex);
-        }
-        String message = String.join(PIPE,notification.getResource().getDevice().getNodeId().getValue(),
-                buildCause(notification.getProbableCause()),notification.getId() != null ? notification.getId() : "",
+        String nodeId = notification.getResource().getDevice().getNodeId().getValue();
+        String cause = buildCause(notification.getProbableCause());
+        String circuitId = notification.getCircuitId() != null ? notification.getCircuitId() : "";
+        String type = buildType(notification);
+        String severity = notification.getSeverity() != null ? notification.getSeverity().getName() : "";
+        String message = String.join(PIPE, nodeId, cause, notification.getId() != null ? notification.getId() : "",
                 notification.getRaiseTime() != null ? notification.getRaiseTime().toString() : "",
-                notification.getSeverity() != null ? notification.getSeverity().getName() : "",
-                notification.getCircuitId() != null ? notification.getCircuitId() : "",buildType(notification));
-
-        Nodes build = new NodesBuilder().setNodeId(notification.getResource().getDevice().getNodeId().getValue())
-            .build();
-        if (allNodeList.contains(build)) {
-            LOG.info("onAlarmNotification: {}", message);
-        } else {
-            LOG.warn("onAlarmNotification: {}", message);
-        }
+                severity, circuitId, type);
+        alarmProcessor.submit(new AlarmProcessor.AlarmEvent(nodeId, String.join(PIPE, cause, circuitId, type),
+                severity, message, AlarmResource.fromType(type)));
     }
 
     private String buildCause(ProbableCause probableCause) {
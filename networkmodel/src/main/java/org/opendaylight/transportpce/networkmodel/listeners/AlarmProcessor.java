@@ -0,0 +1,287 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.networkmodel.listeners;
+
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processing stage shared by the alarm notification listeners of all the devices.
+ * Listeners only format the notifications and queue them. A single worker drains the bounded queue by batches,
+ * merges the raise and clear bursts of a same resource, drops the alarms whose state did not change, checks the
+ * suppression index and hands the batch over to a sink, then to the sinks added by other components, such as the
+ * device inventory.
+ * When the queue is full, the new alarms are dropped and counted rather than blocking the notification threads.
+ */
+public class AlarmProcessor implements AutoCloseable {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    public static final int DEFAULT_MAX_ACTIVE_ALARMS = 100000;
+    private static final Logger LOG = LoggerFactory.getLogger(AlarmProcessor.class);
+    private static final String CLEAR = "clear";
+
+    /**
+     * Default sink, logging the alarms of the nodes suppressed by a service operation at info level
+     * and the other ones at warn level.
+     */
+    public static final AlarmSink LOGGING_SINK = (alarms, suppressedAlarms) -> {
+        for (AlarmEvent alarm : suppressedAlarms) {
+            LOG.info("onAlarmNotification: {}", alarm.message());
+        }
+        for (AlarmEvent alarm : alarms) {
+            LOG.warn("onAlarmNotification: {}", alarm.message());
+        }
+    };
+
+    /**
+     * Alarm queued by the notification listeners.
+     *
+     * @param nodeId node raising the alarm
+     * @param resourceKey identifier of the alarm on the node, made of its probable cause and of its resource
+     * @param severity severity of the alarm, clear when the alarm is cleared
+     * @param message pipe-separated description of the alarm
+     * @param resource resource of the node the alarm is raised on
+     */
+    public record AlarmEvent(String nodeId, String resourceKey, String severity, String message,
+            AlarmResource resource) {
+
+        public boolean isClear() {
+            return CLEAR.equalsIgnoreCase(severity);
+        }
+    }
+
+    /**
+     * Consumer of the batches of alarms, such as inventory storage or northbound publication.
+     */
+    @FunctionalInterface
+    public interface AlarmSink {
+
+        /**
+         * Handle a batch of alarms.
+         *
+         * @param alarms alarms to report
+         * @param suppressedAlarms alarms of nodes on which a service operation is in progress
+         */
+        void publish(List<AlarmEvent> alarms, List<AlarmEvent> suppressedAlarms);
+    }
+
+    private final AlarmSuppressionIndex suppressionIndex;
+    private final AlarmSink sink;
+    private final List<AlarmSink> additionalSinks = new CopyOnWriteArrayList<>();
+    private final int batchSize;
+    private final BlockingQueue<AlarmEvent> queue;
+    private final ExecutorService executor;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    // Last severity of the alarms currently raised, only accessed by the worker
+    private final Map<String, String> activeAlarms;
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong merged = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+
+    /**
+     * Instantiate the AlarmProcessor with the default sink, queue capacity and batch size.
+     *
+     * @param suppressionIndex index of the nodes whose alarms are suppressed
+     */
+    public AlarmProcessor(AlarmSuppressionIndex suppressionIndex) {
+        this(suppressionIndex, LOGGING_SINK, DEFAULT_QUEUE_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Instantiate the AlarmProcessor.
+     *
+     * @param suppressionIndex index of the nodes whose alarms are suppressed
+     * @param sink consumer of the processed alarms
+     * @param queueCapacity maximum number of alarms waiting to be processed
+     * @param batchSize maximum number of alarms handed over to the sink at once
+     */
+    public AlarmProcessor(AlarmSuppressionIndex suppressionIndex, AlarmSink sink, int queueCapacity,
+            int batchSize) {
+        this(suppressionIndex, sink, queueCapacity, batchSize, DEFAULT_MAX_ACTIVE_ALARMS);
+    }
+
+    /**
+     * Instantiate the AlarmProcessor.
+     * The state of the least recently updated alarms is forgotten beyond maxActiveAlarms, so that alarms which are
+     * never cleared, for instance those of removed devices, do not accumulate. A forgotten alarm raised again with
+     * the same severity is handed over to the sink again.
+     *
+     * @param suppressionIndex index of the nodes whose alarms are suppressed
+     * @param sink consumer of the processed alarms
+     * @param queueCapacity maximum number of alarms waiting to be processed
+     * @param batchSize maximum number of alarms handed over to the sink at once
+     * @param maxActiveAlarms maximum number of raised alarms whose state is kept
+     */
+    public AlarmProcessor(AlarmSuppressionIndex suppressionIndex, AlarmSink sink, int queueCapacity,
+            int batchSize, int maxActiveAlarms) {
+        this.suppressionIndex = suppressionIndex;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        // Only the worker accesses the active alarms
+        this.activeAlarms = CacheBuilder.newBuilder()
+            .concurrencyLevel(1)
+            .maximumSize(maxActiveAlarms)
+            .<String, String>build()
+            .asMap();
+        // The worker thread is only created at the first alarm
+        this.executor = Executors.newSingleThreadExecutor();
+    }
+
+    /**
+     * Queue an alarm for processing.
+     *
+     * @param alarm alarm received from a device
+     * @return false if the alarm has been dropped because the queue is full
+     */
+    public boolean submit(AlarmEvent alarm) {
+        received.incrementAndGet();
+        if (!queue.offer(alarm)) {
+            long count = dropped.incrementAndGet();
+            if (count == 1 || count % 1000 == 0) {
+                LOG.warn("Alarm queue full, {} alarms dropped so far", count);
+            }
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * Add a sink to which the batches are handed over after the main sink.
+     *
+     * @param additionalSink consumer of the processed alarms
+     */
+    public void addSink(AlarmSink additionalSink) {
+        additionalSinks.add(additionalSink);
+    }
+
+    /**
+     * Remove a sink added by {@link #addSink(AlarmSink)}.
+     *
+     * @param additionalSink consumer of the processed alarms
+     */
+    public void removeSink(AlarmSink additionalSink) {
+        additionalSinks.remove(additionalSink);
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                LOG.debug("Alarm processor closed, alarms left in queue", e);
+            }
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void drain() {
+        List<AlarmEvent> batch = new ArrayList<>(batchSize);
+        while (true) {
+            queue.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                draining.set(false);
+                // an alarm may have been queued after the drain and before the flag reset
+                if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                process(batch);
+            } catch (RuntimeException e) {
+                LOG.error("Failed to process a batch of {} alarms", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    private void process(List<AlarmEvent> batch) {
+        // Only the last state of each resource is kept within a batch
+        Map<String, AlarmEvent> lastStates = new LinkedHashMap<>();
+        for (AlarmEvent alarm : batch) {
+            lastStates.put(alarm.nodeId() + '|' + alarm.resourceKey(), alarm);
+        }
+        List<AlarmEvent> alarms = new ArrayList<>();
+        List<AlarmEvent> suppressedAlarms = new ArrayList<>();
+        for (Map.Entry<String, AlarmEvent> entry : lastStates.entrySet()) {
+            AlarmEvent alarm = entry.getValue();
+            String previous = alarm.isClear()
+                ? activeAlarms.remove(entry.getKey())
+                : activeAlarms.put(entry.getKey(), alarm.severity());
+            if (!alarm.isClear() && alarm.severity().equals(previous)) {
+                // the resource is already in that state
+                continue;
+            }
+            if (suppressionIndex.isSuppressed(alarm.nodeId())) {
+                suppressedAlarms.add(alarm);
+            } else {
+                alarms.add(alarm);
+            }
+        }
+        merged.addAndGet(batch.size() - alarms.size() - suppressedAlarms.size());
+        if (!alarms.isEmpty() || !suppressedAlarms.isEmpty()) {
+            published.addAndGet(alarms.size() + suppressedAlarms.size());
+            sink.publish(alarms, suppressedAlarms);
+            for (AlarmSink additionalSink : additionalSinks) {
+                publish(additionalSink, alarms, suppressedAlarms);
+            }
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private static void publish(AlarmSink additionalSink, List<AlarmEvent> alarms, List<AlarmEvent> suppressedAlarms) {
+        try {
+            additionalSink.publish(alarms, suppressedAlarms);
+        } catch (RuntimeException e) {
+            // A failing sink must not prevent the other ones from receiving the alarms
+            LOG.error("Failed to hand over a batch of {} alarms to {}", alarms.size() + suppressedAlarms.size(),
+                additionalSink, e);
+        }
+    }
+
+    public long getReceivedCount() {
+        return received.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getMergedCount() {
+        return merged.get();
+    }
+
+    public long getPublishedCount() {
+        return published.get();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        LOG.info("Alarm processor closed: {} alarms received, {} dropped, {} merged, {} published",
+            received.get(), dropped.get(), merged.get(), published.get());
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.networkmodel.listeners;
+
+/**
+ * Device resource an alarm is raised on, independently of the OpenROADM device model version.
+ * Fields that do not apply to the resource type are empty.
+ *
+ * @param circuitPack circuit pack name, also set for a port
+ * @param port port name
+ * @param interfaceName interface name
+ * @param degree degree number
+ * @param srg shared risk group number
+ */
+public record AlarmResource(String circuitPack, String port, String interfaceName, String degree, String srg) {
+
+    public static final AlarmResource NONE = new AlarmResource("", "", "", "", "");
+
+    /**
+     * Build the resource from the pipe-separated resource description of the alarm notification listeners,
+     * that is circuit-pack|connection|degree|interface|internal-link|physical-link|service|shelf|srg|port|
+     * port-circuit-pack.
+     *
+     * @param type resource description
+     * @return the resource, NONE if the description is not in the expected format
+     */
+    public static AlarmResource fromType(String type) {
+        String[] fields = type.split("\\|", -1);
+        if (fields.length != 11) {
+            return NONE;
+        }
+        return new AlarmResource(fields[9].isEmpty() ? fields[0] : fields[10], fields[9], fields[3], fields[2],
+            fields[8]);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.networkmodel.listeners;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.mdsal.binding.api.DataTreeChangeListener;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.alarmsuppression.rev171102.ServiceNodelist;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.alarmsuppression.rev171102.service.nodelist.Nodelist;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.alarmsuppression.rev171102.service.nodelist.nodelist.Nodes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory view of the nodes whose alarms are suppressed because a service is being set up or deleted on them.
+ * The index listens to the ServiceNodelist container of the operational datastore, so that alarm notifications
+ * are checked against a set of node ids instead of reading and flattening the whole node list each time.
+ */
+public class AlarmSuppressionIndex implements DataTreeChangeListener<ServiceNodelist> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AlarmSuppressionIndex.class);
+    private volatile Set<String> suppressedNodes = Set.of();
+
+    /** {@inheritDoc} */
+    @Override
+    public void onDataTreeChanged(@NonNull List<DataTreeModification<ServiceNodelist>> changes) {
+        update(changes.getLast().getRootNode().dataAfter());
+    }
+
+    /**
+     * Replace the content of the index with the nodes of a service node list.
+     *
+     * @param serviceNodelist current service node list, null if the list has been deleted
+     */
+    public void update(ServiceNodelist serviceNodelist) {
+        Set<String> nodes = new HashSet<>();
+        if (serviceNodelist != null) {
+            for (Nodelist nodelist : serviceNodelist.nonnullNodelist().values()) {
+                for (Nodes node : nodelist.nonnullNodes().values()) {
+                    nodes.add(node.getNodeId());
+                }
+            }
+        }
+        suppressedNodes = Set.copyOf(nodes);
+        LOG.debug("Alarms suppressed for nodes {}", suppressedNodes);
+    }
+
+    public boolean isSuppressed(String nodeId) {
+        return suppressedNodes.contains(nodeId);
+    }
+}
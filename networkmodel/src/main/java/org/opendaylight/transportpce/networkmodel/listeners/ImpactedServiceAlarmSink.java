@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.networkmodel.listeners;
+
+import java.util.List;
+import org.opendaylight.mdsal.binding.api.NotificationPublishService;
+import org.opendaylight.transportpce.networkmodel.listeners.AlarmProcessor.AlarmEvent;
+import org.opendaylight.transportpce.networkmodel.listeners.AlarmProcessor.AlarmSink;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationAlarmService;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationAlarmServiceBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Alarm sink logging the alarms as the default sink, then notifying the northbound of each service impacted by
+ * an alarm. Alarms of nodes suppressed by a service operation in progress are not notified.
+ */
+public class ImpactedServiceAlarmSink implements AlarmSink {
+
+    public static final String PUBLISHER = "DeviceAlarmListener";
+    private static final Logger LOG = LoggerFactory.getLogger(ImpactedServiceAlarmSink.class);
+    private final ImpactedServiceIndex impactedServiceIndex;
+    private final NotificationPublishService notificationPublishService;
+
+    /**
+     * Instantiate the ImpactedServiceAlarmSink.
+     *
+     * @param impactedServiceIndex index of the services crossing the device resources
+     * @param notificationPublishService Notification broker used to publish the notifications to the northbound
+     */
+    public ImpactedServiceAlarmSink(ImpactedServiceIndex impactedServiceIndex,
+            NotificationPublishService notificationPublishService) {
+        this.impactedServiceIndex = impactedServiceIndex;
+        this.notificationPublishService = notificationPublishService;
+    }
+
+    @Override
+    public void publish(List<AlarmEvent> alarms, List<AlarmEvent> suppressedAlarms) {
+        AlarmProcessor.LOGGING_SINK.publish(alarms, suppressedAlarms);
+        for (AlarmEvent alarm : alarms) {
+            for (String serviceName : impactedServiceIndex.getImpactedServices(alarm.nodeId(), alarm.resource())) {
+                LOG.info("Alarm {} impacts service {}", alarm.message(), serviceName);
+                sendNbiNotification(new PublishNotificationAlarmServiceBuilder()
+                    .setServiceName(serviceName)
+                    .setConnectionType(impactedServiceIndex.getConnectionType(serviceName))
+                    .setMessage((alarm.isClear() ? "Device alarm cleared: " : "Device alarm raised: ")
+                        + alarm.message())
+                    .setPublisherName(PUBLISHER)
+                    .build());
+            }
+        }
+    }
+
+    private void sendNbiNotification(PublishNotificationAlarmService service) {
+        try {
+            notificationPublishService.putNotification(service);
+        } catch (InterruptedException e) {
+            LOG.warn("Cannot send notification to nbi", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+}
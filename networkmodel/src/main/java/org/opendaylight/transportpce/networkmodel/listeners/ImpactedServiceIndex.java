@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.networkmodel.listeners;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.mdsal.binding.api.DataTreeChangeListener;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.transportpce.common.StringConstants;
+import org.opendaylight.transportpce.common.mapping.PortMapping;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.Mapping;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.ConnectionType;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.service.list.Services;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.PathDescription;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.resource.Resource;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.resource.resource.TerminationPoint;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.servicepath.rev171017.service.path.list.ServicePaths;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index from the device resources crossed by the service paths to the names of the services, so that the services
+ * impacted by an alarm are found without scanning the service path list.
+ * The index listens to the ServicePaths of the operational datastore. Each termination point of a path description
+ * is indexed by its logical connection point and, when the port mapping knows it, by its supporting circuit pack
+ * and port. Degree and SRG numbers are indexed for the termination points of ROADM nodes.
+ * The connection type of the services, needed to notify the northbound, is kept from the ServiceList.
+ */
+public class ImpactedServiceIndex implements DataTreeChangeListener<ServicePaths> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ImpactedServiceIndex.class);
+    private static final String PIPE = "|";
+    private final PortMapping portMapping;
+    private final Map<String, Set<String>> servicesByResource = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> resourcesByService = new ConcurrentHashMap<>();
+    private final Map<String, ConnectionType> connectionTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiate the ImpactedServiceIndex.
+     *
+     * @param portMapping Store the abstraction view of the netconf devices
+     */
+    public ImpactedServiceIndex(PortMapping portMapping) {
+        this.portMapping = portMapping;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onDataTreeChanged(@NonNull List<DataTreeModification<ServicePaths>> changes) {
+        for (DataTreeModification<ServicePaths> change : changes) {
+            ServicePaths before = change.getRootNode().dataBefore();
+            ServicePaths after = change.getRootNode().dataAfter();
+            if (after != null) {
+                updateServicePath(after);
+            } else if (before != null) {
+                removeServicePath(before.getServicePathName());
+            }
+        }
+    }
+
+    /**
+     * Get the listener of the ServiceList, keeping the connection type of the services.
+     *
+     * @return listener to register on the services of the operational datastore
+     */
+    public DataTreeChangeListener<Services> getServicesListener() {
+        return this::onServicesChanged;
+    }
+
+    private void onServicesChanged(@NonNull List<DataTreeModification<Services>> changes) {
+        for (DataTreeModification<Services> change : changes) {
+            Services after = change.getRootNode().dataAfter();
+            if (after != null && after.getConnectionType() != null) {
+                connectionTypes.put(after.getServiceName(), after.getConnectionType());
+            } else if (after == null && change.getRootNode().dataBefore() != null) {
+                connectionTypes.remove(change.getRootNode().dataBefore().getServiceName());
+            }
+        }
+    }
+
+    /**
+     * Index the resources of a service path, replacing those of a previous path of the same service.
+     *
+     * @param servicePath service path created or modified
+     */
+    public void updateServicePath(ServicePaths servicePath) {
+        String serviceName = servicePath.getServicePathName();
+        Set<String> resources = new HashSet<>();
+        PathDescription pathDescription = servicePath.getPathDescription();
+        if (pathDescription != null) {
+            if (pathDescription.getAToZDirection() != null) {
+                pathDescription.getAToZDirection().nonnullAToZ().values()
+                    .forEach(atoz -> addResource(resources, atoz.getResource().getResource()));
+            }
+            if (pathDescription.getZToADirection() != null) {
+                pathDescription.getZToADirection().nonnullZToA().values()
+                    .forEach(ztoa -> addResource(resources, ztoa.getResource().getResource()));
+            }
+        }
+        removeServicePath(serviceName);
+        for (String resource : resources) {
+            servicesByResource.computeIfAbsent(resource, key -> ConcurrentHashMap.newKeySet()).add(serviceName);
+        }
+        resourcesByService.put(serviceName, resources);
+        LOG.debug("{} resources indexed for service {}", resources.size(), serviceName);
+    }
+
+    /**
+     * Remove a service from the index.
+     *
+     * @param serviceName name of the service path deleted
+     */
+    public void removeServicePath(String serviceName) {
+        Set<String> resources = resourcesByService.remove(serviceName);
+        if (resources == null) {
+            return;
+        }
+        for (String resource : resources) {
+            servicesByResource.computeIfPresent(resource, (key, services) -> {
+                services.remove(serviceName);
+                return services.isEmpty() ? null : services;
+            });
+        }
+    }
+
+    private void addResource(Set<String> resources, Resource resource) {
+        if (!(resource instanceof TerminationPoint tp) || tp.getTpId() == null || tp.getTpNodeId() == null) {
+            return;
+        }
+        String tpId = tp.getTpId();
+        if (tpId.contains("CTP") || tpId.contains("CP")) {
+            return;
+        }
+        // Same derivation of the device node as the renderer
+        String nodeId;
+        if (tpId.contains(StringConstants.TTP_TOKEN)) {
+            nodeId = tp.getTpNodeId().split("-DEG")[0];
+            resources.add(key(nodeId, "degree", tpId.split("-")[0].replace("DEG", "")));
+        } else if (tpId.contains(StringConstants.PP_TOKEN)) {
+            nodeId = tp.getTpNodeId().split("-SRG")[0];
+            resources.add(key(nodeId, "srg", tpId.split("-")[0].replace("SRG", "")));
+        } else if (tpId.contains(StringConstants.NETWORK_TOKEN) || tpId.contains(StringConstants.CLIENT_TOKEN)) {
+            nodeId = tp.getTpNodeId().split("-XPDR")[0];
+        } else {
+            return;
+        }
+        resources.add(key(nodeId, "lcp", tpId));
+        Mapping mapping = portMapping.getMapping(nodeId, tpId);
+        if (mapping != null && mapping.getSupportingCircuitPackName() != null) {
+            resources.add(key(nodeId, "circuit-pack", mapping.getSupportingCircuitPackName()));
+            resources.add(key(nodeId, "port", mapping.getSupportingCircuitPackName() + PIPE
+                + mapping.getSupportingPort()));
+        }
+    }
+
+    /**
+     * Find the services crossing the resource of an alarm.
+     * An interface is matched on its logical connection point, the name of the interfaces created by the renderer
+     * being the logical connection point followed by dash-separated suffixes.
+     *
+     * @param nodeId node raising the alarm
+     * @param resource resource of the alarm
+     * @return the names of the services impacted, empty if none
+     */
+    public Set<String> getImpactedServices(String nodeId, AlarmResource resource) {
+        Set<String> services = new HashSet<>();
+        if (!resource.port().isEmpty()) {
+            addServices(services, key(nodeId, "port", resource.circuitPack() + PIPE + resource.port()));
+        } else if (!resource.circuitPack().isEmpty()) {
+            addServices(services, key(nodeId, "circuit-pack", resource.circuitPack()));
+        }
+        if (!resource.degree().isEmpty()) {
+            addServices(services, key(nodeId, "degree", resource.degree()));
+        }
+        if (!resource.srg().isEmpty()) {
+            addServices(services, key(nodeId, "srg", resource.srg()));
+        }
+        String lcp = resource.interfaceName();
+        while (!lcp.isEmpty() && !addServices(services, key(nodeId, "lcp", lcp))) {
+            int dash = lcp.lastIndexOf('-');
+            lcp = dash < 0 ? "" : lcp.substring(0, dash);
+        }
+        return services;
+    }
+
+    public ConnectionType getConnectionType(String serviceName) {
+        return connectionTypes.getOrDefault(serviceName, ConnectionType.Service);
+    }
+
+    private boolean addServices(Set<String> services, String resourceKey) {
+        Set<String> found = servicesByResource.get(resourceKey);
+        if (found == null) {
+            return false;
+        }
+        services.addAll(found);
+        return true;
+    }
+
+    private static String key(String nodeId, String type, String name) {
+        return String.join(PIPE, nodeId, type, name);
+    }
+}
@@ -8,6 +8,8 @@
 
 package org.opendaylight.transportpce.networkmodel.listeners;
 
+import static org.opendaylight.transportpce.common.StringConstants.OPENROADM_DEVICE_VERSION_2_2_1;
+
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.binding.api.NotificationService.Listener;
 import org.opendaylight.transportpce.networkmodel.R2RLinkDiscovery;
@@ -46,11 +48,9 @@ public class LldpListener221 implements Listener<LldpNbrInfoChange> {
     public void onNotification(@NonNull LldpNbrInfoChange notification) {
         LOG.info("Notification {} received {}", LldpNbrInfoChange.QNAME, notification);
         if (notification.getNotificationType().equals(ResourceNotificationType.ResourceCreation)) {
-            linkDiscovery.createR2RLink(nodeId,notification.getResource(),
-                                                notification.getNbrInfo().getRemoteSysName(),
-                                                notification.getNbrInfo().getRemotePortId());
+            linkDiscovery.onLldpNeighborCreation(nodeId, OPENROADM_DEVICE_VERSION_2_2_1);
         } else if (notification.getNotificationType().equals(ResourceNotificationType.ResourceDeletion)) {
-            linkDiscovery.deleteR2RLink(nodeId,notification.getResource(),
+            linkDiscovery.onLldpNeighborDeletion(nodeId, OPENROADM_DEVICE_VERSION_2_2_1, notification.getResource(),
                                                 notification.getNbrInfo().getRemoteSysName(),
                                                 notification.getNbrInfo().getRemotePortId());
         }
@@ -7,13 +7,19 @@
  */
 package org.opendaylight.transportpce.networkmodel.service;
 
+import com.google.common.util.concurrent.FluentFuture;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -29,6 +35,9 @@ import org.opendaylight.transportpce.common.StringConstants;
 import org.opendaylight.transportpce.common.Timeouts;
 import org.opendaylight.transportpce.common.fixedflex.GridConstant;
 import org.opendaylight.transportpce.common.fixedflex.GridUtils;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumBand;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumOccupancyIndex;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumOccupancyIndexImpl;
 import org.opendaylight.transportpce.networkmodel.util.OpenRoadmTopology;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkmodel.rev201116.TopologyUpdateResultBuilder;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkmodel.rev201116.topology.update.result.TopologyChanges;
@@ -64,7 +73,9 @@ import org.opendaylight.yang.gen.v1.http.org.openroadm.xponder.rev250110.xpdr.po
 import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.AToZDirection;
 import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.ZToADirection;
 import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.resource.resource.TerminationPoint;
-import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.network.Node;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.TpId;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.networks.network.node.TerminationPointKey;
 import org.opendaylight.yangtools.yang.common.Decimal64;
 import org.opendaylight.yangtools.yang.common.Uint32;
 import org.osgi.service.component.annotations.Activate;
@@ -81,19 +92,27 @@ public class FrequenciesServiceImpl implements FrequenciesService {
 
     private static final Logger LOG = LoggerFactory.getLogger(FrequenciesServiceImpl.class);
     private final DataBroker dataBroker;
-    private final AvailFreqMapsKey availFreqMapKey = new AvailFreqMapsKey(GridConstant.C_BAND);
     private final NotificationPublishService notificationPublishService;
+    private final SpectrumOccupancyIndex spectrumOccupancyIndex;
 
     /**
      * Create instance of the FrequenciesService.
      *
      * @param dataBroker Provides access to the conceptual data tree store used by the implementation.
+     * @param notificationPublishService Used to publish the topology updates.
+     * @param spectrumOccupancyIndex Updated with the degree and SRG frequency maps after each allocation or release.
      */
     @Activate
     public FrequenciesServiceImpl(@Reference DataBroker dataBroker,
-            @Reference NotificationPublishService notificationPublishService) {
+            @Reference NotificationPublishService notificationPublishService,
+            @Reference SpectrumOccupancyIndex spectrumOccupancyIndex) {
         this.dataBroker = dataBroker;
         this.notificationPublishService = notificationPublishService;
+        this.spectrumOccupancyIndex = spectrumOccupancyIndex;
+    }
+
+    public FrequenciesServiceImpl(DataBroker dataBroker, NotificationPublishService notificationPublishService) {
+        this(dataBroker, notificationPublishService, new SpectrumOccupancyIndexImpl());
     }
 
     /** {@inheritDoc} */
@@ -109,219 +128,160 @@ public class FrequenciesServiceImpl implements FrequenciesService {
         updateFrequencies(atoZDirection, ztoADirection, false);
     }
 
+    /**
+     * Frequency update of one direction of a service path.
+     * @param direction String used for logging
+     * @param minFrequency Decimal64
+     * @param maxFrequency Decimal64
+     * @param rate Uint32
+     * @param modulationFormat ModulationFormat
+     * @param tpIds List of NodeIdPair of the direction
+     */
+    private record DirectionUpdate(String direction, Decimal64 minFrequency, Decimal64 maxFrequency, Uint32 rate,
+            ModulationFormat modulationFormat, List<NodeIdPair> tpIds) {
+    }
+
     /**
      * Update frequency map for nodes and tp in atozDirection and ztoadirection.
+     * Both directions are computed together on a single read of the nodes involved, so that a node or a termination
+     * point crossed in both directions is written only once, and everything is committed in one transaction.
      * @param atoZDirection AToZDirection
      * @param ztoADirection ZToADirection
      * @param used used boolean true if frequencies are used, false otherwise.
      */
     private void updateFrequencies(AToZDirection atoZDirection, ZToADirection ztoADirection, boolean used) {
+        List<DirectionUpdate> updates = new ArrayList<>();
         if (atoZDirection != null && atoZDirection.getAToZMinFrequency() != null) {
             LOG.info("Update frequencies for a to z direction {}, used {}", atoZDirection, used);
-            List<NodeIdPair> atozTpIds = getAToZTpList(atoZDirection);
-            Decimal64 atozMinFrequency = atoZDirection.getAToZMinFrequency().getValue();
-            Decimal64 atozMaxFrequency = atoZDirection.getAToZMaxFrequency().getValue();
             ModulationFormat modulationFormat = ModulationFormat.forName(atoZDirection.getModulationFormat());
             if (modulationFormat == null) {
                 LOG.error("Unknown modulation format {} for a to z direction, frequencies not updated",
                         atoZDirection.getModulationFormat());
                 return;
             }
-            setFrequencies4Tps(
-                    atozMinFrequency, atozMaxFrequency,
-                    atoZDirection.getRate(), modulationFormat, atozTpIds,
-                    used);
-            setFrequencies4Nodes(
-                    atozMinFrequency, atozMaxFrequency,
-                    atozTpIds.stream().map(NodeIdPair::getNodeID).distinct().collect(Collectors.toList()),
-                    used);
+            updates.add(new DirectionUpdate("a to z",
+                    atoZDirection.getAToZMinFrequency().getValue(), atoZDirection.getAToZMaxFrequency().getValue(),
+                    atoZDirection.getRate(), modulationFormat, getAToZTpList(atoZDirection)));
         }
         if (ztoADirection != null && ztoADirection.getZToAMinFrequency() != null) {
             LOG.info("Update frequencies for z to a direction {}, used {}", ztoADirection, used);
-            List<NodeIdPair> ztoaTpIds = getZToATpList(ztoADirection);
-            Decimal64 ztoaMinFrequency = ztoADirection.getZToAMinFrequency().getValue();
-            Decimal64 ztoaMaxFrequency = ztoADirection.getZToAMaxFrequency().getValue();
             ModulationFormat modulationFormat = ModulationFormat.forName(ztoADirection.getModulationFormat());
             if (modulationFormat == null) {
                 LOG.error("Unknown modulation format {} for z to a direction, frequencies not updated",
                         ztoADirection.getModulationFormat());
-                return;
+            } else {
+                updates.add(new DirectionUpdate("z to a",
+                        ztoADirection.getZToAMinFrequency().getValue(), ztoADirection.getZToAMaxFrequency().getValue(),
+                        ztoADirection.getRate(), modulationFormat, getZToATpList(ztoADirection)));
             }
-            setFrequencies4Tps(
-                    ztoaMinFrequency, ztoaMaxFrequency,
-                    ztoADirection.getRate(), modulationFormat, ztoaTpIds,
-                    used);
-            setFrequencies4Nodes(
-                    ztoaMinFrequency, ztoaMaxFrequency,
-                    ztoaTpIds.stream().map(NodeIdPair::getNodeID).distinct().collect(Collectors.toList()),
-                    used);
         }
-    }
-
-    /**
-     * Get network node with nodeId from datastore.
-     * @param nodeId String
-     * @return Node1, null otherwise.
-     */
-    private Node1 getNetworkNodeFromDatastore(String nodeId) {
-        DataObjectIdentifier<Node1> nodeIID = OpenRoadmTopology.createNetworkNodeIID(nodeId);
-        try (ReadTransaction nodeReadTx = this.dataBroker.newReadOnlyTransaction()) {
-            Optional<Node1> optionalNode = nodeReadTx
-                .read(LogicalDatastoreType.CONFIGURATION, nodeIID)
-                .get(Timeouts.DATASTORE_READ, TimeUnit.MILLISECONDS);
-            if (optionalNode.isEmpty()) {
-                LOG.warn("Unable to get network node for node id {} from topology {}",
-                     nodeId, StringConstants.OPENROADM_TOPOLOGY);
-                return null;
-            }
-            return optionalNode.orElseThrow();
-        } catch (ExecutionException | TimeoutException e) {
-            LOG.warn("Exception while getting network node for node id {} from {} topology",
-                    nodeId, StringConstants.OPENROADM_TOPOLOGY, e);
-            return null;
-        } catch (InterruptedException e) {
-            LOG.warn("Getting network node for node id {} from {} topology was interrupted",
-                    nodeId, StringConstants.OPENROADM_TOPOLOGY, e);
-            Thread.currentThread().interrupt();
-            return null;
+        if (updates.isEmpty()) {
+            return;
+        }
+        Set<String> nodeIds = new LinkedHashSet<>();
+        updates.forEach(update -> update.tpIds().forEach(idPair -> nodeIds.add(idPair.getNodeID())));
+        Map<String, Node> nodes = getNodesFromDatastore(nodeIds);
+        if (nodes == null) {
+            LOG.error("Cannot read nodes {} from topology {}, frequencies not updated",
+                    nodeIds, StringConstants.OPENROADM_TOPOLOGY);
+            return;
         }
+        Map<NodeIdPair, TerminationPoint1> networkTerminationPoints = new LinkedHashMap<>();
+        Map<String, Node1> networkNodes = new LinkedHashMap<>();
+        for (DirectionUpdate update : updates) {
+            setFrequencies4Tps(update, nodes, networkTerminationPoints, used);
+            setFrequencies4Nodes(update, nodes, networkNodes, used);
+        }
+        commitFrequencies(networkTerminationPoints, networkNodes, used);
     }
 
     /**
-     * Get common network node with nodeId from datastore.
-     * @param nodeId String
-     * @return Node1, null otherwise.
+     * Get the openroadm-topology nodes with their termination points.
+     * All the reads are issued at once in a single read transaction.
+     * @param nodeIds Set of node id
+     * @return Map of the nodes found by node id, null if the datastore could not be read.
      */
-    private org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Node1
-            getCommonNetworkNodeFromDatastore(String nodeId) {
-        DataObjectIdentifier<org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Node1> nodeIID =
-            OpenRoadmTopology.createCommonNetworkNodeIID(nodeId);
+    private Map<String, Node> getNodesFromDatastore(Set<String> nodeIds) {
+        Map<String, FluentFuture<Optional<Node>>> nodeFutures = new LinkedHashMap<>();
+        Map<String, Node> nodes = new HashMap<>();
         try (ReadTransaction nodeReadTx = this.dataBroker.newReadOnlyTransaction()) {
-            Optional<org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Node1> optionalNode =
-                nodeReadTx
-                    .read(LogicalDatastoreType.CONFIGURATION, nodeIID)
-                    .get(Timeouts.DATASTORE_READ, TimeUnit.MILLISECONDS);
-            if (optionalNode.isEmpty()) {
-                LOG.error("Unable to get common network node for node id {} from topology {}",
-                        nodeId, StringConstants.OPENROADM_TOPOLOGY);
-                return null;
+            for (String nodeId : nodeIds) {
+                nodeFutures.put(nodeId, nodeReadTx.read(LogicalDatastoreType.CONFIGURATION,
+                        OpenRoadmTopology.createTopologyNodeIID(nodeId)));
             }
-            return optionalNode.orElseThrow();
-        } catch (ExecutionException | TimeoutException e) {
-            LOG.warn("Exception while getting common network node for node id {} from {} topology",
-                    nodeId, StringConstants.OPENROADM_TOPOLOGY, e);
-            return null;
-        } catch (InterruptedException e) {
-            LOG.warn("Getting common network node for node id {} from {} topology was interrupted",
-                    nodeId, StringConstants.OPENROADM_TOPOLOGY, e);
-            Thread.currentThread().interrupt();
-            return null;
-        }
-    }
-
-    /**
-     * Set frequency map for nodes in nodeIds.
-     * @param atozMinFrequency BigDecimal
-     * @param atozMaxFrequency BigDecimal
-     * @param nodeIds List of node id
-     * @param used boolean true if min and max frequencies are used, false otherwise.
-     */
-    private void setFrequencies4Nodes(Decimal64 atozMinFrequency, Decimal64 atozMaxFrequency,
-            List<String> nodeIds, boolean used) {
-        updateFreqMaps4Nodes(nodeIds, atozMinFrequency, atozMaxFrequency, used);
-    }
-
-
-    /**
-     * Get a network termination point for nodeId and tpId.
-     * @param nodeId String
-     * @param tpId String
-     * @return network termination point, null otherwise
-     */
-    private TerminationPoint1 getNetworkTerminationPointFromDatastore(String nodeId, String tpId) {
-        DataObjectIdentifier<TerminationPoint1> tpIID = InstanceIdentifiers
-                .createNetworkTerminationPoint1IIDBuilder(nodeId, tpId);
-        try (ReadTransaction readTx = this.dataBroker.newReadOnlyTransaction()) {
-            Optional<TerminationPoint1> optionalTerminationPoint = readTx
-                    .read(LogicalDatastoreType.CONFIGURATION, tpIID)
-                    .get(Timeouts.DATASTORE_READ, TimeUnit.MILLISECONDS);
-            return optionalTerminationPoint.isEmpty() ? null : optionalTerminationPoint.orElseThrow();
+            for (Map.Entry<String, FluentFuture<Optional<Node>>> nodeFuture : nodeFutures.entrySet()) {
+                Optional<Node> optionalNode = nodeFuture.getValue().get(Timeouts.DATASTORE_READ, TimeUnit.MILLISECONDS);
+                if (optionalNode.isEmpty()) {
+                    LOG.warn("Unable to get node for node id {} from topology {}",
+                            nodeFuture.getKey(), StringConstants.OPENROADM_TOPOLOGY);
+                    continue;
+                }
+                nodes.put(nodeFuture.getKey(), optionalNode.orElseThrow());
+            }
+            return nodes;
         } catch (ExecutionException | TimeoutException e) {
-            LOG.warn("Exception while getting termination {} for node id {} point from {} topology",
-                    tpId, nodeId, StringConstants.OPENROADM_TOPOLOGY, e);
+            LOG.warn("Exception while getting nodes {} from {} topology",
+                    nodeIds, StringConstants.OPENROADM_TOPOLOGY, e);
             return null;
         } catch (InterruptedException e) {
-            LOG.warn("Getting termination {} for node id {} point from {} topology was interrupted",
-                    tpId, nodeId, StringConstants.OPENROADM_TOPOLOGY, e);
+            LOG.warn("Getting nodes {} from {} topology was interrupted",
+                    nodeIds, StringConstants.OPENROADM_TOPOLOGY, e);
             Thread.currentThread().interrupt();
             return null;
         }
     }
 
     /**
-     * Get a common network termination point for nodeId and tpId.
-     * @param nodeId String
+     * Get a termination point of a node.
+     * @param node Node
      * @param tpId String
-     * @return common network termination point, null otherwise
+     * @return termination point, null otherwise
      */
-    private org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.TerminationPoint1
-            getCommonNetworkTerminationPointFromDatastore(String nodeId, String tpId) {
-        DataObjectIdentifier<org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.TerminationPoint1>
-            tpIID = OpenRoadmTopology.createCommonNetworkTerminationPointIIDBuilder(nodeId, tpId);
-        try (ReadTransaction readTx = this.dataBroker.newReadOnlyTransaction()) {
-            Optional<org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.TerminationPoint1>
-                optionalTerminationPoint = readTx
-                    .read(LogicalDatastoreType.CONFIGURATION, tpIID)
-                    .get(Timeouts.DATASTORE_READ, TimeUnit.MILLISECONDS);
-            if (optionalTerminationPoint.isEmpty()) {
-                LOG.error("Unable to get common-network termination point {} for node id {}from topology {}",
-                        tpId, nodeId, StringConstants.OPENROADM_TOPOLOGY);
-                return null;
-            }
-            return optionalTerminationPoint.orElseThrow();
-        } catch (ExecutionException | TimeoutException e) {
-            LOG.warn("Exception while getting common-network termination {} for node id {} point from {} topology",
-                    tpId, nodeId, StringConstants.OPENROADM_TOPOLOGY, e);
-            return null;
-        } catch (InterruptedException e) {
-            LOG.warn("Getting common-network termination {} for node id {} point from {} topology was interrupted",
-                    tpId, nodeId, StringConstants.OPENROADM_TOPOLOGY, e);
-            Thread.currentThread().interrupt();
-            return null;
-        }
+    private static org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.networks
+            .network.node.TerminationPoint getTerminationPoint(Node node, String tpId) {
+        org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.Node1 topologyNode =
+            node == null
+                ? null
+                : node.augmentation(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology
+                    .rev180226.Node1.class);
+        return topologyNode == null
+            ? null
+            : topologyNode.nonnullTerminationPoint().get(new TerminationPointKey(new TpId(tpId)));
     }
 
     /**
-     * Update availFreqMapsMap for min and max frequencies for termination point in tpIds.
-     * @param atozMinFrequency BigDecimal
-     * @param atozMaxFrequency BigDecimal
-     * @param rate Uint32
-     * @param modulationFormat ModulationFormat
-     * @param tpIds List of NodeIdPair
+     * Update availFreqMapsMap for min and max frequencies for termination points of a direction.
+     * A termination point already updated by a previous direction is updated from its pending state.
+     * @param update DirectionUpdate
+     * @param nodes Map of nodes read from datastore by node id
+     * @param networkTerminationPoints Map of the updated network termination points by NodeIdPair
      * @param used boolean true if min and max frequencies are used, false otherwise.
      */
-    private void setFrequencies4Tps(Decimal64 atozMinFrequency, Decimal64 atozMaxFrequency, Uint32 rate,
-            ModulationFormat modulationFormat, List<NodeIdPair> tpIds, boolean used) {
-
-        TopologyUpdateResultBuilder topologyUpdateResultBuilder = new TopologyUpdateResultBuilder();
-        Map<TopologyChangesKey, TopologyChanges> topologyChangesMap = new HashMap<>();
-        String strTpIdsList = String.join(", ", tpIds.stream().map(NodeIdPair::toString).collect(Collectors.toList()));
+    private void setFrequencies4Tps(DirectionUpdate update, Map<String, Node> nodes,
+            Map<NodeIdPair, TerminationPoint1> networkTerminationPoints, boolean used) {
         LOG.debug(
-            "Update frequencies for termination points {}, rate {}, modulation format {},"
+            "Update frequencies for {} termination points {}, rate {}, modulation format {},"
                 + " min frequency {}, max frequency {}, used {}",
-            strTpIdsList, rate, modulationFormat, atozMinFrequency, atozMaxFrequency, used);
-        WriteTransaction updateFrequenciesTransaction = this.dataBroker.newWriteOnlyTransaction();
-        for (NodeIdPair idPair : tpIds) {
+            update.direction(), update.tpIds(), update.rate(), update.modulationFormat(), update.minFrequency(),
+            update.maxFrequency(), used);
+        for (NodeIdPair idPair : update.tpIds()) {
+            org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.networks.network
+                    .node.TerminationPoint terminationPoint =
+                getTerminationPoint(nodes.get(idPair.getNodeID()), idPair.getTpID());
             org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.TerminationPoint1
                     commonNetworkTerminationPoint =
-                getCommonNetworkTerminationPointFromDatastore(idPair.getNodeID(), idPair.getTpID());
+                terminationPoint == null
+                    ? null
+                    : terminationPoint.augmentation(org.opendaylight.yang.gen.v1.http.org.openroadm.common.network
+                        .rev250110.TerminationPoint1.class);
             if (commonNetworkTerminationPoint == null) {
                 LOG.warn("Cannot update frequencies for termination point {}, node id {}",
                     idPair.getTpID(), idPair.getNodeID());
                 continue;
             }
-            TerminationPoint1 networkTerminationPoint =
-                    getNetworkTerminationPointFromDatastore(idPair.getNodeID(), idPair.getTpID());
+            TerminationPoint1 networkTerminationPoint = networkTerminationPoints.containsKey(idPair)
+                ? networkTerminationPoints.get(idPair)
+                : terminationPoint.augmentation(TerminationPoint1.class);
             TerminationPoint1Builder networkTerminationPointBuilder =
                 networkTerminationPoint == null
                     ? new TerminationPoint1Builder()
@@ -330,97 +290,73 @@ public class FrequenciesServiceImpl implements FrequenciesService {
                 case DEGREETXTTP:
                 case DEGREETXRXTTP:
                     networkTerminationPointBuilder.setTxTtpAttributes(updateTxTtpAttributes(networkTerminationPoint,
-                            atozMinFrequency,atozMaxFrequency,used));
+                            update.minFrequency(), update.maxFrequency(), used));
                     break;
                 case DEGREERXTTP:
                     networkTerminationPointBuilder.setRxTtpAttributes(updateRxTtpAttributes(networkTerminationPoint,
-                            atozMinFrequency,atozMaxFrequency,used));
+                            update.minFrequency(), update.maxFrequency(), used));
                     break;
                 case DEGREETXCTP:
                 case DEGREERXCTP:
                 case DEGREETXRXCTP:
                     networkTerminationPointBuilder.setCtpAttributes(updateCtpAttributes(networkTerminationPoint,
-                            atozMinFrequency,atozMaxFrequency,used));
+                            update.minFrequency(), update.maxFrequency(), used));
                     break;
                 case SRGTXCP:
                 case SRGRXCP:
                 case SRGTXRXCP:
                     networkTerminationPointBuilder.setCpAttributes(updateCpAttributes(networkTerminationPoint,
-                            atozMinFrequency,atozMaxFrequency,used));
+                            update.minFrequency(), update.maxFrequency(), used));
                     break;
                 case SRGTXRXPP:
                 case SRGRXPP:
                 case SRGTXPP:
                     networkTerminationPointBuilder.setPpAttributes(updatePpAttributes(networkTerminationPoint,
-                            atozMinFrequency,atozMaxFrequency,used));
+                            update.minFrequency(), update.maxFrequency(), used));
                     break;
                 case XPONDERNETWORK:
                     networkTerminationPointBuilder.setXpdrNetworkAttributes(
-                            updateXpdrNetworkAttributes(networkTerminationPoint,
-                                    atozMinFrequency, atozMaxFrequency, rate, modulationFormat, used)).build();
+                            updateXpdrNetworkAttributes(networkTerminationPoint, update.minFrequency(),
+                                    update.maxFrequency(), update.rate(), update.modulationFormat(), used));
                     break;
                 case XPONDERCLIENT:
                     break;
                 case XPONDERPORT:
                     networkTerminationPointBuilder.setXpdrPortAttributes(
-                            updateXpdrPortAttributes(networkTerminationPoint,
-                                    atozMinFrequency, atozMaxFrequency, rate, modulationFormat, used)).build();
+                            updateXpdrPortAttributes(networkTerminationPoint, update.minFrequency(),
+                                    update.maxFrequency(), update.rate(), update.modulationFormat(), used));
                     break;
                 default:
                     LOG.warn("Termination point type {} not managed", commonNetworkTerminationPoint.getTpType());
-                    return;
+                    continue;
             }
-            TopologyChanges topologyChanges = new TopologyChangesBuilder()
-                    .setNodeId(idPair.getNodeID())
-                    .setTpId(idPair.getTpID())
-                    .build();
-            topologyChangesMap.put(topologyChanges.key(), topologyChanges);
-            DataObjectIdentifier<TerminationPoint1> networkTerminationPoint1IIDBuilder =
-                    InstanceIdentifiers.createNetworkTerminationPoint1IIDBuilder(
-                            idPair.getNodeID(),
-                            idPair.getTpID()
-            );
-            updateFrequenciesTransaction.put(
-                    LogicalDatastoreType.CONFIGURATION,
-                    networkTerminationPoint1IIDBuilder,
-                    networkTerminationPointBuilder.build()
-            );
-        }
-
-        try {
-            updateFrequenciesTransaction.commit().get(Timeouts.DATASTORE_WRITE, TimeUnit.MILLISECONDS);
-            LOG.info("Successfully updated frequencies for termination points {}", strTpIdsList);
-            topologyUpdateResultBuilder.setTopologyChanges(topologyChangesMap);
-            notificationPublishService.putNotification(topologyUpdateResultBuilder.build());
-        } catch (ExecutionException | TimeoutException e) {
-            LOG.error(
-                "Something went wrong for frequencies update (min frequency {}, max frequency {}, used {} for TPs {}",
-                atozMinFrequency, atozMaxFrequency, used, strTpIdsList, e);
-        } catch (InterruptedException e) {
-            LOG.error("Frequencies update (min frequency {}, max frequency {}, used {} for TPs {} was interrupted",
-                    atozMinFrequency, atozMaxFrequency, used,
-                    strTpIdsList, e);
-            Thread.currentThread().interrupt();
+            networkTerminationPoints.put(idPair, networkTerminationPointBuilder.build());
         }
     }
 
     /**
-     * Update availFreqMapsMap for min and max frequencies for nodes in nodeIds.
-     * @param nodeIds  List of node id
-     * @param atozMinFrequency BigDecimal
-     * @param atozMaxFrequency BigDecimal
+     * Update availFreqMapsMap for min and max frequencies for nodes of a direction.
+     * A node already updated by a previous direction is updated from its pending state.
+     * @param update DirectionUpdate
+     * @param nodes Map of nodes read from datastore by node id
+     * @param networkNodes Map of the updated network nodes by node id
      * @param used boolean true if min and max frequencies are used, false otherwise.
      */
-    private void updateFreqMaps4Nodes(List<String> nodeIds, Decimal64 atozMinFrequency, Decimal64 atozMaxFrequency,
+    private void setFrequencies4Nodes(DirectionUpdate update, Map<String, Node> nodes, Map<String, Node1> networkNodes,
             boolean used) {
-        String strNodesList = String.join(", ", nodeIds);
-        LOG.debug("Update frequencies for nodes {}, min frequency {}, max frequency {}, used {}",
-                strNodesList, atozMinFrequency, atozMaxFrequency, used);
-        WriteTransaction updateFrequenciesTransaction = this.dataBroker.newWriteOnlyTransaction();
+        List<String> nodeIds = update.tpIds().stream().map(NodeIdPair::getNodeID).distinct().toList();
+        LOG.debug("Update frequencies for {} nodes {}, min frequency {}, max frequency {}, used {}",
+                update.direction(), nodeIds, update.minFrequency(), update.maxFrequency(), used);
         for (String nodeId : nodeIds) {
-            Node1 networkNode = getNetworkNodeFromDatastore(nodeId);
+            Node node = nodes.get(nodeId);
             org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Node1 commonNetworkNode =
-                    getCommonNetworkNodeFromDatastore(nodeId);
+                node == null
+                    ? null
+                    : node.augmentation(
+                        org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Node1.class);
+            Node1 networkNode = networkNodes.containsKey(nodeId)
+                ? networkNodes.get(nodeId)
+                : node == null ? null : node.augmentation(Node1.class);
             if (networkNode == null || commonNetworkNode == null) {
                 LOG.warn(
                         "From topology {} for node id {} -> Get common-network : {} "
@@ -432,32 +368,97 @@ public class FrequenciesServiceImpl implements FrequenciesService {
             switch (commonNetworkNode.getNodeType()) {
                 case DEGREE:
                     networkNodeBuilder.setDegreeAttributes(
-                            updateDegreeAttributes(networkNode.getDegreeAttributes(), atozMinFrequency,
-                                    atozMaxFrequency, used));
+                            updateDegreeAttributes(networkNode.getDegreeAttributes(), update.minFrequency(),
+                                    update.maxFrequency(), used));
                     break;
                 case SRG:
                     networkNodeBuilder.setSrgAttributes(updateSrgAttributes(
-                            networkNode.getSrgAttributes(), atozMinFrequency, atozMaxFrequency, used));
+                            networkNode.getSrgAttributes(), update.minFrequency(), update.maxFrequency(), used));
                     break;
                 default:
                     LOG.warn("Node type not managed {}", commonNetworkNode.getNodeType());
-                    break;
+                    continue;
             }
+            networkNodes.put(nodeId, networkNodeBuilder.build());
+        }
+    }
+
+    /**
+     * Write the updated termination points and nodes in a single transaction.
+     * Once committed, the topology changes are notified and the spectrum occupancy index is updated.
+     * @param networkTerminationPoints Map of the updated network termination points by NodeIdPair
+     * @param networkNodes Map of the updated network nodes by node id
+     * @param used boolean true if min and max frequencies are used, false otherwise.
+     */
+    private void commitFrequencies(Map<NodeIdPair, TerminationPoint1> networkTerminationPoints,
+            Map<String, Node1> networkNodes, boolean used) {
+        WriteTransaction updateFrequenciesTransaction = this.dataBroker.newWriteOnlyTransaction();
+        Map<TopologyChangesKey, TopologyChanges> topologyChangesMap = new HashMap<>();
+        for (Map.Entry<NodeIdPair, TerminationPoint1> networkTerminationPoint : networkTerminationPoints.entrySet()) {
+            NodeIdPair idPair = networkTerminationPoint.getKey();
+            updateFrequenciesTransaction.put(
+                    LogicalDatastoreType.CONFIGURATION,
+                    InstanceIdentifiers.createNetworkTerminationPoint1IIDBuilder(idPair.getNodeID(), idPair.getTpID()),
+                    networkTerminationPoint.getValue());
+            TopologyChanges topologyChanges = new TopologyChangesBuilder()
+                    .setNodeId(idPair.getNodeID())
+                    .setTpId(idPair.getTpID())
+                    .build();
+            topologyChangesMap.put(topologyChanges.key(), topologyChanges);
+        }
+        Map<String, Map<SpectrumBand, byte[]>> updatedFreqMaps = new HashMap<>();
+        for (Map.Entry<String, Node1> networkNode : networkNodes.entrySet()) {
             updateFrequenciesTransaction.put(LogicalDatastoreType.CONFIGURATION,
-                    OpenRoadmTopology.createNetworkNodeIID(nodeId), networkNodeBuilder.build());
+                    OpenRoadmTopology.createNetworkNodeIID(networkNode.getKey()), networkNode.getValue());
+            putFreqMap(updatedFreqMaps, networkNode.getKey(), networkNode.getValue());
         }
+        String strTpIdsList = networkTerminationPoints.keySet().stream()
+                .map(NodeIdPair::toString)
+                .collect(Collectors.joining(", "));
         try {
             updateFrequenciesTransaction.commit().get(Timeouts.DATASTORE_WRITE, TimeUnit.MILLISECONDS);
+            LOG.info("Successfully updated frequencies for termination points {} and nodes {}, used {}",
+                    strTpIdsList, networkNodes.keySet(), used);
+            updatedFreqMaps.forEach((nodeId, freqMaps) -> freqMaps.forEach(
+                    (band, freqMap) -> spectrumOccupancyIndex.updateNode(nodeId, band, freqMap)));
+            notificationPublishService.putNotification(
+                    new TopologyUpdateResultBuilder().setTopologyChanges(topologyChangesMap).build());
         } catch (ExecutionException | TimeoutException e) {
-            LOG.error("Cannot update frequencies {} {} for nodes {}", atozMinFrequency, atozMaxFrequency,
-                    strNodesList, e);
+            LOG.error("Something went wrong for frequencies update (used {}) for TPs {} and nodes {}",
+                    used, strTpIdsList, networkNodes.keySet(), e);
         } catch (InterruptedException e) {
-            LOG.error("Update of frequencies {} {} for nodes {} was interrupted", atozMinFrequency, atozMaxFrequency,
-                    strNodesList, e);
+            LOG.error("Frequencies update (used {}) for TPs {} and nodes {} was interrupted",
+                    used, strTpIdsList, networkNodes.keySet(), e);
             Thread.currentThread().interrupt();
         }
     }
 
+    /**
+     * Keep the frequency maps of a node to update the spectrum occupancy index once committed.
+     * @param updatedFreqMaps Map of frequency maps by band by node id
+     * @param nodeId String
+     * @param networkNode Node1
+     */
+    private void putFreqMap(Map<String, Map<SpectrumBand, byte[]>> updatedFreqMaps, String nodeId,
+            Node1 networkNode) {
+        Map<AvailFreqMapsKey, AvailFreqMaps> availFreqMapsMap = null;
+        if (networkNode.getDegreeAttributes() != null) {
+            availFreqMapsMap = networkNode.getDegreeAttributes().getAvailFreqMaps();
+        } else if (networkNode.getSrgAttributes() != null) {
+            availFreqMapsMap = networkNode.getSrgAttributes().getAvailFreqMaps();
+        }
+        if (availFreqMapsMap == null) {
+            return;
+        }
+        for (SpectrumBand band : SpectrumBand.values()) {
+            AvailFreqMaps availFreqMaps = availFreqMapsMap.get(band.getMapKey());
+            if (availFreqMaps != null && availFreqMaps.getFreqMap() != null) {
+                updatedFreqMaps.computeIfAbsent(nodeId, k -> new EnumMap<>(SpectrumBand.class))
+                    .put(band, availFreqMaps.getFreqMap());
+            }
+        }
+    }
+
     /**
      * Get list of NodeIdPair from atoZDirection.
      * @param atoZDirection AToZDirection
@@ -745,22 +746,30 @@ public class FrequenciesServiceImpl implements FrequenciesService {
     }
 
     /**
-     * Update availFreqMapsMap for min and max frequencies for cband AvailFreqMaps.
+     * Update availFreqMapsMap for min and max frequencies, in the AvailFreqMaps of their band.
      * @param atozMinFrequency BigDecimal
      * @param atozMaxFrequency BigDecimal
      * @param availFreqMapsMap Map
      * @param used boolean
-     * @return updated Update availFreqMapsMap for min and max frequencies for cband AvailFreqMaps.
+     * @return updated availFreqMapsMap for min and max frequencies, the maps of the other bands left unchanged.
      */
     private Map<AvailFreqMapsKey, AvailFreqMaps> updateFreqMaps(Decimal64 atozMinFrequency, Decimal64 atozMaxFrequency,
             Map<AvailFreqMapsKey, AvailFreqMaps> availFreqMapsMap, boolean used) {
         int beginIndex = GridUtils.getIndexFromFrequency(atozMinFrequency);
         int endIndex = GridUtils.getIndexFromFrequency(atozMaxFrequency);
+        SpectrumBand band = SpectrumBand.fromSpectrumIndex(beginIndex);
+        if (band != SpectrumBand.fromSpectrumIndex(endIndex)) {
+            LOG.error("Min frequency {} and max frequency {} are not in the same band", atozMinFrequency,
+                atozMaxFrequency);
+            return availFreqMapsMap;
+        }
         if (availFreqMapsMap == null) {
             availFreqMapsMap = GridUtils.initFreqMaps4FixedGrid2Available();
         }
-        AvailFreqMaps availFreqMaps = availFreqMapsMap.get(availFreqMapKey);
+        AvailFreqMaps availFreqMaps = availFreqMapsMap.get(band.getMapKey());
         if (availFreqMaps == null || availFreqMaps.getFreqMap() == null) {
+            LOG.warn("No {} frequency map to update from min frequency {} to max frequency {}", band.getMapName(),
+                atozMinFrequency, atozMaxFrequency);
             return availFreqMapsMap;
         }
         BitSet bitSetFreq = BitSet.valueOf(availFreqMaps.getFreqMap());
@@ -768,13 +777,15 @@ public class FrequenciesServiceImpl implements FrequenciesService {
              "Update frequency map from index {}, to index {}, min frequency {}, max frequency {}, available {} {}",
              beginIndex, endIndex, atozMinFrequency, atozMaxFrequency, !used, bitSetFreq);
         //if used = true then bit must be set to false to indicate the slot is no more available
-        bitSetFreq.set(beginIndex, endIndex, !used);
+        bitSetFreq.set(band.toLocalIndex(beginIndex), band.toLocalIndex(endIndex), !used);
         LOG.debug(
             "Updated frequency map from index {}, to index {}, min frequency {}, max frequency {}, available {} {}",
             beginIndex, endIndex, atozMinFrequency, atozMaxFrequency, !used, bitSetFreq);
         AvailFreqMaps updatedAvailFreqMaps = new AvailFreqMapsBuilder(availFreqMaps)
                 .setFreqMap(Arrays.copyOf(bitSetFreq.toByteArray(), GridConstant.NB_OCTECTS))
                 .build();
-        return new HashMap<>(Map.of(availFreqMaps.key(), updatedAvailFreqMaps));
+        Map<AvailFreqMapsKey, AvailFreqMaps> updatedAvailFreqMapsMap = new HashMap<>(availFreqMapsMap);
+        updatedAvailFreqMapsMap.put(availFreqMaps.key(), updatedAvailFreqMaps);
+        return updatedAvailFreqMapsMap;
     }
 }
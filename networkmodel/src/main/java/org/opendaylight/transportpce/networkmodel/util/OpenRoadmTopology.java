@@ -686,6 +686,19 @@ public final class OpenRoadmTopology {
                 .build();
     }
 
+    /**
+     * Get an instance identifier related to a node of the openroadm-topology, with its termination points.
+     *
+     * @param nodeId String
+     * @return InstanceIdentifier
+     */
+    public static DataObjectIdentifier<Node> createTopologyNodeIID(String nodeId) {
+        return DataObjectIdentifier.builder(Networks.class)
+                .child(Network.class, new NetworkKey(new NetworkId(StringConstants.OPENROADM_TOPOLOGY)))
+                .child(Node.class, new NodeKey(new NodeId(nodeId)))
+                .build();
+    }
+
     /**
      * Get an instance identifier related to network node.
      *
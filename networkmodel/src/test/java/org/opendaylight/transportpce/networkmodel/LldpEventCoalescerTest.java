@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.networkmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opendaylight.transportpce.networkmodel.LldpEventCoalescer.Deletion;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.NodeId;
+
+class LldpEventCoalescerTest {
+
+    private record Processing(NodeId nodeId, String nodeVersion, boolean neighborsCreated, Set<Deletion> deletions) {
+    }
+
+    private final List<Processing> processings = new ArrayList<>();
+    private ScheduledExecutorService scheduler;
+    private LldpEventCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = mock(ScheduledExecutorService.class);
+        coalescer = new LldpEventCoalescer(scheduler, 500,
+            (nodeId, nodeVersion, neighborsCreated, deletions) ->
+                processings.add(new Processing(nodeId, nodeVersion, neighborsCreated, Set.copyOf(deletions))));
+    }
+
+    private List<Runnable> scheduledFlushes(int count) {
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, times(count)).schedule(captor.capture(), eq(500L), eq(TimeUnit.MILLISECONDS));
+        return captor.getAllValues();
+    }
+
+    @Test
+    void changesOfANodeAreProcessedOncePerWindow() {
+        NodeId roadmA = new NodeId("ROADM-A1");
+        NodeId roadmC = new NodeId("ROADM-C1");
+        Deletion deletion = new Deletion("1GE-interface-1", "ROADM-C1", "1GE-interface-2");
+        coalescer.neighborCreated(roadmA, "7.1");
+        coalescer.neighborCreated(roadmA, "7.1");
+        coalescer.neighborDeleted(roadmA, "7.1", deletion);
+        coalescer.neighborDeleted(roadmA, "7.1", deletion);
+        coalescer.neighborDeleted(roadmC, "7.1", new Deletion("1GE-interface-2", "ROADM-A1", "1GE-interface-1"));
+
+        List<Runnable> flushes = scheduledFlushes(2);
+        assertTrue(processings.isEmpty(), "Nothing should be processed before the window closes");
+        flushes.forEach(Runnable::run);
+
+        assertEquals(2, processings.size());
+        Processing processingA = processings.get(0);
+        assertEquals(roadmA, processingA.nodeId());
+        assertTrue(processingA.neighborsCreated());
+        assertEquals(Set.of(deletion), processingA.deletions());
+        Processing processingC = processings.get(1);
+        assertEquals(roadmC, processingC.nodeId());
+        assertFalse(processingC.neighborsCreated());
+        assertEquals(5, coalescer.getReceivedCount());
+        assertEquals(2, coalescer.getProcessedCount());
+    }
+
+    @Test
+    void changeAfterWindowOpensANewOne() {
+        NodeId roadmA = new NodeId("ROADM-A1");
+        coalescer.neighborCreated(roadmA, "2.2.1");
+        scheduledFlushes(1).get(0).run();
+        coalescer.neighborCreated(roadmA, "2.2.1");
+        List<Runnable> flushes = scheduledFlushes(2);
+        flushes.get(1).run();
+        // a flush of an already processed window does nothing
+        flushes.get(0).run();
+
+        assertEquals(2, processings.size());
+        assertEquals(2, coalescer.getProcessedCount());
+        verify(scheduler, times(2)).schedule(any(Runnable.class), eq(500L), eq(TimeUnit.MILLISECONDS));
+    }
+}
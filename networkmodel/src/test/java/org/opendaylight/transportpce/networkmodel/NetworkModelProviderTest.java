@@ -20,6 +20,7 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
 import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.NotificationPublishService;
 import org.opendaylight.mdsal.binding.api.NotificationService;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.transportpce.common.device.DeviceTransactionManager;
@@ -49,6 +50,8 @@ public class NetworkModelProviderTest {
     NotificationService notificationService;
     @Mock
     FrequenciesService frequenciesService;
+    @Mock
+    NotificationPublishService notificationPublishService;
 
     @Test
     void networkmodelProviderInitTest() {
@@ -63,8 +66,8 @@ public class NetworkModelProviderTest {
         when(networkTransactionService.commit()).then(answer);
 
         new NetworkModelProvider(networkTransactionService, dataBroker, networkModelService, deviceTransactionManager,
-                portMapping, notificationService, frequenciesService);
+                portMapping, notificationService, frequenciesService, notificationPublishService);
 
-        verify(dataBroker, times(2)).registerTreeChangeListener(any(), any(), any());
+        verify(dataBroker, times(5)).registerTreeChangeListener(any(), any(), any());
     }
 }
@@ -17,11 +17,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.RpcProviderService;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.DeleteLink;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitInterDomainLinks;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitRdmXpdrLinks;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitRoadmNodes;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.InitXpdrRdmLinks;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumOccupancyIndex;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.DeleteLink;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.GetSpectrumOccupancy;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitInterDomainLinks;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitRdmXpdrLinks;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitRoadmNodes;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.InitXpdrRdmLinks;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -30,13 +32,15 @@ class NetworkUtilsImplTest {
     DataBroker dataBroker;
     @Mock
     RpcProviderService rpcProvider;
+    @Mock
+    SpectrumOccupancyIndex spectrumOccupancyIndex;
 
     @Test
     void networkUtilsInitTest() {
-        new NetworkUtilsImpl(dataBroker, rpcProvider);
+        new NetworkUtilsImpl(dataBroker, rpcProvider, spectrumOccupancyIndex);
 
         verify(rpcProvider, times(1)).registerRpcImplementations(
                 any(DeleteLink.class), any(InitRoadmNodes.class), any(InitXpdrRdmLinks.class),
-                any(InitRdmXpdrLinks.class), any(InitInterDomainLinks.class));
+                any(InitRdmXpdrLinks.class), any(InitInterDomainLinks.class), any(GetSpectrumOccupancy.class));
     }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.networkmodel.listeners;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.transportpce.networkmodel.listeners.AlarmProcessor.AlarmEvent;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.alarmsuppression.rev171102.ServiceNodelistBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.alarmsuppression.rev171102.service.nodelist.Nodelist;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.alarmsuppression.rev171102.service.nodelist.NodelistBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.alarmsuppression.rev171102.service.nodelist.nodelist.Nodes;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.alarmsuppression.rev171102.service.nodelist.nodelist.NodesBuilder;
+
+class AlarmProcessorTest {
+
+    private final BlockingQueue<List<List<AlarmEvent>>> batches = new LinkedBlockingQueue<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private AlarmSuppressionIndex suppressionIndex;
+    private AlarmProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        suppressionIndex = new AlarmSuppressionIndex();
+        Nodes nodes = new NodesBuilder().setNodeId("ROADM-A1").build();
+        Nodelist nodelist = new NodelistBuilder()
+            .setServiceName("service1")
+            .setNodes(Map.of(nodes.key(), nodes))
+            .build();
+        suppressionIndex.update(new ServiceNodelistBuilder().setNodelist(Map.of(nodelist.key(), nodelist)).build());
+        // The sink blocks on the first batch, so that the following alarms pile up in the queue
+        processor = new AlarmProcessor(suppressionIndex, (alarms, suppressedAlarms) -> {
+            batches.add(List.of(alarms, suppressedAlarms));
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 4, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.close();
+    }
+
+    private static AlarmEvent alarm(String nodeId, String resource, String severity) {
+        return new AlarmEvent(nodeId, resource, severity, String.join("|", nodeId, resource, severity),
+            AlarmResource.NONE);
+    }
+
+    @Test
+    void suppressionIndexFollowsServiceNodelist() {
+        assertTrue(suppressionIndex.isSuppressed("ROADM-A1"));
+        assertFalse(suppressionIndex.isSuppressed("ROADM-C1"));
+        suppressionIndex.update(null);
+        assertFalse(suppressionIndex.isSuppressed("ROADM-A1"));
+    }
+
+    @Test
+    void burstsAreMergedAndOverflowDropped() throws InterruptedException {
+        assertTrue(processor.submit(alarm("ROADM-C1", "LOS|DEG1", "critical")));
+        List<List<AlarmEvent>> first = batches.poll(10, TimeUnit.SECONDS);
+        assertNotNull(first);
+        assertEquals(1, first.get(0).size());
+
+        assertTrue(processor.submit(alarm("ROADM-C1", "LOS|DEG1", "critical")));
+        assertTrue(processor.submit(alarm("ROADM-C1", "LOS|DEG2", "major")));
+        assertTrue(processor.submit(alarm("ROADM-C1", "LOS|DEG2", "clear")));
+        assertTrue(processor.submit(alarm("ROADM-A1", "LOS|SRG1", "major")));
+        assertFalse(processor.submit(alarm("ROADM-A1", "LOS|SRG2", "major")), "The queue should be full");
+        release.countDown();
+
+        List<List<AlarmEvent>> second = batches.poll(10, TimeUnit.SECONDS);
+        assertNotNull(second);
+        assertEquals(List.of(alarm("ROADM-C1", "LOS|DEG2", "clear")), second.get(0),
+            "The raise of DEG1 is already known, the raise and clear of DEG2 are merged");
+        assertEquals(List.of(alarm("ROADM-A1", "LOS|SRG1", "major")), second.get(1));
+        assertEquals(6, processor.getReceivedCount());
+        assertEquals(1, processor.getDroppedCount());
+        assertEquals(2, processor.getMergedCount());
+        assertEquals(3, processor.getPublishedCount());
+    }
+
+    @Test
+    void stateOfLeastRecentlyUpdatedAlarmsIsForgotten() throws InterruptedException {
+        try (AlarmProcessor boundedProcessor = new AlarmProcessor(suppressionIndex, (alarms, suppressedAlarms) -> { },
+                4, 10, 2)) {
+            for (String resource : List.of("LOS|DEG1", "LOS|DEG2", "LOS|DEG3", "LOS|DEG3", "LOS|DEG1")) {
+                assertTrue(boundedProcessor.submit(alarm("ROADM-C1", resource, "critical")));
+                awaitProcessed(boundedProcessor);
+            }
+            assertEquals(1, boundedProcessor.getMergedCount(), "The raise of DEG3 is already known");
+            assertEquals(4, boundedProcessor.getPublishedCount(), "The raise of DEG1 has been forgotten");
+        }
+    }
+
+    @Test
+    void batchesAreHandedOverToTheAdditionalSinks() throws InterruptedException {
+        BlockingQueue<List<AlarmEvent>> stored = new LinkedBlockingQueue<>();
+        try (AlarmProcessor processorWithSinks = new AlarmProcessor(suppressionIndex, (alarms, suppressedAlarms) -> { },
+                4, 10)) {
+            processorWithSinks.addSink((alarms, suppressedAlarms) -> {
+                throw new IllegalStateException("inventory not available");
+            });
+            processorWithSinks.addSink((alarms, suppressedAlarms) -> stored.add(alarms));
+            assertTrue(processorWithSinks.submit(alarm("ROADM-C1", "LOS|DEG1", "critical")));
+            assertEquals(List.of(alarm("ROADM-C1", "LOS|DEG1", "critical")), stored.poll(10, TimeUnit.SECONDS),
+                "The failure of a sink should not prevent the next ones from receiving the alarms");
+        }
+    }
+
+    private static void awaitProcessed(AlarmProcessor alarmProcessor) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (alarmProcessor.getMergedCount() + alarmProcessor.getPublishedCount()
+                < alarmProcessor.getReceivedCount()) {
+            assertTrue(System.nanoTime() < deadline, "The alarms should have been processed");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.networkmodel.listeners;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.transportpce.common.mapping.PortMapping;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.MappingBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.ConnectionType;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.AToZDirectionBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.atoz.direction.AToZ;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.atoz.direction.AToZBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.atoz.direction.AToZKey;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.ResourceBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.resource.resource.TerminationPointBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.service.path.PathDescriptionBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.servicepath.rev171017.service.path.list.ServicePaths;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.servicepath.rev171017.service.path.list.ServicePathsBuilder;
+
+class ImpactedServiceIndexTest {
+
+    private ImpactedServiceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        PortMapping portMapping = mock(PortMapping.class);
+        when(portMapping.getMapping("ROADM-A1", "DEG2-TTP-TXRX")).thenReturn(new MappingBuilder()
+            .setLogicalConnectionPoint("DEG2-TTP-TXRX")
+            .setSupportingCircuitPackName("1/0/2-PLUG-NET")
+            .setSupportingPort("1")
+            .build());
+        index = new ImpactedServiceIndex(portMapping);
+    }
+
+    private static ServicePaths servicePath(String serviceName, String... tps) {
+        Map<AToZKey, AToZ> atoz = new HashMap<>();
+        for (int i = 0; i < tps.length; i += 2) {
+            AToZ resource = new AToZBuilder()
+                .setId(String.valueOf(i))
+                .setResource(new ResourceBuilder()
+                    .setResource(new TerminationPointBuilder().setTpNodeId(tps[i]).setTpId(tps[i + 1]).build())
+                    .build())
+                .build();
+            atoz.put(resource.key(), resource);
+        }
+        return new ServicePathsBuilder()
+            .setServicePathName(serviceName)
+            .setPathDescription(new PathDescriptionBuilder()
+                .setAToZDirection(new AToZDirectionBuilder().setAToZ(atoz).build())
+                .build())
+            .build();
+    }
+
+    private static AlarmResource resource(String circuitPack, String port, String iface, String degree) {
+        return new AlarmResource(circuitPack, port, iface, degree, "");
+    }
+
+    @Test
+    void alarmResourcesAreMatchedToServices() {
+        index.updateServicePath(servicePath("service1", "XPDR-A1-XPDR1", "XPDR1-NETWORK1",
+            "ROADM-A1-SRG1", "SRG1-PP1-TXRX", "ROADM-A1-DEG2", "DEG2-TTP-TXRX"));
+
+        Set<String> impacted = Set.of("service1");
+        assertEquals(impacted, index.getImpactedServices("ROADM-A1", resource("1/0/2-PLUG-NET", "1", "", "")));
+        assertEquals(impacted, index.getImpactedServices("ROADM-A1", resource("1/0/2-PLUG-NET", "", "", "")));
+        assertEquals(impacted, index.getImpactedServices("ROADM-A1", resource("", "", "", "2")));
+        assertEquals(impacted, index.getImpactedServices("ROADM-A1", new AlarmResource("", "", "", "", "1")));
+        assertEquals(impacted, index.getImpactedServices("ROADM-A1",
+            resource("", "", "DEG2-TTP-TXRX-nmc-761:768", "")), "Interfaces are matched on their LCP");
+        assertEquals(impacted, index.getImpactedServices("XPDR-A1", resource("", "", "XPDR1-NETWORK1-OTU", "")));
+        assertTrue(index.getImpactedServices("ROADM-A1", resource("", "", "", "1")).isEmpty());
+        assertTrue(index.getImpactedServices("ROADM-C1", resource("", "", "", "2")).isEmpty());
+        assertEquals(ConnectionType.Service, index.getConnectionType("service1"));
+    }
+
+    @Test
+    void servicesAreRemovedFromIndex() {
+        index.updateServicePath(servicePath("service1", "ROADM-A1-DEG2", "DEG2-TTP-TXRX"));
+        index.updateServicePath(servicePath("service2", "ROADM-A1-DEG2", "DEG2-TTP-TXRX",
+            "ROADM-A1-SRG1", "SRG1-PP2-TXRX"));
+        assertEquals(Set.of("service1", "service2"),
+            index.getImpactedServices("ROADM-A1", resource("", "", "", "2")));
+
+        index.removeServicePath("service1");
+        assertEquals(Set.of("service2"), index.getImpactedServices("ROADM-A1", resource("", "", "", "2")));
+        // A new path of a service replaces the previous one
+        index.updateServicePath(servicePath("service2", "ROADM-A1-DEG1", "DEG1-TTP-TXRX"));
+        assertTrue(index.getImpactedServices("ROADM-A1", resource("", "", "", "2")).isEmpty());
+        assertEquals(Set.of("service2"), index.getImpactedServices("ROADM-A1", resource("", "", "", "1")));
+    }
+
+    @Test
+    void alarmResourceIsBuiltFromListenerType() {
+        assertEquals(resource("1/0/1-PLUG-CLIENT", "C1", "", ""),
+            AlarmResource.fromType("|||||||||C1|1/0/1-PLUG-CLIENT"));
+        assertEquals(new AlarmResource("", "", "", "", "3"), AlarmResource.fromType("||||||||3||"));
+        assertEquals(AlarmResource.NONE, AlarmResource.fromType("unexpected"));
+    }
+}
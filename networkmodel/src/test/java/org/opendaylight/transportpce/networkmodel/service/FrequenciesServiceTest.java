@@ -26,6 +26,7 @@ import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
 import org.opendaylight.mdsal.binding.api.ReadTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
@@ -131,6 +132,24 @@ public class FrequenciesServiceTest extends AbstractTest {
             "Lambda 1 should be available for srg-attributes");
     }
 
+    @Test
+    void allocateAndReleaseFrequenciesInSingleTransactionTest() throws InterruptedException {
+        DataBroker dataBroker = Mockito.spy(getDataBroker());
+        NotificationPublishService notificationPublishService = Mockito.mock(NotificationPublishService.class);
+        FrequenciesService service = new FrequenciesServiceImpl(dataBroker, notificationPublishService);
+        service.allocateFrequencies(pathDescription.getAToZDirection(), pathDescription.getZToADirection());
+        service.releaseFrequencies(pathDescription.getAToZDirection(), pathDescription.getZToADirection());
+        Mockito.verify(dataBroker, Mockito.times(2)).newWriteOnlyTransaction();
+        Mockito.verify(dataBroker, Mockito.times(2)).newReadOnlyTransaction();
+        Mockito.verify(notificationPublishService, Mockito.times(2)).putNotification(Mockito.any());
+        TerminationPoint1 terminationPoint = getNetworkTerminationPointFromDatastore("ROADM-A1-DEG2", "DEG2-CTP-TXRX");
+        assertEquals(
+            BitSet.valueOf(terminationPoint.getCtpAttributes().getAvailFreqMaps().get(availFreqMapKey)
+                .getFreqMap()).get(760, 768),
+            availableBits,
+            "Lambda 1 should be available for ctp-attributes");
+    }
+
     private TerminationPoint1 getNetworkTerminationPointFromDatastore(String nodeId, String tpId) {
         DataObjectIdentifier<TerminationPoint1> tpIID = InstanceIdentifiers
                 .createNetworkTerminationPoint1IIDBuilder(nodeId, tpId);
@@ -15,7 +15,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.opendaylight.transportpce.common.StringConstants;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.OtnLinkType;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.OtnLinkType;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.Mapping;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.MappingBuilder;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.MappingKey;
@@ -116,7 +116,7 @@ public final class NetworkmodelTestUtil {
     /**
      * createSuppOTNLinks.
      *
-     * @param type a {@link org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902
+     * @param type a {@link org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019
      *      .OtnLinkType} object
      * @param availBW a {@link org.opendaylight.yangtools.yang.common.Uint32} object
      * @return a {@link java.util.List} object
@@ -147,7 +147,7 @@ public final class NetworkmodelTestUtil {
                         .setUsedBandwidth(Uint32.valueOf(100000 - availBW.intValue()))
                         .build())
                 .addAugmentation(
-                    new org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902
+                    new org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019
                             .Link1Builder()
                         .setOtnLinkType(type)
                         .build())
@@ -178,7 +178,7 @@ public final class NetworkmodelTestUtil {
                         .setUsedBandwidth(Uint32.valueOf(100000 - availBW.intValue()))
                         .build())
                 .addAugmentation(
-                    new org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902
+                    new org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019
                             .Link1Builder()
                         .setOtnLinkType(type)
                         .build())
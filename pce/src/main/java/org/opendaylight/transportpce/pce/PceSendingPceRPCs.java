@@ -12,6 +12,7 @@ import org.opendaylight.transportpce.common.ResponseCodes;
 import org.opendaylight.transportpce.common.device.observer.EventSubscriber;
 import org.opendaylight.transportpce.common.device.observer.Subscriber;
 import org.opendaylight.transportpce.common.fixedflex.GridConstant;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumOccupancyIndex;
 import org.opendaylight.transportpce.common.mapping.PortMapping;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
 import org.opendaylight.transportpce.pce.constraints.OperatorConstraints;
@@ -23,13 +24,20 @@ import org.opendaylight.transportpce.pce.frequency.spectrum.FrequencySpectrum;
 import org.opendaylight.transportpce.pce.frequency.spectrum.index.SpectrumIndex;
 import org.opendaylight.transportpce.pce.gnpy.GnpyException;
 import org.opendaylight.transportpce.pce.gnpy.GnpyResult;
+import org.opendaylight.transportpce.pce.gnpy.GnpyTopoCache;
 import org.opendaylight.transportpce.pce.gnpy.GnpyUtilitiesImpl;
 import org.opendaylight.transportpce.pce.gnpy.consumer.GnpyConsumer;
 import org.opendaylight.transportpce.pce.graph.PceGraph;
+import org.opendaylight.transportpce.pce.graph.SpectrumRoutingWeights;
 import org.opendaylight.transportpce.pce.input.ClientInput;
 import org.opendaylight.transportpce.pce.input.ServiceCreateClientInput;
 import org.opendaylight.transportpce.pce.networkanalyzer.PceCalculation;
 import org.opendaylight.transportpce.pce.networkanalyzer.PceResult;
+import org.opendaylight.transportpce.pce.networkanalyzer.PceTopologySnapshot;
+import org.opendaylight.transportpce.pce.spectrum.assignment.AssignSpectrumPolicy;
+import org.opendaylight.transportpce.pce.spectrum.reservation.SpectrumReservationLedger;
+import org.opendaylight.transportpce.pce.telemetry.PceTelemetry;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.path.pair.rev261019.Disjointness;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestInput;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestInputBuilder;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PceConstraintMode;
@@ -64,6 +72,7 @@ public class PceSendingPceRPCs {
      * <code>false</code> cancelresourcereserve .
      */
     private PathDescriptionBuilder pathDescription;
+    private PathDescriptionBuilder protectionPathDescription;
     private PathComputationRequestInput input;
     private NetworkTransactionService networkTransaction;
     private PceConstraints pceHardConstraints = new PceConstraints();
@@ -74,11 +83,28 @@ public class PceSendingPceRPCs {
     private String message;
     private String responseCode;
     private final GnpyConsumer gnpyConsumer;
+    // Shared GNPy topology, built from the datastore for each request when not set
+    private GnpyTopoCache gnpyTopoCache;
     private PortMapping portMapping;
     // Define the termination points whose reservation status is not taken into account during the pruning process
     private Endpoints endpoints;
     // Define PCE mode of operation (OpenROADM/TAPI)
     private String pceOperMode;
+    // Define how the spectrum is assigned to the services (highest frequencies first by default)
+    private AssignSpectrumPolicy spectrumAssignmentPolicy = AssignSpectrumPolicy.HIGH_TO_LOW;
+    // Define the spectrum occupancy used to prune the links too fragmented for the service (no pruning if null)
+    private SpectrumOccupancyIndex spectrumOccupancyIndex;
+    // Define the link weights used when the TE metric is requested (hop count if null)
+    private SpectrumRoutingWeights spectrumRoutingWeights;
+    // Slots tentatively allocated by the concurrent path computations (not taken into account if null)
+    private SpectrumReservationLedger spectrumReservationLedger;
+    // Topology shared with the other computations of a bulk request (null for a single request)
+    private PceTopologySnapshot topologySnapshot;
+    // Latency histograms and counters of the path computation stages (nothing recorded by default)
+    private PceTelemetry telemetry = PceTelemetry.DISABLED;
+    // Disjointness of the working and protection paths computed together (a single path computed if null)
+    private Disjointness pathPairDisjointness;
+    private PceResult protectionRc;
     public static final String OR_PCE_OPER_MODE = "OpenROADM-PCE-Operation-Mode";
     public static final String TAPI_PCE_OPER_MODE = "T-API-PCE-Operation-Mode";
 
@@ -137,6 +163,9 @@ public class PceSendingPceRPCs {
             input, endpoints);
         PceCalculation nwAnalizer = new PceCalculation(input, networkTransaction, hardConstraints, softConstraints, rc,
                 portMapping, endpoints, pceOperMode);
+        nwAnalizer.setSpectrumOccupancyIndex(spectrumOccupancyIndex);
+        nwAnalizer.setTopologySnapshot(topologySnapshot);
+        nwAnalizer.setTelemetry(telemetry);
         nwAnalizer.retrievePceNetwork();
         rc = nwAnalizer.getReturnStructure();
         String serviceType = nwAnalizer.getServiceType();
@@ -172,7 +201,13 @@ public class PceSendingPceRPCs {
 
         Subscriber errorSubscriber = new EventSubscriber();
         graph.setPceOperMode(this.pceOperMode);
-        graph.calcPath(errorSubscriber);
+        graph.setSpectrumAssignmentPolicy(this.spectrumAssignmentPolicy);
+        graph.setSpectrumRoutingWeights(this.spectrumRoutingWeights);
+        // The assigned slots are only reserved for the requests reserving resources
+        graph.setSpectrumReservationLedger(this.spectrumReservationLedger,
+            Boolean.TRUE.equals(input.getResourceReserve()) ? input.getServiceName() : null);
+        graph.setTelemetry(telemetry);
+        calcGraphPath(graph, errorSubscriber);
         rc = graph.getReturnStructure();
         if (!rc.getStatus()) {
             LOG.warn("In pathComputationWithConstraints : Graph return without Path ");
@@ -204,11 +239,40 @@ public class PceSendingPceRPCs {
         if (!rc.getStatus()) {
             LOG.error("In pathComputationWithConstraints, description: result = {}", rc);
             rc.error(errorSubscriber.first(Level.ERROR, "No path found by PCE.", 3));
+            return;
+        }
+        if (pathPairDisjointness != null) {
+            PcePathDescription protectionDescription = new PcePathDescription(graph.getProtectionPathAtoZ(),
+                nwAnalizer.getAllPceLinks(), graph.getProtectionReturnStructure());
+            protectionDescription.setAendOperationalMode(graph.getProtectionAendOperationalMode());
+            protectionDescription.setZendOperationalMode(graph.getProtectionZendOperationalMode());
+            protectionDescription.buildDescriptions();
+            protectionRc = protectionDescription.getReturnStructure();
+            if (!protectionRc.getStatus()) {
+                LOG.error("In pathComputationWithConstraints, protection description: result = {}", protectionRc);
+                rc.error(errorSubscriber.first(Level.ERROR, "No protection path found by PCE.", 3));
+            }
+        }
+    }
+
+    private void calcGraphPath(PceGraph graph, Subscriber errorSubscriber) {
+        if (pathPairDisjointness == null) {
+            graph.calcPath(errorSubscriber);
+        } else {
+            graph.calcPathPair(pathPairDisjointness, errorSubscriber);
         }
     }
 
     public void pathComputation() {
+        long start = telemetry.start();
+        try {
+            pathComputationWithGnpy();
+        } finally {
+            telemetry.record(PceTelemetry.Stage.PATH_COMPUTATION, start);
+        }
+    }
 
+    private void pathComputationWithGnpy() {
         PceConstraintsCalc constraints = new PceConstraintsCalc(input, networkTransaction);
         pceHardConstraints = constraints.getPceHardConstraints();
         pceSoftConstraints = constraints.getPceSoftConstraints();
@@ -223,12 +287,25 @@ public class PceSendingPceRPCs {
             atoz = rc.getAtoZDirection();
             ztoa = rc.getZtoADirection();
         }
-        if (this.pceOperMode.equals(OR_PCE_OPER_MODE)) {
+        if (pathPairDisjointness != null) {
+            // GNPy can neither check nor compute a pair of paths: both paths are only validated by the PCE
+            setPathDescription(new PathDescriptionBuilder().setAToZDirection(atoz).setZToADirection(ztoa));
+            if (rc.getStatus()) {
+                this.protectionPathDescription = new PathDescriptionBuilder()
+                    .setAToZDirection(protectionRc.getAtoZDirection())
+                    .setZToADirection(protectionRc.getZtoADirection());
+            }
+        } else if (this.pceOperMode.equals(OR_PCE_OPER_MODE)) {
             //Connect to Gnpy to check path feasibility and recompute another path in case of path non-feasibility
+            long gnpyStart = telemetry.start();
+            boolean gnpyUsed = false;
             try {
                 if (gnpyConsumer.isAvailable()) {
-                    GnpyUtilitiesImpl gnpy = new GnpyUtilitiesImpl(networkTransaction, input,
-                            gnpyConsumer);
+                    gnpyUsed = true;
+                    GnpyUtilitiesImpl gnpy = gnpyTopoCache == null
+                        ? new GnpyUtilitiesImpl(networkTransaction, input, gnpyConsumer)
+                        : new GnpyUtilitiesImpl(gnpyTopoCache.getTopology(), input, gnpyConsumer,
+                            gnpyTopoCache.getResultCache());
                     if (rc.getStatus() && gnpyToCheckFeasiblity(atoz,ztoa,gnpy)) {
                         setPathDescription(new PathDescriptionBuilder().setAToZDirection(atoz).setZToADirection(ztoa));
                         return;
@@ -241,6 +318,10 @@ public class PceSendingPceRPCs {
             catch (GnpyException e) {
                 LOG.error("Exception raised by GNPy {}",e.getMessage());
                 setPathDescription(new PathDescriptionBuilder().setAToZDirection(atoz).setZToADirection(ztoa));
+            } finally {
+                if (gnpyUsed) {
+                    telemetry.record(PceTelemetry.Stage.GNPY, gnpyStart);
+                }
             }
         } else {
             //TODO : develop Serializer for GNPY analysis of path over a T-API topology
@@ -319,14 +400,55 @@ public class PceSendingPceRPCs {
     private PceGraph patchRerunGraph(PceGraph graph, Subscriber errorSubscriber) {
         LOG.info("In pathComputation patchRerunGraph : rerun Graph with metric = PROPAGATION-DELAY ");
         graph.setConstrains(pceHardConstraints);
-        graph.calcPath(errorSubscriber);
+        calcGraphPath(graph, errorSubscriber);
         return graph;
     }
 
+    public void setGnpyTopoCache(GnpyTopoCache gnpyTopoCache) {
+        this.gnpyTopoCache = gnpyTopoCache;
+    }
+
+    public void setSpectrumAssignmentPolicy(AssignSpectrumPolicy spectrumAssignmentPolicy) {
+        this.spectrumAssignmentPolicy = spectrumAssignmentPolicy;
+    }
+
+    public void setSpectrumOccupancyIndex(SpectrumOccupancyIndex spectrumOccupancyIndex) {
+        this.spectrumOccupancyIndex = spectrumOccupancyIndex;
+    }
+
+    public void setSpectrumRoutingWeights(SpectrumRoutingWeights spectrumRoutingWeights) {
+        this.spectrumRoutingWeights = spectrumRoutingWeights;
+    }
+
+    public void setSpectrumReservationLedger(SpectrumReservationLedger spectrumReservationLedger) {
+        this.spectrumReservationLedger = spectrumReservationLedger;
+    }
+
+    public void setTopologySnapshot(PceTopologySnapshot topologySnapshot) {
+        this.topologySnapshot = topologySnapshot;
+    }
+
+    public void setTelemetry(PceTelemetry telemetry) {
+        this.telemetry = telemetry;
+    }
+
+    /**
+     * Compute a pair of disjoint paths, a working path and a protection path, instead of a single path.
+     *
+     * @param pathPairDisjointness disjointness of the paths, null to compute a single path
+     */
+    public void setPathPairDisjointness(Disjointness pathPairDisjointness) {
+        this.pathPairDisjointness = pathPairDisjointness;
+    }
+
     public PathDescriptionBuilder getPathDescription() {
         return pathDescription;
     }
 
+    public PathDescriptionBuilder getProtectionPathDescription() {
+        return protectionPathDescription;
+    }
+
     private void setPathDescription(PathDescriptionBuilder pathDescription) {
         this.pathDescription = pathDescription;
     }
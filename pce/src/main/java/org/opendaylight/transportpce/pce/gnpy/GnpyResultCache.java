@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.pce.gnpy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Collection;
+import java.util.List;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yang.gen.v1.gnpy.path.rev220615.Result;
+import org.opendaylight.yang.gen.v1.gnpy.path.rev220615.service.PathRequest;
+import org.opendaylight.yang.gen.v1.gnpy.path.rev220615.service.PathRequestBuilder;
+import org.opendaylight.yang.gen.v1.gnpy.path.rev220615.service.PathRequestKey;
+
+/**
+ * Bounded memoization of the GNPy path feasibility results.
+ * Results are keyed by the GNPy topology they were computed on and by the content of the path requests (source,
+ * destination, route objects, transceiver mode and effective frequency slot), ignoring the request identifiers.
+ * Results obtained on a previous topology never match since the topology is compared by identity, and the whole
+ * cache is cleared when the topology is invalidated.
+ */
+public class GnpyResultCache {
+
+    private static final String REQUEST_ID = "0";
+    private final Cache<Key, Result> results;
+
+    private record Key(GnpyTopoImpl topology, List<PathRequest> pathRequests) {
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key other && topology == other.topology && pathRequests.equals(other.pathRequests);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(topology) + pathRequests.hashCode();
+        }
+    }
+
+    /**
+     * Instantiate the GnpyResultCache.
+     *
+     * @param maximumSize maximum number of results kept
+     */
+    public GnpyResultCache(long maximumSize) {
+        this.results = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    public @Nullable Result get(GnpyTopoImpl topology, Collection<PathRequest> pathRequests) {
+        return results.getIfPresent(key(topology, pathRequests));
+    }
+
+    public void put(GnpyTopoImpl topology, Collection<PathRequest> pathRequests, Result result) {
+        results.put(key(topology, pathRequests), result);
+    }
+
+    public void invalidateAll() {
+        results.invalidateAll();
+    }
+
+    public long size() {
+        return results.size();
+    }
+
+    private static Key key(GnpyTopoImpl topology, Collection<PathRequest> pathRequests) {
+        return new Key(topology, pathRequests.stream()
+            .map(pathRequest -> new PathRequestBuilder(pathRequest)
+                .withKey(new PathRequestKey(REQUEST_ID))
+                .setRequestId(REQUEST_ID)
+                .build())
+            .toList());
+    }
+}
@@ -89,6 +89,8 @@ public class GnpyServiceImpl {
     private List<String> trxList = new ArrayList<>();
     private Map<ElementsKey, Elements> elements = new HashMap<>();
     private Map<RouteObjectIncludeExcludeKey, RouteObjectIncludeExclude> routeObjectIncludeExcludes = new HashMap<>();
+    private Set<String> pathElements = new HashSet<>();
+    private boolean explicitPath = false;
     private String currentNodeId = null;
     private AToZComparator atoZComparator =  new AToZComparator();
     private ZToAComparator ztoAComparator =  new ZToAComparator();
@@ -141,6 +143,8 @@ public class GnpyServiceImpl {
         if (!trxList.contains(sourceNode) || !trxList.contains(destNode)) {
             throw new GnpyException("In GnpyServiceImpl: source and destination should be transmitter nodes");
         }
+        this.pathElements.add(sourceNode);
+        this.pathElements.add(destNode);
 
         // Create explicitRouteObjects
         List<AToZ> listAtoZ = new ArrayList<>(atoz.nonnullAToZ().values());
@@ -149,6 +153,7 @@ public class GnpyServiceImpl {
         } else {
             Collections.sort(listAtoZ, atoZComparator);
             extractRouteObjectIcludeAtoZ(listAtoZ);
+            this.explicitPath = true;
         }
 
         ExplicitRouteObjects explicitRouteObjects = new ExplicitRouteObjectsBuilder()
@@ -182,6 +187,8 @@ public class GnpyServiceImpl {
         if (!trxList.contains(sourceNode) || !trxList.contains(destNode)) {
             throw new GnpyException("In GnpyServiceImpl: source and destination should be transmitter nodes");
         }
+        this.pathElements.add(sourceNode);
+        this.pathElements.add(destNode);
         // Create explicitRouteObjects
         @NonNull List<ZToA> listZtoA = new ArrayList<>(ztoa.nonnullZToA().values());
         if (listZtoA.isEmpty()) {
@@ -189,6 +196,7 @@ public class GnpyServiceImpl {
         } else {
             Collections.sort(listZtoA, ztoAComparator);
             extractRouteObjectIcludeZtoA(listZtoA);
+            this.explicitPath = true;
         }
 
         ExplicitRouteObjects explicitRouteObjects = new ExplicitRouteObjectsBuilder()
@@ -320,6 +328,7 @@ public class GnpyServiceImpl {
 
     // Add routeObjectIncludeExclude
     private RouteObjectIncludeExclude addRouteObjectIncludeExclude(String nodeId, Uint32 teTpValue, Long index) {
+        this.pathElements.add(nodeId);
         NumUnnumHop numUnnumHop = new org.opendaylight.yang.gen.v1.gnpy.path.rev220615.explicit.route.hop.type.num
             .unnum.hop.NumUnnumHopBuilder()
                 .setNodeId(nodeId)
@@ -395,6 +404,24 @@ public class GnpyServiceImpl {
         this.pathRequest = pathRequest;
     }
 
+    /**
+     * Get the uid of the GNPy elements referenced by the path request.
+     *
+     * @return the source and destination transceivers and the elements of the route objects.
+     */
+    public Set<String> getPathElements() {
+        return pathElements;
+    }
+
+    /**
+     * Check if the path request carries a route pre-computed by the PCE.
+     *
+     * @return true if the route objects come from a path description, false if they come from hard constraints.
+     */
+    public boolean isExplicitPath() {
+        return explicitPath;
+    }
+
     public List<Synchronization> getSynchronization() {
         return synchronization;
     }
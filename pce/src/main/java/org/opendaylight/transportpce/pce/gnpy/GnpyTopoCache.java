@@ -0,0 +1,234 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.pce.gnpy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataObjectDeleted;
+import org.opendaylight.mdsal.binding.api.DataObjectModified;
+import org.opendaylight.mdsal.binding.api.DataObjectWritten;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.common.StringConstants;
+import org.opendaylight.transportpce.common.network.NetworkTransactionService;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Link1;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.network.rev250110.Node1;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.NetworkId;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.Networks;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.Network;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.NetworkKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.network.Node;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.Network1;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.networks.network.Link;
+import org.opendaylight.yangtools.binding.DataObjectReference;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of the topology sent to GNPy.
+ * The GNPy topology is built once from the openroadm-topology and openroadm-network layers and shared read-only
+ * between the path computations. It is marked as outdated by the topology change notifications that affect GNPy
+ * elements or connections (creation or deletion of nodes and links, modification of the supporting node, type or
+ * shelf of a node, modification of the type or OMS attributes of a link), and rebuilt by the first path computation
+ * that needs it afterwards. Spectrum occupation and termination point state updates, which happen for every service
+ * creation or deletion, do not invalidate the cache.
+ */
+public class GnpyTopoCache implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GnpyTopoCache.class);
+    private static final long MAX_GNPY_RESULTS = 1024;
+    private static final DataObjectReference<Node> TOPOLOGY_NODE_II = DataObjectReference.builder(Networks.class)
+            .child(Network.class, new NetworkKey(new NetworkId(StringConstants.OPENROADM_TOPOLOGY)))
+            .child(Node.class)
+            .build();
+    private static final DataObjectReference<Link> TOPOLOGY_LINK_II = DataObjectReference.builder(Networks.class)
+            .child(Network.class, new NetworkKey(new NetworkId(StringConstants.OPENROADM_TOPOLOGY)))
+            .augmentation(Network1.class)
+            .child(Link.class)
+            .build();
+    private static final DataObjectReference<Node> NETWORK_NODE_II = DataObjectReference.builder(Networks.class)
+            .child(Network.class, new NetworkKey(new NetworkId(StringConstants.OPENROADM_NETWORK)))
+            .child(Node.class)
+            .build();
+
+    private final NetworkTransactionService networkTransactionService;
+    private final AtomicLong generation = new AtomicLong();
+    private final List<Registration> listeners = new ArrayList<>();
+    private final GnpyResultCache resultCache = new GnpyResultCache(MAX_GNPY_RESULTS);
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(long generation, GnpyTopoImpl topology) {
+    }
+
+    /**
+     * Instantiate the GnpyTopoCache.
+     *
+     * @param networkTransactionService Service that eases the transaction operations with data-stores
+     */
+    public GnpyTopoCache(NetworkTransactionService networkTransactionService) {
+        this.networkTransactionService = networkTransactionService;
+        DataBroker dataBroker = networkTransactionService.getDataBroker();
+        if (dataBroker == null) {
+            LOG.warn("No data broker available, GNPy topology will not be refreshed on topology changes");
+            return;
+        }
+        listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION, TOPOLOGY_NODE_II,
+                this::onNodeChanged));
+        listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION, NETWORK_NODE_II,
+                this::onNodeChanged));
+        listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION, TOPOLOGY_LINK_II,
+                this::onLinkChanged));
+    }
+
+    /**
+     * Get the GNPy topology, rebuilding it if it has been invalidated since the last call.
+     *
+     * @return the shared GNPy topology.
+     * @throws GnpyException if the topology cannot be extracted from the datastore.
+     */
+    public GnpyTopoImpl getTopology() throws GnpyException {
+        Snapshot current = snapshot;
+        if (current != null && current.generation() == generation.get()) {
+            return current.topology();
+        }
+        synchronized (this) {
+            long gen = generation.get();
+            current = snapshot;
+            if (current == null || current.generation() != gen) {
+                LOG.info("Building GNPy topology for generation {}", gen);
+                current = new Snapshot(gen, new GnpyTopoImpl(networkTransactionService));
+                snapshot = current;
+            }
+            return current.topology();
+        }
+    }
+
+    /**
+     * Get the generation of the GNPy topology.
+     * The generation is incremented every time a topology change affecting GNPy is notified.
+     *
+     * @return the current generation.
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Get the GNPy feasibility results computed on the cached topology.
+     *
+     * @return the result cache, cleared on every topology invalidation.
+     */
+    public GnpyResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Mark the GNPy topology and the results computed on it as outdated.
+     */
+    public void invalidate() {
+        LOG.debug("GNPy topology invalidated");
+        generation.incrementAndGet();
+        resultCache.invalidateAll();
+    }
+
+    private void onNodeChanged(List<DataTreeModification<Node>> changes) {
+        for (DataTreeModification<Node> change : changes) {
+            switch (change.getRootNode()) {
+                case DataObjectDeleted<Node> deletedNode -> {
+                    invalidate();
+                    return;
+                }
+                case DataObjectWritten<Node> writtenNode -> {
+                    if (isGnpyNodeChanged(writtenNode.dataBefore(), writtenNode.dataAfter())) {
+                        invalidate();
+                        return;
+                    }
+                }
+                case DataObjectModified<Node> modifiedNode -> {
+                    if (isGnpyNodeChanged(modifiedNode.dataBefore(), modifiedNode.dataAfter())) {
+                        invalidate();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private void onLinkChanged(List<DataTreeModification<Link>> changes) {
+        for (DataTreeModification<Link> change : changes) {
+            switch (change.getRootNode()) {
+                case DataObjectDeleted<Link> deletedLink -> {
+                    invalidate();
+                    return;
+                }
+                case DataObjectWritten<Link> writtenLink -> {
+                    if (isGnpyLinkChanged(writtenLink.dataBefore(), writtenLink.dataAfter())) {
+                        invalidate();
+                        return;
+                    }
+                }
+                case DataObjectModified<Link> modifiedLink -> {
+                    if (isGnpyLinkChanged(modifiedLink.dataBefore(), modifiedLink.dataAfter())) {
+                        invalidate();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isGnpyLinkChanged(Link before, Link after) {
+        if (before == null || after == null) {
+            return true;
+        }
+        Link1 link1Before = before.augmentation(Link1.class);
+        Link1 link1After = after.augmentation(Link1.class);
+        if (!Objects.equals(link1Before == null ? null : link1Before.getLinkType(),
+                link1After == null ? null : link1After.getLinkType())) {
+            return true;
+        }
+        org.opendaylight.yang.gen.v1.http.org.openroadm.network.topology.rev250110.Link1 omsBefore =
+            before.augmentation(org.opendaylight.yang.gen.v1.http.org.openroadm.network.topology.rev250110.Link1.class);
+        org.opendaylight.yang.gen.v1.http.org.openroadm.network.topology.rev250110.Link1 omsAfter =
+            after.augmentation(org.opendaylight.yang.gen.v1.http.org.openroadm.network.topology.rev250110.Link1.class);
+        return !Objects.equals(omsBefore == null ? null : omsBefore.getOMSAttributes(),
+                omsAfter == null ? null : omsAfter.getOMSAttributes());
+    }
+
+    private static boolean isGnpyNodeChanged(Node before, Node after) {
+        if (before == null || after == null) {
+            return true;
+        }
+        if (!Objects.equals(before.getSupportingNode(), after.getSupportingNode())) {
+            return true;
+        }
+        org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Node1 typeBefore =
+            before.augmentation(org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Node1.class);
+        org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Node1 typeAfter =
+            after.augmentation(org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Node1.class);
+        if (!Objects.equals(typeBefore == null ? null : typeBefore.getNodeType(),
+                typeAfter == null ? null : typeAfter.getNodeType())) {
+            return true;
+        }
+        Node1 shelfBefore = before.augmentation(Node1.class);
+        Node1 shelfAfter = after.augmentation(Node1.class);
+        return !Objects.equals(shelfBefore == null ? null : shelfBefore.getShelf(),
+                shelfAfter == null ? null : shelfAfter.getShelf());
+    }
+
+    @Override
+    public void close() {
+        listeners.forEach(Registration::close);
+        listeners.clear();
+    }
+}
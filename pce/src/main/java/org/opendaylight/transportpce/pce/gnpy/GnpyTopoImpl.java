@@ -13,9 +13,11 @@ import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.IntStream;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
@@ -69,6 +71,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Class to create the topology corresponding to GNPy requirements.
+ * Once built, an instance is only read by the GNPy requests and can be shared between concurrent path
+ * computations (see {@link GnpyTopoCache}).
  *
  * @author Ahmed Triki ( ahmed.triki@orange.com )
  *
@@ -263,9 +267,10 @@ public class GnpyTopoImpl {
             for (AmplifiedLink amplifiedLink: amplifiedLinkList) {
                 String secElt = amplifiedLink .getSectionEltNumber().toString();
                 //Case of ILA
-                if (amplifiedLink.getSectionElement().getSectionElement() instanceof Ila) {
-                    Ila ila = (Ila) amplifiedLink.getSectionElement().getSectionElement();
-                    destId = extractILAFromAmpLink(ila);
+                if (amplifiedLink.getSectionElement().getSectionElement() instanceof org.opendaylight.yang.gen.v1
+                        .http.org.openroadm.link.rev250110.amplified.link.attributes.amplified.link.section.element
+                        .section.element.Ila ila) {
+                    destId = extractILAFromAmpLink(ila.getIla());
                 }
                 //Case of Span
                 if (amplifiedLink.getSectionElement().getSectionElement() instanceof Span) {
@@ -431,6 +436,46 @@ public class GnpyTopoImpl {
         return true;
     }
 
+    /**
+     * Compute the set of GNPy elements crossed by a path.
+     * The route objects of a path only reference ROADMs, transceivers and fiber spans. The in-line amplifiers
+     * located between two spans of the path are added so that the resulting subgraph stays connected.
+     *
+     * @param pathUids uid of the elements explicitly referenced by the path.
+     * @return the uid of all the elements of the path subgraph.
+     */
+    public Set<String> expandPathElements(Set<String> pathUids) {
+        Map<String, String> predecessors = new HashMap<>();
+        Set<String> expanded = new HashSet<>(pathUids);
+        for (Connections connection : connections) {
+            if (pathUids.contains(connection.getFromNode()) && !pathUids.contains(connection.getToNode())) {
+                predecessors.put(connection.getToNode(), connection.getFromNode());
+            }
+        }
+        for (Connections connection : connections) {
+            if (predecessors.containsKey(connection.getFromNode()) && pathUids.contains(connection.getToNode())) {
+                expanded.add(connection.getFromNode());
+            }
+        }
+        return expanded;
+    }
+
+    /**
+     * Restrict the GNPy connections to the ones whose both ends belong to a subgraph.
+     *
+     * @param uids uid of the elements of the subgraph.
+     * @return the list of connections of the subgraph.
+     */
+    public List<Connections> getConnections(Set<String> uids) {
+        List<Connections> subConnections = new ArrayList<>();
+        for (Connections connection : connections) {
+            if (uids.contains(connection.getFromNode()) && uids.contains(connection.getToNode())) {
+                subConnections.add(connection);
+            }
+        }
+        return subConnections;
+    }
+
     public Map<ElementsKey, Elements> getElements() {
         return elements;
     }
@@ -10,9 +10,15 @@ package org.opendaylight.transportpce.pce.gnpy;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
 import org.opendaylight.transportpce.pce.constraints.PceConstraints;
 import org.opendaylight.transportpce.pce.gnpy.consumer.GnpyConsumer;
+import org.opendaylight.yang.gen.v1.gnpy.gnpy.api.rev220221.Request;
 import org.opendaylight.yang.gen.v1.gnpy.gnpy.api.rev220221.RequestBuilder;
 import org.opendaylight.yang.gen.v1.gnpy.gnpy.api.rev220221.request.ServiceBuilder;
 import org.opendaylight.yang.gen.v1.gnpy.gnpy.api.rev220221.request.TopologyBuilder;
@@ -29,6 +35,8 @@ import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdes
 import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.ZToADirection;
 import org.opendaylight.yangtools.binding.util.BindingMap;
 import org.opendaylight.yangtools.yang.common.Uint32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Class that implements the functions asked to gnpy.
@@ -39,17 +47,30 @@ import org.opendaylight.yangtools.yang.common.Uint32;
 
 public class GnpyUtilitiesImpl {
 
+    private static final Logger LOG = LoggerFactory.getLogger(GnpyUtilitiesImpl.class);
+
     private PathComputationRequestInput input;
     private GnpyTopoImpl gnpyTopo = null;
     private GnpyResult gnpyAtoZ;
     private GnpyResult gnpyZtoA;
     private Uint32 requestId;
     private final GnpyConsumer gnpyConsumer;
+    private final GnpyResultCache resultCache;
 
     public GnpyUtilitiesImpl(NetworkTransactionService networkTransaction, PathComputationRequestInput input,
             GnpyConsumer gnpyConsumer)
         throws GnpyException {
-        this.gnpyTopo = new GnpyTopoImpl(networkTransaction);
+        this(new GnpyTopoImpl(networkTransaction), input, gnpyConsumer);
+    }
+
+    public GnpyUtilitiesImpl(GnpyTopoImpl gnpyTopo, PathComputationRequestInput input, GnpyConsumer gnpyConsumer) {
+        this(gnpyTopo, input, gnpyConsumer, null);
+    }
+
+    public GnpyUtilitiesImpl(GnpyTopoImpl gnpyTopo, PathComputationRequestInput input, GnpyConsumer gnpyConsumer,
+            @Nullable GnpyResultCache resultCache) {
+        this.gnpyTopo = gnpyTopo;
+        this.resultCache = resultCache;
         this.input = input;
         this.gnpyAtoZ = null;
         this.gnpyZtoA = null;
@@ -64,25 +85,65 @@ public class GnpyUtilitiesImpl {
             throw new GnpyException("In GnpyUtilities: the path transmitted to Gnpy is null");
         }
 
+        // Both directions are requested to GNPy at the same time
         GnpyServiceImpl gnpySvc1 = new GnpyServiceImpl(input, atoz, requestId, gnpyTopo, pceHardConstraints);
-        this.gnpyAtoZ = gnpyResponseOneDirection(gnpySvc1);
-        boolean isPcePathFeasible = false;
-        isPcePathFeasible = this.gnpyAtoZ.getPathFeasibility();
+        CompletableFuture<Result> atozResponse = gnpyRequestOneDirection(gnpySvc1);
         GnpyServiceImpl gnpySvc2 = new GnpyServiceImpl(input, ztoa, requestId, gnpyTopo, pceHardConstraints);
-        this.gnpyZtoA = gnpyResponseOneDirection(gnpySvc2);
-        isPcePathFeasible &= this.gnpyZtoA.getPathFeasibility();
-        return isPcePathFeasible;
+        CompletableFuture<Result> ztoaResponse = gnpyRequestOneDirection(gnpySvc2);
+        this.gnpyAtoZ = analyzeGnpyResponse(waitGnpyResponse(atozResponse));
+        this.gnpyZtoA = analyzeGnpyResponse(waitGnpyResponse(ztoaResponse));
+        return this.gnpyAtoZ.getPathFeasibility() && this.gnpyZtoA.getPathFeasibility();
     }
 
     public GnpyResult gnpyResponseOneDirection(GnpyServiceImpl gnpySvc) throws GnpyException {
+        return analyzeGnpyResponse(waitGnpyResponse(gnpyRequestOneDirection(gnpySvc)));
+    }
+
+    private CompletableFuture<Result> gnpyRequestOneDirection(GnpyServiceImpl gnpySvc) {
         requestId = Uint32.valueOf((requestId.toJava()) + 1);
         List<PathRequest> pathRequestList = new ArrayList<>(gnpySvc.getPathRequest().values());
-        List<Synchronization> synchronizationList = gnpySvc.getSynchronization();
+        if (resultCache != null) {
+            Result cached = resultCache.get(gnpyTopo, pathRequestList);
+            if (cached != null) {
+                LOG.debug("In GnpyUtilities: GNPy result found in cache");
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
         // Send the computed path to GNPY tool
-        List<Elements> elementsList = new ArrayList<>(gnpyTopo.getElements().values());
-        List<Connections> connectionsList = gnpyTopo.getConnections();
-        Result gnpyResponse = getGnpyResponse(elementsList, connectionsList, pathRequestList,
-                synchronizationList);
+        List<Elements> elementsList;
+        List<Connections> connectionsList;
+        if (gnpySvc.isExplicitPath() && gnpyConsumer.isTopologySubsetSupported()) {
+            // Only the elements crossed by the path are needed by GNPy to check its feasibility
+            Set<String> pathUids = gnpyTopo.expandPathElements(gnpySvc.getPathElements());
+            elementsList = gnpyTopo.getElements().values().stream()
+                .filter(element -> pathUids.contains(element.getUid()))
+                .collect(Collectors.toList());
+            connectionsList = gnpyTopo.getConnections(pathUids);
+        } else {
+            elementsList = new ArrayList<>(gnpyTopo.getElements().values());
+            connectionsList = gnpyTopo.getConnections();
+        }
+        return gnpyConsumer.computePathsAsync(buildGnpyRequest(elementsList, connectionsList, pathRequestList))
+            .thenApply(result -> {
+                if (result != null && resultCache != null) {
+                    resultCache.put(gnpyTopo, pathRequestList, result);
+                }
+                return result;
+            });
+    }
+
+    private static Result waitGnpyResponse(CompletableFuture<Result> response) throws GnpyException {
+        try {
+            return response.get();
+        } catch (ExecutionException e) {
+            throw new GnpyException("In GnpyUtilities: error while requesting the GNPy server", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GnpyException("In GnpyUtilities: interrupted while waiting for the GNPy server", e);
+        }
+    }
+
+    private GnpyResult analyzeGnpyResponse(Result gnpyResponse) throws GnpyException {
         // Analyze the response
         if (gnpyResponse == null) {
             throw new GnpyException("In GnpyUtilities: no response from GNPy server");
@@ -115,7 +176,12 @@ public class GnpyUtilitiesImpl {
     public Result getGnpyResponse(List<Elements> elementsList, List<Connections> connectionsList,
             List<PathRequest> pathRequestList, List<Synchronization> synchronizationList) {
 
-        return gnpyConsumer.computePaths(new RequestBuilder()
+        return gnpyConsumer.computePaths(buildGnpyRequest(elementsList, connectionsList, pathRequestList));
+    }
+
+    private static Request buildGnpyRequest(List<Elements> elementsList, List<Connections> connectionsList,
+            List<PathRequest> pathRequestList) {
+        return new RequestBuilder()
             .setTopology(
                 new TopologyBuilder()
                 .setElements(elementsList.stream().collect(BindingMap.toMap()))
@@ -125,7 +191,7 @@ public class GnpyUtilitiesImpl {
                 .setPathRequest(pathRequestList.stream()
                         .collect(BindingMap.toMap()))
                 .build())
-            .build());
+            .build();
     }
 
     public GnpyResult getGnpyAtoZ() {
@@ -7,7 +7,7 @@
  */
 package org.opendaylight.transportpce.pce.gnpy.consumer;
 
-
+import java.util.concurrent.CompletableFuture;
 import org.opendaylight.yang.gen.v1.gnpy.gnpy.api.rev220221.Request;
 import org.opendaylight.yang.gen.v1.gnpy.path.rev220615.Result;
 
@@ -20,6 +20,14 @@ public interface GnpyConsumer {
      */
     boolean isAvailable();
 
+    /**
+     * Check if the GNPy server accepts a topology restricted to the elements crossed by the requested path.
+     * @return true if only the path subgraph can be sent, false if the whole topology must be sent.
+     */
+    default boolean isTopologySubsetSupported() {
+        return false;
+    }
+
     /**
      * Path computation request.
      * @param request GnpyApi.
@@ -27,4 +35,11 @@ public interface GnpyConsumer {
      */
     Result computePaths(Request request);
 
+    /**
+     * Asynchronous path computation request.
+     * @param request GnpyApi.
+     * @return a future completed with the result of path computation, or with null if GNPy did not answer.
+     */
+    CompletableFuture<Result> computePathsAsync(Request request);
+
 }
@@ -7,7 +7,6 @@
  */
 package org.opendaylight.transportpce.pce.gnpy.consumer;
 
-import java.io.IOException;
 import java.net.Authenticator;
 import java.net.ConnectException;
 import java.net.PasswordAuthentication;
@@ -16,6 +15,13 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import org.opendaylight.transportpce.common.converter.JsonStringConverter;
 import org.opendaylight.yang.gen.v1.gnpy.gnpy.api.rev220221.Request;
 import org.opendaylight.yang.gen.v1.gnpy.path.rev220615.Result;
@@ -43,8 +49,23 @@ public class GnpyConsumerImpl implements GnpyConsumer {
         String username() default "gnpy";
         @AttributeDefinition
         String password() default "gnpy";
+        @AttributeDefinition(description = "Send only the path subgraph of the topology to check path feasibility")
+        boolean topologySubset() default false;
+        @AttributeDefinition(description = "Maximum time to wait for a GNPy response, in milliseconds", min = "1")
+        long requestTimeout() default DEFAULT_REQUEST_TIMEOUT_MS;
+        @AttributeDefinition(description = "Time during which the GNPy status is reused, in milliseconds", min = "0")
+        long statusCacheTtl() default DEFAULT_STATUS_TTL_MS;
+        @AttributeDefinition(description = "Number of consecutive GNPy failures opening the circuit", min = "1")
+        int failureThreshold() default DEFAULT_FAILURE_THRESHOLD;
+        @AttributeDefinition(description = "Time during which GNPy is not requested once the circuit is open, "
+                + "in milliseconds", min = "0")
+        long circuitOpenDuration() default DEFAULT_OPEN_DURATION_MS;
     }
 
+    public static final long DEFAULT_REQUEST_TIMEOUT_MS = 30000;
+    public static final long DEFAULT_STATUS_TTL_MS = 10000;
+    public static final int DEFAULT_FAILURE_THRESHOLD = 3;
+    public static final long DEFAULT_OPEN_DURATION_MS = 30000;
     private static final Logger LOG = LoggerFactory.getLogger(GnpyConsumerImpl.class);
     private static final String STATUS_ENDPOINT = "/api/v1/status";
     private static final String PATH_COMPUTATION_ENDPOINT = "/api/v1/path-computation";
@@ -53,17 +74,38 @@ public class GnpyConsumerImpl implements GnpyConsumer {
     private final URI pathComputationUri;
     private final JsonStringConverter<Request> requestConverter;
     private final JsonStringConverter<Result> resultConverter;
+    private final boolean topologySubset;
+    private final Duration requestTimeout;
+    private final GnpyHealth health;
+    private final AtomicReference<CompletableFuture<Boolean>> statusCheck = new AtomicReference<>();
 
     @Activate
     public GnpyConsumerImpl(final Configuration configuration,
             @Reference BindingDOMCodecServices bindingDOMCodecServices) {
-        this(configuration.url(), configuration.username(), configuration.password(), bindingDOMCodecServices);
+        this(configuration.url(), configuration.username(), configuration.password(), bindingDOMCodecServices,
+                configuration.topologySubset(), configuration.requestTimeout(),
+                new GnpyHealth(configuration.failureThreshold(), configuration.circuitOpenDuration(),
+                        configuration.statusCacheTtl()));
     }
 
     public GnpyConsumerImpl(String baseUrl, String username, String password,
             BindingDOMCodecServices bindingDOMCodecServices) {
+        this(baseUrl, username, password, bindingDOMCodecServices, false);
+    }
+
+    public GnpyConsumerImpl(String baseUrl, String username, String password,
+            BindingDOMCodecServices bindingDOMCodecServices, boolean topologySubset) {
+        this(baseUrl, username, password, bindingDOMCodecServices, topologySubset, DEFAULT_REQUEST_TIMEOUT_MS,
+                new GnpyHealth(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION_MS, DEFAULT_STATUS_TTL_MS));
+    }
+
+    public GnpyConsumerImpl(String baseUrl, String username, String password,
+            BindingDOMCodecServices bindingDOMCodecServices, boolean topologySubset, long requestTimeoutMs,
+            GnpyHealth health) {
         LOG.info("baseUrl: {}, username: {}, password: {}", baseUrl, username, password);
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
         this.client = HttpClient.newBuilder()
+                .connectTimeout(requestTimeout)
                 .authenticator(new Authenticator() {
                     @Override
                     protected PasswordAuthentication getPasswordAuthentication() {
@@ -76,6 +118,8 @@ public class GnpyConsumerImpl implements GnpyConsumer {
         this.pathComputationUri = URI.create(baseUrl + PATH_COMPUTATION_ENDPOINT);
         requestConverter = new JsonStringConverter<>(bindingDOMCodecServices);
         resultConverter = new JsonStringConverter<>(bindingDOMCodecServices);
+        this.topologySubset = topologySubset;
+        this.health = health;
     }
 
     @Deactivate
@@ -85,21 +129,30 @@ public class GnpyConsumerImpl implements GnpyConsumer {
 
     @Override
     public boolean isAvailable() {
-        try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(statusUri)
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = client.send(request,
-                    HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
-            LOG.info("GNPy available {}", response.statusCode() == 200);
-            return response.statusCode() == 200;
-        } catch (ConnectException e) {
-            LOG.info("Connection to GNPy refused or server simply not available: {}", e.getMessage());
+        if (!health.allowRequest()) {
+            LOG.debug("GNPy circuit is open, GNPy considered as not available");
             return false;
-        } catch (IOException e) {
-            LOG.info("GNPy is not available ", e);
+        }
+        if (health.getState() == GnpyHealth.State.HALF_OPEN) {
+            // This request is the probe of the half-open circuit: the status check closes or re-opens it
+            return awaitStatus(checkStatus());
+        }
+        if (health.isStatusFresh()) {
+            return health.isLastStatusUp();
+        }
+        CompletableFuture<Boolean> check = checkStatus();
+        if (health.isStatusKnown()) {
+            // Serve the last known state while the status is refreshed in the background
+            return health.isLastStatusUp();
+        }
+        return awaitStatus(check);
+    }
+
+    private boolean awaitStatus(CompletableFuture<Boolean> check) {
+        try {
+            return check.get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            LOG.info("GNPy is not available: {}", e.getMessage());
             return false;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -107,40 +160,107 @@ public class GnpyConsumerImpl implements GnpyConsumer {
         }
     }
 
+    /**
+     * Query the GNPy status endpoint, unless a query is already in progress.
+     *
+     * @return the pending status check.
+     */
+    private CompletableFuture<Boolean> checkStatus() {
+        CompletableFuture<Boolean> pending = new CompletableFuture<>();
+        CompletableFuture<Boolean> current = statusCheck.compareAndExchange(null, pending);
+        if (current != null) {
+            return current;
+        }
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(statusUri)
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+            .whenComplete((response, error) -> {
+                boolean available = error == null && response.statusCode() == 200;
+                if (available) {
+                    health.recordSuccess();
+                } else {
+                    health.recordFailure();
+                    logFailure(error, response);
+                }
+                LOG.info("GNPy available {}", available);
+                statusCheck.set(null);
+                pending.complete(available);
+            });
+        return pending;
+    }
+
     @Override
     public Result computePaths(final Request request) {
         try {
-            String requestBody = requestConverter.createJsonStringFromDataObject(
-                            DataObjectIdentifier.builder(Request.class).build(),
-                            request,
-                            JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02)
-                    .replace("gnpy-network-topology:", "");
-            LOG.info("requestbody = {}", requestBody);
-
-            HttpRequest httpRequest = HttpRequest.newBuilder()
-                    .uri(pathComputationUri)
-                    .header("Content-Type", "application/json")
-                    .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                    .build();
-            httpRequest.headers().map().forEach((k, v) -> LOG.info("header {}: {}", k, v));
-            HttpResponse<String> response = client.send(httpRequest, HttpResponse.BodyHandlers.ofString());
-            LOG.info("response = {}", response);
-
-            if (response.statusCode() == 201) {
-                LOG.info("response body = {}", response.body());
-                return resultConverter.createDataObjectFromJsonString(YangInstanceIdentifier.of(Result.QNAME),
-                        response.body(),
-                        JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02);
-            } else {
-                LOG.info("Error response: {}", response.body());
-                return null;
-            }
-        } catch (IOException e) {
-            LOG.info("Something went wrong while requesting GNPy ", e);
+            return computePathsAsync(request).get();
+        } catch (ExecutionException e) {
+            LOG.info("Something went wrong while requesting GNPy ", e.getCause());
             return null;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             return null;
         }
     }
+
+    @Override
+    public CompletableFuture<Result> computePathsAsync(final Request request) {
+        if (!health.allowRequest()) {
+            LOG.info("GNPy circuit is open, path computation request not sent");
+            return CompletableFuture.completedFuture(null);
+        }
+        String requestBody = requestConverter.createJsonStringFromDataObject(
+                        DataObjectIdentifier.builder(Request.class).build(),
+                        request,
+                        JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02)
+                .replace("gnpy-network-topology:", "");
+        LOG.debug("requestbody = {}", requestBody);
+
+        HttpRequest httpRequest = HttpRequest.newBuilder()
+                .uri(pathComputationUri)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody))
+                .build();
+        return client.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
+            .handle((response, error) -> {
+                if (error != null || response.statusCode() >= 500) {
+                    health.recordFailure();
+                    logFailure(error, response);
+                    return null;
+                }
+                health.recordSuccess();
+                LOG.info("response = {}", response);
+                if (response.statusCode() == 201) {
+                    LOG.debug("response body = {}", response.body());
+                    return resultConverter.createDataObjectFromJsonString(YangInstanceIdentifier.of(Result.QNAME),
+                            response.body(),
+                            JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02);
+                }
+                LOG.info("Error response: {}", response.body());
+                return null;
+            });
+    }
+
+    @Override
+    public boolean isTopologySubsetSupported() {
+        return topologySubset;
+    }
+
+    public GnpyHealth getHealth() {
+        return health;
+    }
+
+    private static void logFailure(Throwable error, HttpResponse<String> response) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof ConnectException) {
+            LOG.info("Connection to GNPy refused or server simply not available: {}", cause.getMessage());
+        } else if (cause != null) {
+            LOG.info("GNPy is not available ", cause);
+        } else {
+            LOG.info("GNPy answered with status {}", response.statusCode());
+        }
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.gnpy.consumer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Health state of the GNPy server, shared by the status checks and the path computation requests.
+ * It behaves as a circuit breaker: after a number of consecutive failures, the circuit is opened and no request is
+ * sent to GNPy until a given duration has elapsed. The next request is then let through as a single probe, the other
+ * requests being rejected until its outcome closes or re-opens the circuit. The result of the last status check is
+ * also kept for a configurable duration so that the GNPy status endpoint is not queried for every path computation.
+ */
+public class GnpyHealth {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final long statusTtlNanos;
+    private final LongSupplier clock;
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAt;
+    private boolean probeInFlight = false;
+    private long probeStartedAt;
+    private boolean statusKnown = false;
+    private boolean lastStatusUp = false;
+    private long lastStatusAt;
+
+    /**
+     * Instantiate the GnpyHealth.
+     *
+     * @param failureThreshold number of consecutive failures opening the circuit
+     * @param openDurationMs time during which no request is sent once the circuit is open, in milliseconds
+     * @param statusTtlMs time during which the result of a status check is reused, in milliseconds
+     */
+    public GnpyHealth(int failureThreshold, long openDurationMs, long statusTtlMs) {
+        this(failureThreshold, openDurationMs, statusTtlMs, System::nanoTime);
+    }
+
+    GnpyHealth(int failureThreshold, long openDurationMs, long statusTtlMs, LongSupplier clock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+        this.statusTtlNanos = TimeUnit.MILLISECONDS.toNanos(statusTtlMs);
+        this.clock = clock;
+    }
+
+    /**
+     * Check if a request can be sent to GNPy.
+     * When the circuit is open and its open duration has elapsed, it switches to half-open and the request is
+     * allowed as a probe. The other requests are rejected while the probe is in flight, unless its outcome has not
+     * been recorded within the open duration, in which case another probe is let through.
+     *
+     * @return true if the circuit is closed or if the request is the probe, false otherwise.
+     */
+    public synchronized boolean allowRequest() {
+        long now = clock.getAsLong();
+        switch (state) {
+            case OPEN:
+                if (now - openedAt < openDurationNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                break;
+            case HALF_OPEN:
+                if (probeInFlight && now - probeStartedAt < openDurationNanos) {
+                    return false;
+                }
+                break;
+            default:
+                return true;
+        }
+        probeInFlight = true;
+        probeStartedAt = now;
+        return true;
+    }
+
+    /**
+     * Record a successful exchange with GNPy.
+     */
+    public synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+        probeInFlight = false;
+        statusKnown = true;
+        lastStatusUp = true;
+        lastStatusAt = clock.getAsLong();
+    }
+
+    /**
+     * Record a failed exchange with GNPy (connection refused, timeout, unexpected HTTP status...).
+     */
+    public synchronized void recordFailure() {
+        long now = clock.getAsLong();
+        consecutiveFailures++;
+        statusKnown = true;
+        lastStatusUp = false;
+        lastStatusAt = now;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = now;
+            probeInFlight = false;
+        }
+    }
+
+    /**
+     * Check if the result of the last exchange with GNPy can be reused as the server status.
+     *
+     * @return true if a status is known and younger than the status time to live.
+     */
+    public synchronized boolean isStatusFresh() {
+        return statusKnown && clock.getAsLong() - lastStatusAt < statusTtlNanos;
+    }
+
+    public synchronized boolean isStatusKnown() {
+        return statusKnown;
+    }
+
+    public synchronized boolean isLastStatusUp() {
+        return lastStatusUp && state != State.OPEN;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,387 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.shortestpath.YenKShortestPath;
+import org.jgrapht.graph.GraphPathImpl;
+import org.jgrapht.graph.MaskSubgraph;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.path.pair.rev261019.Disjointness;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Search of pairs of disjoint paths between two vertices of the PCE graph.
+ *
+ * <p>The pair of minimum total weight is found in one pass with the algorithm of Suurballe, in the form given by
+ * Bhandari: two successive shortest paths are computed by Bellman-Ford on the residual graph, the second one being
+ * allowed to follow the first one backward, and the edges used in both directions are then removed. Vertices are
+ * split in an input and an output part, linked by an arc of capacity one, when the paths must be node-disjoint.
+ * The edges leaving the source and the edges reaching the destination connect the end nodes to the network and
+ * may be used by both paths, as the ROADMs the end nodes are connected to.
+ *
+ * <p>The flow formulation does not cover the shared risk link groups nor the ROADMs split in several vertices,
+ * and the pair found may not make valid turns. The pairs of the K shortest paths with the shortest paths avoiding
+ * their resources are thus also proposed, all the pairs being checked before being returned.
+ */
+final class DisjointPathPairFinder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DisjointPathPairFinder.class);
+    // Number of protection paths searched for each working path candidate
+    private static final int PROTECTIONS_PER_WORKING_PATH = 3;
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * Pair of disjoint paths, the working path being the shortest one.
+     */
+    record PathPair(GraphPath<String, PceGraphEdge> working, GraphPath<String, PceGraphEdge> protection) {
+
+        double getWeight() {
+            return working.getWeight() + protection.getWeight();
+        }
+    }
+
+    /**
+     * Arc of the flow network built from the graph.
+     * The arcs carrying no edge link the input and the output parts of a vertex.
+     */
+    private static final class Arc {
+        private final int from;
+        private final int to;
+        private final double weight;
+        private final int capacity;
+        private final PceGraphEdge edge;
+        private int flow;
+
+        Arc(int from, int to, double weight, int capacity, PceGraphEdge edge) {
+            this.from = from;
+            this.to = to;
+            this.weight = weight;
+            this.capacity = capacity;
+            this.edge = edge;
+        }
+    }
+
+    private final Graph<String, PceGraphEdge> graph;
+    private final String source;
+    private final String destination;
+    private final Disjointness disjointness;
+    private final Map<String, String> vertexSites;
+    private final Set<String> sharedSites = new HashSet<>();
+    private final InAlgoPathValidator turnValidator = new InAlgoPathValidator();
+
+    /**
+     * Instantiate a finder of disjoint path pairs.
+     *
+     * @param graph weighted graph of the PCE
+     * @param source source vertex of the paths
+     * @param destination destination vertex of the paths
+     * @param disjointness disjointness required between the paths
+     * @param vertexSites site of the vertices (the supporting network node of the ROADM degrees and SRGs),
+     *                    a vertex without site being its own site
+     */
+    DisjointPathPairFinder(Graph<String, PceGraphEdge> graph, String source, String destination,
+            Disjointness disjointness, Map<String, String> vertexSites) {
+        this.graph = graph;
+        this.source = source;
+        this.destination = destination;
+        this.disjointness = disjointness;
+        this.vertexSites = vertexSites;
+        sharedSites.add(getSite(source));
+        sharedSites.add(getSite(destination));
+        if (graph.containsVertex(source)) {
+            for (PceGraphEdge edge : graph.outgoingEdgesOf(source)) {
+                sharedSites.add(getSite(graph.getEdgeTarget(edge)));
+            }
+        }
+        if (graph.containsVertex(destination)) {
+            for (PceGraphEdge edge : graph.incomingEdgesOf(destination)) {
+                sharedSites.add(getSite(graph.getEdgeSource(edge)));
+            }
+        }
+    }
+
+    /**
+     * Find the disjoint path pairs, ordered by total weight.
+     *
+     * @param workingCandidates K shortest paths between the source and the destination
+     * @param maxPairs maximum number of pairs to return
+     * @return the pairs of disjoint paths found, the shortest first
+     */
+    List<PathPair> findPairs(List<GraphPath<String, PceGraphEdge>> workingCandidates, int maxPairs) {
+        List<PathPair> pairs = new ArrayList<>();
+        Set<Set<List<PceGraphEdge>>> foundPairs = new HashSet<>();
+        findShortestPair().ifPresent(pair -> addPair(pair, pairs, foundPairs));
+        for (GraphPath<String, PceGraphEdge> working : workingCandidates) {
+            for (GraphPath<String, PceGraphEdge> protection : findProtections(working)) {
+                addPair(working.getWeight() <= protection.getWeight()
+                        ? new PathPair(working, protection)
+                        : new PathPair(protection, working),
+                    pairs, foundPairs);
+            }
+        }
+        pairs.sort(Comparator.comparingDouble(PathPair::getWeight));
+        LOG.info("{} {}-disjoint path pairs found between {} and {}", pairs.size(), disjointness.getName(), source,
+            destination);
+        return pairs.size() > maxPairs ? pairs.subList(0, maxPairs) : pairs;
+    }
+
+    private void addPair(PathPair pair, List<PathPair> pairs, Set<Set<List<PceGraphEdge>>> foundPairs) {
+        if (!areDisjoint(pair.working().getEdgeList(), pair.protection().getEdgeList())
+                || !turnValidator.isValidEdgeList(pair.working().getEdgeList())
+                || !turnValidator.isValidEdgeList(pair.protection().getEdgeList())) {
+            LOG.debug("Path pair dropped {} / {}", pair.working().getVertexList(), pair.protection().getVertexList());
+            return;
+        }
+        if (foundPairs.add(Set.of(pair.working().getEdgeList(), pair.protection().getEdgeList()))) {
+            pairs.add(pair);
+        }
+    }
+
+    /**
+     * Find the pair of paths of minimum total weight, disjoint as far as the flow formulation allows it.
+     *
+     * @return the pair, empty if the graph has no such pair
+     */
+    Optional<PathPair> findShortestPair() {
+        List<String> vertices = new ArrayList<>(graph.vertexSet());
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int index = 0; index < vertices.size(); index++) {
+            indexes.put(vertices.get(index), index);
+        }
+        if (!indexes.containsKey(source) || !indexes.containsKey(destination) || source.equals(destination)) {
+            return Optional.empty();
+        }
+        // The input part of vertex i is the node 2i of the flow network, its output part the node 2i + 1
+        List<Arc> arcs = new ArrayList<>();
+        for (int index = 0; index < vertices.size(); index++) {
+            String vertex = vertices.get(index);
+            boolean shared = disjointness != Disjointness.Node || sharedSites.contains(getSite(vertex));
+            arcs.add(new Arc(2 * index, 2 * index + 1, 0, shared ? 2 : 1, null));
+        }
+        for (PceGraphEdge edge : graph.edgeSet()) {
+            arcs.add(new Arc(2 * indexes.get(graph.getEdgeSource(edge)) + 1,
+                2 * indexes.get(graph.getEdgeTarget(edge)), graph.getEdgeWeight(edge), isShareable(edge) ? 2 : 1,
+                edge));
+        }
+        int from = 2 * indexes.get(source);
+        int to = 2 * indexes.get(destination) + 1;
+        for (int unit = 0; unit < 2; unit++) {
+            if (!augment(arcs, 2 * vertices.size(), from, to)) {
+                LOG.info("No {}-disjoint path pair between {} and {}", disjointness.getName(), source, destination);
+                return Optional.empty();
+            }
+        }
+        List<List<Arc>> outgoingArcs = new ArrayList<>();
+        for (int node = 0; node < 2 * vertices.size(); node++) {
+            outgoingArcs.add(new ArrayList<>());
+        }
+        for (Arc arc : arcs) {
+            if (arc.flow > 0) {
+                outgoingArcs.get(arc.from).add(arc);
+            }
+        }
+        GraphPath<String, PceGraphEdge> first = extractPath(outgoingArcs, from, to);
+        GraphPath<String, PceGraphEdge> second = extractPath(outgoingArcs, from, to);
+        return Optional.of(first.getWeight() <= second.getWeight()
+            ? new PathPair(first, second)
+            : new PathPair(second, first));
+    }
+
+    /**
+     * Find the shortest path of the residual flow network with Bellman-Ford and push one unit of flow along it.
+     */
+    private static boolean augment(List<Arc> arcs, int nodeCount, int from, int to) {
+        double[] distances = new double[nodeCount];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        distances[from] = 0;
+        Arc[] viaArcs = new Arc[nodeCount];
+        boolean[] viaBackward = new boolean[nodeCount];
+        boolean updated = true;
+        for (int round = 0; round < nodeCount && updated; round++) {
+            updated = false;
+            for (Arc arc : arcs) {
+                if (arc.flow < arc.capacity && distances[arc.from] + arc.weight < distances[arc.to] - EPSILON) {
+                    distances[arc.to] = distances[arc.from] + arc.weight;
+                    viaArcs[arc.to] = arc;
+                    viaBackward[arc.to] = false;
+                    updated = true;
+                }
+                if (arc.flow > 0 && distances[arc.to] - arc.weight < distances[arc.from] - EPSILON) {
+                    distances[arc.from] = distances[arc.to] - arc.weight;
+                    viaArcs[arc.from] = arc;
+                    viaBackward[arc.from] = true;
+                    updated = true;
+                }
+            }
+        }
+        if (distances[to] == Double.POSITIVE_INFINITY) {
+            return false;
+        }
+        int node = to;
+        while (node != from) {
+            Arc arc = viaArcs[node];
+            if (viaBackward[node]) {
+                arc.flow--;
+                node = arc.to;
+            } else {
+                arc.flow++;
+                node = arc.from;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Follow one unit of flow from the source to the destination, the cycles met being dropped.
+     */
+    private GraphPath<String, PceGraphEdge> extractPath(List<List<Arc>> outgoingArcs, int from, int to) {
+        List<Arc> walk = new ArrayList<>();
+        Map<Integer, Integer> positions = new HashMap<>();
+        positions.put(from, 0);
+        int node = from;
+        while (node != to) {
+            Arc next = outgoingArcs.get(node).stream().filter(arc -> arc.flow > 0).findFirst().orElseThrow();
+            next.flow--;
+            walk.add(next);
+            node = next.to;
+            Integer position = positions.get(node);
+            if (position == null) {
+                positions.put(node, walk.size());
+            } else {
+                for (Arc arc : walk.subList(position, walk.size())) {
+                    positions.remove(arc.to);
+                }
+                walk.subList(position, walk.size()).clear();
+                positions.put(node, position);
+            }
+        }
+        List<PceGraphEdge> edges = new ArrayList<>();
+        double weight = 0;
+        for (Arc arc : walk) {
+            if (arc.edge != null) {
+                edges.add(arc.edge);
+                weight += arc.weight;
+            }
+        }
+        return new GraphPathImpl<>(graph, source, destination, edges, weight);
+    }
+
+    /**
+     * Find the shortest paths disjoint from a working path, on the graph deprived of the resources of the path.
+     */
+    private List<GraphPath<String, PceGraphEdge>> findProtections(GraphPath<String, PceGraphEdge> working) {
+        Set<PceGraphEdge> excludedEdges = new HashSet<>();
+        for (PceGraphEdge edge : working.getEdgeList()) {
+            if (!isShareable(edge)) {
+                excludedEdges.add(edge);
+            }
+        }
+        Set<String> excludedVertices = new HashSet<>();
+        switch (disjointness) {
+            case Node:
+                Set<String> sites = getIntermediateSites(working.getVertexList());
+                for (String vertex : graph.vertexSet()) {
+                    if (sites.contains(getSite(vertex))) {
+                        excludedVertices.add(vertex);
+                    }
+                }
+                break;
+            case Srlg:
+                Set<Long> srlgs = getSrlgs(working.getEdgeList());
+                for (PceGraphEdge edge : graph.edgeSet()) {
+                    if (getSrlgs(List.of(edge)).stream().anyMatch(srlgs::contains)) {
+                        excludedEdges.add(edge);
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+        Graph<String, PceGraphEdge> residualGraph =
+            new MaskSubgraph<>(graph, excludedVertices::contains, excludedEdges::contains);
+        return new YenKShortestPath<>(residualGraph, turnValidator)
+            .getPaths(source, destination, PROTECTIONS_PER_WORKING_PATH);
+    }
+
+    /**
+     * Check the disjointness of two paths.
+     *
+     * @param edges1 edges of the first path
+     * @param edges2 edges of the second path
+     * @return true if the paths are different and disjoint
+     */
+    boolean areDisjoint(List<PceGraphEdge> edges1, List<PceGraphEdge> edges2) {
+        if (edges1.equals(edges2)) {
+            return false;
+        }
+        Set<PceGraphEdge> edges = new HashSet<>(edges1);
+        for (PceGraphEdge edge : edges2) {
+            if (!isShareable(edge) && edges.contains(edge)) {
+                return false;
+            }
+        }
+        switch (disjointness) {
+            case Node:
+                Set<String> sites = getIntermediateSites(toVertexList(edges1));
+                return getIntermediateSites(toVertexList(edges2)).stream().noneMatch(sites::contains);
+            case Srlg:
+                Set<Long> srlgs = getSrlgs(edges1);
+                return getSrlgs(edges2).stream().noneMatch(srlgs::contains);
+            default:
+                return true;
+        }
+    }
+
+    private boolean isShareable(PceGraphEdge edge) {
+        return source.equals(graph.getEdgeSource(edge)) || destination.equals(graph.getEdgeTarget(edge));
+    }
+
+    private String getSite(String vertex) {
+        return vertexSites.getOrDefault(vertex, vertex);
+    }
+
+    private Set<String> getIntermediateSites(List<String> vertices) {
+        Set<String> sites = new HashSet<>();
+        for (String vertex : vertices) {
+            String site = getSite(vertex);
+            if (!sharedSites.contains(site)) {
+                sites.add(site);
+            }
+        }
+        return sites;
+    }
+
+    private List<String> toVertexList(List<PceGraphEdge> edges) {
+        List<String> vertices = new ArrayList<>();
+        for (PceGraphEdge edge : edges) {
+            vertices.add(graph.getEdgeTarget(edge));
+        }
+        return vertices;
+    }
+
+    private Set<Long> getSrlgs(List<PceGraphEdge> edges) {
+        Set<Long> srlgs = new HashSet<>();
+        for (PceGraphEdge edge : edges) {
+            if (!isShareable(edge) && edge.link().getsrlgList() != null) {
+                srlgs.addAll(edge.link().getsrlgList());
+            }
+        }
+        return srlgs;
+    }
+}
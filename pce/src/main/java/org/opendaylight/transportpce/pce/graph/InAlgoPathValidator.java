@@ -8,6 +8,7 @@
 
 package org.opendaylight.transportpce.pce.graph;
 
+import java.util.List;
 import org.jgrapht.GraphPath;
 import org.jgrapht.alg.shortestpath.PathValidator;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.network.types.rev250110.OpenroadmLinkType;
@@ -34,6 +35,21 @@ public class InAlgoPathValidator implements PathValidator<String, PceGraphEdge>
         return (checkTurn(partialPath.getEdgeList().get(size - 1).link().getlinkType(), edge.link().getlinkType()));
     }
 
+    /**
+     * Check all the turns of a complete path, as done edge by edge during the K shortest paths search.
+     *
+     * @param edges edges of the path, in order
+     * @return true if all the turns of the path are valid
+     */
+    public boolean isValidEdgeList(List<PceGraphEdge> edges) {
+        for (int index = 1; index < edges.size(); index++) {
+            if (!checkTurn(edges.get(index - 1).link().getlinkType(), edges.get(index).link().getlinkType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     //sonar issue The Cyclomatic Complexity of this method "checkTurn" is 13 which is greater than 10 authorized.
     //here we have clear conditional, so for the moment no need to manage this issue
     private boolean checkTurn(OpenroadmLinkType prevType, OpenroadmLinkType nextType) {
@@ -35,8 +35,13 @@ import org.opendaylight.transportpce.pce.networkanalyzer.PceNode;
 //import org.opendaylight.transportpce.pce.networkanalyzer.PceORLink;
 import org.opendaylight.transportpce.pce.networkanalyzer.PceResult;
 import org.opendaylight.transportpce.pce.networkanalyzer.PceResult.LocalCause;
+import org.opendaylight.transportpce.pce.spectrum.assignment.AssignSpectrumPolicy;
+import org.opendaylight.transportpce.pce.spectrum.reservation.SpectrumReservationLedger;
+import org.opendaylight.transportpce.pce.telemetry.PceTelemetry;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.path.pair.rev261019.Disjointness;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PceConstraintMode;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.state.types.rev191129.State;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.PceMetric;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.NodeId;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.LinkId;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.OperationalState;
@@ -61,6 +66,13 @@ public class PceGraph {
     PceConstraints pceHardConstraints;
     private PceConstraintMode pceConstraintMode;
     private String pceOperMode;
+    private AssignSpectrumPolicy spectrumAssignmentPolicy = AssignSpectrumPolicy.HIGH_TO_LOW;
+    private PceTelemetry telemetry = PceTelemetry.DISABLED;
+    // Link weights of the TE metric (TE metric falls back to hop count if null)
+    private SpectrumRoutingWeights spectrumRoutingWeights;
+    // Slots tentatively allocated by the concurrent path computations (not taken into account if null)
+    private SpectrumReservationLedger spectrumReservationLedger;
+    private String reservationOwner;
     private BitSet spectrumConstraint;
     private final ClientInput clientInput;
     private String aendOperationalMode ;
@@ -69,6 +81,11 @@ public class PceGraph {
     // results
     private PceResult pceResult = null;
     private List<PceLink> shortestPathAtoZ = null;
+    // protection path of a path pair computation
+    private PceResult protectionResult = null;
+    private List<PceLink> protectionPathAtoZ = null;
+    private String protectionAendOperationalMode;
+    private String protectionZendOperationalMode;
 
     // for path calculation
     Map<Integer, GraphPath<String, PceGraphEdge>> allWPaths = null;
@@ -107,13 +124,13 @@ public class PceGraph {
 
         LOG.info(" In PCE GRAPH calcPath : K SHORT PATHS algorithm ");
 
-        Graph<String, PceGraphEdge> weightedGraph =
-                new DefaultDirectedWeightedGraph<>(PceGraphEdge.class);
-        populateWithNodes(weightedGraph);
-        populateWithLinks(weightedGraph);
-
+        Graph<String, PceGraphEdge> weightedGraph = buildWeightedGraph();
         LOG.info(" InPCEGRAPHLine112 calcPath weightedGraph is {}", weightedGraph);
-        if (!runKgraphs(weightedGraph)) {
+        long start = telemetry.start();
+        boolean pathFound = runKgraphs(weightedGraph);
+        telemetry.record(PceTelemetry.Stage.K_SHORTEST_PATHS, start);
+        if (!pathFound) {
+            telemetry.rejected(pceResult.getLocalCause());
             LOG.error("In calcPath : pceResult {}", pceResult);
             return false;
         }
@@ -122,13 +139,7 @@ public class PceGraph {
         for (Entry<Integer, GraphPath<String, PceGraphEdge>> entry : allWPaths.entrySet()) {
             GraphPath<String, PceGraphEdge> path = entry.getValue();
             LOG.info("validating path n° {} - {}", entry.getKey(), path.getVertexList());
-            PostAlgoPathValidator papv = new PostAlgoPathValidator(
-                    networkTransactionService,
-                    spectrumConstraint,
-                    clientInput);
-            papv.setPceOperMode(pceOperMode);
-            pceResult = papv.checkPath(
-                    path, allPceNodes, allPceLinks, pceResult, pceHardConstraints, serviceType, pceConstraintMode);
+            PostAlgoPathValidator papv = checkPath(path, pceResult);
             this.margin = papv.getTpceCalculatedMargin();
             this.aendOperationalMode = papv.getAendOperationalMode();
             this.zendOperationalMode = papv.getZendOperationalMode();
@@ -136,6 +147,7 @@ public class PceGraph {
                 LOG.info("Path is validated");
             } else {
                 errorSubscriber.error(pceResult.getMessage());
+                telemetry.rejected(pceResult.getLocalCause());
                 LOG.warn("In calcPath: post algo validations DROPPED the path {}; for following cause: {}",
                     path, pceResult.getLocalCause());
                 continue;
@@ -183,6 +195,138 @@ public class PceGraph {
         return (pceResult.getStatus());
     }
 
+    /**
+     * Compute a working path and a protection path disjoint from each other.
+     * The pairs found by {@link DisjointPathPairFinder} are validated in the order of their total weight, the
+     * spectrum and the OSNR being checked for both paths, until a pair is fully validated. The slots assigned to the
+     * working path are not assigned to the protection path on the add/drop nodes both paths share.
+     *
+     * @param disjointness disjointness required between the paths
+     * @param errorSubscriber subscriber of the errors met during the validation of the paths
+     * @return true if a pair of paths is found
+     */
+    public boolean calcPathPair(Disjointness disjointness, Subscriber errorSubscriber) {
+
+        LOG.info(" In PCE GRAPH calcPathPair : {}-disjoint path pair", disjointness.getName());
+
+        Graph<String, PceGraphEdge> weightedGraph = buildWeightedGraph();
+        long start = telemetry.start();
+        boolean pathFound = runKgraphs(weightedGraph);
+        List<DisjointPathPairFinder.PathPair> pathPairs = List.of();
+        if (pathFound) {
+            pathPairs = new DisjointPathPairFinder(weightedGraph, getVertex(apceNode), getVertex(zpceNode),
+                    disjointness, getVertexSites())
+                .findPairs(new ArrayList<>(allWPaths.values()), kpathsToBring);
+        }
+        telemetry.record(PceTelemetry.Stage.K_SHORTEST_PATHS, start);
+        if (!pathFound || pathPairs.isEmpty()) {
+            if (pathFound) {
+                pceResult.setLocalCause(LocalCause.NO_PATH_EXISTS);
+                pceResult.error(String.format("No %s-disjoint path pair found by algorithm.",
+                    disjointness.getName()));
+            }
+            telemetry.rejected(pceResult.getLocalCause());
+            LOG.error("In calcPathPair : pceResult {}", pceResult);
+            return false;
+        }
+        PceResult initialResult = pceResult;
+        for (DisjointPathPairFinder.PathPair pathPair : pathPairs) {
+            LOG.info("validating path pair {} / {}", pathPair.working().getVertexList(),
+                pathPair.protection().getVertexList());
+            pceResult = copyResult(initialResult);
+            PostAlgoPathValidator papv = checkPath(pathPair.working(), pceResult);
+            PceResult result = pceResult;
+            PostAlgoPathValidator protectionPapv = null;
+            if (ResponseCodes.RESPONSE_OK.equals(pceResult.getResponseCode())) {
+                protectionResult = copyResult(initialResult);
+                protectionPapv = checkPath(pathPair.protection(), protectionResult, papv);
+                result = protectionResult;
+            }
+            if (!ResponseCodes.RESPONSE_OK.equals(result.getResponseCode())) {
+                papv.releaseSpectrumReservation();
+                errorSubscriber.error(result.getMessage());
+                telemetry.rejected(result.getLocalCause());
+                LOG.warn("In calcPathPair: post algo validations DROPPED the path pair {} / {}; "
+                    + "for following cause: {}", pathPair.working(), pathPair.protection(), result.getLocalCause());
+                pceResult.error(result.getMessage());
+                pceResult.setLocalCause(result.getLocalCause());
+                continue;
+            }
+            this.margin = Math.min(papv.getTpceCalculatedMargin(), protectionPapv.getTpceCalculatedMargin());
+            this.aendOperationalMode = papv.getAendOperationalMode();
+            this.zendOperationalMode = papv.getZendOperationalMode();
+            this.protectionAendOperationalMode = protectionPapv.getAendOperationalMode();
+            this.protectionZendOperationalMode = protectionPapv.getZendOperationalMode();
+            shortestPathAtoZ = pathPair.working().getEdgeList().stream().map(PceGraphEdge::link).toList();
+            protectionPathAtoZ = pathPair.protection().getEdgeList().stream().map(PceGraphEdge::link).toList();
+            LOG.info("In calcPathPair CHOOSEN PATHS working {} / protection {}", pathPair.working().getVertexList(),
+                pathPair.protection().getVertexList());
+            break;
+        }
+        LOG.info("In calcPathPair : pceResult {}, protection pceResult {}", pceResult, protectionResult);
+        return pceResult.getStatus() && protectionPathAtoZ != null;
+    }
+
+    private Graph<String, PceGraphEdge> buildWeightedGraph() {
+        long start = telemetry.start();
+        Graph<String, PceGraphEdge> weightedGraph =
+                new DefaultDirectedWeightedGraph<>(PceGraphEdge.class);
+        populateWithNodes(weightedGraph);
+        populateWithLinks(weightedGraph);
+        telemetry.record(PceTelemetry.Stage.GRAPH_BUILD, start);
+        return weightedGraph;
+    }
+
+    private PostAlgoPathValidator checkPath(GraphPath<String, PceGraphEdge> path, PceResult result) {
+        return checkPath(path, result, null);
+    }
+
+    /**
+     * Validate a path, the slots assigned to another path of the service being withdrawn from the nodes shared with
+     * it.
+     */
+    private PostAlgoPathValidator checkPath(GraphPath<String, PceGraphEdge> path, PceResult result,
+            PostAlgoPathValidator otherPapv) {
+        PostAlgoPathValidator papv = new PostAlgoPathValidator(
+                networkTransactionService,
+                spectrumConstraint,
+                clientInput);
+        if (otherPapv != null) {
+            papv.withdrawAssignedSlots(otherPapv);
+        }
+        papv.setPceOperMode(pceOperMode);
+        papv.setSpectrumAssignmentPolicy(spectrumAssignmentPolicy);
+        papv.setSpectrumReservationLedger(spectrumReservationLedger, reservationOwner);
+        papv.setTelemetry(telemetry);
+        telemetry.candidateEvaluated();
+        long start = telemetry.start();
+        papv.checkPath(path, allPceNodes, allPceLinks, result, pceHardConstraints, serviceType, pceConstraintMode);
+        telemetry.record(PceTelemetry.Stage.PATH_VALIDATION, start);
+        return papv;
+    }
+
+    private static PceResult copyResult(PceResult result) {
+        PceResult copy = new PceResult();
+        copy.setRate(result.getRate());
+        copy.setServiceFormat(result.getServiceFormat());
+        copy.setServiceType(result.getServiceType());
+        return copy;
+    }
+
+    private static String getVertex(PceNode pceNode) {
+        return pceNode.getNodeUuid() == null ? pceNode.getNodeId().getValue() : pceNode.getNodeUuid().getValue();
+    }
+
+    private Map<String, String> getVertexSites() {
+        Map<String, String> vertexSites = new HashMap<>();
+        for (PceNode pceNode : allPceNodes.values()) {
+            if (pceNode.getSupNetworkNodeId() != null) {
+                vertexSites.put(getVertex(pceNode), pceNode.getSupNetworkNodeId());
+            }
+        }
+        return vertexSites;
+    }
+
     private boolean runKgraphs(Graph<String, PceGraphEdge> weightedGraph) {
 
         if (weightedGraph.edgeSet().isEmpty() || weightedGraph.vertexSet().isEmpty()) {
@@ -266,6 +410,11 @@ public class PceGraph {
 
     private boolean populateWithLinks(Graph<String, PceGraphEdge> weightedGraph) {
 
+        // The spectrum weights are fetched once for the whole graph
+        Map<String, Double> spectrumWeights =
+            spectrumRoutingWeights != null && pceHardConstraints.getPceMetrics() == PceMetric.TEMetric
+                ? spectrumRoutingWeights.getWeights()
+                : null;
         Iterator<Map.Entry<NodeId, PceNode>> nodes = allPceNodes.entrySet().iterator();
         while (nodes.hasNext()) {
 
@@ -293,14 +442,14 @@ public class PceGraph {
 
                 weightedGraph.addEdge(link.getSourceId(), link.getDestId(), graphLink);
 
-                weightedGraph.setEdgeWeight(graphLink, chooseWeight(link));
+                weightedGraph.setEdgeWeight(graphLink, chooseWeight(link, spectrumWeights));
                 LOG.info("In Graph populateWithLinks added Edge :  {}", link.getLinkId());
             }
         }
         return true;
     }
 
-    private double chooseWeight(PceLink link) {
+    private double chooseWeight(PceLink link, Map<String, Double> spectrumWeights) {
         // HopCount is default
         double weight = 1;
         switch (pceHardConstraints.getPceMetrics()) {
@@ -317,9 +466,16 @@ public class PceGraph {
                         link);
                 }
                 break;
-            // TODO implement IGPMetric and TEMetric - low priority.
-            case IGPMetric :
             case TEMetric :
+                if (spectrumWeights == null) {
+                    LOG.warn("In PceGraph TEMetric requires the spectrum occupancy. HopCount works as a default");
+                    break;
+                }
+                weight = spectrumRoutingWeights.getWeight(spectrumWeights, link.getLinkId());
+                LOG.debug("In PceGraph TEMetric is used as a metrics, weight {}. {}", weight, link);
+                break;
+            // TODO implement IGPMetric - low priority.
+            case IGPMetric :
             default:
                 LOG.warn("In PceGraph {} not implemented. HopCount works as a default",
                     pceHardConstraints.getPceMetrics());
@@ -344,6 +500,22 @@ public class PceGraph {
         return pceResult;
     }
 
+    public List<PceLink> getProtectionPathAtoZ() {
+        return protectionPathAtoZ;
+    }
+
+    public PceResult getProtectionReturnStructure() {
+        return protectionResult;
+    }
+
+    public String getProtectionAendOperationalMode() {
+        return protectionAendOperationalMode;
+    }
+
+    public String getProtectionZendOperationalMode() {
+        return protectionZendOperationalMode;
+    }
+
     public Double getmargin() {
         return margin;
     }
@@ -363,4 +535,28 @@ public class PceGraph {
     public void setPceOperMode(String pceOperationalMode) {
         this.pceOperMode = pceOperationalMode;
     }
+
+    public void setTelemetry(PceTelemetry telemetry) {
+        this.telemetry = telemetry;
+    }
+
+    public void setSpectrumAssignmentPolicy(AssignSpectrumPolicy spectrumAssignmentPolicy) {
+        this.spectrumAssignmentPolicy = spectrumAssignmentPolicy;
+    }
+
+    public void setSpectrumRoutingWeights(SpectrumRoutingWeights spectrumRoutingWeights) {
+        this.spectrumRoutingWeights = spectrumRoutingWeights;
+    }
+
+    /**
+     * Take into account the slots tentatively allocated by the concurrent path computations.
+     *
+     * @param spectrumReservationLedger slots tentatively allocated
+     * @param reservationOwner service on behalf of which the assigned slots are reserved, null to not reserve them
+     */
+    public void setSpectrumReservationLedger(SpectrumReservationLedger spectrumReservationLedger,
+            String reservationOwner) {
+        this.spectrumReservationLedger = spectrumReservationLedger;
+        this.reservationOwner = reservationOwner;
+    }
 }
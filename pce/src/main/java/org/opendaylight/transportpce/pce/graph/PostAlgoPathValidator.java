@@ -11,7 +11,6 @@ package org.opendaylight.transportpce.pce.graph;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
@@ -34,28 +33,34 @@ import org.opendaylight.transportpce.common.device.observer.EventSubscriber;
 import org.opendaylight.transportpce.common.device.observer.Subscriber;
 import org.opendaylight.transportpce.common.fixedflex.GridConstant;
 import org.opendaylight.transportpce.common.fixedflex.GridUtils;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumBand;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
 import org.opendaylight.transportpce.pce.PceSendingPceRPCs;
 import org.opendaylight.transportpce.pce.constraints.PceConstraints;
 import org.opendaylight.transportpce.pce.constraints.PceConstraints.ResourcePair;
 import org.opendaylight.transportpce.pce.frequency.FrequencySelectionFactory;
 import org.opendaylight.transportpce.pce.frequency.Select;
+import org.opendaylight.transportpce.pce.frequency.interval.EntireSpectrum;
 import org.opendaylight.transportpce.pce.input.ClientInput;
+import org.opendaylight.transportpce.pce.networkanalyzer.OtnTribPool;
 import org.opendaylight.transportpce.pce.networkanalyzer.PceLink;
 import org.opendaylight.transportpce.pce.networkanalyzer.PceNode;
 //import org.opendaylight.transportpce.pce.networkanalyzer.PceORLink;
 import org.opendaylight.transportpce.pce.networkanalyzer.PceResult;
 import org.opendaylight.transportpce.pce.spectrum.assignment.Assign;
-import org.opendaylight.transportpce.pce.spectrum.assignment.AssignSpectrumHighToLow;
+import org.opendaylight.transportpce.pce.spectrum.assignment.AssignSpectrumPolicy;
 import org.opendaylight.transportpce.pce.spectrum.assignment.Range;
 import org.opendaylight.transportpce.pce.spectrum.centerfrequency.CenterFrequencyGranularityCollection;
 import org.opendaylight.transportpce.pce.spectrum.centerfrequency.Collection;
 import org.opendaylight.transportpce.pce.spectrum.index.Base;
 import org.opendaylight.transportpce.pce.spectrum.index.BaseFrequency;
 import org.opendaylight.transportpce.pce.spectrum.index.SpectrumIndex;
+import org.opendaylight.transportpce.pce.spectrum.reservation.SpectrumReservationLedger;
+import org.opendaylight.transportpce.pce.spectrum.reservation.SpectrumReservationLedger.Reservation;
 import org.opendaylight.transportpce.pce.spectrum.slot.CapabilityCollection;
 import org.opendaylight.transportpce.pce.spectrum.slot.InterfaceMcCapability;
 import org.opendaylight.transportpce.pce.spectrum.slot.McCapabilityCollection;
+import org.opendaylight.transportpce.pce.telemetry.PceTelemetry;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PceConstraintMode;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.SpectrumAssignment;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.SpectrumAssignmentBuilder;
@@ -86,6 +91,27 @@ public class PostAlgoPathValidator {
     private String aendOperationalMode ;
     private String zendOperationalMode;
     private String pceOperMode;
+    private AssignSpectrumPolicy spectrumAssignmentPolicy = AssignSpectrumPolicy.HIGH_TO_LOW;
+    private PceTelemetry telemetry = PceTelemetry.DISABLED;
+    // Slots tentatively allocated by the concurrent path computations (not taken into account if null)
+    private SpectrumReservationLedger spectrumReservationLedger;
+    // Service on behalf of which the assigned slots are reserved (slots not reserved if null)
+    private String reservationOwner;
+    private Reservation spectrumReservation;
+    // Slots assigned to the path, null until a spectrum assignment is found
+    private AssignedSlots assignedSlots;
+    // Slots assigned to the other paths of the service, withdrawn from the nodes their paths share with this one
+    private final List<AssignedSlots> withdrawnSlots = new ArrayList<>();
+
+    /**
+     * Slots assigned to a path.
+     *
+     * @param nodeIds degrees and SRGs of the path whose available slots are taken into account
+     * @param beginIndex index of the first slot
+     * @param stopIndex index of the last slot
+     */
+    private record AssignedSlots(Set<String> nodeIds, int beginIndex, int stopIndex) {
+    }
 
     public PostAlgoPathValidator(NetworkTransactionService networkTransactionService, BitSet spectrumConstraint,
             ClientInput clientInput) {
@@ -124,7 +150,10 @@ public class PostAlgoPathValidator {
                 Subscriber subscriber = new EventSubscriber();
                 LOG.info("PostAlgoValidator, checkPath, calling getSpectrumAssignment with spectralWidthSlotNber = {}",
                     spectralWidthSlotNumber);
-                spectrumAssignment = getSpectrumAssignment(path, allPceNodes, spectralWidthSlotNumber, subscriber);
+                long start = telemetry.start();
+                spectrumAssignment = reserveSpectrumAssignment(path, allPceNodes, spectralWidthSlotNumber,
+                    subscriber);
+                telemetry.record(PceTelemetry.Stage.SPECTRUM_ASSIGNMENT, start);
                 pceResult.setServiceType(serviceType);
                 if (spectrumAssignment.getBeginIndex().equals(Uint16.ZERO)
                         && spectrumAssignment.getStopIndex().equals(Uint16.ZERO)) {
@@ -147,12 +176,15 @@ public class PostAlgoPathValidator {
                 // Check the OSNR
                 CatalogUtils cu = new CatalogUtils(networkTransactionService);
                 if (cu.isCatalogFilled()) {
+                    start = telemetry.start();
                     double margin1 = checkOSNR(path, allPceNodes, allPceLinks, serviceType,
                             StringConstants.SERVICE_DIRECTION_AZ, cu);
                     double margin2 = checkOSNR(path, allPceNodes, allPceLinks, serviceType,
                             StringConstants.SERVICE_DIRECTION_ZA, cu);
+                    telemetry.record(PceTelemetry.Stage.OSNR_CHECK, start);
                     if (margin1 < 0 || margin2 < 0 || margin1 == Double.NEGATIVE_INFINITY
                             || margin2 == Double.NEGATIVE_INFINITY) {
+                        releaseSpectrumReservation();
                         pceResult.error(String.format("OSNR out of range (%s - %s)", margin1, margin2));
                         pceResult.setLocalCause(PceResult.LocalCause.OUT_OF_SPEC_OSNR);
                         return pceResult;
@@ -169,12 +201,14 @@ public class PostAlgoPathValidator {
                 // Check if MaxLatency is defined in the hard constraints
                 if (pceHardConstraints.getMaxLatency() != -1
                         && !checkLatency(pceHardConstraints.getMaxLatency(), path)) {
+                    releaseSpectrumReservation();
                     pceResult.error("Latency is too high according to pce hard constraints.");
                     pceResult.setLocalCause(PceResult.LocalCause.TOO_HIGH_LATENCY);
                     return pceResult;
                 }
                 // Check if nodes are included in the hard constraints
                 if (!checkInclude(path, pceHardConstraints, mode)) {
+                    releaseSpectrumReservation();
                     pceResult.error("Nodes in path are not included in pce hard constraints.");
                     pceResult.setLocalCause(PceResult.LocalCause.HD_NODE_INCLUDE);
                     return pceResult;
@@ -345,36 +379,29 @@ public class PostAlgoPathValidator {
         LOG.debug("In choosetribPort: edgeList = {} ", path.getEdgeList());
         Map<String, Uint16> tribPortMap = new HashMap<>();
         for (PceGraphEdge edge : path.getEdgeList()) {
-            List<Uint16> srcTpnPool =
+            OtnTribPool srcTpnPool =
                 allPceNodes
                     .get(new NodeId(edge.link().getSourceId()))
                     .getAvailableTribPorts()
                     .get(edge.link().getSourceTP());
-            List<Uint16> destTpnPool =
+            OtnTribPool destTpnPool =
                 allPceNodes
                     .get(new NodeId(edge.link().getDestId()))
                     .getAvailableTribPorts()
                     .get(edge.link().getDestTP());
-            List<Uint16> commonEdgeTpnPool = new ArrayList<>();
             if (srcTpnPool == null || destTpnPool == null) {
                 LOG.warn("Analysing Edges, did not succeed retrieving Trib port Pool for either Src {} and/or Dest {}",
                     edge.link().getSourceId(), edge.link().getDestId());
                 return tribPortMap;
             }
-            for (Uint16 srcTpn : srcTpnPool) {
-                if (destTpnPool.contains(srcTpn)) {
-                    commonEdgeTpnPool.add(srcTpn);
-                }
-            }
+            OtnTribPool commonEdgeTpnPool = srcTpnPool.intersect(destTpnPool);
             if (commonEdgeTpnPool.isEmpty()) {
                 continue;
             }
-            Integer startTribSlot = tribSlotMap.values().stream().findFirst().orElseThrow().get(0).toJava();
-            Integer tribPort = (int) Math.ceil((double)startTribSlot / nbSlot);
-            for (Uint16 commonTribPort : commonEdgeTpnPool) {
-                if (tribPort.equals(commonTribPort.toJava())) {
-                    tribPortMap.put(edge.link().getLinkId(), commonTribPort);
-                }
+            int startTribSlot = tribSlotMap.values().stream().findFirst().orElseThrow().get(0).toJava();
+            int tribPort = (int) Math.ceil((double)startTribSlot / nbSlot);
+            if (commonEdgeTpnPool.contains(tribPort)) {
+                tribPortMap.put(edge.link().getLinkId(), Uint16.valueOf(tribPort));
             }
         }
         tribPortMap.forEach((k,v) -> LOG.info("TribPortMap : k = {}, v = {}", k, v));
@@ -386,50 +413,27 @@ public class PostAlgoPathValidator {
         LOG.debug("In choosetribSlot: edgeList = {} ", path.getEdgeList());
         Map<String, List<Uint16>> tribSlotMap = new HashMap<>();
         for (PceGraphEdge edge : path.getEdgeList()) {
-            List<Uint16> srcTsPool =
+            OtnTribPool srcTsPool =
                 allPceNodes
                     .get(new NodeId(edge.link().getSourceId()))
                     .getAvailableTribSlots()
                     .get(edge.link().getSourceTP());
-            List<Uint16> destTsPool =
+            OtnTribPool destTsPool =
                 allPceNodes
                     .get(new NodeId(edge.link().getDestId()))
                     .getAvailableTribSlots()
                     .get(edge.link().getDestTP());
-            List<Uint16> commonEdgeTsPoolList = new ArrayList<>();
             if (srcTsPool == null || destTsPool == null) {
                 LOG.warn("Analysing Edges, did not succeed retrieving Time Slot Pool for either Src {} and/or Dest {}",
                     edge.link().getSourceId(), edge.link().getDestId());
                 return tribSlotMap;
             }
-            for (Uint16 integer : srcTsPool) {
-                if (destTsPool.contains(integer)) {
-                    commonEdgeTsPoolList.add(integer);
-                }
-            }
-            Collections.sort(commonEdgeTsPoolList);
-            List<Uint16> commonGoodStartEdgeTsPoolList = new ArrayList<>();
-            for (Uint16 startEdgeTsPool : commonEdgeTsPoolList) {
-                if (Integer.valueOf(1).equals(startEdgeTsPool.toJava() % nbSlot) || nbSlot == 1) {
-                    commonGoodStartEdgeTsPoolList.add(startEdgeTsPool);
-                }
-            }
-            Collections.sort(commonGoodStartEdgeTsPoolList);
-            boolean goodTsList = false;
+            // First run of nbSlot contiguous slots free at both ends, starting at a slot k with k % nbSlot == 1
+            int firstTribSlot = srcTsPool.intersect(destTsPool).findContiguous(nbSlot);
             List<Uint16> tribSlotList = new ArrayList<>();
-            for (Uint16 goodStartTsPool : commonGoodStartEdgeTsPoolList) {
-                int goodStartIndex = commonEdgeTsPoolList.indexOf(Uint16.valueOf(goodStartTsPool.intValue()));
-                if (!goodTsList && commonEdgeTsPoolList.size() - goodStartIndex >= nbSlot) {
-                    for (int i = 0; i < nbSlot; i++) {
-                        if (!commonEdgeTsPoolList.get(goodStartIndex + i)
-                                .equals(Uint16.valueOf(goodStartTsPool.toJava() + i))) {
-                            goodTsList = false;
-                            tribSlotList.clear();
-                            break;
-                        }
-                        tribSlotList.add(commonEdgeTsPoolList.get(goodStartIndex + i));
-                        goodTsList = true;
-                    }
+            if (firstTribSlot >= 0) {
+                for (int i = 0; i < nbSlot; i++) {
+                    tribSlotList.add(Uint16.valueOf(firstTribSlot + i));
                 }
             }
             tribSlotMap.put(edge.link().getLinkId(), tribSlotList);
@@ -1071,36 +1075,23 @@ public class PostAlgoPathValidator {
 
     /**
      * Get spectrum assignment for path.
+     * The C band is searched first, then the other bands available on all the nodes of the path, in flex grid only
+     * and when neither the client nor the operator restricts the frequencies.
      *
      * @param path                    the path for which we get spectrum assignment.
      * @param allPceNodes             all optical nodes.
      * @param spectralWidthSlotNumber number of slot for spectral width. Depends on
      *                                service type.
      * @param subscriber              will be notified about errors.
-     * @return a spectrum assignment object which contains begin and end index. If
-     *         no spectrum assignment found, beginIndex = stopIndex = 0
+     * @return a spectrum assignment object which contains begin and end index, offset by the index offset of the
+     *         band. If no spectrum assignment found, beginIndex = stopIndex = 0
      */
     public SpectrumAssignment getSpectrumAssignment(GraphPath<String, PceGraphEdge> path,
             Map<NodeId, PceNode> allPceNodes, int spectralWidthSlotNumber, Subscriber subscriber) {
-        byte[] freqMap = new byte[GridConstant.NB_OCTECTS];
-        Arrays.fill(freqMap, (byte) GridConstant.AVAILABLE_SLOT_VALUE);
-        BitSet result = BitSet.valueOf(freqMap);
         boolean isFlexGrid = true;
         LOG.debug("Processing path {} with length {}", path, path.getLength());
-        BitSet pceNodeFreqMap;
-        Set<PceNode> pceNodes = new LinkedHashSet<>();
-
-        for (PceGraphEdge edge : path.getEdgeList()) {
-            NodeId srcId = new NodeId(edge.link().getSourceId());
-            NodeId dstId = new NodeId(edge.link().getDestId());
-            LOG.debug("Processing {} to {}", srcId.getValue(), dstId.getValue());
-            if (allPceNodes.containsKey(srcId)) {
-                pceNodes.add(allPceNodes.get(srcId));
-            }
-            if (allPceNodes.containsKey(dstId)) {
-                pceNodes.add(allPceNodes.get(dstId));
-            }
-        }
+        Set<PceNode> pceNodes = getPathPceNodes(path, allPceNodes);
+        assignedSlots = null;
 
         Collection centerFrequencyGranularityCollection = new CenterFrequencyGranularityCollection(50);
         CapabilityCollection mcCapabilityCollection = new McCapabilityCollection(
@@ -1108,18 +1099,6 @@ public class PostAlgoPathValidator {
 
         for (PceNode pceNode : pceNodes) {
             LOG.debug("Processing PCE node {}", pceNode);
-
-            if (!pceNode.isContentionLessSrg()) {
-                pceNodeFreqMap = pceNode.getBitSetData();
-                LOG.debug("Pce node bitset {}", pceNodeFreqMap);
-
-                if (pceNodeFreqMap != null) {
-                    result.and(pceNodeFreqMap);
-                    LOG.debug("intermediate bitset {}", result);
-                }
-            } else {
-                LOG.debug("PCE node {} is a contentionless srg, skipping available frequency map.", pceNode);
-            }
             centerFrequencyGranularityCollection.add(pceNode.getCentralFreqGranularity());
             mcCapabilityCollection.add(
                     new InterfaceMcCapability(
@@ -1139,39 +1118,200 @@ public class PostAlgoPathValidator {
                 pceNode.getNodeId(), pceNodeVersion, sltWdthGran, pceNode.getCentralFreqGranularity(), isFlexGrid);
         }
 
-        LOG.info("Available bitset on nodes: {}", result);
+        // Available slots of the band being searched, reused from one band to the next
+        BitSet result = new BitSet(GridConstant.EFFECTIVE_BITS);
+        SpectrumAssignment spectrumAssignment = createEmptySpectrumAssignment();
+        for (SpectrumBand band : SpectrumBand.values()) {
+            if (band != SpectrumBand.C_BAND && (!isFlexGrid || isSpectrumRestricted())) {
+                break;
+            }
+            if (!andAvailableSlots(result, band, pceNodes)) {
+                LOG.debug("Band {} not available on all the nodes of the path", band.getMapName());
+                continue;
+            }
+            LOG.info("Available {} bitset on nodes: {}", band.getMapName(), result);
+
+            if (result.isEmpty()) {
+                subscriber.error("No frequencies available");
+                continue;
+            }
+
+            int slotCount = clientInput.slotWidth(spectralWidthSlotNumber);
+
+            if (!mcCapabilityCollection.isCompatibleService(GridConstant.GRANULARITY, slotCount)) {
+                return createEmptySpectrumAssignment();
+            }
+
+            BitSet assignableBitset = result;
+            if (band == SpectrumBand.C_BAND) {
+                Select frequencySelectionFactory = new FrequencySelectionFactory();
+                assignableBitset = frequencySelectionFactory.availableFrequencies(
+                        clientInput,
+                        spectrumConstraint,
+                        result);
+            }
+
+            LOG.info("Assignable bitset: {}", assignableBitset);
 
-        if (result.isEmpty()) {
-            subscriber.error("No frequencies available");
-            return createEmptySpectrumAssignment();
+            if (assignableBitset.isEmpty()) {
+                subscriber.error("No frequencies are assignable to the service.");
+                continue;
+            }
+
+            spectrumAssignment = computeBestSpectrumAssignment(
+                    band,
+                    assignableBitset,
+                    slotCount,
+                    centerFrequencyGranularityCollection.slots(GridConstant.GRANULARITY),
+                    isFlexGrid,
+                    subscriber);
+            if (!spectrumAssignment.getStopIndex().equals(Uint16.ZERO)) {
+                assignedSlots = new AssignedSlots(getSpectrumNodeIds(pceNodes),
+                    spectrumAssignment.getBeginIndex().toJava(), spectrumAssignment.getStopIndex().toJava());
+                return spectrumAssignment;
+            }
         }
+        return spectrumAssignment;
+    }
 
-        int slotCount = clientInput.slotWidth(spectralWidthSlotNumber);
+    /**
+     * Withdraw the slots assigned by another validator from the nodes its path shares with the path of this one.
+     * The working and the protection paths of a service may share their add/drop SRGs, which must then not be
+     * assigned the same slots to both paths.
+     *
+     * @param other validator of the other path, after its spectrum assignment
+     */
+    public void withdrawAssignedSlots(PostAlgoPathValidator other) {
+        if (other.assignedSlots != null) {
+            withdrawnSlots.add(other.assignedSlots);
+        }
+    }
 
-        if (!mcCapabilityCollection.isCompatibleService(GridConstant.GRANULARITY, slotCount)) {
-            return createEmptySpectrumAssignment();
+    /**
+     * Compute the slots of a band available on all the nodes of a path, contentionless SRGs apart.
+     *
+     * @param slots       overwritten by the available slots, indexed by the slot indexes of the band.
+     * @param band        the spectrum band.
+     * @param pceNodes    the nodes of the path.
+     * @return false if the band is not available on one of the nodes.
+     */
+    private boolean andAvailableSlots(BitSet slots, SpectrumBand band, Set<PceNode> pceNodes) {
+        slots.clear();
+        slots.set(0, GridConstant.EFFECTIVE_BITS);
+        for (PceNode pceNode : pceNodes) {
+            if (pceNode.isContentionLessSrg()) {
+                LOG.debug("PCE node {} is a contentionless srg, skipping available frequency map.", pceNode);
+                continue;
+            }
+            if (pceNode.getBitSetData() == null) {
+                continue;
+            }
+            BitSet pceNodeFreqMap = band == SpectrumBand.C_BAND
+                ? pceNode.getBitSetData()
+                : pceNode.getBitSetData(band);
+            LOG.debug("Pce node {} bitset {}", band.getMapName(), pceNodeFreqMap);
+            if (pceNodeFreqMap == null) {
+                return false;
+            }
+            slots.and(pceNodeFreqMap);
+            if (spectrumReservationLedger != null) {
+                spectrumReservationLedger.withdrawReservedSlots(slots, pceNode.getNodeId().getValue(),
+                    reservationOwner, band.getIndexOffset(), band.getIndexOffset() + GridConstant.EFFECTIVE_BITS);
+            }
+            for (AssignedSlots withdrawn : withdrawnSlots) {
+                int fromIndex = Math.max(withdrawn.beginIndex(), band.getIndexOffset());
+                int toIndex = Math.min(withdrawn.stopIndex() + 1, band.getIndexOffset() + GridConstant.EFFECTIVE_BITS);
+                if (fromIndex < toIndex && withdrawn.nodeIds().contains(pceNode.getNodeId().getValue())) {
+                    slots.clear(band.toLocalIndex(fromIndex), band.toLocalIndex(toIndex));
+                }
+            }
+            LOG.debug("intermediate bitset {}", slots);
         }
+        return true;
+    }
 
-        Select frequencySelectionFactory = new FrequencySelectionFactory();
+    /**
+     * Check whether the client or the operator restricts the frequencies of the service.
+     * Their restrictions are expressed on the C band only.
+     */
+    private boolean isSpectrumRestricted() {
+        return !(clientInput.clientRangeWishListIntersection() instanceof EntireSpectrum)
+            || !(clientInput.clientRangeWishListSubset() instanceof EntireSpectrum)
+            || spectrumConstraint != null && spectrumConstraint.nextClearBit(0) < GridConstant.EFFECTIVE_BITS;
+    }
 
-        BitSet assignableBitset = frequencySelectionFactory.availableFrequencies(
-                clientInput,
-                spectrumConstraint,
-                result);
+    /**
+     * Get the ids of the nodes whose available slots are taken into account by the spectrum assignment.
+     */
+    private static Set<String> getSpectrumNodeIds(Set<PceNode> pceNodes) {
+        return pceNodes.stream()
+            .filter(pceNode -> !pceNode.isContentionLessSrg() && pceNode.getBitSetData() != null)
+            .map(pceNode -> pceNode.getNodeId().getValue())
+            .collect(Collectors.toSet());
+    }
 
-        LOG.info("Assignable bitset: {}", assignableBitset);
+    private static Set<PceNode> getPathPceNodes(GraphPath<String, PceGraphEdge> path,
+            Map<NodeId, PceNode> allPceNodes) {
+        Set<PceNode> pceNodes = new LinkedHashSet<>();
+        for (PceGraphEdge edge : path.getEdgeList()) {
+            NodeId srcId = new NodeId(edge.link().getSourceId());
+            NodeId dstId = new NodeId(edge.link().getDestId());
+            LOG.debug("Processing {} to {}", srcId.getValue(), dstId.getValue());
+            if (allPceNodes.containsKey(srcId)) {
+                pceNodes.add(allPceNodes.get(srcId));
+            }
+            if (allPceNodes.containsKey(dstId)) {
+                pceNodes.add(allPceNodes.get(dstId));
+            }
+        }
+        return pceNodes;
+    }
 
-        if (assignableBitset.isEmpty()) {
-            subscriber.error("No frequencies are assignable to the service.");
-            return createEmptySpectrumAssignment();
+    /**
+     * Get spectrum assignment for path and reserve it in the spectrum reservation ledger.
+     * If a concurrent path computation reserved one of the assigned slots in the meantime, the spectrum
+     * assignment is computed again, up to {@link SpectrumReservationLedger#MAX_RESERVATION_ATTEMPTS} times.
+     *
+     * @param path                    the path for which we get spectrum assignment.
+     * @param allPceNodes             all optical nodes.
+     * @param spectralWidthSlotNumber number of slot for spectral width.
+     * @param subscriber              will be notified about errors.
+     * @return the spectrum assignment, beginIndex = stopIndex = 0 if none could be reserved
+     */
+    private SpectrumAssignment reserveSpectrumAssignment(GraphPath<String, PceGraphEdge> path,
+            Map<NodeId, PceNode> allPceNodes, int spectralWidthSlotNumber, Subscriber subscriber) {
+        for (int attempt = 1; ; attempt++) {
+            SpectrumAssignment spectrumAssignment =
+                getSpectrumAssignment(path, allPceNodes, spectralWidthSlotNumber, subscriber);
+            if (spectrumReservationLedger == null || reservationOwner == null
+                    || (spectrumAssignment.getBeginIndex().equals(Uint16.ZERO)
+                        && spectrumAssignment.getStopIndex().equals(Uint16.ZERO))) {
+                return spectrumAssignment;
+            }
+            Set<String> nodeIds = getSpectrumNodeIds(getPathPceNodes(path, allPceNodes));
+            spectrumReservation = spectrumReservationLedger.reserve(reservationOwner, nodeIds,
+                spectrumAssignment.getBeginIndex().toJava(), spectrumAssignment.getStopIndex().toJava());
+            if (spectrumReservation != null) {
+                return spectrumAssignment;
+            }
+            if (attempt >= SpectrumReservationLedger.MAX_RESERVATION_ATTEMPTS) {
+                assignedSlots = null;
+                subscriber.error("Frequencies reserved by concurrent path computations.");
+                return createEmptySpectrumAssignment();
+            }
+            LOG.info("Spectrum assignment {} of {} reserved concurrently, attempt {} to assign another one",
+                spectrumAssignment, reservationOwner, attempt + 1);
         }
+    }
 
-        return computeBestSpectrumAssignment(
-                assignableBitset,
-                clientInput.slotWidth(spectralWidthSlotNumber),
-                centerFrequencyGranularityCollection.slots(GridConstant.GRANULARITY),
-                isFlexGrid,
-                subscriber);
+    /**
+     * Release the slots reserved for the path, when the path is not retained.
+     */
+    public void releaseSpectrumReservation() {
+        if (spectrumReservation != null) {
+            spectrumReservationLedger.release(spectrumReservation);
+            spectrumReservation = null;
+        }
     }
 
     private SpectrumAssignment createEmptySpectrumAssignment() {
@@ -1195,15 +1335,35 @@ public class PostAlgoPathValidator {
      */
     public SpectrumAssignment computeBestSpectrumAssignment(BitSet spectrumOccupation, int spectralWidthSlotNumber,
             int nrOfSlotsSeparatingCenterFrequencies, boolean isFlexGrid, Subscriber subscriber) {
+        return computeBestSpectrumAssignment(SpectrumBand.C_BAND, spectrumOccupation, spectralWidthSlotNumber,
+                nrOfSlotsSeparatingCenterFrequencies, isFlexGrid, subscriber);
+    }
+
+    /**
+     * Compute spectrum assignment from spectrum occupation of a band for spectral width.
+     *
+     * @param band                                 the spectrum band.
+     * @param spectrumOccupation                   the spectrum occupation BitSet, indexed by the slot indexes of
+     *                                             the band.
+     * @param spectralWidthSlotNumber              the nb slots for spectral width.
+     * @param nrOfSlotsSeparatingCenterFrequencies The nr of slots separating each central frequency.
+     * @param isFlexGrid                           true if flexible grid, false otherwise.
+     * @param subscriber                           will be notified about errors.
+     * @return a spectrum assignment object which contains begin and stop index, offset by the index offset of the
+     *         band. If no spectrum assignment found, beginIndex = stopIndex = 0
+     */
+    public SpectrumAssignment computeBestSpectrumAssignment(SpectrumBand band, BitSet spectrumOccupation,
+            int spectralWidthSlotNumber, int nrOfSlotsSeparatingCenterFrequencies, boolean isFlexGrid,
+            Subscriber subscriber) {
 
         Base baseFrequency = new BaseFrequency();
-        Assign assignSpectrum = new AssignSpectrumHighToLow(new SpectrumIndex());
+        Assign assignSpectrum = spectrumAssignmentPolicy.assign(new SpectrumIndex());
 
         Range range = assignSpectrum.range(
                 GridConstant.EFFECTIVE_BITS,
                 baseFrequency.referenceFrequencySpectrumIndex(
                         GridConstant.CENTRAL_FREQUENCY_THZ,
-                        GridConstant.START_EDGE_FREQUENCY_THZ,
+                        band.getStartEdgeFrequencyThz(),
                         GridConstant.GRANULARITY
                 ),
                 spectrumOccupation,
@@ -1211,13 +1371,15 @@ public class PostAlgoPathValidator {
                 spectralWidthSlotNumber
         );
 
+        int indexOffset = band.getIndexOffset();
         if (range.lower() == 0 && range.upper() == 0) {
             subscriber.event(Level.ERROR, "No frequencies available.");
+            indexOffset = 0;
         }
 
         return new SpectrumAssignmentBuilder()
-                .setBeginIndex(Uint16.valueOf(range.lower()))
-                .setStopIndex(Uint16.valueOf(range.upper()))
+                .setBeginIndex(Uint16.valueOf(range.lower() + indexOffset))
+                .setStopIndex(Uint16.valueOf(range.upper() + indexOffset))
                 .setFlexGrid(isFlexGrid)
                 .build();
     }
@@ -1238,6 +1400,26 @@ public class PostAlgoPathValidator {
         this.pceOperMode = pceOperationalMode;
     }
 
+    public void setTelemetry(PceTelemetry telemetry) {
+        this.telemetry = telemetry;
+    }
+
+    public void setSpectrumAssignmentPolicy(AssignSpectrumPolicy spectrumAssignmentPolicy) {
+        this.spectrumAssignmentPolicy = spectrumAssignmentPolicy;
+    }
+
+    /**
+     * Take into account the slots tentatively allocated by the concurrent path computations.
+     *
+     * @param spectrumReservationLedger slots tentatively allocated
+     * @param reservationOwner service on behalf of which the assigned slots are reserved, null to not reserve them
+     */
+    public void setSpectrumReservationLedger(SpectrumReservationLedger spectrumReservationLedger,
+            String reservationOwner) {
+        this.spectrumReservationLedger = spectrumReservationLedger;
+        this.reservationOwner = reservationOwner;
+    }
+
     private Uuid getUuidFromInput(String inString) {
         if (inString == null) {
             return null;
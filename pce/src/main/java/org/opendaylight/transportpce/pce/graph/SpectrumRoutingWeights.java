@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.pce.graph;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumOccupancyIndex;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumOccupancyStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Load-balancing weights of the ROADM-to-ROADM links, used by the graph when TE metric routing is requested.
+ * The weight of a link is a weighted combination of a hop cost, of its spectrum utilization (the share of occupied
+ * slots over all the bands of the link) and of its fragmentation (1 - largest free block / free slots), so that the
+ * paths avoid the links whose spectrum is nearly exhausted or scattered in small blocks. Links without spectrum
+ * occupancy, such as the links inside the ROADMs or towards the transponders, only cost a hop.
+ * The weights are computed from the {@link SpectrumOccupancyIndex} once per generation of the link occupancies and
+ * shared by the following graph builds.
+ */
+public class SpectrumRoutingWeights {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpectrumRoutingWeights.class);
+
+    /**
+     * Coefficients of the link weight.
+     *
+     * @param hop cost of any link
+     * @param utilization cost of a link whose spectrum is fully occupied
+     * @param fragmentation cost of a link whose free spectrum is fully fragmented
+     */
+    public record Coefficients(double hop, double utilization, double fragmentation) {
+
+        public static final Coefficients DEFAULT = new Coefficients(1, 2, 1);
+
+        /**
+         * Parse coefficients from a comma-separated list of name=value pairs, e.g.
+         * "hop=1,utilization=2,fragmentation=1". Missing names keep their default value.
+         * Invalid lists fall back to {@link #DEFAULT}.
+         */
+        public static Coefficients parse(String value) {
+            if (value == null || value.isBlank()) {
+                return DEFAULT;
+            }
+            double hop = DEFAULT.hop();
+            double utilization = DEFAULT.utilization();
+            double fragmentation = DEFAULT.fragmentation();
+            try {
+                for (String pair : value.split(",")) {
+                    String[] nameValue = pair.split("=", 2);
+                    if (nameValue.length != 2) {
+                        throw new IllegalArgumentException("missing value for " + pair);
+                    }
+                    double coefficient = Double.parseDouble(nameValue[1].trim());
+                    if (coefficient < 0 || Double.isNaN(coefficient) || Double.isInfinite(coefficient)) {
+                        throw new IllegalArgumentException("invalid coefficient " + pair);
+                    }
+                    switch (nameValue[0].trim().toLowerCase(Locale.ROOT)) {
+                        case "hop" -> hop = coefficient;
+                        case "utilization" -> utilization = coefficient;
+                        case "fragmentation" -> fragmentation = coefficient;
+                        default -> throw new IllegalArgumentException("unknown coefficient " + nameValue[0]);
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                LOG.warn("Invalid routing weights {} ({}), using {}", value, e.getMessage(), DEFAULT);
+                return DEFAULT;
+            }
+            if (hop == 0) {
+                LOG.warn("Routing weights {} without hop cost, using {}", value, DEFAULT);
+                return DEFAULT;
+            }
+            return new Coefficients(hop, utilization, fragmentation);
+        }
+    }
+
+    private record Snapshot(long generation, Map<String, Double> weights) {
+    }
+
+    private final SpectrumOccupancyIndex spectrumOccupancyIndex;
+    private final Coefficients coefficients;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Instantiate the SpectrumRoutingWeights.
+     *
+     * @param spectrumOccupancyIndex spectrum occupancy of the openroadm-topology links
+     * @param coefficients coefficients of the link weight
+     */
+    public SpectrumRoutingWeights(SpectrumOccupancyIndex spectrumOccupancyIndex, Coefficients coefficients) {
+        this.spectrumOccupancyIndex = spectrumOccupancyIndex;
+        this.coefficients = coefficients;
+    }
+
+    public Coefficients getCoefficients() {
+        return coefficients;
+    }
+
+    /**
+     * Get the weights of the ROADM-to-ROADM links, computing them again if the link occupancies changed since the
+     * last call.
+     *
+     * @return the weights of the links whose spectrum occupancy is known, by openroadm-topology link id
+     */
+    public Map<String, Double> getWeights() {
+        long generation = spectrumOccupancyIndex.getGeneration();
+        Snapshot current = snapshot;
+        if (current != null && current.generation() == generation) {
+            return current.weights();
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current == null || current.generation() != generation) {
+                Map<String, Double> weights = new HashMap<>();
+                spectrumOccupancyIndex.getLinkOccupancies()
+                    .forEach((linkId, occupancy) -> weights.put(linkId, weight(occupancy)));
+                LOG.debug("Routing weights of {} links computed for generation {}", weights.size(), generation);
+                current = new Snapshot(generation, Map.copyOf(weights));
+                snapshot = current;
+            }
+            return current.weights();
+        }
+    }
+
+    /**
+     * Get the weight of a link from the weights returned by {@link #getWeights()}.
+     *
+     * @param weights weights of the links whose spectrum occupancy is known
+     * @param linkId openroadm-topology link id
+     * @return the weight of the link, the hop cost if its spectrum occupancy is unknown
+     */
+    public double getWeight(Map<String, Double> weights, String linkId) {
+        return linkId == null ? coefficients.hop() : weights.getOrDefault(linkId, coefficients.hop());
+    }
+
+    private double weight(SpectrumOccupancyStats occupancy) {
+        return coefficients.hop() + coefficients.utilization() * occupancy.utilization()
+            + coefficients.fragmentation() * occupancy.fragmentation();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.impl;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayList;
+import java.util.List;
+import org.opendaylight.transportpce.pce.networkanalyzer.PceResult.LocalCause;
+import org.opendaylight.transportpce.pce.telemetry.LatencyHistogram;
+import org.opendaylight.transportpce.pce.telemetry.PceTelemetry;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.telemetry.rev261019.GetPceTelemetry;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.telemetry.rev261019.GetPceTelemetryInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.telemetry.rev261019.GetPceTelemetryOutput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.telemetry.rev261019.GetPceTelemetryOutputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.telemetry.rev261019.get.pce.telemetry.output.Rejection;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.telemetry.rev261019.get.pce.telemetry.output.RejectionBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.telemetry.rev261019.get.pce.telemetry.output.StageLatency;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.telemetry.rev261019.get.pce.telemetry.output.StageLatencyBuilder;
+import org.opendaylight.yangtools.binding.util.BindingMap;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+public class GetPceTelemetryImpl implements GetPceTelemetry {
+    private static final Logger LOG = LoggerFactory.getLogger(GetPceTelemetryImpl.class);
+    private final PceTelemetry pceTelemetry;
+
+    public GetPceTelemetryImpl(final PceTelemetry pceTelemetry) {
+        this.pceTelemetry = pceTelemetry;
+    }
+
+    @Override
+    public ListenableFuture<RpcResult<GetPceTelemetryOutput>> invoke(GetPceTelemetryInput input) {
+        LOG.info("RPC getPceTelemetry request received");
+        List<StageLatency> stageLatencies = new ArrayList<>();
+        for (PceTelemetry.Stage stage : PceTelemetry.Stage.values()) {
+            LatencyHistogram histogram = pceTelemetry.getHistogram(stage);
+            stageLatencies.add(new StageLatencyBuilder()
+                .setStage(stage.getStageName())
+                .setCount(Uint64.valueOf(histogram.getCount()))
+                .setMean(Uint64.valueOf(histogram.getMean()))
+                .setP50(Uint64.valueOf(histogram.getQuantile(0.5)))
+                .setP90(Uint64.valueOf(histogram.getQuantile(0.9)))
+                .setP99(Uint64.valueOf(histogram.getQuantile(0.99)))
+                .setMax(Uint64.valueOf(histogram.getMax()))
+                .build());
+        }
+        List<Rejection> rejections = new ArrayList<>();
+        for (LocalCause localCause : LocalCause.values()) {
+            if (localCause != LocalCause.NONE) {
+                rejections.add(new RejectionBuilder()
+                    .setLocalCause(localCause.name())
+                    .setCount(Uint64.valueOf(pceTelemetry.getRejections(localCause)))
+                    .build());
+            }
+        }
+        GetPceTelemetryOutput output = new GetPceTelemetryOutputBuilder()
+            .setStageLatency(stageLatencies.stream().collect(BindingMap.toMap()))
+            .setCandidatesEvaluated(Uint64.valueOf(pceTelemetry.getCandidatesEvaluated()))
+            .setRejection(rejections.stream().collect(BindingMap.toMap()))
+            .build();
+        if (input != null && Boolean.TRUE.equals(input.getReset())) {
+            pceTelemetry.reset();
+        }
+        return RpcResultBuilder.success(output).buildFuture();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.impl;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.concurrent.ExecutionException;
+import org.opendaylight.transportpce.pce.service.PathComputationService;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.path.pair.rev261019.PathPairComputationRequest;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.path.pair.rev261019.PathPairComputationRequestInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.path.pair.rev261019.PathPairComputationRequestOutput;
+import org.opendaylight.yangtools.yang.common.ErrorType;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+public class PathPairComputationRequestImpl implements PathPairComputationRequest {
+    private static final Logger LOG = LoggerFactory.getLogger(PathPairComputationRequestImpl.class);
+    private PathComputationService pathComputationService;
+
+    public PathPairComputationRequestImpl(final PathComputationService pathComputationService) {
+        this.pathComputationService = pathComputationService;
+    }
+
+    @Override
+    public ListenableFuture<RpcResult<PathPairComputationRequestOutput>> invoke(
+                PathPairComputationRequestInput input) {
+        LOG.info("RPC path pair computation request received");
+        LOG.debug("input parameters are : input = {}", input);
+        try {
+            return RpcResultBuilder
+                    .success(this.pathComputationService.pathPairComputationRequest(input).get())
+                    .buildFuture();
+        } catch (InterruptedException | ExecutionException e) {
+            LOG.error("RPC path pair computation request failed !", e);
+        }
+        return RpcResultBuilder.<PathPairComputationRequestOutput>failed()
+                .withError(ErrorType.RPC, "path-pair-computation-request failed")
+                .buildFuture();
+    }
+
+}
@@ -31,7 +31,9 @@ public class PceServiceRPCImpl {
         this.reg = rpcProviderService.registerRpcImplementations(
                 new CancelResourceReserveImpl(pathComputationService),
                 new PathComputationRequestImpl(pathComputationService),
-                new PathComputationRerouteRequestImpl(pathComputationService));
+                new PathComputationRerouteRequestImpl(pathComputationService),
+                new PathPairComputationRequestImpl(pathComputationService),
+                new GetPceTelemetryImpl(pathComputationService.getTelemetry()));
         LOG.info("PceServiceRPCImpl instantiated");
     }
 
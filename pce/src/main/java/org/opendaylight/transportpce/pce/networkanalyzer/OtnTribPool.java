@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.networkanalyzer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import org.opendaylight.yangtools.yang.common.Uint16;
+
+/**
+ * Immutable pool of available tributary slots or tributary ports of an OTN termination point.
+ * Each number of the pool is a bit of an array of long, so that the 80 tributary slots of an ODU4 or of an ODUCn
+ * fit in two words, and that intersections and searches of contiguous slots are done a word at a time.
+ */
+public final class OtnTribPool {
+
+    public static final OtnTribPool EMPTY = new OtnTribPool(new long[0]);
+
+    private final long[] words;
+
+    private OtnTribPool(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Create a pool from a collection of tributary slot or port numbers.
+     *
+     * @param numbers numbers available, null being considered as empty
+     * @return the pool of these numbers
+     */
+    public static OtnTribPool of(Collection<Uint16> numbers) {
+        if (numbers == null || numbers.isEmpty()) {
+            return EMPTY;
+        }
+        int max = numbers.stream().mapToInt(Uint16::intValue).max().orElseThrow();
+        long[] words = new long[(max >>> 6) + 1];
+        for (Uint16 number : numbers) {
+            int bit = number.intValue();
+            words[bit >>> 6] |= 1L << bit;
+        }
+        return new OtnTribPool(words);
+    }
+
+    /**
+     * Intersect this pool with another one.
+     *
+     * @param other other pool
+     * @return the pool of the numbers available in both pools
+     */
+    public OtnTribPool intersect(OtnTribPool other) {
+        long[] common = new long[Math.min(words.length, other.words.length)];
+        int length = 0;
+        for (int index = 0; index < common.length; index++) {
+            common[index] = words[index] & other.words[index];
+            if (common[index] != 0) {
+                length = index + 1;
+            }
+        }
+        return length == 0 ? EMPTY : new OtnTribPool(Arrays.copyOf(common, length));
+    }
+
+    public boolean contains(int number) {
+        return number >= 0 && (number >>> 6) < words.length && (words[number >>> 6] & 1L << number) != 0;
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    public int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * Find the first run of contiguous numbers available, starting at a number aligned on the run length.
+     * As for the allocation of tributary slots, a run of n numbers must start at a number k such that
+     * k modulo n is 1, any number being a valid start for a run of length 1.
+     *
+     * @param length number of contiguous numbers wanted
+     * @return the first number of the run, -1 if there is no such run in the pool
+     */
+    public int findContiguous(int length) {
+        if (length <= 0) {
+            return -1;
+        }
+        int limit = words.length << 6;
+        int start = nextSetBit(length == 1 ? 0 : 1);
+        while (start >= 0 && start + length <= limit) {
+            int aligned = length == 1 ? start : alignedStart(start, length);
+            if (aligned + length > limit) {
+                return -1;
+            }
+            int missing = nextClearBit(aligned, aligned + length);
+            if (missing < 0) {
+                return aligned;
+            }
+            start = nextSetBit(missing + 1);
+        }
+        return -1;
+    }
+
+    public List<Uint16> toList() {
+        List<Uint16> numbers = new ArrayList<>(size());
+        for (int bit = nextSetBit(0); bit >= 0; bit = nextSetBit(bit + 1)) {
+            numbers.add(Uint16.valueOf(bit));
+        }
+        return numbers;
+    }
+
+    private static int alignedStart(int from, int length) {
+        int remainder = Math.floorMod(from - 1, length);
+        return remainder == 0 ? from : from + length - remainder;
+    }
+
+    private int nextSetBit(int from) {
+        int index = from >>> 6;
+        if (index >= words.length) {
+            return -1;
+        }
+        long word = words[index] & (-1L << from);
+        while (word == 0) {
+            if (++index == words.length) {
+                return -1;
+            }
+            word = words[index];
+        }
+        return (index << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Find the first number missing in a range.
+     *
+     * @param from first number of the range
+     * @param to number following the last number of the range, not beyond the last word
+     * @return the first number of the range not available, -1 if all the range is available
+     */
+    private int nextClearBit(int from, int to) {
+        for (int index = from >>> 6; index <= (to - 1) >>> 6; index++) {
+            long mask = -1L;
+            if (index == from >>> 6) {
+                mask &= -1L << from;
+            }
+            if (index == (to - 1) >>> 6) {
+                mask &= -1L >>> -to;
+            }
+            long missing = ~words[index] & mask;
+            if (missing != 0) {
+                return (index << 6) + Long.numberOfTrailingZeros(missing);
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj instanceof OtnTribPool other && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
@@ -25,6 +25,8 @@ import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.transportpce.common.StringConstants;
 import org.opendaylight.transportpce.common.device.observer.EventSubscriber;
 import org.opendaylight.transportpce.common.device.observer.Subscriber;
+import org.opendaylight.transportpce.common.fixedflex.GridConstant;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumOccupancyIndex;
 import org.opendaylight.transportpce.common.mapping.MappingUtils;
 import org.opendaylight.transportpce.common.mapping.MappingUtilsImpl;
 import org.opendaylight.transportpce.common.mapping.PortMapping;
@@ -38,11 +40,14 @@ import org.opendaylight.transportpce.pce.networkanalyzer.port.Preference;
 import org.opendaylight.transportpce.pce.networkanalyzer.port.PreferenceFactory;
 import org.opendaylight.transportpce.pce.node.mccapabilities.McCapability;
 import org.opendaylight.transportpce.pce.node.mccapabilities.NodeMcCapability;
+import org.opendaylight.transportpce.pce.telemetry.PceTelemetry;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestInput;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.path.computation.reroute.request.input.Endpoints;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mc.capabilities.McCapabilities;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mc.capabilities.McCapabilitiesBuilder;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mc.capabilities.McCapabilitiesKey;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.service.spectrum.constraint.rev230907.ServiceAEnd1;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.service.spectrum.constraint.rev230907.ServiceZEnd1;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Link1;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Node1;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.optical.channel.types.rev200529.FrequencyGHz;
@@ -130,6 +135,11 @@ public class PceCalculation {
     // Define the termination points whose reservation status is not taken into account during the pruning process
     private Endpoints endpoints;
     private String pceOperMode;
+    // Used to prune the ROADM-to-ROADM links whose spectrum is too fragmented for the service
+    private SpectrumOccupancyIndex spectrumOccupancyIndex;
+    // Topology shared with the other computations of a bulk request (networks read from the datastore if null)
+    private PceTopologySnapshot topologySnapshot;
+    private PceTelemetry telemetry = PceTelemetry.DISABLED;
 
     public static final WithKey<Topology, TopologyKey> TAPI_TOPOLOGY_T0_ABSTRACTED_IID = DataObjectIdentifier
         .builder(Context.class).augmentation(Context1.class).child(TopologyContext.class)
@@ -196,24 +206,39 @@ public class PceCalculation {
         Subscriber subscriber = new EventSubscriber();
 
         if (pceOperMode.equals(PceSendingPceRPCs.TAPI_PCE_OPER_MODE)) {
-            if (!readMdSalTapi(subscriber)) {
+            long start = telemetry.start();
+            boolean read = readMdSalTapi(subscriber);
+            telemetry.record(PceTelemetry.Stage.NETWORK_READ, start);
+            if (!read) {
                 returnStructure.error(subscriber);
                 return;
             }
+            start = telemetry.start();
             MapUtils.mapDiversityConstraintsForTapi(allTapiNodes, allTapiLinks, pceHardConstraints);
-            if (!analyzeTapiNw(subscriber)) {
+            boolean analyzed = analyzeTapiNw(subscriber);
+            telemetry.record(PceTelemetry.Stage.NETWORK_ANALYSIS, start);
+            if (!analyzed) {
                 returnStructure.error(subscriber);
                 return;
             }
             printNodesInfo(allPceNodes);
             returnStructure.success();
         } else {
-            if (!readMdSal(subscriber)) {
+            long start = telemetry.start();
+            boolean read = readMdSal(subscriber);
+            telemetry.record(PceTelemetry.Stage.NETWORK_READ, start);
+            if (!read) {
                 returnStructure.error(subscriber);
                 return;
             }
+            start = telemetry.start();
             MapUtils.mapDiversityConstraints(allNodes, allLinks, pceHardConstraints);
-            if (!analyzeNw(subscriber)) {
+            boolean analyzed = analyzeNw(subscriber);
+            if (analyzed && topologySnapshot != null) {
+                topologySnapshot.applyReservations(allPceNodes);
+            }
+            telemetry.record(PceTelemetry.Stage.NETWORK_ANALYSIS, start);
+            if (!analyzed) {
                 returnStructure.error(subscriber);
                 return;
             }
@@ -441,8 +466,9 @@ public class PceCalculation {
     private Network readTopology(DataObjectIdentifier<Network> nwInstanceIdentifier) {
         Network nw = null;
         try {
-            Optional<Network> nwOptional =
-                networkTransactionService.read(LogicalDatastoreType.CONFIGURATION, nwInstanceIdentifier).get();
+            Optional<Network> nwOptional = topologySnapshot == null
+                ? networkTransactionService.read(LogicalDatastoreType.CONFIGURATION, nwInstanceIdentifier).get()
+                : topologySnapshot.readNetwork(nwInstanceIdentifier);
             if (nwOptional.isPresent()) {
                 nw = nwOptional.orElseThrow();
                 LOG.debug("PceCalculation:readTopology : network nodes: nwOptional.isPresent = true {}", nw);
@@ -1311,6 +1337,36 @@ public class PceCalculation {
     }
 
 
+    private boolean validateLinkSpectrum(PceORLink link) {
+        if (spectrumOccupancyIndex == null || link.getlinkType() != OpenroadmLinkType.ROADMTOROADM) {
+            return true;
+        }
+        int slotWidth = spectrumSlotWidth();
+        return slotWidth == 0 || spectrumOccupancyIndex.fits(link.getLinkId().getValue(), slotWidth);
+    }
+
+    /**
+     * Get the slot width the spectrum assignment will look for, as done by PostAlgoPathValidator.
+     *
+     * @return the number of slots, or 0 if the slot width is requested by the client.
+     */
+    private int spectrumSlotWidth() {
+        ServiceAEnd1 serviceAEnd1 = input.getServiceAEnd() == null ? null
+            : input.getServiceAEnd().augmentation(ServiceAEnd1.class);
+        ServiceZEnd1 serviceZEnd1 = input.getServiceZEnd() == null ? null
+            : input.getServiceZEnd().augmentation(ServiceZEnd1.class);
+        if (serviceAEnd1 != null && serviceAEnd1.getFrequencySlot() != null
+                || serviceZEnd1 != null && serviceZEnd1.getFrequencySlot() != null) {
+            return 0;
+        }
+        int defaultSlotWidth = switch (serviceType) {
+            case StringConstants.SERVICE_TYPE_OTUC2, StringConstants.SERVICE_TYPE_OTUC3,
+                StringConstants.SERVICE_TYPE_OTUC4, StringConstants.SERVICE_TYPE_400GE -> GridConstant.NB_SLOTS_400G;
+            default -> GridConstant.NB_SLOTS_100G;
+        };
+        return GridConstant.SPECTRAL_WIDTH_SLOT_NUMBER_MAP.getOrDefault(serviceType, defaultSlotWidth);
+    }
+
     private ConstraintTypes validateTapiLinkConstraints(PceTapiLink link) {
         if (pceHardConstraints.getExcludeSRLG().isEmpty()) {
             return ConstraintTypes.NONE;
@@ -1522,6 +1578,11 @@ public class PceCalculation {
             LOG.debug("PceCalculation:processPceLink : constraints : link is ignored == {}", linkId.getValue());
             return false;
         }
+        if (!validateLinkSpectrum(pcelink)) {
+            dropOppositeLink(link);
+            LOG.debug("PceCalculation:processPceLink : spectrum : link is ignored == {}", linkId.getValue());
+            return false;
+        }
         switch (pcelink.getlinkType()) {
             case ROADMTOROADM:
             case EXPRESSLINK:
@@ -1879,6 +1940,18 @@ public class PceCalculation {
         return true;
     }
 
+    public void setSpectrumOccupancyIndex(SpectrumOccupancyIndex spectrumOccupancyIndex) {
+        this.spectrumOccupancyIndex = spectrumOccupancyIndex;
+    }
+
+    public void setTopologySnapshot(PceTopologySnapshot topologySnapshot) {
+        this.topologySnapshot = topologySnapshot;
+    }
+
+    public void setTelemetry(PceTelemetry telemetry) {
+        this.telemetry = telemetry;
+    }
+
     public PceNode getaendPceNode() {
         return aendPceNode;
     }
@@ -12,6 +12,7 @@ import java.math.BigDecimal;
 import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumBand;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.state.types.rev191129.State;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.equipment.states.types.rev191129.AdminStates;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.network.topology.rev250110.networks.network.node.termination.point.XpdrNetworkAttributes;
@@ -20,7 +21,6 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.AdministrativeState;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.OperationalState;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
-import org.opendaylight.yangtools.yang.common.Uint16;
 
 public interface PceNode {
 
@@ -147,8 +147,8 @@ public interface PceNode {
 
     /**
      * Provides available trib-ports for an OTN termination point of an OpenROADM XPONDER.
-     * @return  For OTN OpenROADM Nodes, a Map of List of integers (each integer corresponding to the number of an
-     *          available tributary-port), with a String as the key, corresponding to the port name.
+     * @return  For OTN OpenROADM Nodes, a Map of pools of the numbers of the available
+     *          tributary-ports, with a String as the key, corresponding to the port name.
      *          Null for any other PceNode. For T-API we make the assumption that as far as a port is available for OTN
      *          service provisioning, the switching-matrix will have the available bandwidth so that the connection can
      *          be established by the SouthBound Controller. This last will have the responsibility for selecting the
@@ -156,12 +156,12 @@ public interface PceNode {
      *          considered as a first step of the implementation, assuming that the probability that the matrix does not
      *          allow for a connection to be established (leading to a crank-back) is very limited.
      */
-    Map<String, List<Uint16>> getAvailableTribPorts();
+    Map<String, OtnTribPool> getAvailableTribPorts();
 
     /**
      * Provides available trib-slots for an OTN termination point of an OpenROADM XPONDER.
-     * @return  For OTN OpenROADM Nodes, a Map of List of integers (each integer corresponding to the number of an
-     *          available tributary-slot), with a String as the key, corresponding to the port name.
+     * @return  For OTN OpenROADM Nodes, a Map of pools of the numbers of the available
+     *          tributary-slots, with a String as the key, corresponding to the port name.
      *          Null for any other PceNode. For T-API we make the assumption that as far as a port is available for OTN
      *          service provisioning, the switching-matrix will have the available bandwidth so that the connection can
      *          be established by the SouthBound Controller. This last will have the responsibility for selecting the
@@ -169,7 +169,7 @@ public interface PceNode {
      *          considered as a first step of the implementation, assuming that the probability that the matrix does not
      *          allow for a connection to be established (leading to a crank-back) is very limited.
      */
-    Map<String, List<Uint16>> getAvailableTribSlots();
+    Map<String, OtnTribPool> getAvailableTribSlots();
 
     /**
      * Provides a List of the NEPs that have been created for a Node in the T-API topology in TapiOpticalNode.
@@ -189,6 +189,14 @@ public interface PceNode {
      */
     BitSet getBitSetData();
 
+    /**
+     * For optical node, the spectrum occupation of the node in a band.
+     * @param band SpectrumBand
+     * @return BitSet indexed by the slot indexes of the band frequency map, null if the band is not available
+     *         on the node. Same as {@link #getBitSetData()} for the C band.
+     */
+    BitSet getBitSetData(SpectrumBand band);
+
     /**
      * For optical node the slot width granularity from mc capabilities.
      * @return Decimal64.
@@ -12,6 +12,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +20,7 @@ import java.util.Optional;
 import java.util.TreeMap;
 import org.opendaylight.transportpce.common.StringConstants;
 import org.opendaylight.transportpce.common.fixedflex.GridConstant;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumBand;
 import org.opendaylight.transportpce.common.mapping.PortMapping;
 import org.opendaylight.transportpce.pce.SortPortsByName;
 import org.opendaylight.transportpce.pce.networkanalyzer.port.Preference;
@@ -33,6 +35,7 @@ import org.opendaylight.yang.gen.v1.http.org.openroadm.network.topology.rev25011
 import org.opendaylight.yang.gen.v1.http.org.openroadm.network.topology.rev250110.networks.network.node.termination.point.XpdrNetworkAttributes;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.network.types.rev250110.OpenroadmNodeType;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.network.types.rev250110.OpenroadmTpType;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.network.types.rev250110.available.freq.map.AvailFreqMaps;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.network.types.rev250110.available.freq.map.AvailFreqMapsKey;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.port.types.rev250110.IfOCH;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.port.types.rev250110.IfOCHOTU4ODU4;
@@ -46,7 +49,6 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.AdministrativeState;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.OperationalState;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
-import org.opendaylight.yangtools.yang.common.Uint16;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,6 +73,8 @@ public class PceOpticalNode implements PceNode {
     private Map<String, String> clientPerNwTp = new HashMap<>();
     private final AvailFreqMapsKey freqMapKey = new AvailFreqMapsKey(GridConstant.C_BAND);
     private BitSet frequenciesBitSet;
+    // Spectrum occupation of the other bands available on the node
+    private final Map<SpectrumBand, BitSet> bandFrequenciesBitSets = new EnumMap<>(SpectrumBand.class);
     private String version;
     private McCapability mcCapability;
     private Endpoints endpoints;
@@ -213,6 +217,7 @@ public class PceOpticalNode implements PceNode {
         if (!isValid()) {
             return;
         }
+        this.bandFrequenciesBitSets.clear();
         Node1 node1 = this.node.augmentation(Node1.class);
         org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Node1 node11 =
                 this.node.augmentation(org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Node1
@@ -231,6 +236,7 @@ public class PceOpticalNode implements PceNode {
                 }
                 this.frequenciesBitSet = BitSet.valueOf(node1.getSrgAttributes()
                         .nonnullAvailFreqMaps().get(freqMapKey).getFreqMap());
+                initBandFrequenciesBitSets(node1.getSrgAttributes().nonnullAvailFreqMaps());
                 break;
             case DEGREE :
                 if (!State.InService.equals(node11.getOperationalState())) {
@@ -245,12 +251,21 @@ public class PceOpticalNode implements PceNode {
                 }
                 this.frequenciesBitSet = BitSet.valueOf(node1.getDegreeAttributes()
                         .nonnullAvailFreqMaps().get(freqMapKey).getFreqMap());
+                initBandFrequenciesBitSets(node1.getDegreeAttributes().nonnullAvailFreqMaps());
                 break;
             case XPONDER :
                 // at init all bits are set to false (unavailable)
                 this.frequenciesBitSet = new BitSet(GridConstant.EFFECTIVE_BITS);
                 //set all bits to true (available)
                 this.frequenciesBitSet.set(0, GridConstant.EFFECTIVE_BITS);
+                // other bands: the spectrum is constrained by the ROADMs, not by the transponder
+                for (SpectrumBand band : SpectrumBand.values()) {
+                    if (band != SpectrumBand.C_BAND) {
+                        BitSet bandFrequencies = new BitSet(GridConstant.EFFECTIVE_BITS);
+                        bandFrequencies.set(0, GridConstant.EFFECTIVE_BITS);
+                        this.bandFrequenciesBitSets.put(band, bandFrequencies);
+                    }
+                }
                 if (!State.InService.equals(node11.getOperationalState())) {
                     this.valid = false;
                     LOG.error("initWLlist: XPDR node {} is OOS/degraded", this);
@@ -262,6 +277,15 @@ public class PceOpticalNode implements PceNode {
         }
     }
 
+    private void initBandFrequenciesBitSets(Map<AvailFreqMapsKey, AvailFreqMaps> availFreqMaps) {
+        for (SpectrumBand band : SpectrumBand.values()) {
+            AvailFreqMaps bandFreqMaps = availFreqMaps.get(band.getMapKey());
+            if (band != SpectrumBand.C_BAND && bandFreqMaps != null && bandFreqMaps.getFreqMap() != null) {
+                this.bandFrequenciesBitSets.put(band, BitSet.valueOf(bandFreqMaps.getFreqMap()));
+            }
+        }
+    }
+
     public void initXndrTps(ServiceFormat serviceFormat) {
         LOG.debug("PceOpticalNode:initXndrTps : For node : {}", this.nodeId);
         if (!isValid()) {
@@ -541,7 +565,7 @@ public class PceOpticalNode implements PceNode {
     }
 
     @Override
-    public Map<String, List<Uint16>> getAvailableTribPorts() {
+    public Map<String, OtnTribPool> getAvailableTribPorts() {
         return null;
     }
 
@@ -551,7 +575,7 @@ public class PceOpticalNode implements PceNode {
     }
 
     @Override
-    public Map<String, List<Uint16>> getAvailableTribSlots() {
+    public Map<String, OtnTribPool> getAvailableTribSlots() {
         return null;
     }
 
@@ -565,6 +589,11 @@ public class PceOpticalNode implements PceNode {
         return this.frequenciesBitSet;
     }
 
+    @Override
+    public BitSet getBitSetData(SpectrumBand band) {
+        return band == SpectrumBand.C_BAND ? this.frequenciesBitSet : this.bandFrequenciesBitSets.get(band);
+    }
+
     /*
     * (non-Javadoc)
     *
@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 import org.opendaylight.transportpce.common.StringConstants;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumBand;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.state.types.rev191129.State;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.equipment.states.types.rev191129.AdminStates;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.network.topology.rev250110.networks.network.node.termination.point.XpdrNetworkAttributes;
@@ -46,7 +47,6 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.top
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.AdministrativeState;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.OperationalState;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
-import org.opendaylight.yangtools.yang.common.Uint16;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -95,8 +95,8 @@ public class PceOtnNode implements PceNode {
     private final AdminStates adminStates;
     private final State state;
 
-    private Map<String, List<Uint16>> tpAvailableTribPort = new TreeMap<>();
-    private Map<String, List<Uint16>> tpAvailableTribSlot = new TreeMap<>();
+    private Map<String, OtnTribPool> tpAvailableTribPort = new TreeMap<>();
+    private Map<String, OtnTribPool> tpAvailableTribSlot = new TreeMap<>();
     private Map<String, OpenroadmTpType> availableXponderTp = new TreeMap<>();
     private List<String> usedXpdrNWTps = new ArrayList<>();
     private List<TpId> availableXpdrNWTps;
@@ -440,7 +440,7 @@ public class PceOtnNode implements PceNode {
             if (portConAttr != null && portConAttr.getOdtuTpnPool() != null) {
                 OdtuTpnPool otPool = portConAttr.getOdtuTpnPool().values().stream().findFirst().orElseThrow();
                 if (checkFirstOdtuTpn(otPool)) {
-                    tpAvailableTribPort.put(tp.getTpId().getValue(), new ArrayList<>(otPool.getTpnPool()));
+                    tpAvailableTribPort.put(tp.getTpId().getValue(), OtnTribPool.of(otPool.getTpnPool()));
                 }
             }
         }
@@ -467,7 +467,7 @@ public class PceOtnNode implements PceNode {
                     ? tp.augmentation(TerminationPoint1.class).getXpdrTpPortConnectionAttributes()
                     : null;
             if (portConAttr != null && portConAttr.getTsPool() != null) {
-                tpAvailableTribSlot.put(tp.getTpId().getValue(), new ArrayList<>(portConAttr.getTsPool()));
+                tpAvailableTribSlot.put(tp.getTpId().getValue(), OtnTribPool.of(portConAttr.getTsPool()));
             }
         }
     }
@@ -522,12 +522,12 @@ public class PceOtnNode implements PceNode {
     }
 
     @Override
-    public Map<String, List<Uint16>> getAvailableTribPorts() {
+    public Map<String, OtnTribPool> getAvailableTribPorts() {
         return tpAvailableTribPort;
     }
 
     @Override
-    public Map<String, List<Uint16>> getAvailableTribSlots() {
+    public Map<String, OtnTribPool> getAvailableTribSlots() {
         return tpAvailableTribSlot;
     }
 
@@ -586,6 +586,11 @@ public class PceOtnNode implements PceNode {
         return null;
     }
 
+    @Override
+    public BitSet getBitSetData(SpectrumBand band) {
+        return null;
+    }
+
     @Override
     public String getXponderOperationalMode(XpdrNetworkAttributes tp) {
         // For OTN node, no direct relation between 1 NW and 1 client. All calculation based on NRG and IRG
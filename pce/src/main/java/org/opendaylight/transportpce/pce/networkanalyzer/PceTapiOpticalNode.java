@@ -22,6 +22,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import org.opendaylight.transportpce.common.StringConstants;
 import org.opendaylight.transportpce.common.fixedflex.GridConstant;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumBand;
 import org.opendaylight.transportpce.pce.SortPortsByName;
 import org.opendaylight.transportpce.pce.node.mccapabilities.McCapability;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.state.types.rev191129.State;
@@ -41,7 +42,6 @@ import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.no
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.node.edge.point.ProfileKey;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.node.edge.point.SinkProfileKey;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.node.edge.point.SourceProfileKey;
-import org.opendaylight.yangtools.yang.common.Uint16;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -610,7 +610,7 @@ public class PceTapiOpticalNode implements PceNode {
      * @see org.opendaylight.transportpce.pce.networkanalyzer.PceNode#getAvailableTribPorts()
      */
     @Override
-    public Map<String, List<Uint16>> getAvailableTribPorts() {
+    public Map<String, OtnTribPool> getAvailableTribPorts() {
         return null;
     }
 
@@ -628,7 +628,7 @@ public class PceTapiOpticalNode implements PceNode {
      * @see org.opendaylight.transportpce.pce.networkanalyzer.PceNode#getAvailableTribSlots()
      */
     @Override
-    public Map<String, List<Uint16>> getAvailableTribSlots() {
+    public Map<String, OtnTribPool> getAvailableTribSlots() {
         return null;
     }
 
@@ -643,6 +643,12 @@ public class PceTapiOpticalNode implements PceNode {
         return this.frequenciesBitSet;
     }
 
+    @Override
+    public BitSet getBitSetData(SpectrumBand band) {
+        // T-API photonic media is only described on the C band
+        return band == SpectrumBand.C_BAND ? this.frequenciesBitSet : null;
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -17,6 +17,7 @@ import java.util.Map.Entry;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 import org.opendaylight.transportpce.common.StringConstants;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumBand;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.state.types.rev191129.State;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.equipment.states.types.rev191129.AdminStates;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.network.topology.rev250110.networks.network.node.termination.point.XpdrNetworkAttributes;
@@ -58,7 +59,6 @@ import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.no
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.node.InterRuleGroupKey;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.node.OwnedNodeEdgePoint;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.node.OwnedNodeEdgePointKey;
-import org.opendaylight.yangtools.yang.common.Uint16;
 import org.opendaylight.yangtools.yang.common.Uint64;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -186,8 +186,8 @@ public class PceTapiOtnNode implements PceNode {
     private OperationalState operState;
     private Uuid parentNodeUuid;
 
-    private Map<String, List<Uint16>> tpAvailableTribPort = new TreeMap<>();
-    private Map<String, List<Uint16>> tpAvailableTribSlot = new TreeMap<>();
+    private Map<String, OtnTribPool> tpAvailableTribPort = new TreeMap<>();
+    private Map<String, OtnTribPool> tpAvailableTribSlot = new TreeMap<>();
     private Map<String, OpenroadmTpType> availableXponderTp = new TreeMap<>();
     private List<String> usedXpdrNWTps = new ArrayList<>();
     private List<BasePceNep> availableXpdrNWTps;
@@ -878,12 +878,12 @@ public class PceTapiOtnNode implements PceNode {
     }
 
     @Override
-    public Map<String, List<Uint16>> getAvailableTribPorts() {
+    public Map<String, OtnTribPool> getAvailableTribPorts() {
         return tpAvailableTribPort;
     }
 
     @Override
-    public Map<String, List<Uint16>> getAvailableTribSlots() {
+    public Map<String, OtnTribPool> getAvailableTribSlots() {
         return tpAvailableTribSlot;
     }
 
@@ -946,6 +946,11 @@ public class PceTapiOtnNode implements PceNode {
         return null;
     }
 
+    @Override
+    public BitSet getBitSetData(SpectrumBand band) {
+        return null;
+    }
+
     @Override
     public String getXponderOperationalMode(XpdrNetworkAttributes tp) {
         return null;
@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.pce.networkanalyzer;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.common.fixedflex.GridConstant;
+import org.opendaylight.transportpce.common.fixedflex.GridUtils;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumBand;
+import org.opendaylight.transportpce.common.network.NetworkTransactionService;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.network.types.rev250110.OpenroadmNodeType;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.AToZDirection;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.ZToADirection;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.Resource;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.resource.resource.TerminationPoint;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.NodeId;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.Network;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Topology shared by the path computations of a bulk request.
+ * The networks are read once from the configuration datastore and reused by all the computations of the batch.
+ * The spectrum assigned to the paths already computed in the batch is reserved in memory, and withdrawn from the
+ * ROADM nodes of the following computations, before anything is committed to the topology.
+ * A snapshot is meant to be used by the sequential computations of a single batch and is not thread-safe.
+ */
+public class PceTopologySnapshot {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PceTopologySnapshot.class);
+
+    private final NetworkTransactionService networkTransactionService;
+    private final Map<DataObjectIdentifier<Network>, Optional<Network>> networks = new HashMap<>();
+    // Spectrum slots reserved by the batch, per openroadm-topology node
+    private final Map<String, BitSet> reservedSlots = new HashMap<>();
+
+    public PceTopologySnapshot(NetworkTransactionService networkTransactionService) {
+        this.networkTransactionService = networkTransactionService;
+    }
+
+    /**
+     * Read a network, from the datastore the first time it is requested and from the snapshot afterwards.
+     *
+     * @param networkIdentifier identifier of the network to read
+     * @return the network, empty if it does not exist in the datastore.
+     * @throws InterruptedException if the datastore read is interrupted.
+     * @throws ExecutionException if the datastore read fails.
+     */
+    public Optional<Network> readNetwork(DataObjectIdentifier<Network> networkIdentifier)
+            throws InterruptedException, ExecutionException {
+        Optional<Network> network = networks.get(networkIdentifier);
+        if (network == null) {
+            network = networkTransactionService.read(LogicalDatastoreType.CONFIGURATION, networkIdentifier).get();
+            networks.put(networkIdentifier, network);
+        }
+        return network;
+    }
+
+    /**
+     * Reserve the spectrum of a computed path for the following computations of the batch.
+     *
+     * @param atoZDirection A to Z direction of the path
+     * @param ztoADirection Z to A direction of the path
+     */
+    public void reserve(AToZDirection atoZDirection, ZToADirection ztoADirection) {
+        if (atoZDirection != null && atoZDirection.getAToZMinFrequency() != null
+                && atoZDirection.getAToZMaxFrequency() != null) {
+            reserve(atoZDirection.nonnullAToZ().values().stream().map(atoZ -> atoZ.getResource()),
+                atoZDirection.getAToZMinFrequency().getValue(), atoZDirection.getAToZMaxFrequency().getValue());
+        }
+        if (ztoADirection != null && ztoADirection.getZToAMinFrequency() != null
+                && ztoADirection.getZToAMaxFrequency() != null) {
+            reserve(ztoADirection.nonnullZToA().values().stream().map(ztoA -> ztoA.getResource()),
+                ztoADirection.getZToAMinFrequency().getValue(), ztoADirection.getZToAMaxFrequency().getValue());
+        }
+    }
+
+    private void reserve(Stream<Resource> resources, Decimal64 minFrequency, Decimal64 maxFrequency) {
+        int beginIndex = GridUtils.getIndexFromFrequency(minFrequency);
+        int endIndex = GridUtils.getIndexFromFrequency(maxFrequency);
+        resources
+            .filter(resource -> resource != null && resource.getResource() instanceof TerminationPoint)
+            .map(resource -> ((TerminationPoint) resource.getResource()).getTpNodeId())
+            .filter(tpNodeId -> tpNodeId != null)
+            .distinct()
+            .forEach(tpNodeId -> reservedSlots.computeIfAbsent(tpNodeId, id -> new BitSet())
+                .set(beginIndex, endIndex));
+    }
+
+    /**
+     * Withdraw the spectrum reserved by the batch from the available spectrum of the ROADM nodes.
+     *
+     * @param pceNodes nodes of the current path computation, by node id
+     */
+    public void applyReservations(Map<NodeId, PceNode> pceNodes) {
+        if (reservedSlots.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<NodeId, PceNode> entry : pceNodes.entrySet()) {
+            BitSet reserved = reservedSlots.get(entry.getKey().getValue());
+            PceNode pceNode = entry.getValue();
+            if (reserved == null || pceNode.getBitSetData() == null) {
+                continue;
+            }
+            OpenroadmNodeType nodeType = pceNode.getORNodeType();
+            if (nodeType == OpenroadmNodeType.DEGREE || nodeType == OpenroadmNodeType.SRG) {
+                LOG.debug("Withdrawing {} slots reserved in batch from node {}", reserved.cardinality(),
+                    entry.getKey().getValue());
+                pceNode.getBitSetData().andNot(reserved);
+                for (SpectrumBand band : SpectrumBand.values()) {
+                    BitSet bandFrequencies = pceNode.getBitSetData(band);
+                    if (band != SpectrumBand.C_BAND && bandFrequencies != null) {
+                        bandFrequencies.andNot(reserved.get(band.getIndexOffset(),
+                            band.getIndexOffset() + GridConstant.EFFECTIVE_BITS));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the spectrum reserved by the batch on a node.
+     *
+     * @param nodeId openroadm-topology node id
+     * @return a copy of the reserved slots, empty if nothing is reserved on the node.
+     */
+    public BitSet getReservedSlots(String nodeId) {
+        BitSet reserved = reservedSlots.get(nodeId);
+        return reserved == null ? new BitSet() : (BitSet) reserved.clone();
+    }
+}
@@ -8,14 +8,18 @@
 
 package org.opendaylight.transportpce.pce.networkanalyzer;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.transportpce.common.StringConstants;
@@ -74,6 +78,13 @@ import org.slf4j.LoggerFactory;
 
 public class TapiOpticalNode {
     private static final Logger LOG = LoggerFactory.getLogger(TapiOpticalNode.class);
+    private static final long MAX_ROADM_DECOMPOSITIONS = 1024;
+    // Request independent decomposition of the ROADMs, per node Uuid, the least recently used ones being evicted once
+    // the bound is reached (removed or renamed ROADMs are never requested again)
+    private static final Cache<Uuid, RoadmDecomposition> ROADM_DECOMPOSITIONS = CacheBuilder.newBuilder()
+        .maximumSize(MAX_ROADM_DECOMPOSITIONS)
+        .build();
+    private static final AtomicLong ROADM_DECOMPOSITION_HITS = new AtomicLong();
 
     private boolean valid;
     private Node node;
@@ -228,10 +239,7 @@ public class TapiOpticalNode {
         }
         switch (commonNodeType) {
             case Rdm -> {
-                initRoadmTps();
-                buildVirtualCpsAndCtps();
-                buildDefaultVirtualCtps();
-                buildInternalLinksMap();
+                decomposeRoadm();
                 this.pceNodeMap = splitDegNodes();
                 this.pceNodeMap.putAll(splitSrgNodes());
                 createLinksFromIlMap();
@@ -255,6 +263,45 @@ public class TapiOpticalNode {
         }
     }
 
+    /**
+     * Builds the OTS and OMS BasePceNeps of a ROADM, the virtual NEPs associated with its CPs and CTPs, and the map of
+     * internal links between them, which only depend on the T-API node and not on the service request.
+     * The result is cached per node Uuid, in a bounded cache, and reused as long as the node (compared by hash code
+     * first, then by value) does not change, only the creation of the disaggregated PceTapiOpticalNodes and their
+     * links being done for each request. Cached BasePceNeps are shared between requests and must not be modified
+     * once the ROADM is decomposed.
+     */
+    private void decomposeRoadm() {
+        int hash = this.node.hashCode();
+        RoadmDecomposition decomposition = ROADM_DECOMPOSITIONS.getIfPresent(this.nodeUuid);
+        if (decomposition != null && decomposition.matches(hash, this.node)) {
+            ROADM_DECOMPOSITION_HITS.incrementAndGet();
+            LOG.debug("TON:decomposeRoadm : reusing decomposition of ROADM {}", this.nodeName);
+            this.mmSrgOtsNep = decomposition.mmSrgOtsNep();
+            this.mmDegOtsNep = decomposition.mmDegOtsNep();
+            this.degOmsNep = decomposition.degOmsNep();
+            this.internalLinkMap = decomposition.internalLinkMap();
+            return;
+        }
+        initRoadmTps();
+        buildVirtualCpsAndCtps();
+        buildDefaultVirtualCtps();
+        buildInternalLinksMap();
+        if (this.valid) {
+            ROADM_DECOMPOSITIONS.put(this.nodeUuid, new RoadmDecomposition(hash, this.node,
+                Collections.unmodifiableMap(this.mmSrgOtsNep), Collections.unmodifiableMap(this.mmDegOtsNep),
+                Collections.unmodifiableList(this.degOmsNep), Collections.unmodifiableMap(this.internalLinkMap)));
+        }
+    }
+
+    /**
+     * Provides the number of ROADM decompositions reused from the cache.
+     * @return the number of cache hits since the controller started.
+     */
+    static long getRoadmDecompositionHits() {
+        return ROADM_DECOMPOSITION_HITS.get();
+    }
+
     /**
      * First method called to determine whether the node is a Xponder, an ILA or a ROADM.
      * The qualification is based on the LayerProtocolNames supported by the device, and LayerProtocolQualifiers
@@ -2744,4 +2791,12 @@ public class TapiOpticalNode {
     }
 
     public record TpQualifier(Direction direction, OpenroadmTpType type) {}
+
+    private record RoadmDecomposition(int sourceHash, Node sourceNode, Map<Uuid, BasePceNep> mmSrgOtsNep,
+            Map<Uuid, BasePceNep> mmDegOtsNep, List<BasePceNep> degOmsNep, Map<Uuid, IntLinkObj> internalLinkMap) {
+
+        boolean matches(int hash, Node node) {
+            return sourceHash == hash && sourceNode.equals(node);
+        }
+    }
 }
@@ -0,0 +1,313 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.pce.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.common.StringConstants;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestInputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestOutput;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.AToZDirection;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.ZToADirection;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.Resource;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.resource.resource.Link;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.resource.resource.Node;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.resource.resource.TerminationPoint;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.response.parameters.sp.response.parameters.PathDescription;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.NetworkId;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.Networks;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.Network;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.NetworkKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.Network1;
+import org.opendaylight.yangtools.binding.DataObjectReference;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded cache of the successful path computation results, for the requests repeated without reserving resources,
+ * such as the feasibility checks of a planning tool.
+ * Results are keyed by the content of the request (end points, service format and rate, hard and soft constraints,
+ * routing metric...) and by the PCE operational mode, ignoring the service name and the request identifier.
+ * The cache follows the openroadm-topology and otn-topology nodes and links, the results of the T-API operational
+ * mode being thus never cached. A change of a node or link crossed by a cached path, such as a spectrum allocation on
+ * a degree, invalidates the results using it. The creation or deletion of a node or link changes the generation of
+ * the topology and invalidates all the results, since a better path may exist. A result computed on a previous
+ * generation is not cached.
+ */
+public class PathComputationResultCache implements AutoCloseable {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 256;
+    private static final Logger LOG = LoggerFactory.getLogger(PathComputationResultCache.class);
+
+    /**
+     * Canonical form of a path computation request.
+     *
+     * @param pceOperMode PCE operational mode (OpenROADM or T-API)
+     * @param input request without its service name and request identifier
+     */
+    public record Key(String pceOperMode, PathComputationRequestInput input) {
+    }
+
+    private record Entry(PathComputationRequestOutput output, Set<String> resources) {
+    }
+
+    private final Cache<Key, Entry> results;
+    private final Map<String, Set<Key>> keysByResource = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final List<Registration> listeners = new ArrayList<>();
+    private boolean enabled = true;
+
+    /**
+     * Instantiate a cache only invalidated through its invalidation methods.
+     *
+     * @param maximumSize maximum number of results kept
+     */
+    public PathComputationResultCache(long maximumSize) {
+        this.results = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .removalListener(this::onRemoval)
+            .build();
+    }
+
+    /**
+     * Instantiate a cache following the topology.
+     *
+     * @param maximumSize maximum number of results kept
+     * @param dataBroker Provides access to the conceptual data tree store, no topology followed if null
+     */
+    public PathComputationResultCache(long maximumSize, @Nullable DataBroker dataBroker) {
+        this(maximumSize);
+        if (dataBroker == null) {
+            LOG.warn("No data broker available, path computation results will not be cached");
+            // Without topology notifications the results would never be invalidated
+            enabled = false;
+            return;
+        }
+        for (String networkId : List.of(StringConstants.OPENROADM_TOPOLOGY, StringConstants.OTN_NETWORK)) {
+            listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION,
+                DataObjectReference.builder(Networks.class)
+                    .child(Network.class, new NetworkKey(new NetworkId(networkId)))
+                    .child(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks
+                        .network.Node.class)
+                    .build(),
+                this::onNodeChanged));
+            listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION,
+                DataObjectReference.builder(Networks.class)
+                    .child(Network.class, new NetworkKey(new NetworkId(networkId)))
+                    .augmentation(Network1.class)
+                    .child(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226
+                        .networks.network.Link.class)
+                    .build(),
+                this::onLinkChanged));
+        }
+    }
+
+    /**
+     * Check if the result of a request may be cached. Requests reserving resources are always computed, as well as
+     * the requests of the T-API operational mode, whose topology is not followed by the cache.
+     *
+     * @param input path computation request
+     * @param pceOperMode PCE operational mode
+     * @return true if the request does not reserve resources and the cache follows its topology
+     */
+    public boolean isCacheable(PathComputationRequestInput input, String pceOperMode) {
+        return enabled && !Boolean.TRUE.equals(input.getResourceReserve())
+            && !PathComputationServiceImpl.TAPI_PCE_OPER_MODE.equals(pceOperMode);
+    }
+
+    /**
+     * Build the key of a request.
+     *
+     * @param input path computation request
+     * @param pceOperMode PCE operational mode
+     * @return the key, equal for the requests differing only by their service name and request identifier
+     */
+    public static Key key(PathComputationRequestInput input, String pceOperMode) {
+        return new Key(pceOperMode, new PathComputationRequestInputBuilder(input)
+            .setServiceName(null)
+            .setServiceHandlerHeader(null)
+            .build());
+    }
+
+    public @Nullable PathComputationRequestOutput get(Key key) {
+        Entry entry = results.getIfPresent(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.output();
+    }
+
+    /**
+     * Get the generation of the cache, to be read before computing a path and given back to
+     * {@link #put(Key, long, PathComputationRequestOutput)}.
+     * The generation is incremented by every invalidation.
+     *
+     * @return the current generation
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Cache the result of a successful path computation.
+     *
+     * @param key key of the request
+     * @param computationGeneration generation read before the path computation
+     * @param output result of the path computation
+     */
+    public void put(Key key, long computationGeneration, PathComputationRequestOutput output) {
+        Set<String> resources = getResources(output);
+        if (resources.isEmpty()) {
+            return;
+        }
+        // Indexed before being cached so that a concurrent invalidation of a resource finds the key
+        for (String resource : resources) {
+            keysByResource.computeIfAbsent(resource, k -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+        results.put(key, new Entry(output, resources));
+        if (generation.get() != computationGeneration) {
+            // The topology changed during the path computation
+            results.invalidate(key);
+        }
+    }
+
+    /**
+     * Invalidate the results whose path crosses a node or a link.
+     *
+     * @param resource openroadm-topology or otn-topology node or link id
+     */
+    public void invalidateResource(String resource) {
+        generation.incrementAndGet();
+        Set<Key> keys = keysByResource.remove(resource);
+        if (keys != null && !keys.isEmpty()) {
+            LOG.debug("{} path computation results invalidated by a change of {}", keys.size(), resource);
+            results.invalidateAll(keys);
+        }
+    }
+
+    /**
+     * Invalidate all the results.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        results.invalidateAll();
+        keysByResource.clear();
+    }
+
+    public long size() {
+        return results.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    private void onRemoval(RemovalNotification<Key, Entry> notification) {
+        if (notification.getCause() == RemovalCause.REPLACED || notification.getValue() == null) {
+            return;
+        }
+        for (String resource : notification.getValue().resources()) {
+            keysByResource.computeIfPresent(resource, (k, keys) -> {
+                keys.remove(notification.getKey());
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private static Set<String> getResources(PathComputationRequestOutput output) {
+        Set<String> resources = new HashSet<>();
+        PathDescription pathDescription = output.getResponseParameters() == null
+            ? null
+            : output.getResponseParameters().getPathDescription();
+        if (pathDescription == null) {
+            return resources;
+        }
+        AToZDirection atoZDirection = pathDescription.getAToZDirection();
+        if (atoZDirection != null) {
+            atoZDirection.nonnullAToZ().values().forEach(atoZ -> addResource(resources, atoZ.getResource()));
+        }
+        ZToADirection ztoADirection = pathDescription.getZToADirection();
+        if (ztoADirection != null) {
+            ztoADirection.nonnullZToA().values().forEach(ztoA -> addResource(resources, ztoA.getResource()));
+        }
+        return resources;
+    }
+
+    private static void addResource(Set<String> resources, Resource resource) {
+        if (resource == null) {
+            return;
+        }
+        switch (resource.getResource()) {
+            case TerminationPoint tp when tp.getTpNodeId() != null -> resources.add(tp.getTpNodeId());
+            case Node node when node.getNodeId() != null -> resources.add(node.getNodeId());
+            case Link link when link.getLinkId() != null -> resources.add(link.getLinkId());
+            case null, default -> {
+                // nothing to index
+            }
+        }
+    }
+
+    private void onNodeChanged(List<DataTreeModification<
+            org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.network.Node>>
+                changes) {
+        for (var change : changes) {
+            var before = change.getRootNode().dataBefore();
+            if (before == null || change.getRootNode().dataAfter() == null) {
+                // a node created or deleted may change the best paths
+                invalidateAll();
+                return;
+            }
+            invalidateResource(before.getNodeId().getValue());
+        }
+    }
+
+    private void onLinkChanged(List<DataTreeModification<
+            org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.networks.network
+                .Link>> changes) {
+        for (var change : changes) {
+            var before = change.getRootNode().dataBefore();
+            if (before == null || change.getRootNode().dataAfter() == null) {
+                // a link created or deleted may change the best paths
+                invalidateAll();
+                return;
+            }
+            invalidateResource(before.getLinkId().getValue());
+        }
+    }
+
+    @Override
+    public void close() {
+        listeners.forEach(Registration::close);
+        listeners.clear();
+        LOG.info("Path computation result cache closed: {} hits, {} misses", hits.get(), misses.get());
+    }
+}
@@ -8,6 +8,10 @@
 package org.opendaylight.transportpce.pce.service;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.List;
+import org.opendaylight.transportpce.pce.telemetry.PceTelemetry;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.path.pair.rev261019.PathPairComputationRequestInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.path.pair.rev261019.PathPairComputationRequestOutput;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.CancelResourceReserveInput;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.CancelResourceReserveOutput;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestInput;
@@ -36,6 +40,18 @@ public interface PathComputationService {
      */
     ListenableFuture<PathComputationRequestOutput> pathComputationRequest(PathComputationRequestInput input);
 
+    /**
+     * Requests the path computation of a batch of services.
+     * The paths are computed one after the other on a single topology snapshot, the spectrum assigned to a path
+     * being unavailable for the following ones. Each path is computed in the PCE operational mode of its service, as
+     * for a single request. No service path notification is sent for the batch.
+     *
+     * @param inputs PathComputationRequestInput data of the services
+     * @return outputs PathComputationRequestOutput data, in the order of the inputs
+     */
+    ListenableFuture<List<PathComputationRequestOutput>> bulkPathComputationRequest(
+            List<PathComputationRequestInput> inputs);
+
     /**
      * Requests a path computation in order to reroute a service.
      *
@@ -45,4 +61,20 @@ public interface PathComputationService {
     ListenableFuture<PathComputationRerouteRequestOutput> pathComputationRerouteRequest(
             PathComputationRerouteRequestInput input);
 
+    /**
+     * Requests the computation of a working path and of a protection path disjoint from each other.
+     *
+     * @param input PathPairComputationRequestInput data
+     * @return output PathPairComputationRequestOutput data
+     */
+    ListenableFuture<PathPairComputationRequestOutput> pathPairComputationRequest(
+            PathPairComputationRequestInput input);
+
+    /**
+     * Get the telemetry of the path computations.
+     *
+     * @return the latency histograms and counters of the path computations
+     */
+    PceTelemetry getTelemetry();
+
 }
@@ -17,14 +17,27 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.Executors;
 import java.util.regex.Pattern;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumOccupancyIndex;
 import org.opendaylight.transportpce.common.mapping.PortMapping;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
 import org.opendaylight.transportpce.pce.PceComplianceCheck;
 import org.opendaylight.transportpce.pce.PceComplianceCheckResult;
 import org.opendaylight.transportpce.pce.PceSendingPceRPCs;
 import org.opendaylight.transportpce.pce.gnpy.GnpyResult;
+import org.opendaylight.transportpce.pce.gnpy.GnpyTopoCache;
 import org.opendaylight.transportpce.pce.gnpy.consumer.GnpyConsumer;
+import org.opendaylight.transportpce.pce.graph.SpectrumRoutingWeights;
+import org.opendaylight.transportpce.pce.networkanalyzer.PceTopologySnapshot;
+import org.opendaylight.transportpce.pce.spectrum.assignment.AssignSpectrumPolicy;
+import org.opendaylight.transportpce.pce.spectrum.reservation.SpectrumReservationLedger;
+import org.opendaylight.transportpce.pce.telemetry.PceTelemetry;
 import org.opendaylight.yang.gen.v1.gnpy.path.rev220615.result.Response;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.path.pair.rev261019.Disjointness;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.path.pair.rev261019.PathPairComputationRequestInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.path.pair.rev261019.PathPairComputationRequestOutput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.path.pair.rev261019.PathPairComputationRequestOutputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.path.pair.rev261019.path.pair.computation.request.output.ProtectionPathBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.path.pair.rev261019.path.pair.computation.request.output.WorkingPathBuilder;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.CancelResourceReserveInput;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.CancelResourceReserveOutput;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.CancelResourceReserveOutputBuilder;
@@ -58,20 +71,46 @@ import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service
 import org.opendaylight.yangtools.binding.util.BindingMap;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-@Component(immediate = true)
+@Component(immediate = true, configurationPid = "org.opendaylight.transportpce.pce")
 public class PathComputationServiceImpl implements PathComputationService {
 
+    @ObjectClassDefinition
+    public @interface Configuration {
+        @AttributeDefinition(description = "Spectrum assignment policy: high-to-low, low-to-high, best-fit or "
+                + "random-fit")
+        String spectrumAssignment() default "high-to-low";
+
+        @AttributeDefinition(description = "Coefficients of the link weight used when the TE metric is requested: "
+                + "hop, spectrum utilization and fragmentation costs")
+        String routingWeights() default "hop=1,utilization=2,fragmentation=1";
+
+        @AttributeDefinition(description = "Number of path computation requests processed concurrently")
+        int computationThreads() default DEFAULT_COMPUTATION_THREADS;
+    }
+
+    public static final int DEFAULT_COMPUTATION_THREADS = 5;
+
     private static final Logger LOG = LoggerFactory.getLogger(PathComputationServiceImpl.class);
     private final NotificationPublishService notificationPublishService;
     private NetworkTransactionService networkTransactionService;
     private final ListeningExecutorService executor;
     private ServicePathRpcResult notification = null;
     private final GnpyConsumer gnpyConsumer;
+    private final GnpyTopoCache gnpyTopoCache;
+    private final PathComputationResultCache resultCache;
     private PortMapping portMapping;
+    private final SpectrumOccupancyIndex spectrumOccupancyIndex;
+    private final AssignSpectrumPolicy spectrumAssignmentPolicy;
+    private final SpectrumRoutingWeights spectrumRoutingWeights;
+    private final SpectrumReservationLedger spectrumReservationLedger;
+    private final PceTelemetry telemetry;
     private static String pceOperationalMode;
     public static final String OR_PCE_OPER_MODE = "OpenROADM-PCE-Operation-Mode";
     public static final String TAPI_PCE_OPER_MODE = "T-API-PCE-Operation-Mode";
@@ -80,13 +119,83 @@ public class PathComputationServiceImpl implements PathComputationService {
     public PathComputationServiceImpl(@Reference NetworkTransactionService networkTransactionService,
             @Reference NotificationPublishService notificationPublishService,
             @Reference GnpyConsumer gnpyConsumer,
-            @Reference PortMapping portMapping) {
+            @Reference PortMapping portMapping,
+            @Reference SpectrumOccupancyIndex spectrumOccupancyIndex,
+            final Configuration configuration) {
+        this(networkTransactionService, notificationPublishService, gnpyConsumer, portMapping, spectrumOccupancyIndex,
+                AssignSpectrumPolicy.forName(configuration.spectrumAssignment()),
+                SpectrumRoutingWeights.Coefficients.parse(configuration.routingWeights()),
+                configuration.computationThreads());
+    }
+
+    public PathComputationServiceImpl(NetworkTransactionService networkTransactionService,
+            NotificationPublishService notificationPublishService,
+            GnpyConsumer gnpyConsumer,
+            PortMapping portMapping) {
+        this(networkTransactionService, notificationPublishService, gnpyConsumer, portMapping, null,
+                AssignSpectrumPolicy.HIGH_TO_LOW);
+    }
+
+    public PathComputationServiceImpl(NetworkTransactionService networkTransactionService,
+            NotificationPublishService notificationPublishService,
+            GnpyConsumer gnpyConsumer,
+            PortMapping portMapping,
+            SpectrumOccupancyIndex spectrumOccupancyIndex,
+            AssignSpectrumPolicy spectrumAssignmentPolicy) {
+        this(networkTransactionService, notificationPublishService, gnpyConsumer, portMapping, spectrumOccupancyIndex,
+                spectrumAssignmentPolicy, SpectrumRoutingWeights.Coefficients.DEFAULT);
+    }
+
+    public PathComputationServiceImpl(NetworkTransactionService networkTransactionService,
+            NotificationPublishService notificationPublishService,
+            GnpyConsumer gnpyConsumer,
+            PortMapping portMapping,
+            SpectrumOccupancyIndex spectrumOccupancyIndex,
+            AssignSpectrumPolicy spectrumAssignmentPolicy,
+            SpectrumRoutingWeights.Coefficients routingWeights) {
+        this(networkTransactionService, notificationPublishService, gnpyConsumer, portMapping, spectrumOccupancyIndex,
+                spectrumAssignmentPolicy, routingWeights, DEFAULT_COMPUTATION_THREADS);
+    }
+
+    public PathComputationServiceImpl(NetworkTransactionService networkTransactionService,
+            NotificationPublishService notificationPublishService,
+            GnpyConsumer gnpyConsumer,
+            PortMapping portMapping,
+            SpectrumOccupancyIndex spectrumOccupancyIndex,
+            AssignSpectrumPolicy spectrumAssignmentPolicy,
+            SpectrumRoutingWeights.Coefficients routingWeights,
+            int computationThreads) {
         this.notificationPublishService = notificationPublishService;
         this.networkTransactionService = networkTransactionService;
-        this.executor = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(5));
+        // Concurrent computations do not assign the same spectrum thanks to the spectrum reservation ledger
+        this.executor = MoreExecutors.listeningDecorator(
+            Executors.newFixedThreadPool(computationThreads > 0 ? computationThreads : DEFAULT_COMPUTATION_THREADS));
         this.gnpyConsumer = gnpyConsumer;
+        this.gnpyTopoCache = new GnpyTopoCache(networkTransactionService);
+        this.resultCache = new PathComputationResultCache(PathComputationResultCache.DEFAULT_MAXIMUM_SIZE,
+            networkTransactionService.getDataBroker());
         this.portMapping = portMapping;
-        LOG.info("PathComputationServiceImpl instantiated");
+        this.spectrumOccupancyIndex = spectrumOccupancyIndex;
+        this.spectrumAssignmentPolicy = spectrumAssignmentPolicy;
+        this.spectrumRoutingWeights = spectrumOccupancyIndex == null
+            ? null
+            : new SpectrumRoutingWeights(spectrumOccupancyIndex, routingWeights);
+        this.spectrumReservationLedger = new SpectrumReservationLedger();
+        this.telemetry = new PceTelemetry();
+        this.telemetry.register();
+        LOG.info("PathComputationServiceImpl instantiated with spectrum assignment policy {} and routing weights {}",
+                spectrumAssignmentPolicy.getPolicyName(), routingWeights);
+    }
+
+    @Deactivate
+    public void close() {
+        gnpyTopoCache.close();
+        resultCache.close();
+        telemetry.unregister();
+        executor.shutdown();
+        LOG.info("PathComputationServiceImpl closed: {} spectrum reservations, {} conflicts, {} expired",
+                spectrumReservationLedger.getReservedCount(), spectrumReservationLedger.getConflictCount(),
+                spectrumReservationLedger.getExpiredCount());
     }
 
     @SuppressFBWarnings(
@@ -134,6 +243,7 @@ public class PathComputationServiceImpl implements PathComputationService {
     public ListenableFuture<CancelResourceReserveOutput> cancelResourceReserve(CancelResourceReserveInput input) {
         LOG.info("cancelResourceReserve");
         evaluatePceOperType(input.getServiceName());
+        String pceOperMode = getPceOperationalMode();
         return executor.submit(new Callable<CancelResourceReserveOutput>() {
 
             @Override
@@ -144,7 +254,9 @@ public class PathComputationServiceImpl implements PathComputationService {
                         RpcStatusEx.Pending,
                         "Service compliant, submitting cancelResourceReserve Request ...",
                         null);
-                PceSendingPceRPCs sendingPCE = new PceSendingPceRPCs(gnpyConsumer, getPceOperationalMode());
+                LOG.info("{} spectrum reservations of {} released",
+                        spectrumReservationLedger.release(input.getServiceName()), input.getServiceName());
+                PceSendingPceRPCs sendingPCE = new PceSendingPceRPCs(gnpyConsumer, pceOperMode);
                 sendingPCE.cancelResourceReserve();
                 LOG.info("in PathComputationServiceImpl : {}",
                         Boolean.TRUE.equals(sendingPCE.getSuccess())
@@ -173,140 +285,257 @@ public class PathComputationServiceImpl implements PathComputationService {
     public ListenableFuture<PathComputationRequestOutput> pathComputationRequest(PathComputationRequestInput input) {
         LOG.debug("input parameters are : input = {}", input.toString());
         evaluatePceOperType(input.getServiceName());
+        // Read before the submission since the requests processed concurrently share the operational mode
+        String pceOperMode = getPceOperationalMode();
         return executor.submit(new Callable<PathComputationRequestOutput>() {
 
             @Override
             public PathComputationRequestOutput call() throws Exception {
-                PathComputationRequestOutputBuilder output = new PathComputationRequestOutputBuilder();
-                ConfigurationResponseCommonBuilder configurationResponseCommon =
-                        new ConfigurationResponseCommonBuilder();
-                PceComplianceCheckResult check = PceComplianceCheck.check(input);
-                if (!check.hasPassed()) {
-                    LOG.error("Path not calculated, service not compliant : {}", check.getMessage());
-                    String errMessage = String.format(
-                        "Path not calculated, service not compliant : %s",
-                        check.getMessage()
-                    );
-                    sendNotifications(
-                        ServicePathNotificationTypes.PathComputationRequest,
-                        input.getServiceName(),
-                        RpcStatusEx.Failed,
-                        errMessage,
-                        null);
-                    configurationResponseCommon
-                            .setAckFinalIndicator("Yes")
-                            .setRequestId(input.getServiceHandlerHeader().getRequestId())
-                            .setResponseCode("Path not calculated")
-                            .setResponseMessage(errMessage);
-                    return output
-                        .setConfigurationResponseCommon(configurationResponseCommon.build())
-                        .setResponseParameters(null)
-                        .build();
+                return computePath(input, pceOperMode, null, true);
+            }
+        });
+    }
+
+    @Override
+    public ListenableFuture<List<PathComputationRequestOutput>> bulkPathComputationRequest(
+            List<PathComputationRequestInput> inputs) {
+        LOG.info("Bulk path computation request for {} services", inputs.size());
+        // The operational mode depends on the service name and is read before the submission, as for single requests
+        List<String> pceOperModes = new ArrayList<>(inputs.size());
+        for (PathComputationRequestInput input : inputs) {
+            evaluatePceOperType(input.getServiceName());
+            pceOperModes.add(getPceOperationalMode());
+        }
+        return executor.submit(() -> {
+            // The paths are computed one after the other on the same topology, each path computation taking into
+            // account the spectrum assigned to the previous ones
+            PceTopologySnapshot topologySnapshot = new PceTopologySnapshot(networkTransactionService);
+            List<PathComputationRequestOutput> outputs = new ArrayList<>(inputs.size());
+            for (int i = 0; i < inputs.size(); i++) {
+                PathComputationRequestOutput output =
+                    computePath(inputs.get(i), pceOperModes.get(i), topologySnapshot, false);
+                if (output.getResponseParameters() != null
+                        && output.getResponseParameters().getPathDescription() != null) {
+                    topologySnapshot.reserve(output.getResponseParameters().getPathDescription().getAToZDirection(),
+                        output.getResponseParameters().getPathDescription().getZToADirection());
                 }
+                outputs.add(output);
+            }
+            LOG.info("Bulk path computation request completed for {} services", outputs.size());
+            return outputs;
+        });
+    }
+
+    private PathComputationRequestOutput computePath(PathComputationRequestInput input, String pceOperMode,
+            PceTopologySnapshot topologySnapshot, boolean notify) {
+        long requestStart = telemetry.start();
+        try {
+            return computePathWithoutTelemetry(input, pceOperMode, topologySnapshot, notify);
+        } finally {
+            telemetry.record(PceTelemetry.Stage.REQUEST, requestStart);
+        }
+    }
+
+    private PathComputationRequestOutput computePathWithoutTelemetry(PathComputationRequestInput input,
+            String pceOperMode, PceTopologySnapshot topologySnapshot, boolean notify) {
+        PathComputationRequestOutputBuilder output = new PathComputationRequestOutputBuilder();
+        ConfigurationResponseCommonBuilder configurationResponseCommon =
+                new ConfigurationResponseCommonBuilder();
+        PceComplianceCheckResult check = PceComplianceCheck.check(input);
+        if (!check.hasPassed()) {
+            LOG.error("Path not calculated, service not compliant : {}", check.getMessage());
+            String errMessage = String.format(
+                "Path not calculated, service not compliant : %s",
+                check.getMessage()
+            );
+            if (notify) {
                 sendNotifications(
                     ServicePathNotificationTypes.PathComputationRequest,
                     input.getServiceName(),
-                    RpcStatusEx.Pending,
-                    "Service compliant, submitting pathComputation Request ...",
+                    RpcStatusEx.Failed,
+                    errMessage,
                     null);
-                PceSendingPceRPCs sendingPCE =
-                    new PceSendingPceRPCs(input, networkTransactionService, gnpyConsumer, portMapping,
-                        getPceOperationalMode());
-                sendingPCE.pathComputation();
-                String message = sendingPCE.getMessage();
-                String responseCode = sendingPCE.getResponseCode();
-                LOG.info("PCE response: {} {}", message, responseCode);
-
-                //add the GNPy result
-                GnpyResult gnpyAtoZ = sendingPCE.getGnpyAtoZ();
-                GnpyResult gnpyZtoA = sendingPCE.getGnpyZtoA();
-                List<GnpyResponse> listResponse = new ArrayList<>();
-                if (gnpyAtoZ != null) {
-                    GnpyResponse respAtoZ = generateGnpyResponse(gnpyAtoZ.getResponse(),"A-to-Z");
-                    listResponse.add(respAtoZ);
-                }
-                if (gnpyZtoA != null) {
-                    GnpyResponse respZtoA = generateGnpyResponse(gnpyZtoA.getResponse(),"Z-to-A");
-                    listResponse.add(respZtoA);
-                }
-                output
-                    .setGnpyResponse(
-                        listResponse.stream()
-                            .collect(BindingMap.toMap()));
-
-                PathDescriptionBuilder path = sendingPCE.getPathDescription();
-                if (Boolean.FALSE.equals(sendingPCE.getSuccess()) || (path == null)) {
-                    sendNotifications(
-                        ServicePathNotificationTypes.PathComputationRequest,
-                        input.getServiceName(),
-                        RpcStatusEx.Failed,
-                        message,
-                        null);
-                    return output
-                        .setConfigurationResponseCommon(
-                            configurationResponseCommon
-                                .setAckFinalIndicator("Yes")
-                                .setRequestId(input.getServiceHandlerHeader().getRequestId())
-                                .setResponseCode(responseCode)
-                                .setResponseMessage(message)
-                                .build())
-                        .build();
-                }
-                // Path calculator returned Success
-                PathDescription pathDescription =
-                    new PathDescriptionBuilder()
-                        .setAToZDirection(path.getAToZDirection())
-                        .setZToADirection(path.getZToADirection())
-                        .build();
+            }
+            configurationResponseCommon
+                    .setAckFinalIndicator("Yes")
+                    .setRequestId(input.getServiceHandlerHeader().getRequestId())
+                    .setResponseCode("Path not calculated")
+                    .setResponseMessage(errMessage);
+            return output
+                .setConfigurationResponseCommon(configurationResponseCommon.build())
+                .setResponseParameters(null)
+                .build();
+        }
+        if (notify) {
+            sendNotifications(
+                ServicePathNotificationTypes.PathComputationRequest,
+                input.getServiceName(),
+                RpcStatusEx.Pending,
+                "Service compliant, submitting pathComputation Request ...",
+                null);
+        }
+        // Requests computed on a topology snapshot, reserving resources or on the T-API topology are not cached
+        PathComputationResultCache.Key cacheKey =
+            topologySnapshot == null && resultCache.isCacheable(input, pceOperMode)
+                ? PathComputationResultCache.key(input, pceOperMode)
+                : null;
+        long cacheGeneration = resultCache.getGeneration();
+        if (cacheKey != null) {
+            PathComputationRequestOutput cachedOutput = resultCache.get(cacheKey);
+            if (cachedOutput != null) {
+                LOG.info("PCE response of {} found in cache", input.getServiceName());
+                return replyFromCache(input, cachedOutput, notify);
+            }
+        }
+        PceSendingPceRPCs sendingPCE =
+            new PceSendingPceRPCs(input, networkTransactionService, gnpyConsumer, portMapping, pceOperMode);
+        sendingPCE.setGnpyTopoCache(gnpyTopoCache);
+        sendingPCE.setSpectrumAssignmentPolicy(spectrumAssignmentPolicy);
+        sendingPCE.setSpectrumOccupancyIndex(spectrumOccupancyIndex);
+        sendingPCE.setSpectrumRoutingWeights(spectrumRoutingWeights);
+        sendingPCE.setSpectrumReservationLedger(spectrumReservationLedger);
+        sendingPCE.setTopologySnapshot(topologySnapshot);
+        sendingPCE.setTelemetry(telemetry);
+        sendingPCE.pathComputation();
+        String message = sendingPCE.getMessage();
+        String responseCode = sendingPCE.getResponseCode();
+        LOG.info("PCE response: {} {}", message, responseCode);
+
+        //add the GNPy result
+        GnpyResult gnpyAtoZ = sendingPCE.getGnpyAtoZ();
+        GnpyResult gnpyZtoA = sendingPCE.getGnpyZtoA();
+        List<GnpyResponse> listResponse = new ArrayList<>();
+        if (gnpyAtoZ != null) {
+            GnpyResponse respAtoZ = generateGnpyResponse(gnpyAtoZ.getResponse(),"A-to-Z");
+            listResponse.add(respAtoZ);
+        }
+        if (gnpyZtoA != null) {
+            GnpyResponse respZtoA = generateGnpyResponse(gnpyZtoA.getResponse(),"Z-to-A");
+            listResponse.add(respZtoA);
+        }
+        output
+            .setGnpyResponse(
+                listResponse.stream()
+                    .collect(BindingMap.toMap()));
+
+        PathDescriptionBuilder path = sendingPCE.getPathDescription();
+        if (Boolean.FALSE.equals(sendingPCE.getSuccess()) || (path == null)) {
+            if (Boolean.TRUE.equals(input.getResourceReserve())) {
+                spectrumReservationLedger.release(input.getServiceName());
+            }
+            if (notify) {
                 sendNotifications(
                     ServicePathNotificationTypes.PathComputationRequest,
                     input.getServiceName(),
-                    RpcStatusEx.Successful,
+                    RpcStatusEx.Failed,
                     message,
-                    pathDescription);
-                org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118
-                        .response.parameters.sp.response.parameters.PathDescription pathDescription1 =
-                    new org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118
-                            .response.parameters.sp.response.parameters.PathDescriptionBuilder()
-                        .setAToZDirection(path.getAToZDirection())
-                        .setZToADirection(path.getZToADirection())
-                        .build();
-                output
-                    .setConfigurationResponseCommon(
-                        configurationResponseCommon
-                            .setAckFinalIndicator("Yes")
-                            .setRequestId(input.getServiceHandlerHeader().getRequestId())
-                            .setResponseCode(responseCode)
-                            .setResponseMessage(message)
-                            .build())
-                    .setResponseParameters(
-                        new ResponseParametersBuilder().setPathDescription(pathDescription1).build());
-                //debug prints
-                AToZDirection atoz = pathDescription.getAToZDirection();
-                if ((atoz != null) && (atoz.getAToZ() != null)) {
-                    LOG.debug("Impl AtoZ Notification: [{}] elements in description", atoz.getAToZ().size());
-                    for (org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501
-                            .path.description.atoz.direction.AToZKey key : atoz.getAToZ().keySet()) {
-                        LOG.debug("Impl AtoZ Notification: [{}] {}", key, atoz.getAToZ().get(key));
-                    }
-                }
-                ZToADirection ztoa = pathDescription.getZToADirection();
-                if ((ztoa != null) && (ztoa.getZToA() != null)) {
-                    LOG.debug("Impl ZtoA Notification: [{}] elements in description", ztoa.getZToA().size());
-                    for (org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501
-                            .path.description.ztoa.direction.ZToAKey key : ztoa.getZToA().keySet()) {
-                        LOG.debug("Impl ZtoA Notification: [{}] {}", key, ztoa.getZToA().get(key));
-                    }
-                }
-                return output.build();
+                    null);
             }
-        });
+            return output
+                .setConfigurationResponseCommon(
+                    configurationResponseCommon
+                        .setAckFinalIndicator("Yes")
+                        .setRequestId(input.getServiceHandlerHeader().getRequestId())
+                        .setResponseCode(responseCode)
+                        .setResponseMessage(message)
+                        .build())
+                .build();
+        }
+        // Path calculator returned Success
+        PathDescription pathDescription =
+            new PathDescriptionBuilder()
+                .setAToZDirection(path.getAToZDirection())
+                .setZToADirection(path.getZToADirection())
+                .build();
+        if (notify) {
+            sendNotifications(
+                ServicePathNotificationTypes.PathComputationRequest,
+                input.getServiceName(),
+                RpcStatusEx.Successful,
+                message,
+                pathDescription);
+        }
+        org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118
+                .response.parameters.sp.response.parameters.PathDescription pathDescription1 =
+            new org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118
+                    .response.parameters.sp.response.parameters.PathDescriptionBuilder()
+                .setAToZDirection(path.getAToZDirection())
+                .setZToADirection(path.getZToADirection())
+                .build();
+        output
+            .setConfigurationResponseCommon(
+                configurationResponseCommon
+                    .setAckFinalIndicator("Yes")
+                    .setRequestId(input.getServiceHandlerHeader().getRequestId())
+                    .setResponseCode(responseCode)
+                    .setResponseMessage(message)
+                    .build())
+            .setResponseParameters(
+                new ResponseParametersBuilder().setPathDescription(pathDescription1).build());
+        //debug prints
+        AToZDirection atoz = pathDescription.getAToZDirection();
+        if ((atoz != null) && (atoz.getAToZ() != null)) {
+            LOG.debug("Impl AtoZ Notification: [{}] elements in description", atoz.getAToZ().size());
+            for (org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501
+                    .path.description.atoz.direction.AToZKey key : atoz.getAToZ().keySet()) {
+                LOG.debug("Impl AtoZ Notification: [{}] {}", key, atoz.getAToZ().get(key));
+            }
+        }
+        ZToADirection ztoa = pathDescription.getZToADirection();
+        if ((ztoa != null) && (ztoa.getZToA() != null)) {
+            LOG.debug("Impl ZtoA Notification: [{}] elements in description", ztoa.getZToA().size());
+            for (org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501
+                    .path.description.ztoa.direction.ZToAKey key : ztoa.getZToA().keySet()) {
+                LOG.debug("Impl ZtoA Notification: [{}] {}", key, ztoa.getZToA().get(key));
+            }
+        }
+        PathComputationRequestOutput result = output.build();
+        if (cacheKey != null) {
+            resultCache.put(cacheKey, cacheGeneration, result);
+        }
+        return result;
+    }
+
+    private PathComputationRequestOutput replyFromCache(PathComputationRequestInput input,
+            PathComputationRequestOutput cachedOutput, boolean notify) {
+        if (notify) {
+            var cachedPath = cachedOutput.getResponseParameters().getPathDescription();
+            sendNotifications(
+                ServicePathNotificationTypes.PathComputationRequest,
+                input.getServiceName(),
+                RpcStatusEx.Successful,
+                cachedOutput.getConfigurationResponseCommon().getResponseMessage(),
+                new PathDescriptionBuilder()
+                    .setAToZDirection(cachedPath.getAToZDirection())
+                    .setZToADirection(cachedPath.getZToADirection())
+                    .build());
+        }
+        return new PathComputationRequestOutputBuilder(cachedOutput)
+            .setConfigurationResponseCommon(
+                new ConfigurationResponseCommonBuilder(cachedOutput.getConfigurationResponseCommon())
+                    .setRequestId(input.getServiceHandlerHeader().getRequestId())
+                    .build())
+            .build();
+    }
+
+    /**
+     * Get the cache of the path computation results.
+     *
+     * @return the cache of the results of the requests not reserving resources
+     */
+    public PathComputationResultCache getResultCache() {
+        return resultCache;
+    }
+
+    public SpectrumReservationLedger getSpectrumReservationLedger() {
+        return spectrumReservationLedger;
     }
 
     @Override
     public ListenableFuture<PathComputationRerouteRequestOutput> pathComputationRerouteRequest(
             PathComputationRerouteRequestInput input) {
         evaluatePceOperType("NotAUuid");
+        String pceOperMode = getPceOperationalMode();
         return executor.submit(() -> {
             PathComputationRerouteRequestOutputBuilder output = new PathComputationRerouteRequestOutputBuilder();
             ConfigurationResponseCommonBuilder configurationResponseCommon = new ConfigurationResponseCommonBuilder()
@@ -335,7 +564,13 @@ public class PathComputationServiceImpl implements PathComputationService {
                     .setRoutingMetric(input.getRoutingMetric())
                     .build();
             PceSendingPceRPCs sendingPCE = new PceSendingPceRPCs(pathComputationInput, networkTransactionService,
-                    gnpyConsumer, portMapping, input.getEndpoints(), getPceOperationalMode());
+                    gnpyConsumer, portMapping, input.getEndpoints(), pceOperMode);
+            sendingPCE.setGnpyTopoCache(gnpyTopoCache);
+            sendingPCE.setSpectrumAssignmentPolicy(spectrumAssignmentPolicy);
+            sendingPCE.setSpectrumOccupancyIndex(spectrumOccupancyIndex);
+            sendingPCE.setSpectrumRoutingWeights(spectrumRoutingWeights);
+            sendingPCE.setSpectrumReservationLedger(spectrumReservationLedger);
+            sendingPCE.setTelemetry(telemetry);
             sendingPCE.pathComputation();
             String message = sendingPCE.getMessage();
             String responseCode = sendingPCE.getResponseCode();
@@ -350,6 +585,95 @@ public class PathComputationServiceImpl implements PathComputationService {
         });
     }
 
+    @Override
+    public ListenableFuture<PathPairComputationRequestOutput> pathPairComputationRequest(
+            PathPairComputationRequestInput input) {
+        LOG.debug("input parameters are : input = {}", input);
+        evaluatePceOperType(input.getServiceName());
+        String pceOperMode = getPceOperationalMode();
+        return executor.submit(() -> {
+            long requestStart = telemetry.start();
+            try {
+                return computePathPair(input, pceOperMode);
+            } finally {
+                telemetry.record(PceTelemetry.Stage.REQUEST, requestStart);
+            }
+        });
+    }
+
+    private PathPairComputationRequestOutput computePathPair(PathPairComputationRequestInput input,
+            String pceOperMode) {
+        PathPairComputationRequestOutputBuilder output = new PathPairComputationRequestOutputBuilder();
+        ConfigurationResponseCommonBuilder configurationResponseCommon = new ConfigurationResponseCommonBuilder()
+                .setAckFinalIndicator("Yes")
+                .setRequestId(input.getServiceHandlerHeader() == null
+                    ? "none"
+                    : input.getServiceHandlerHeader().getRequestId());
+        PathComputationRequestInput pathComputationInput = new PathComputationRequestInputBuilder()
+                .setServiceName(input.getServiceName())
+                .setCustomerName(input.getCustomerName())
+                .setServiceHandlerHeader(input.getServiceHandlerHeader())
+                .setServiceAEnd(input.getServiceAEnd() == null
+                    ? null
+                    : new ServiceAEndBuilder(input.getServiceAEnd()).build())
+                .setServiceZEnd(input.getServiceZEnd() == null
+                    ? null
+                    : new ServiceZEndBuilder(input.getServiceZEnd()).build())
+                .setHardConstraints(input.getHardConstraints())
+                .setPceRoutingMetric(input.getPceRoutingMetric())
+                .setResourceReserve(false)
+                .setSoftConstraints(input.getSoftConstraints())
+                .setRoutingMetric(input.getRoutingMetric())
+                .build();
+        PceComplianceCheckResult check = input.getServiceHandlerHeader() == null
+                ? new PceComplianceCheckResult(false, "ServiceHandlerHeader is not set")
+                : PceComplianceCheck.check(pathComputationInput);
+        if (!check.hasPassed()) {
+            LOG.error("Path pair not calculated, service not compliant : {}", check.getMessage());
+            return output
+                .setConfigurationResponseCommon(configurationResponseCommon
+                    .setResponseCode("Path not calculated")
+                    .setResponseMessage(String.format("Path pair not calculated, service not compliant : %s",
+                        check.getMessage()))
+                    .build())
+                .build();
+        }
+        PceSendingPceRPCs sendingPCE =
+            new PceSendingPceRPCs(pathComputationInput, networkTransactionService, gnpyConsumer, portMapping,
+                pceOperMode);
+        // Default value of the disjointness leaf
+        sendingPCE.setPathPairDisjointness(
+            input.getDisjointness() == null ? Disjointness.Srlg : input.getDisjointness());
+        sendingPCE.setSpectrumAssignmentPolicy(spectrumAssignmentPolicy);
+        sendingPCE.setSpectrumOccupancyIndex(spectrumOccupancyIndex);
+        sendingPCE.setSpectrumRoutingWeights(spectrumRoutingWeights);
+        sendingPCE.setSpectrumReservationLedger(spectrumReservationLedger);
+        sendingPCE.setTelemetry(telemetry);
+        sendingPCE.pathComputation();
+        String message = sendingPCE.getMessage();
+        String responseCode = sendingPCE.getResponseCode();
+        LOG.info("PCE path pair response: {} {}", message, responseCode);
+        output.setConfigurationResponseCommon(configurationResponseCommon
+            .setResponseCode(responseCode)
+            .setResponseMessage(message)
+            .build());
+        PathDescriptionBuilder working = sendingPCE.getPathDescription();
+        PathDescriptionBuilder protection = sendingPCE.getProtectionPathDescription();
+        if (Boolean.FALSE.equals(sendingPCE.getSuccess()) || working == null || protection == null) {
+            return output.build();
+        }
+        return output
+            .setWorkingPath(new WorkingPathBuilder()
+                .setAToZDirection(working.getAToZDirection())
+                .setZToADirection(working.getZToADirection())
+                .build())
+            .setProtectionPath(new ProtectionPathBuilder()
+                .setAToZDirection(protection.getAToZDirection())
+                .setZToADirection(protection.getZToADirection())
+                .build())
+            .build();
+    }
+
     public GnpyResponse generateGnpyResponse(Response responseGnpy, String pathDir) {
         if (responseGnpy == null) {
             return new GnpyResponseBuilder()
@@ -412,6 +736,11 @@ public class PathComputationServiceImpl implements PathComputationService {
             .build();
     }
 
+    @Override
+    public PceTelemetry getTelemetry() {
+        return telemetry;
+    }
+
     public static String getPceOperationalMode() {
         return pceOperationalMode;
     }
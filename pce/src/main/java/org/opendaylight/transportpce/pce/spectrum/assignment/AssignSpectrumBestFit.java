@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2026 Smartoptics and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.spectrum.assignment;
+
+import java.util.BitSet;
+import org.opendaylight.transportpce.pce.spectrum.index.Index;
+
+/**
+ * Assign a center frequency in the smallest free block large enough for the service (best-fit).
+ * A block exactly as wide as the service (exact-fit) ends the search. Within the chosen block, the lowest center
+ * frequency is used, and among blocks of the same size the lowest one is preferred. Larger blocks are thus kept
+ * for wider services, which limits spectrum fragmentation.
+ */
+public class AssignSpectrumBestFit implements Assign {
+
+    private final Index slotIndex;
+
+    public AssignSpectrumBestFit(Index slotIndex) {
+        this.slotIndex = slotIndex;
+    }
+
+    @Override
+    public Range range(int effectiveBits, int baseFrequencyIndex, BitSet spectrumOccupation,
+            int centerFrequencyGranularity, int serviceSlotWidth) {
+
+        CenterFrequencyGrid grid = CenterFrequencyGrid.of(slotIndex, effectiveBits, baseFrequencyIndex,
+                centerFrequencyGranularity, serviceSlotWidth);
+        long[] words = spectrumOccupation.toLongArray();
+
+        int bestCenter = -1;
+        int bestSize = Integer.MAX_VALUE;
+        int runStart = SpectrumWords.nextSetBit(words, grid.lowestSlot());
+        while (runStart >= 0 && runStart <= grid.highestSlot()) {
+            int runEnd = SpectrumWords.nextClearBit(words, runStart);
+            int center = grid.lowestCenter(runStart, runEnd);
+            if (center >= 0 && runEnd - runStart < bestSize) {
+                bestCenter = center;
+                bestSize = runEnd - runStart;
+                if (bestSize == serviceSlotWidth) {
+                    break;
+                }
+            }
+            runStart = SpectrumWords.nextSetBit(words, runEnd);
+        }
+
+        return bestCenter < 0 ? new IndexRange(0, 0) : grid.range(bestCenter);
+    }
+}
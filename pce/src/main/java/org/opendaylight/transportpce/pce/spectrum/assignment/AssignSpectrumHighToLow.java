@@ -11,6 +11,11 @@ package org.opendaylight.transportpce.pce.spectrum.assignment;
 import java.util.BitSet;
 import org.opendaylight.transportpce.pce.spectrum.index.Index;
 
+/**
+ * Assign the highest available center frequency.
+ * The free blocks of the spectrum are scanned from the highest frequencies downward, and the first block large
+ * enough for the service is used.
+ */
 public class AssignSpectrumHighToLow implements Assign {
 
     private final Index slotIndex;
@@ -23,24 +28,18 @@ public class AssignSpectrumHighToLow implements Assign {
     public Range range(int effectiveBits, int baseFrequencyIndex, BitSet spectrumOccupation,
             int centerFrequencyGranularity, int serviceSlotWidth) {
 
-        int lastCenterFrequencyIndex = slotIndex.lastCenterFrequencyIndex(centerFrequencyGranularity,
-                baseFrequencyIndex, serviceSlotWidth, effectiveBits
-        );
-
-        BitSet referenceBitSet = new BitSet(serviceSlotWidth);
-        referenceBitSet.set(0, serviceSlotWidth);
-
-        int bandWidth = serviceSlotWidth / 2;
-        int lowerFrequencyIndex;
-        int upperFrequencyIndex;
-
-        for (int i = lastCenterFrequencyIndex; i >= bandWidth; i -= centerFrequencyGranularity) {
-            lowerFrequencyIndex = i - bandWidth;
-            upperFrequencyIndex = i + bandWidth;
+        CenterFrequencyGrid grid = CenterFrequencyGrid.of(slotIndex, effectiveBits, baseFrequencyIndex,
+                centerFrequencyGranularity, serviceSlotWidth);
+        long[] words = spectrumOccupation.toLongArray();
 
-            if (spectrumOccupation.get(lowerFrequencyIndex, upperFrequencyIndex).equals(referenceBitSet)) {
-                return new IndexRange(lowerFrequencyIndex, upperFrequencyIndex - 1);
+        int runEnd = SpectrumWords.previousSetBit(words, grid.highestSlot());
+        while (runEnd >= grid.lowestSlot()) {
+            int runStart = SpectrumWords.previousClearBit(words, runEnd) + 1;
+            int center = grid.highestCenter(runStart, runEnd + 1);
+            if (center >= 0) {
+                return grid.range(center);
             }
+            runEnd = SpectrumWords.previousSetBit(words, runStart - 1);
         }
 
         return new IndexRange(0, 0);
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2026 Smartoptics and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.spectrum.assignment;
+
+import java.util.BitSet;
+import org.opendaylight.transportpce.pce.spectrum.index.Index;
+
+/**
+ * Assign the lowest available center frequency (first-fit).
+ * The free blocks of the spectrum are scanned from the lowest frequencies upward, and the first block large enough
+ * for the service is used.
+ */
+public class AssignSpectrumLowToHigh implements Assign {
+
+    private final Index slotIndex;
+
+    public AssignSpectrumLowToHigh(Index slotIndex) {
+        this.slotIndex = slotIndex;
+    }
+
+    @Override
+    public Range range(int effectiveBits, int baseFrequencyIndex, BitSet spectrumOccupation,
+            int centerFrequencyGranularity, int serviceSlotWidth) {
+
+        CenterFrequencyGrid grid = CenterFrequencyGrid.of(slotIndex, effectiveBits, baseFrequencyIndex,
+                centerFrequencyGranularity, serviceSlotWidth);
+        long[] words = spectrumOccupation.toLongArray();
+
+        int runStart = SpectrumWords.nextSetBit(words, grid.lowestSlot());
+        while (runStart >= 0 && runStart <= grid.highestSlot()) {
+            int runEnd = SpectrumWords.nextClearBit(words, runStart);
+            int center = grid.lowestCenter(runStart, runEnd);
+            if (center >= 0) {
+                return grid.range(center);
+            }
+            runStart = SpectrumWords.nextSetBit(words, runEnd);
+        }
+
+        return new IndexRange(0, 0);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2026 Smartoptics and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.pce.spectrum.assignment;
+
+import java.util.Locale;
+import java.util.function.Function;
+import org.opendaylight.transportpce.pce.spectrum.index.Index;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The spectrum assignment policies the PCE may be configured with.
+ */
+public enum AssignSpectrumPolicy {
+
+    HIGH_TO_LOW("high-to-low", AssignSpectrumHighToLow::new),
+    LOW_TO_HIGH("low-to-high", AssignSpectrumLowToHigh::new),
+    BEST_FIT("best-fit", AssignSpectrumBestFit::new),
+    RANDOM_FIT("random-fit", AssignSpectrumRandomFit::new);
+
+    private static final Logger LOG = LoggerFactory.getLogger(AssignSpectrumPolicy.class);
+
+    private final String policyName;
+    private final Function<Index, Assign> factory;
+
+    AssignSpectrumPolicy(String policyName, Function<Index, Assign> factory) {
+        this.policyName = policyName;
+        this.factory = factory;
+    }
+
+    public String getPolicyName() {
+        return policyName;
+    }
+
+    /**
+     * Instantiate the spectrum assignment implementing this policy.
+     *
+     * @param slotIndex used to find the center frequencies available to a service.
+     */
+    public Assign assign(Index slotIndex) {
+        return factory.apply(slotIndex);
+    }
+
+    /**
+     * Find a policy from its name (e.g. "best-fit") or its constant name (e.g. "BEST_FIT").
+     * An unknown or missing name falls back to {@link #HIGH_TO_LOW}, the historical behaviour of the PCE.
+     */
+    public static AssignSpectrumPolicy forName(String name) {
+        if (name != null) {
+            String normalized = name.trim().toLowerCase(Locale.ROOT).replace('_', '-');
+            for (AssignSpectrumPolicy policy : values()) {
+                if (policy.policyName.equals(normalized)) {
+                    return policy;
+                }
+            }
+            LOG.warn("Unknown spectrum assignment policy {}, using {}", name, HIGH_TO_LOW.policyName);
+        }
+        return HIGH_TO_LOW;
+    }
+}
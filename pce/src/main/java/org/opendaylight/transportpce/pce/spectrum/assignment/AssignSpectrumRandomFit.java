@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2026 Smartoptics and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.spectrum.assignment;
+
+import java.util.BitSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import org.opendaylight.transportpce.pce.spectrum.index.Index;
+
+/**
+ * Assign a center frequency drawn uniformly among all the available ones (random-fit).
+ * The free blocks are scanned twice: once to count the usable center frequencies, once to locate the drawn one.
+ */
+public class AssignSpectrumRandomFit implements Assign {
+
+    private final Index slotIndex;
+    private final Supplier<RandomGenerator> random;
+
+    public AssignSpectrumRandomFit(Index slotIndex) {
+        this(slotIndex, ThreadLocalRandom::current);
+    }
+
+    public AssignSpectrumRandomFit(Index slotIndex, Supplier<RandomGenerator> random) {
+        this.slotIndex = slotIndex;
+        this.random = random;
+    }
+
+    @Override
+    public Range range(int effectiveBits, int baseFrequencyIndex, BitSet spectrumOccupation,
+            int centerFrequencyGranularity, int serviceSlotWidth) {
+
+        CenterFrequencyGrid grid = CenterFrequencyGrid.of(slotIndex, effectiveBits, baseFrequencyIndex,
+                centerFrequencyGranularity, serviceSlotWidth);
+        long[] words = spectrumOccupation.toLongArray();
+
+        int candidates = 0;
+        int runStart = SpectrumWords.nextSetBit(words, grid.lowestSlot());
+        while (runStart >= 0 && runStart <= grid.highestSlot()) {
+            int runEnd = SpectrumWords.nextClearBit(words, runStart);
+            candidates += grid.centerCount(runStart, runEnd);
+            runStart = SpectrumWords.nextSetBit(words, runEnd);
+        }
+        if (candidates == 0) {
+            return new IndexRange(0, 0);
+        }
+
+        int drawn = random.get().nextInt(candidates);
+        runStart = SpectrumWords.nextSetBit(words, grid.lowestSlot());
+        while (true) {
+            int runEnd = SpectrumWords.nextClearBit(words, runStart);
+            int count = grid.centerCount(runStart, runEnd);
+            if (drawn < count) {
+                return grid.range(grid.lowestCenter(runStart, runEnd) + drawn * grid.granularity());
+            }
+            drawn -= count;
+            runStart = SpectrumWords.nextSetBit(words, runEnd);
+        }
+    }
+}
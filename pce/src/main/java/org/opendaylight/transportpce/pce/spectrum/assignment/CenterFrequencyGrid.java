@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2026 Smartoptics and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.pce.spectrum.assignment;
+
+import org.opendaylight.transportpce.pce.spectrum.index.Index;
+
+/**
+ * The center frequencies a service of a given slot width may use: every centerFrequencyGranularity slots between
+ * the first and the last center frequency indexes, both included.
+ * A center frequency c uses the slots [c - halfWidth, c + halfWidth).
+ */
+record CenterFrequencyGrid(int first, int last, int granularity, int halfWidth) {
+
+    static CenterFrequencyGrid of(Index slotIndex, int effectiveBits, int baseFrequencyIndex,
+            int centerFrequencyGranularity, int serviceSlotWidth) {
+        return new CenterFrequencyGrid(
+                slotIndex.firstCenterFrequencyIndex(centerFrequencyGranularity, baseFrequencyIndex, serviceSlotWidth),
+                slotIndex.lastCenterFrequencyIndex(centerFrequencyGranularity, baseFrequencyIndex, serviceSlotWidth,
+                        effectiveBits),
+                centerFrequencyGranularity,
+                serviceSlotWidth / 2);
+    }
+
+    /**
+     * The lowest slot any center frequency of the grid may use.
+     */
+    int lowestSlot() {
+        return first - halfWidth;
+    }
+
+    /**
+     * The highest slot any center frequency of the grid may use.
+     */
+    int highestSlot() {
+        return last + halfWidth - 1;
+    }
+
+    /**
+     * The lowest center frequency whose slots all lie in the free block [runStart, runEnd).
+     *
+     * @return the center frequency index, or -1 if the block is too small.
+     */
+    int lowestCenter(int runStart, int runEnd) {
+        int minCenter = Math.max(first, runStart + halfWidth);
+        int center = first + Math.ceilDiv(minCenter - first, granularity) * granularity;
+        return center <= last && center + halfWidth <= runEnd ? center : -1;
+    }
+
+    /**
+     * The highest center frequency whose slots all lie in the free block [runStart, runEnd).
+     *
+     * @return the center frequency index, or -1 if the block is too small.
+     */
+    int highestCenter(int runStart, int runEnd) {
+        int maxCenter = Math.min(last, runEnd - halfWidth);
+        int center = last - Math.ceilDiv(last - maxCenter, granularity) * granularity;
+        return center >= first && center - halfWidth >= runStart ? center : -1;
+    }
+
+    /**
+     * The number of center frequencies whose slots all lie in the free block [runStart, runEnd).
+     */
+    int centerCount(int runStart, int runEnd) {
+        int lowest = lowestCenter(runStart, runEnd);
+        return lowest < 0 ? 0 : (highestCenter(runStart, runEnd) - lowest) / granularity + 1;
+    }
+
+    Range range(int center) {
+        return new IndexRange(center - halfWidth, center + halfWidth - 1);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2026 Smartoptics and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.pce.spectrum.assignment;
+
+/**
+ * Bit scanning primitives working directly on the 64 bit words of a spectrum occupation bitset
+ * (as returned by {@link java.util.BitSet#toLongArray()}), where 1 is an available slot and 0 an occupied one.
+ *
+ *<p>Runs of available slots are found one word at a time, so that the spectrum assignment policies can go from one
+ * free block to the next without allocating anything or testing every candidate center frequency.</p>
+ */
+public final class SpectrumWords {
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+    private static final long WORD_MASK = -1L;
+
+    private SpectrumWords() {
+    }
+
+    /**
+     * Index of the first available slot at or after fromIndex.
+     *
+     * @return the slot index, or -1 if there is no such slot.
+     */
+    public static int nextSetBit(long[] words, int fromIndex) {
+        int from = Math.max(0, fromIndex);
+        int wordIndex = from >> ADDRESS_BITS_PER_WORD;
+        if (wordIndex >= words.length) {
+            return -1;
+        }
+        long word = words[wordIndex] & (WORD_MASK << from);
+        while (true) {
+            if (word != 0) {
+                return wordIndex * BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+            }
+            if (++wordIndex == words.length) {
+                return -1;
+            }
+            word = words[wordIndex];
+        }
+    }
+
+    /**
+     * Index of the first occupied slot at or after fromIndex.
+     * Slots beyond the last word are considered occupied.
+     *
+     * @return the slot index.
+     */
+    public static int nextClearBit(long[] words, int fromIndex) {
+        int from = Math.max(0, fromIndex);
+        int wordIndex = from >> ADDRESS_BITS_PER_WORD;
+        if (wordIndex >= words.length) {
+            return from;
+        }
+        long word = ~words[wordIndex] & (WORD_MASK << from);
+        while (true) {
+            if (word != 0) {
+                return wordIndex * BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+            }
+            if (++wordIndex == words.length) {
+                return words.length * BITS_PER_WORD;
+            }
+            word = ~words[wordIndex];
+        }
+    }
+
+    /**
+     * Index of the last available slot at or before fromIndex.
+     *
+     * @return the slot index, or -1 if there is no such slot.
+     */
+    public static int previousSetBit(long[] words, int fromIndex) {
+        if (fromIndex < 0) {
+            return -1;
+        }
+        int wordIndex = fromIndex >> ADDRESS_BITS_PER_WORD;
+        if (wordIndex >= words.length) {
+            return previousSetBit(words, words.length * BITS_PER_WORD - 1);
+        }
+        long word = words[wordIndex] & (WORD_MASK >>> -(fromIndex + 1));
+        while (true) {
+            if (word != 0) {
+                return (wordIndex + 1) * BITS_PER_WORD - 1 - Long.numberOfLeadingZeros(word);
+            }
+            if (wordIndex-- == 0) {
+                return -1;
+            }
+            word = words[wordIndex];
+        }
+    }
+
+    /**
+     * Index of the last occupied slot at or before fromIndex.
+     * Slots beyond the last word are considered occupied.
+     *
+     * @return the slot index, or -1 if there is no such slot.
+     */
+    public static int previousClearBit(long[] words, int fromIndex) {
+        if (fromIndex < 0) {
+            return -1;
+        }
+        int wordIndex = fromIndex >> ADDRESS_BITS_PER_WORD;
+        if (wordIndex >= words.length) {
+            return fromIndex;
+        }
+        long word = ~words[wordIndex] & (WORD_MASK >>> -(fromIndex + 1));
+        while (true) {
+            if (word != 0) {
+                return (wordIndex + 1) * BITS_PER_WORD - 1 - Long.numberOfLeadingZeros(word);
+            }
+            if (wordIndex-- == 0) {
+                return -1;
+            }
+            word = ~words[wordIndex];
+        }
+    }
+
+    /**
+     * Check that all the slots of [fromIndex, toIndex) are available.
+     */
+    public static boolean isRangeSet(long[] words, int fromIndex, int toIndex) {
+        return fromIndex < toIndex && nextClearBit(words, fromIndex) >= toIndex;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.pce.spectrum.reservation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory ledger of the spectrum slots tentatively allocated by the path computations, per degree and SRG.
+ * A path computation reads the topology, picks spectrum slots and returns, the slots being only allocated in the
+ * topology later on, when the service is implemented. The ledger fills this gap so that concurrent path
+ * computations do not pick the same slots: a computation removes from the available slots of a node the slots
+ * reserved by the other services, then reserves the slots it picked. The reservation fails if another computation
+ * reserved one of these slots in the meantime, and the computation picks other slots.
+ * A reservation is released when the path computation fails, when the resource reservation is cancelled, or after
+ * a time to live covering the implementation of the service.
+ */
+public class SpectrumReservationLedger {
+
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+    public static final int MAX_RESERVATION_ATTEMPTS = 3;
+    private static final Logger LOG = LoggerFactory.getLogger(SpectrumReservationLedger.class);
+
+    /**
+     * Slots tentatively allocated to a service.
+     *
+     * @param owner name of the service
+     * @param nodeIds degrees and SRGs crossed by the path of the service
+     * @param beginIndex index of the first slot
+     * @param stopIndex index of the last slot
+     * @param expiry System.nanoTime() value after which the reservation is released
+     */
+    public record Reservation(String owner, Set<String> nodeIds, int beginIndex, int stopIndex, long expiry) {
+
+        boolean overlaps(int begin, int stop) {
+            return beginIndex <= stop && begin <= stopIndex;
+        }
+    }
+
+    private final Map<String, List<Reservation>> reservationsByNode = new HashMap<>();
+    private final Map<String, List<Reservation>> reservationsByOwner = new HashMap<>();
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong reserved = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+
+    public SpectrumReservationLedger() {
+        this(DEFAULT_TIME_TO_LIVE, System::nanoTime);
+    }
+
+    /**
+     * Instantiate the SpectrumReservationLedger.
+     *
+     * @param timeToLive duration after which a reservation is released
+     * @param nanoClock source of the current time, in nanoseconds
+     */
+    public SpectrumReservationLedger(Duration timeToLive, LongSupplier nanoClock) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Get the slots of a node reserved by the other services.
+     *
+     * @param nodeId degree or SRG id
+     * @param owner service performing the path computation, null to get the slots reserved by all the services
+     * @return the reserved slots, bits set for the reserved slots
+     */
+    public synchronized BitSet getReservedSlots(String nodeId, @Nullable String owner) {
+        releaseExpired();
+        BitSet reservedSlots = new BitSet();
+        for (Reservation reservation : reservationsByNode.getOrDefault(nodeId, List.of())) {
+            if (!reservation.owner().equals(owner)) {
+                reservedSlots.set(reservation.beginIndex(), reservation.stopIndex() + 1);
+            }
+        }
+        return reservedSlots;
+    }
+
+    /**
+     * Withdraw from the available slots of a spectrum band of a node the slots reserved by the other services.
+     *
+     * @param availableSlots available slots of the band, bit 0 being the slot of index fromIndex, updated in place
+     * @param nodeId degree or SRG id
+     * @param owner service performing the path computation, null to withdraw the slots reserved by all the services
+     * @param fromIndex index of the first slot of the band
+     * @param toIndex index following the last slot of the band
+     */
+    public synchronized void withdrawReservedSlots(BitSet availableSlots, String nodeId, @Nullable String owner,
+            int fromIndex, int toIndex) {
+        releaseExpired();
+        for (Reservation reservation : reservationsByNode.getOrDefault(nodeId, List.of())) {
+            if (!reservation.owner().equals(owner) && reservation.overlaps(fromIndex, toIndex - 1)) {
+                availableSlots.clear(Math.max(reservation.beginIndex(), fromIndex) - fromIndex,
+                    Math.min(reservation.stopIndex() + 1, toIndex) - fromIndex);
+            }
+        }
+    }
+
+    /**
+     * Reserve slots on the degrees and SRGs of a path, if none of them is reserved by another service.
+     *
+     * @param owner service performing the path computation
+     * @param nodeIds degrees and SRGs crossed by the path
+     * @param beginIndex index of the first slot
+     * @param stopIndex index of the last slot
+     * @return the reservation, null if a slot is already reserved by another service
+     */
+    public synchronized @Nullable Reservation reserve(String owner, Set<String> nodeIds, int beginIndex,
+            int stopIndex) {
+        releaseExpired();
+        for (String nodeId : nodeIds) {
+            for (Reservation reservation : reservationsByNode.getOrDefault(nodeId, List.of())) {
+                if (!reservation.owner().equals(owner) && reservation.overlaps(beginIndex, stopIndex)) {
+                    conflicts.incrementAndGet();
+                    LOG.info("Slots {}-{} of {} requested by {} already reserved by {}", beginIndex, stopIndex,
+                        nodeId, owner, reservation.owner());
+                    return null;
+                }
+            }
+        }
+        Reservation reservation = new Reservation(owner, Set.copyOf(nodeIds), beginIndex, stopIndex,
+            nanoClock.getAsLong() + timeToLiveNanos);
+        for (String nodeId : reservation.nodeIds()) {
+            reservationsByNode.computeIfAbsent(nodeId, k -> new ArrayList<>()).add(reservation);
+        }
+        reservationsByOwner.computeIfAbsent(owner, k -> new ArrayList<>()).add(reservation);
+        reserved.incrementAndGet();
+        LOG.debug("Slots {}-{} reserved by {} on {}", beginIndex, stopIndex, owner, nodeIds);
+        return reservation;
+    }
+
+    /**
+     * Release a reservation.
+     *
+     * @param reservation reservation returned by {@link #reserve(String, Set, int, int)}
+     */
+    public synchronized void release(Reservation reservation) {
+        List<Reservation> ownerReservations = reservationsByOwner.get(reservation.owner());
+        if (ownerReservations != null && ownerReservations.removeIf(r -> r == reservation)) {
+            if (ownerReservations.isEmpty()) {
+                reservationsByOwner.remove(reservation.owner());
+            }
+            removeFromNodes(reservation);
+        }
+    }
+
+    /**
+     * Release all the reservations of a service.
+     *
+     * @param owner name of the service
+     * @return the number of reservations released
+     */
+    public synchronized int release(String owner) {
+        List<Reservation> ownerReservations = reservationsByOwner.remove(owner);
+        if (ownerReservations == null) {
+            return 0;
+        }
+        ownerReservations.forEach(this::removeFromNodes);
+        LOG.debug("{} spectrum reservations of {} released", ownerReservations.size(), owner);
+        return ownerReservations.size();
+    }
+
+    public synchronized int size() {
+        return reservationsByOwner.values().stream().mapToInt(List::size).sum();
+    }
+
+    public long getReservedCount() {
+        return reserved.get();
+    }
+
+    public long getConflictCount() {
+        return conflicts.get();
+    }
+
+    public long getExpiredCount() {
+        return expired.get();
+    }
+
+    private void releaseExpired() {
+        long now = nanoClock.getAsLong();
+        Iterator<List<Reservation>> owners = reservationsByOwner.values().iterator();
+        while (owners.hasNext()) {
+            List<Reservation> ownerReservations = owners.next();
+            ownerReservations.removeIf(reservation -> {
+                if (now - reservation.expiry() < 0) {
+                    return false;
+                }
+                removeFromNodes(reservation);
+                expired.incrementAndGet();
+                return true;
+            });
+            if (ownerReservations.isEmpty()) {
+                owners.remove();
+            }
+        }
+    }
+
+    private void removeFromNodes(Reservation reservation) {
+        for (String nodeId : reservation.nodeIds()) {
+            List<Reservation> nodeReservations = reservationsByNode.get(nodeId);
+            if (nodeReservations != null) {
+                // Identity comparison: two reservations of a service may have the same content
+                nodeReservations.removeIf(r -> r == reservation);
+                if (nodeReservations.isEmpty()) {
+                    reservationsByNode.remove(nodeId);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.telemetry;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear histogram of latencies in microseconds, safe for concurrent recording.
+ * Values below {@value #LINEAR_LIMIT} are counted exactly, larger values in buckets of {@value #SUB_BUCKETS}
+ * per power of two, the relative error of the quantiles being below 12.5%.
+ * Recording a value does not allocate any object.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    private static final int BUCKETS = LINEAR_LIMIT + (Long.SIZE - SUB_BUCKET_BITS - 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a latency.
+     *
+     * @param micros latency in microseconds, negative values being recorded as 0
+     */
+    public void record(long micros) {
+        long value = Math.max(micros, 0);
+        counts.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Get the mean of the recorded latencies.
+     *
+     * @return the mean in microseconds, 0 if no latency was recorded
+     */
+    public long getMean() {
+        long samples = count.sum();
+        return samples == 0 ? 0 : sum.sum() / samples;
+    }
+
+    /**
+     * Get a quantile of the recorded latencies.
+     *
+     * @param quantile quantile between 0 and 1
+     * @return the highest latency of the bucket holding the quantile in microseconds, capped by the maximum
+     *     latency recorded, 0 if no latency was recorded
+     */
+    public long getQuantile(double quantile) {
+        long samples = count.sum();
+        if (samples == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * samples));
+        long seen = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            seen += counts.get(index);
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(index), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Forget all the recorded latencies.
+     * Latencies recorded concurrently may be partially forgotten.
+     */
+    public void reset() {
+        for (int index = 0; index < BUCKETS; index++) {
+            counts.set(index, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+        long subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+        long lowerBound = (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + width - 1 < 0 ? Long.MAX_VALUE : lowerBound + width - 1;
+    }
+}
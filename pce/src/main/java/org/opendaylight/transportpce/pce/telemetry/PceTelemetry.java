@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.telemetry;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.opendaylight.transportpce.pce.networkanalyzer.PceResult.LocalCause;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Latency histograms of the stages of the path computation, and counters of the candidate paths evaluated and of
+ * the rejections by local cause.
+ * A stage is timed by getting a start time with {@link #start()} and recording it with
+ * {@link #record(Stage, long)} once the stage is done. Nothing is recorded by {@link #DISABLED}.
+ */
+public class PceTelemetry implements PceTelemetryMXBean {
+
+    public static final String OBJECT_NAME = "org.opendaylight.transportpce:type=PceTelemetry";
+    public static final PceTelemetry DISABLED = new PceTelemetry(false);
+    private static final Logger LOG = LoggerFactory.getLogger(PceTelemetry.class);
+
+    /**
+     * Stages of a path computation.
+     */
+    public enum Stage {
+        REQUEST("request"),
+        PATH_COMPUTATION("path-computation"),
+        NETWORK_READ("network-read"),
+        NETWORK_ANALYSIS("network-analysis"),
+        GRAPH_BUILD("graph-build"),
+        K_SHORTEST_PATHS("k-shortest-paths"),
+        PATH_VALIDATION("path-validation"),
+        SPECTRUM_ASSIGNMENT("spectrum-assignment"),
+        OSNR_CHECK("osnr-check"),
+        GNPY("gnpy");
+
+        private final String stageName;
+
+        Stage(String stageName) {
+            this.stageName = stageName;
+        }
+
+        public String getStageName() {
+            return stageName;
+        }
+    }
+
+    private final boolean enabled;
+    private final LatencyHistogram[] histograms = new LatencyHistogram[Stage.values().length];
+    private final LongAdder candidatesEvaluated = new LongAdder();
+    private final AtomicLongArray rejections = new AtomicLongArray(LocalCause.values().length);
+
+    public PceTelemetry() {
+        this(true);
+    }
+
+    private PceTelemetry(boolean enabled) {
+        this.enabled = enabled;
+        for (Stage stage : Stage.values()) {
+            histograms[stage.ordinal()] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Get the start time of a stage.
+     *
+     * @return the current value of {@link System#nanoTime()}, 0 if the telemetry is disabled
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Record the latency of a stage ending now.
+     *
+     * @param stage stage done
+     * @param startNanos start time of the stage, as returned by {@link #start()}
+     */
+    public void record(Stage stage, long startNanos) {
+        if (enabled) {
+            histograms[stage.ordinal()].record((System.nanoTime() - startNanos) / 1000);
+        }
+    }
+
+    public void candidateEvaluated() {
+        if (enabled) {
+            candidatesEvaluated.increment();
+        }
+    }
+
+    /**
+     * Count a rejection.
+     *
+     * @param localCause cause of the rejection, nothing being counted for {@link LocalCause#NONE} or null
+     */
+    public void rejected(LocalCause localCause) {
+        if (enabled && localCause != null && localCause != LocalCause.NONE) {
+            rejections.incrementAndGet(localCause.ordinal());
+        }
+    }
+
+    public LatencyHistogram getHistogram(Stage stage) {
+        return histograms[stage.ordinal()];
+    }
+
+    public long getRejections(LocalCause localCause) {
+        return rejections.get(localCause.ordinal());
+    }
+
+    @Override
+    public long getCandidatesEvaluated() {
+        return candidatesEvaluated.sum();
+    }
+
+    @Override
+    public Map<String, Long> getStageCounts() {
+        return byStage(LatencyHistogram::getCount);
+    }
+
+    @Override
+    public Map<String, Long> getStageMeanLatencies() {
+        return byStage(LatencyHistogram::getMean);
+    }
+
+    @Override
+    public Map<String, Long> getStageP50Latencies() {
+        return byStage(histogram -> histogram.getQuantile(0.5));
+    }
+
+    @Override
+    public Map<String, Long> getStageP99Latencies() {
+        return byStage(histogram -> histogram.getQuantile(0.99));
+    }
+
+    @Override
+    public Map<String, Long> getStageMaxLatencies() {
+        return byStage(LatencyHistogram::getMax);
+    }
+
+    @Override
+    public Map<String, Long> getRejections() {
+        Map<String, Long> counters = new LinkedHashMap<>();
+        for (LocalCause localCause : LocalCause.values()) {
+            if (localCause != LocalCause.NONE) {
+                counters.put(localCause.name(), rejections.get(localCause.ordinal()));
+            }
+        }
+        return counters;
+    }
+
+    @Override
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+        candidatesEvaluated.reset();
+        for (int index = 0; index < rejections.length(); index++) {
+            rejections.set(index, 0);
+        }
+    }
+
+    /**
+     * Register this telemetry in the platform MBean server, replacing a previously registered one.
+     */
+    public void register() {
+        try {
+            MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mbeanServer.isRegistered(objectName)) {
+                mbeanServer.unregisterMBean(objectName);
+            }
+            mbeanServer.registerMBean(this, objectName);
+        } catch (JMException e) {
+            LOG.warn("Unable to register PCE telemetry as {}", OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Unregister this telemetry from the platform MBean server.
+     */
+    public void unregister() {
+        try {
+            MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mbeanServer.isRegistered(objectName)) {
+                mbeanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            LOG.warn("Unable to unregister PCE telemetry {}", OBJECT_NAME, e);
+        }
+    }
+
+    private Map<String, Long> byStage(ToLongFunction<LatencyHistogram> statistic) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (Stage stage : Stage.values()) {
+            values.put(stage.getStageName(), statistic.applyAsLong(histograms[stage.ordinal()]));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.telemetry;
+
+import java.util.Map;
+
+/**
+ * JMX view of the PCE telemetry.
+ * The latencies are in microseconds and given by stage name.
+ */
+public interface PceTelemetryMXBean {
+
+    Map<String, Long> getStageCounts();
+
+    Map<String, Long> getStageMeanLatencies();
+
+    Map<String, Long> getStageP50Latencies();
+
+    Map<String, Long> getStageP99Latencies();
+
+    Map<String, Long> getStageMaxLatencies();
+
+    long getCandidatesEvaluated();
+
+    /**
+     * Get the number of candidate paths or computations rejected, by local cause.
+     *
+     * @return the rejection counters, by local cause name
+     */
+    Map<String, Long> getRejections();
+
+    /**
+     * Reset all the histograms and counters.
+     */
+    void reset();
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.gnpy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.common.StringConstants;
+import org.opendaylight.transportpce.common.network.NetworkTransactionImpl;
+import org.opendaylight.transportpce.common.network.NetworkTransactionService;
+import org.opendaylight.transportpce.test.AbstractTest;
+import org.opendaylight.transportpce.test.converter.JsonDataConverter;
+import org.opendaylight.yang.gen.v1.gnpy.gnpy.network.topology.rev220615.topo.Connections;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.NetworkId;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.Networks;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.Network;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.NetworkKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.Network1;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.networks.network.Link;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.yang.parser.api.YangParserException;
+
+class GnpyTopoCacheTest extends AbstractTest {
+
+    private NetworkTransactionImpl networkTransaction;
+    private GnpyTopoCache gnpyTopoCache;
+
+    @BeforeEach
+    void setUp() throws IOException, YangParserException, InterruptedException, ExecutionException {
+        networkTransaction = new NetworkTransactionImpl(getDataBroker());
+        saveOpenRoadmNetwork("src/test/resources/gnpy/gnpy_network.json", StringConstants.OPENROADM_NETWORK);
+        saveOpenRoadmNetwork("src/test/resources/gnpy/gnpy_topology.json", StringConstants.OPENROADM_TOPOLOGY);
+        // No data broker: the cache is only invalidated explicitly by the tests
+        NetworkTransactionService service = mock(NetworkTransactionService.class,
+            AdditionalAnswers.delegatesTo(networkTransaction));
+        doReturn(null).when(service).getDataBroker();
+        gnpyTopoCache = new GnpyTopoCache(service);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gnpyTopoCache.close();
+    }
+
+    private void saveOpenRoadmNetwork(String file, String networkId)
+            throws IOException, YangParserException, InterruptedException, ExecutionException {
+        try (Reader reader = Files.newBufferedReader(Path.of(file), StandardCharsets.UTF_8)) {
+            Networks networks = (Networks) new JsonDataConverter(null).deserialize(reader, Networks.QNAME);
+            networkTransaction.put(LogicalDatastoreType.CONFIGURATION,
+                DataObjectIdentifier.builder(Networks.class)
+                    .child(Network.class, new NetworkKey(new NetworkId(networkId)))
+                    .build(),
+                networks.getNetwork().values().iterator().next());
+            networkTransaction.commit().get();
+        }
+    }
+
+    private void replaceOpenRoadmTopologyLinks(String file)
+            throws IOException, YangParserException, InterruptedException, ExecutionException {
+        try (Reader reader = Files.newBufferedReader(Path.of(file), StandardCharsets.UTF_8)) {
+            Networks networks = (Networks) new JsonDataConverter(null).deserialize(reader, Networks.QNAME);
+            for (Link link : networks.getNetwork().values().iterator().next().augmentation(Network1.class)
+                    .nonnullLink().values()) {
+                networkTransaction.put(LogicalDatastoreType.CONFIGURATION,
+                    DataObjectIdentifier.builder(Networks.class)
+                        .child(Network.class, new NetworkKey(new NetworkId(StringConstants.OPENROADM_TOPOLOGY)))
+                        .augmentation(Network1.class)
+                        .child(Link.class, link.key())
+                        .build(),
+                    link);
+            }
+            networkTransaction.commit().get();
+        }
+    }
+
+    @Test
+    void topologyIsSharedUntilInvalidated() throws GnpyException {
+        GnpyTopoImpl first = gnpyTopoCache.getTopology();
+        assertSame(first, gnpyTopoCache.getTopology(), "Topology should be built once");
+        long generation = gnpyTopoCache.getGeneration();
+        gnpyTopoCache.invalidate();
+        assertEquals(generation + 1, gnpyTopoCache.getGeneration());
+        GnpyTopoImpl second = gnpyTopoCache.getTopology();
+        assertNotSame(first, second, "Topology should be rebuilt after invalidation");
+        assertEquals(first.getElements().keySet(), second.getElements().keySet());
+    }
+
+    @Test
+    void pathSubgraphOfWholeTopologyKeepsAllConnections() throws GnpyException {
+        GnpyTopoImpl topology = gnpyTopoCache.getTopology();
+        Set<String> uids = new HashSet<>();
+        topology.getElements().values().forEach(element -> uids.add(element.getUid()));
+        Set<String> expanded = topology.expandPathElements(uids);
+        assertEquals(uids, expanded);
+        assertEquals(topology.getConnections().size(), topology.getConnections(expanded).size());
+    }
+
+    @Test
+    void pathSubgraphExcludesAmplifiersOfOtherLinks()
+            throws GnpyException, IOException, YangParserException, InterruptedException, ExecutionException {
+        // OpenROADM-1 is linked to OpenROADM-2 through ILA-1-2 and to OpenROADM-3 through ILA-1-3
+        replaceOpenRoadmTopologyLinks("src/test/resources/gnpy/gnpy_amplified_links.json");
+        GnpyTopoImpl topology = gnpyTopoCache.getTopology();
+        Set<String> uids = new HashSet<>();
+        topology.getElements().values().forEach(element -> uids.add(element.getUid()));
+        assertTrue(uids.containsAll(Set.of("ILA-1-2", "ILA-1-3")));
+
+        // The fiber spans of an amplified link are named after their section element number
+        Set<String> pathUids = Set.of("OpenROADM-1", "1", "3", "OpenROADM-2");
+        Set<String> expanded = topology.expandPathElements(pathUids);
+        assertTrue(expanded.containsAll(pathUids));
+        assertTrue(expanded.contains("ILA-1-2"), "Amplifier between two spans of the path should be kept");
+        assertFalse(expanded.contains("ILA-1-3"), "Amplifier of a link outside the path should be excluded");
+        assertFalse(expanded.contains("4"));
+        assertFalse(expanded.contains("6"));
+
+        List<Connections> connections = topology.getConnections(expanded);
+        assertTrue(connections.stream().anyMatch(connection -> connection.getFromNode().equals("1")
+            && connection.getToNode().equals("ILA-1-2")));
+        assertTrue(connections.stream().anyMatch(connection -> connection.getFromNode().equals("ILA-1-2")
+            && connection.getToNode().equals("3")));
+        assertTrue(connections.stream().allMatch(connection -> expanded.contains(connection.getFromNode())
+            && expanded.contains(connection.getToNode())));
+        assertTrue(connections.size() < topology.getConnections().size());
+    }
+}
@@ -10,11 +10,17 @@ package org.opendaylight.transportpce.pce.gnpy.consumer;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.configureFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.serverError;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
@@ -96,4 +102,56 @@ class GnpyConsumerTest {
         LOG.info("Response received {}", result);
         assertNotNull(result, "Result should not be null");
     }
+
+    @Test
+    void statusIsCachedTest() throws IOException {
+        // GIVEN
+        stubFor(get(urlEqualTo("/api/v1/status"))
+                .willReturn(okJson(Files.readString(Path.of("src", "test", "resources", "gnpy", "gnpy_status.json")))));
+        GnpyConsumer gnpyConsumer = new GnpyConsumerImpl("http://localhost:9998",
+                "mylogin",
+                "mypassword",
+                AbstractTest.getDataStoreContextUtil().getBindingDOMCodecServices());
+
+        // WHEN
+        boolean first = gnpyConsumer.isAvailable();
+        boolean second = gnpyConsumer.isAvailable();
+
+        // THEN
+        assertTrue(first && second, "Gnpy should be available");
+        verify(1, getRequestedFor(urlEqualTo("/api/v1/status")));
+    }
+
+    @Test
+    void circuitOpensOnTimeoutTest() throws IOException {
+        // GIVEN
+        stubFor(post(urlEqualTo("/api/v1/path-computation"))
+                .willReturn(aResponse()
+                        .withFixedDelay(2000)
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(Files.readString(
+                                Path.of("src", "test", "resources", "gnpy", "gnpy_result_with_path.json")))));
+        stubFor(get(urlEqualTo("/api/v1/status")).willReturn(serverError()));
+        GnpyConsumerImpl gnpyConsumer = new GnpyConsumerImpl("http://localhost:9998",
+                "mylogin",
+                "mypassword",
+                AbstractTest.getDataStoreContextUtil().getBindingDOMCodecServices(),
+                false,
+                200,
+                new GnpyHealth(1, 60000, 10000));
+        Request request = gnpyApiConverter.createDataObjectFromJsonString(
+                YangInstanceIdentifier.of(Request.QNAME),
+                Files.readString(Path.of("src/test/resources/gnpy/gnpy_request.json")),
+                JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02);
+
+        // WHEN
+        Result result = gnpyConsumer.computePaths(request);
+
+        // THEN
+        assertNull(result, "Request should time out");
+        assertEquals(GnpyHealth.State.OPEN, gnpyConsumer.getHealth().getState());
+        assertFalse(gnpyConsumer.isAvailable(), "Gnpy should not be available while the circuit is open");
+        verify(0, getRequestedFor(urlEqualTo("/api/v1/status")));
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.gnpy.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GnpyHealthTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private GnpyHealth health;
+
+    @BeforeEach
+    void setUp() {
+        health = new GnpyHealth(2, 1000, 100, clock::get);
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    void statusIsCachedDuringTtl() {
+        assertFalse(health.isStatusKnown());
+        health.recordSuccess();
+        assertTrue(health.isStatusFresh());
+        assertTrue(health.isLastStatusUp());
+        advance(100);
+        assertFalse(health.isStatusFresh());
+        assertTrue(health.isLastStatusUp(), "Last known status should still be served");
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailures() {
+        health.recordFailure();
+        assertEquals(GnpyHealth.State.CLOSED, health.getState());
+        assertTrue(health.allowRequest());
+        health.recordFailure();
+        assertEquals(GnpyHealth.State.OPEN, health.getState());
+        assertFalse(health.allowRequest());
+        assertFalse(health.isLastStatusUp());
+    }
+
+    @Test
+    void successResetsFailureCount() {
+        health.recordFailure();
+        health.recordSuccess();
+        health.recordFailure();
+        assertEquals(GnpyHealth.State.CLOSED, health.getState());
+    }
+
+    @Test
+    void halfOpenProbeClosesOrReopensCircuit() {
+        health.recordFailure();
+        health.recordFailure();
+        advance(999);
+        assertFalse(health.allowRequest());
+        advance(1);
+        assertTrue(health.allowRequest());
+        assertEquals(GnpyHealth.State.HALF_OPEN, health.getState());
+        health.recordFailure();
+        assertEquals(GnpyHealth.State.OPEN, health.getState());
+        assertFalse(health.allowRequest());
+        advance(1000);
+        assertTrue(health.allowRequest());
+        health.recordSuccess();
+        assertEquals(GnpyHealth.State.CLOSED, health.getState());
+        assertTrue(health.isLastStatusUp());
+    }
+
+    @Test
+    void halfOpenLetsASingleProbeThrough() {
+        health.recordFailure();
+        health.recordFailure();
+        advance(1000);
+        assertTrue(health.allowRequest());
+        assertFalse(health.allowRequest(), "Only the probe is let through");
+        assertFalse(health.allowRequest());
+        health.recordSuccess();
+        assertTrue(health.allowRequest());
+        assertTrue(health.allowRequest());
+    }
+
+    @Test
+    void probeWithoutOutcomeIsReplaced() {
+        health.recordFailure();
+        health.recordFailure();
+        advance(1000);
+        assertTrue(health.allowRequest());
+        advance(999);
+        assertFalse(health.allowRequest());
+        advance(1);
+        assertTrue(health.allowRequest(), "A new probe is let through when the previous one has no outcome");
+        assertEquals(GnpyHealth.State.HALF_OPEN, health.getState());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.graph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.shortestpath.YenKShortestPath;
+import org.jgrapht.graph.DefaultDirectedWeightedGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.transportpce.pce.networkanalyzer.PceLink;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.path.pair.rev261019.Disjointness;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.network.types.rev250110.OpenroadmLinkType;
+
+class DisjointPathPairFinderTest {
+
+    private static final Map<String, String> SITES = Map.of(
+        "SRG-A", "ROADM-A", "DEG-A1", "ROADM-A", "DEG-A2", "ROADM-A",
+        "SRG-Z", "ROADM-Z", "DEG-Z1", "ROADM-Z", "DEG-Z2", "ROADM-Z");
+
+    private DefaultDirectedWeightedGraph<String, PceGraphEdge> graph;
+
+    private void addEdge(String source, String dest, double weight, OpenroadmLinkType linkType, Long... srlgs) {
+        PceLink link = mock(PceLink.class);
+        when(link.getlinkType()).thenReturn(linkType);
+        when(link.getsrlgList()).thenReturn(List.of(srlgs));
+        graph.addVertex(source);
+        graph.addVertex(dest);
+        PceGraphEdge edge = new PceGraphEdge(link);
+        graph.addEdge(source, dest, edge);
+        graph.setEdgeWeight(edge, weight);
+    }
+
+    @BeforeEach
+    void setUp() {
+        // Trap topology: the shortest path XPDR-A..DEG-A1, B, C, DEG-Z1..XPDR-Z uses both B and C,
+        // so that no path avoids its intermediate ROADMs once it is chosen.
+        graph = new DefaultDirectedWeightedGraph<>(PceGraphEdge.class);
+        addEdge("XPDR-A", "SRG-A", 1, OpenroadmLinkType.XPONDEROUTPUT);
+        addEdge("SRG-A", "DEG-A1", 1, OpenroadmLinkType.ADDLINK);
+        addEdge("SRG-A", "DEG-A2", 1, OpenroadmLinkType.ADDLINK);
+        addEdge("DEG-A1", "B", 1, OpenroadmLinkType.ROADMTOROADM, 7L);
+        addEdge("B", "C", 1, OpenroadmLinkType.ROADMTOROADM);
+        addEdge("C", "DEG-Z1", 1, OpenroadmLinkType.ROADMTOROADM);
+        addEdge("DEG-A2", "B", 2, OpenroadmLinkType.ROADMTOROADM);
+        addEdge("B", "DEG-Z2", 3, OpenroadmLinkType.ROADMTOROADM);
+        addEdge("DEG-A2", "C", 3, OpenroadmLinkType.ROADMTOROADM, 7L);
+        addEdge("DEG-Z1", "SRG-Z", 1, OpenroadmLinkType.DROPLINK);
+        addEdge("DEG-Z2", "SRG-Z", 1, OpenroadmLinkType.DROPLINK);
+        addEdge("SRG-Z", "XPDR-Z", 1, OpenroadmLinkType.XPONDERINPUT);
+    }
+
+    private List<DisjointPathPairFinder.PathPair> findPairs(Disjointness disjointness) {
+        List<GraphPath<String, PceGraphEdge>> kshortestPaths =
+            new YenKShortestPath<>(graph, new InAlgoPathValidator()).getPaths("XPDR-A", "XPDR-Z", 15);
+        return new DisjointPathPairFinder(graph, "XPDR-A", "XPDR-Z", disjointness, SITES)
+            .findPairs(kshortestPaths, 15);
+    }
+
+    @Test
+    void nodeDisjointPairIsFoundInTrapTopology() {
+        List<DisjointPathPairFinder.PathPair> pairs = findPairs(Disjointness.Node);
+        assertEquals(1, pairs.size(), "Only the pair found by the flow algorithm avoids B or C");
+        assertEquals(List.of("XPDR-A", "SRG-A", "DEG-A1", "B", "DEG-Z2", "SRG-Z", "XPDR-Z"),
+            pairs.get(0).working().getVertexList());
+        assertEquals(List.of("XPDR-A", "SRG-A", "DEG-A2", "C", "DEG-Z1", "SRG-Z", "XPDR-Z"),
+            pairs.get(0).protection().getVertexList());
+        assertEquals(16, pairs.get(0).getWeight());
+    }
+
+    @Test
+    void linkAndSrlgDisjointPairsAreChecked() {
+        assertEquals(3, findPairs(Disjointness.Link).size());
+        List<DisjointPathPairFinder.PathPair> pairs = findPairs(Disjointness.Srlg);
+        assertEquals(2, pairs.size(), "The pair using both links of SRLG 7 should be dropped");
+        DisjointPathPairFinder finder =
+            new DisjointPathPairFinder(graph, "XPDR-A", "XPDR-Z", Disjointness.Srlg, SITES);
+        for (DisjointPathPairFinder.PathPair pair : pairs) {
+            assertTrue(finder.areDisjoint(pair.working().getEdgeList(), pair.protection().getEdgeList()));
+            assertTrue(pair.working().getWeight() <= pair.protection().getWeight());
+        }
+        assertFalse(finder.areDisjoint(pairs.get(0).working().getEdgeList(), pairs.get(0).working().getEdgeList()),
+            "A path is not disjoint from itself");
+    }
+}
@@ -9,6 +9,7 @@
 package org.opendaylight.transportpce.pce.graph;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -17,15 +18,19 @@ import java.io.IOException;
 import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.jgrapht.GraphPath;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.opendaylight.transportpce.common.device.observer.Subscriber;
+import org.opendaylight.transportpce.common.fixedflex.GridConstant;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumBand;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
 import org.opendaylight.transportpce.pce.frequency.interval.EntireSpectrum;
 import org.opendaylight.transportpce.pce.input.ClientInput;
 import org.opendaylight.transportpce.pce.networkanalyzer.PceLink;
 import org.opendaylight.transportpce.pce.networkanalyzer.PceNode;
+import org.opendaylight.transportpce.pce.spectrum.reservation.SpectrumReservationLedger;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.SpectrumAssignment;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.SpectrumAssignmentBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.NodeId;
@@ -147,6 +152,108 @@ class PostAlgoPathValidatorTest {
         assertEquals(expected, postAlgoPathValidator.getSpectrumAssignment(path, nodes, 16, mock(Subscriber.class)));
     }
 
+    /**
+     * The 100GHz service of the previous test should be assigned other slots when its slots are reserved on
+     * ROADM-A-DEG1 by a concurrent path computation.
+     */
+    @Test
+    void spectrumAssignmentAvoidsSlotsReservedByConcurrentComputations() {
+        List<PceGraphEdge> edges = List.of(
+                mockEdge("ROADM-A-SRG4", "ROADM-A-DEG1", "(ROADM-A-SRG4 : ROADM-A-DEG1)"),
+                mockEdge("ROADM-A-DEG1", "ROADM-B-DEG1", "(ROADM-A-DEG1 : ROADM-B-DEG1)"),
+                mockEdge("ROADM-B-DEG1", "ROADM-B-SRG3", "(ROADM-B-DEG1 : ROADM-B-SRG3)")
+        );
+        GraphPath<String, PceGraphEdge> path = mockGraphPath(edges, 3.0, 3);
+        SpectrumReservationLedger ledger = new SpectrumReservationLedger();
+        ledger.reserve("service-A", Set.of("ROADM-A-DEG1", "ROADM-Z-DEG1"), 740, 755);
+
+        PostAlgoPathValidator postAlgoPathValidator = new PostAlgoPathValidator(networkTransactionService,
+                customerAvailableFrequencies, clientInputMock);
+        postAlgoPathValidator.setSpectrumReservationLedger(ledger, "service-B");
+        SpectrumAssignment spectrumAssignment =
+                postAlgoPathValidator.getSpectrumAssignment(path, nodes, 16, mock(Subscriber.class));
+        assertTrue(spectrumAssignment.getStopIndex().toJava() < 740, "Reserved slots should not be assigned");
+        assertTrue(spectrumAssignment.getStopIndex().toJava() > 0);
+
+        // The slots reserved by the service itself are not taken into account
+        postAlgoPathValidator.setSpectrumReservationLedger(ledger, "service-A");
+        assertEquals(Uint16.valueOf(740),
+                postAlgoPathValidator.getSpectrumAssignment(path, nodes, 16, mock(Subscriber.class)).getBeginIndex());
+    }
+
+    /**
+     * The protection path of the 100GHz service above meets its working path at the add/drop SRGs, where both
+     * paths should not be assigned the same slots.
+     */
+    @Test
+    void protectionPathAvoidsSlotsOfWorkingPathOnSharedSrgs() {
+        GraphPath<String, PceGraphEdge> workingPath = mockGraphPath(List.of(
+                mockEdge("ROADM-A-SRG4", "ROADM-A-DEG1", "(ROADM-A-SRG4 : ROADM-A-DEG1)"),
+                mockEdge("ROADM-A-DEG1", "ROADM-B-DEG1", "(ROADM-A-DEG1 : ROADM-B-DEG1)"),
+                mockEdge("ROADM-B-DEG1", "ROADM-B-SRG3", "(ROADM-B-DEG1 : ROADM-B-SRG3)")
+        ), 3.0, 3);
+        GraphPath<String, PceGraphEdge> protectionPath = mockGraphPath(List.of(
+                mockEdge("ROADM-A-SRG4", "ROADM-A-DEG2", "(ROADM-A-SRG4 : ROADM-A-DEG2)"),
+                mockEdge("ROADM-A-DEG2", "ROADM-B-DEG3", "(ROADM-A-DEG2 : ROADM-B-DEG3)"),
+                mockEdge("ROADM-B-DEG3", "ROADM-B-SRG3", "(ROADM-B-DEG3 : ROADM-B-SRG3)")
+        ), 3.0, 3);
+
+        PostAlgoPathValidator workingValidator = new PostAlgoPathValidator(networkTransactionService,
+                customerAvailableFrequencies, clientInputMock);
+        SpectrumAssignment working =
+                workingValidator.getSpectrumAssignment(workingPath, nodes, 16, mock(Subscriber.class));
+        assertEquals(Uint16.valueOf(740), working.getBeginIndex());
+        assertEquals(Uint16.valueOf(755), working.getStopIndex());
+
+        PostAlgoPathValidator protectionValidator = new PostAlgoPathValidator(networkTransactionService,
+                customerAvailableFrequencies, clientInputMock);
+        protectionValidator.withdrawAssignedSlots(workingValidator);
+        SpectrumAssignment protection =
+                protectionValidator.getSpectrumAssignment(protectionPath, nodes, 16, mock(Subscriber.class));
+        assertTrue(protection.getStopIndex().toJava() > 0, "The protection path should be assigned slots");
+        assertTrue(protection.getStopIndex().toJava() < 740 || protection.getBeginIndex().toJava() > 755,
+                "The slots of the working path should not be assigned on the shared SRGs");
+    }
+
+    /**
+     * The 100GHz service above should be assigned slots of the L band when the C band is full on the
+     * path, unless the operator restricts the frequencies of the customer.
+     */
+    @Test
+    void spectrumAssignmentFallsBackToTheLBandWhenTheCBandIsFull() {
+        List<PceGraphEdge> edges = List.of(
+                mockEdge("ROADM-A-SRG4", "ROADM-A-DEG1", "(ROADM-A-SRG4 : ROADM-A-DEG1)"),
+                mockEdge("ROADM-A-DEG1", "ROADM-B-DEG1", "(ROADM-A-DEG1 : ROADM-B-DEG1)"),
+                mockEdge("ROADM-B-DEG1", "ROADM-B-SRG3", "(ROADM-B-DEG1 : ROADM-B-SRG3)")
+        );
+        GraphPath<String, PceGraphEdge> path = mockGraphPath(edges, 3.0, 3);
+        for (String nodeId : List.of("ROADM-A-SRG4", "ROADM-A-DEG1", "ROADM-B-DEG1", "ROADM-B-SRG3")) {
+            BitSet lBand = new BitSet(768);
+            lBand.set(0, 768);
+            PceNode node = nodes.get(new NodeId(nodeId));
+            when(node.getBitSetData()).thenReturn(new BitSet(768));
+            when(node.getBitSetData(SpectrumBand.L_BAND)).thenReturn(lBand);
+        }
+
+        PostAlgoPathValidator postAlgoPathValidator = new PostAlgoPathValidator(networkTransactionService,
+                customerAvailableFrequencies, clientInputMock);
+
+        SpectrumAssignment expected = new SpectrumAssignmentBuilder()
+                .setBeginIndex(Uint16.valueOf(GridConstant.L_BAND_INDEX_OFFSET + 740))
+                .setStopIndex(Uint16.valueOf(GridConstant.L_BAND_INDEX_OFFSET + 755))
+                .setFlexGrid(true)
+                .build();
+
+        assertEquals(expected, postAlgoPathValidator.getSpectrumAssignment(path, nodes, 16, mock(Subscriber.class)));
+
+        BitSet restrictedFrequencies = new BitSet(768);
+        restrictedFrequencies.set(0, 384);
+        postAlgoPathValidator = new PostAlgoPathValidator(networkTransactionService, restrictedFrequencies,
+                clientInputMock);
+        assertEquals(Uint16.ZERO,
+                postAlgoPathValidator.getSpectrumAssignment(path, nodes, 16, mock(Subscriber.class)).getStopIndex());
+    }
+
     /**
      * Setting up a service of 37.5GHz should be possible given this path and the following mc capabilities.
      *
@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.pce.graph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.transportpce.common.fixedflex.GridConstant;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumBand;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumOccupancyIndexImpl;
+import org.opendaylight.transportpce.pce.graph.SpectrumRoutingWeights.Coefficients;
+
+class SpectrumRoutingWeightsTest {
+
+    private SpectrumOccupancyIndexImpl index;
+    private SpectrumRoutingWeights routingWeights;
+
+    @BeforeEach
+    void setUp() {
+        index = new SpectrumOccupancyIndexImpl();
+        index.updateLink("link-AB", "ROADM-A-DEG1", "ROADM-B-DEG1");
+        index.updateLink("link-AC", "ROADM-A-DEG2", "ROADM-C-DEG1");
+        index.updateNode("ROADM-A-DEG1", freqMap());
+        index.updateNode("ROADM-B-DEG1", freqMap());
+        index.updateNode("ROADM-A-DEG2", freqMap());
+        // Half of the spectrum used on link-AC, in a single block
+        index.updateNode("ROADM-C-DEG1", freqMap(0, GridConstant.EFFECTIVE_BITS / 2 - 1));
+        routingWeights = new SpectrumRoutingWeights(index, new Coefficients(1, 2, 4));
+    }
+
+    private static byte[] freqMap(int... occupiedRanges) {
+        BitSet bitSet = new BitSet(GridConstant.EFFECTIVE_BITS);
+        bitSet.set(0, GridConstant.EFFECTIVE_BITS);
+        for (int i = 0; i < occupiedRanges.length; i += 2) {
+            bitSet.clear(occupiedRanges[i], occupiedRanges[i + 1] + 1);
+        }
+        return Arrays.copyOf(bitSet.toByteArray(), GridConstant.NB_OCTECTS);
+    }
+
+    @Test
+    void weightsFollowUtilizationAndFragmentation() {
+        Map<String, Double> weights = routingWeights.getWeights();
+        assertEquals(1.0, routingWeights.getWeight(weights, "link-AB"), 1e-9);
+        assertEquals(1.0 + 2 * 0.5, routingWeights.getWeight(weights, "link-AC"), 1e-9);
+        assertEquals(1.0, routingWeights.getWeight(weights, "ROADM-A-DEG1-DEG1-CTP-TXtoROADM-A-SRG1-SRG1-CP-RX"),
+            "Links without spectrum occupancy only cost a hop");
+
+        // Free slots of link-AB split in two blocks of the same size
+        int quarter = GridConstant.EFFECTIVE_BITS / 4;
+        index.updateNode("ROADM-B-DEG1", freqMap(quarter, 3 * quarter - 1));
+        weights = routingWeights.getWeights();
+        assertEquals(1.0 + 2 * 0.5 + 4 * 0.5, routingWeights.getWeight(weights, "link-AB"), 1e-9);
+        assertTrue(routingWeights.getWeight(weights, "link-AB") > routingWeights.getWeight(weights, "link-AC"),
+            "The fragmented link should cost more than the link with the same utilization");
+    }
+
+    @Test
+    void utilizationIsWeightedAcrossBands() {
+        index.updateNode("ROADM-A-DEG2", SpectrumBand.L_BAND, freqMap());
+        index.updateNode("ROADM-C-DEG1", SpectrumBand.L_BAND, freqMap());
+        // Half of the C band and none of the L band used on link-AC, the L band being the largest free block
+        Map<String, Double> weights = routingWeights.getWeights();
+        assertEquals(1.0 + 2 * 0.25 + 4 * (1 - 768.0 / 1152), routingWeights.getWeight(weights, "link-AC"), 1e-9);
+    }
+
+    @Test
+    void weightsAreComputedOncePerGeneration() {
+        Map<String, Double> weights = routingWeights.getWeights();
+        assertSame(weights, routingWeights.getWeights());
+        index.updateNode("ROADM-A-SRG1", freqMap(0, 7));
+        assertSame(weights, routingWeights.getWeights(), "SRG updates do not change the link weights");
+        index.updateNode("ROADM-A-DEG1", freqMap(0, 7));
+        assertNotSame(weights, routingWeights.getWeights());
+    }
+
+    @Test
+    void coefficientsAreParsed() {
+        assertEquals(new Coefficients(1, 3, 0.5), Coefficients.parse("hop=1, utilization=3,FRAGMENTATION=0.5"));
+        assertEquals(new Coefficients(2, 2, 1), Coefficients.parse("hop=2"));
+        assertEquals(Coefficients.DEFAULT, Coefficients.parse(""));
+        assertEquals(Coefficients.DEFAULT, Coefficients.parse("hop=1,latency=2"));
+        assertEquals(Coefficients.DEFAULT, Coefficients.parse("utilization=-1"));
+        assertEquals(Coefficients.DEFAULT, Coefficients.parse("hop=0"));
+    }
+}
@@ -61,7 +61,8 @@ public class PceServiceRPCImplTest extends AbstractTest {
         new PceServiceRPCImpl(rpcProviderService, pathComputationService);
         verify(rpcProviderService, times(1)).registerRpcImplementations(
                 any(CancelResourceReserveImpl.class), any(PathComputationRequestImpl.class),
-                any(PathComputationRerouteRequestImpl.class));
+                any(PathComputationRerouteRequestImpl.class), any(PathPairComputationRequestImpl.class),
+                any(GetPceTelemetryImpl.class));
     }
 
     @Test
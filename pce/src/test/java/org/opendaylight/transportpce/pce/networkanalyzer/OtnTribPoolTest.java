@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.networkanalyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.Uint16;
+
+class OtnTribPoolTest {
+
+    private static OtnTribPool pool(int from, int to) {
+        return OtnTribPool.of(IntStream.rangeClosed(from, to).mapToObj(Uint16::valueOf).toList());
+    }
+
+    @Test
+    void poolsAreIntersected() {
+        OtnTribPool common = pool(1, 80).intersect(pool(41, 120));
+        assertEquals(pool(41, 80), common);
+        assertEquals(40, common.size());
+        assertTrue(common.contains(64));
+        assertFalse(common.contains(40));
+        assertFalse(common.contains(81));
+        assertTrue(pool(1, 10).intersect(pool(11, 20)).isEmpty());
+        assertTrue(OtnTribPool.of(null).isEmpty());
+        assertEquals(List.of(Uint16.valueOf(3), Uint16.valueOf(70)),
+            OtnTribPool.of(List.of(Uint16.valueOf(70), Uint16.valueOf(3))).toList());
+    }
+
+    @Test
+    void contiguousSlotsStartOnAlignedSlot() {
+        assertEquals(1, pool(1, 80).findContiguous(80));
+        assertEquals(-1, pool(2, 80).findContiguous(80));
+        // ODU2e on 8 slots: slots 1, 2 and 12 are used, the first run starts at 17
+        OtnTribPool pool = OtnTribPool.of(IntStream.rangeClosed(3, 80)
+            .filter(ts -> ts != 12)
+            .mapToObj(Uint16::valueOf)
+            .toList());
+        assertEquals(17, pool.findContiguous(8));
+        assertEquals(3, pool.findContiguous(1));
+        // a run crossing the boundary of two words
+        assertEquals(61, pool(60, 70).findContiguous(5));
+        assertEquals(-1, pool(60, 64).findContiguous(5));
+        assertEquals(-1, OtnTribPool.EMPTY.findContiguous(1));
+    }
+}
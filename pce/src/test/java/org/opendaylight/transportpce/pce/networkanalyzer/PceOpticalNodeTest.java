@@ -25,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opendaylight.transportpce.common.StringConstants;
 import org.opendaylight.transportpce.common.fixedflex.GridConstant;
 import org.opendaylight.transportpce.common.fixedflex.GridUtils;
+import org.opendaylight.transportpce.common.fixedflex.SpectrumBand;
 import org.opendaylight.transportpce.common.mapping.PortMapping;
 import org.opendaylight.transportpce.pce.networkanalyzer.port.NoPreference;
 import org.opendaylight.transportpce.pce.networkanalyzer.port.Preference;
@@ -146,6 +147,32 @@ public class PceOpticalNodeTest extends AbstractTest {
         assertTrue(pceOpticalNode.checkTP("testTP"));
     }
 
+    @Test
+    void testInitLBandFrequenciesBitSet() {
+        Map<AvailFreqMapsKey, AvailFreqMaps> availFreqMaps = new HashMap<>(
+            GridUtils.initFreqMaps4FixedGrid2Available());
+        AvailFreqMaps lBandFreqMap = GridUtils.initFreqMap2Available(SpectrumBand.L_BAND);
+        availFreqMaps.put(lBandFreqMap.key(), lBandFreqMap);
+        Node specificNode = new NodeBuilder(node)
+            .addAugmentation(new org.opendaylight.yang.gen.v1.http.org.openroadm.network.topology.rev250110
+                    .Node1Builder()
+                .setSrgAttributes(new SrgAttributesBuilder().setAvailFreqMaps(availFreqMaps).build())
+                .build())
+            .build();
+        pceOpticalNode = new PceOpticalNode(deviceNodeId, serviceType, portMapping, specificNode,
+                OpenroadmNodeType.SRG, StringConstants.OPENROADM_DEVICE_VERSION_2_2_1, new NodeMcCapability());
+        pceOpticalNode.initFrequenciesBitSet();
+        assertTrue(pceOpticalNode.isValid());
+        assertEquals(GridConstant.EFFECTIVE_BITS, pceOpticalNode.getBitSetData(SpectrumBand.L_BAND).cardinality());
+        assertEquals(pceOpticalNode.getBitSetData(), pceOpticalNode.getBitSetData(SpectrumBand.C_BAND));
+
+        pceOpticalNode = new PceOpticalNode(deviceNodeId, serviceType, portMapping, node,
+                OpenroadmNodeType.DEGREE, StringConstants.OPENROADM_DEVICE_VERSION_2_2_1, new NodeMcCapability());
+        pceOpticalNode.initFrequenciesBitSet();
+        assertTrue(pceOpticalNode.isValid());
+        assertNull(pceOpticalNode.getBitSetData(SpectrumBand.L_BAND), "No L band frequency map on the degree");
+    }
+
     @Test
     void testinitFrequenciesBitSet() {
         pceOpticalNode = new PceOpticalNode(null, null, null, node,
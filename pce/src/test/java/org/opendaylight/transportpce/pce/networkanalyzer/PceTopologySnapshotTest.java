@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.pce.networkanalyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.Futures;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.common.StringConstants;
+import org.opendaylight.transportpce.common.fixedflex.GridConstant;
+import org.opendaylight.transportpce.common.fixedflex.GridUtils;
+import org.opendaylight.transportpce.common.network.NetworkTransactionService;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.optical.channel.types.rev250110.FrequencyTHz;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.network.types.rev250110.OpenroadmNodeType;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.AToZDirection;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.AToZDirectionBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.atoz.direction.AToZ;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.atoz.direction.AToZBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.ResourceBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.resource.resource.TerminationPointBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.NetworkId;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.Networks;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.NodeId;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.Network;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.NetworkBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.NetworkKey;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+
+@ExtendWith(MockitoExtension.class)
+class PceTopologySnapshotTest {
+
+    private static final String MIN_FREQUENCY = "196.075";
+    private static final String MAX_FREQUENCY = "196.125";
+
+    @Mock
+    private NetworkTransactionService networkTransactionService;
+    private PceTopologySnapshot topologySnapshot;
+
+    @BeforeEach
+    void setUp() {
+        topologySnapshot = new PceTopologySnapshot(networkTransactionService);
+    }
+
+    private static AToZ terminationPoint(String id, String tpNodeId, String tpId) {
+        return new AToZBuilder()
+            .setId(id)
+            .setResource(new ResourceBuilder()
+                .setResource(new TerminationPointBuilder().setTpNodeId(tpNodeId).setTpId(tpId).build())
+                .build())
+            .build();
+    }
+
+    private static AToZDirection atoZDirection() {
+        AToZ xpdr = terminationPoint("0", "XPDR-A1-XPDR1", "XPDR1-NETWORK1");
+        AToZ srg = terminationPoint("1", "ROADM-A1-SRG1", "SRG1-PP1-TXRX");
+        AToZ degree = terminationPoint("2", "ROADM-A1-DEG2", "DEG2-TTP-TXRX");
+        return new AToZDirectionBuilder()
+            .setAToZ(Map.of(xpdr.key(), xpdr, srg.key(), srg, degree.key(), degree))
+            .setAToZMinFrequency(FrequencyTHz.getDefaultInstance(MIN_FREQUENCY))
+            .setAToZMaxFrequency(FrequencyTHz.getDefaultInstance(MAX_FREQUENCY))
+            .build();
+    }
+
+    private static BitSet expectedSlots() {
+        BitSet expected = new BitSet();
+        expected.set(GridUtils.getIndexFromFrequency(FrequencyTHz.getDefaultInstance(MIN_FREQUENCY).getValue()),
+            GridUtils.getIndexFromFrequency(FrequencyTHz.getDefaultInstance(MAX_FREQUENCY).getValue()));
+        return expected;
+    }
+
+    private static PceNode pceNode(OpenroadmNodeType nodeType) {
+        PceNode pceNode = mock(PceNode.class);
+        BitSet available = new BitSet(GridConstant.EFFECTIVE_BITS);
+        available.set(0, GridConstant.EFFECTIVE_BITS);
+        when(pceNode.getBitSetData()).thenReturn(available);
+        lenient().when(pceNode.getORNodeType()).thenReturn(nodeType);
+        return pceNode;
+    }
+
+    @Test
+    void networkIsReadOnlyOnce() throws InterruptedException, ExecutionException {
+        DataObjectIdentifier<Network> networkIdentifier = DataObjectIdentifier.builder(Networks.class)
+            .child(Network.class, new NetworkKey(new NetworkId(StringConstants.OPENROADM_TOPOLOGY)))
+            .build();
+        Network network = new NetworkBuilder().setNetworkId(new NetworkId(StringConstants.OPENROADM_TOPOLOGY)).build();
+        doReturn(Futures.immediateFuture(Optional.of(network)))
+            .when(networkTransactionService).read(LogicalDatastoreType.CONFIGURATION, networkIdentifier);
+
+        assertSame(network, topologySnapshot.readNetwork(networkIdentifier).orElseThrow());
+        assertSame(network, topologySnapshot.readNetwork(networkIdentifier).orElseThrow());
+        verify(networkTransactionService, times(1)).read(LogicalDatastoreType.CONFIGURATION, networkIdentifier);
+    }
+
+    @Test
+    void reservedSpectrumIsWithdrawnFromRoadmNodes() {
+        topologySnapshot.reserve(atoZDirection(), null);
+        BitSet expected = expectedSlots();
+        assertEquals(expected, topologySnapshot.getReservedSlots("ROADM-A1-SRG1"));
+        assertEquals(expected, topologySnapshot.getReservedSlots("ROADM-A1-DEG2"));
+        assertTrue(topologySnapshot.getReservedSlots("ROADM-B1-DEG1").isEmpty());
+
+        PceNode srg = pceNode(OpenroadmNodeType.SRG);
+        PceNode degree = pceNode(OpenroadmNodeType.DEGREE);
+        PceNode xponder = pceNode(OpenroadmNodeType.XPONDER);
+        PceNode otherDegree = pceNode(OpenroadmNodeType.DEGREE);
+        topologySnapshot.applyReservations(Map.of(
+            new NodeId("ROADM-A1-SRG1"), srg,
+            new NodeId("ROADM-A1-DEG2"), degree,
+            new NodeId("XPDR-A1-XPDR1"), xponder,
+            new NodeId("ROADM-B1-DEG1"), otherDegree));
+
+        assertFalse(srg.getBitSetData().intersects(expected));
+        assertEquals(GridConstant.EFFECTIVE_BITS - expected.cardinality(), degree.getBitSetData().cardinality());
+        assertEquals(GridConstant.EFFECTIVE_BITS, xponder.getBitSetData().cardinality(),
+            "Transponder spectrum should not be reserved");
+        assertEquals(GridConstant.EFFECTIVE_BITS, otherDegree.getBitSetData().cardinality(),
+            "Nodes out of the reserved paths should keep their spectrum");
+    }
+}
@@ -474,6 +474,38 @@ public class TapiOpticalNodeTest extends AbstractTest {
         }
     }
 
+    @Test
+    void testRoadmDecompositionIsReused() {
+        this.anodeId = spdrSA1xpdr1Id;
+        this.znodeId = spdrSC1xpdr1Id;
+        this.aportId = null;
+        this.zportId = null;
+        this.serviceType = "100GEt";
+        try {
+            tapiONroadmA = getTapiOpticalNodeFromId(roadmAId);
+        } catch (ExecutionException e) {
+            LOG.error("Unable to get node from mdsal: ", e);
+        }
+        tapiONroadmA.initialize();
+        long hits = TapiOpticalNode.getRoadmDecompositionHits();
+        // A second request on the same ROADM reuses its decomposition and creates the same disaggregated nodes
+        this.anodeId = xpdrA1xpdr1Id;
+        this.znodeId = xpdrC1xpdr1Id;
+        TapiOpticalNode secondRequestRoadmA = null;
+        try {
+            secondRequestRoadmA = getTapiOpticalNodeFromId(roadmAId);
+        } catch (ExecutionException e) {
+            LOG.error("Unable to get node from mdsal: ", e);
+        }
+        secondRequestRoadmA.initialize();
+        assertEquals(hits + 1, TapiOpticalNode.getRoadmDecompositionHits());
+        assertEquals(tapiONroadmA.getPceNodeMap().keySet(), secondRequestRoadmA.getPceNodeMap().keySet());
+        assertEquals(tapiONroadmA.getPceInternalLinkMap().keySet(),
+            secondRequestRoadmA.getPceInternalLinkMap().keySet());
+        assertEquals(4, secondRequestRoadmA.getDegOtsNep().size());
+        assertEquals(10, secondRequestRoadmA.getSrgOtsNep().size());
+    }
+
     @Test
     void testinitTapiXndrTpsAZxpdr1() {
         this.anodeId = spdrSA1xpdr1Id;
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.pce.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opendaylight.transportpce.pce.service.PathComputationServiceImpl.OR_PCE_OPER_MODE;
+import static org.opendaylight.transportpce.pce.service.PathComputationServiceImpl.TAPI_PCE_OPER_MODE;
+
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.transportpce.pce.utils.PceTestData;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestInputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestOutput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestOutputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.configuration.response.common.ConfigurationResponseCommonBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.AToZDirectionBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.atoz.direction.AToZ;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.atoz.direction.AToZBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.ResourceBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.resource.resource.LinkBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.resource.resource.TerminationPointBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.response.parameters.sp.ResponseParametersBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.response.parameters.sp.response.parameters.PathDescriptionBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.service.handler.header.ServiceHandlerHeaderBuilder;
+
+class PathComputationResultCacheTest {
+
+    private PathComputationResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PathComputationResultCache(PathComputationResultCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    private static PathComputationRequestInput request(String serviceName, String requestId) {
+        return new PathComputationRequestInputBuilder(PceTestData.getPCERequest())
+            .setServiceName(serviceName)
+            .setResourceReserve(false)
+            .setServiceHandlerHeader(new ServiceHandlerHeaderBuilder().setRequestId(requestId).build())
+            .build();
+    }
+
+    private static AToZ terminationPoint(String id, String tpNodeId) {
+        return new AToZBuilder()
+            .setId(id)
+            .setResource(new ResourceBuilder()
+                .setResource(new TerminationPointBuilder().setTpNodeId(tpNodeId).setTpId("DEG1-TTP-TXRX").build())
+                .build())
+            .build();
+    }
+
+    private static AToZ link(String id, String linkId) {
+        return new AToZBuilder()
+            .setId(id)
+            .setResource(new ResourceBuilder().setResource(new LinkBuilder().setLinkId(linkId).build()).build())
+            .build();
+    }
+
+    private static PathComputationRequestOutput output(String requestId, String degreeA, String linkId,
+            String degreeZ) {
+        AToZ tpA = terminationPoint("0", degreeA);
+        AToZ link = link("1", linkId);
+        AToZ tpZ = terminationPoint("2", degreeZ);
+        return new PathComputationRequestOutputBuilder()
+            .setConfigurationResponseCommon(new ConfigurationResponseCommonBuilder()
+                .setAckFinalIndicator("Yes")
+                .setRequestId(requestId)
+                .setResponseCode("200")
+                .setResponseMessage("Path is calculated")
+                .build())
+            .setResponseParameters(new ResponseParametersBuilder()
+                .setPathDescription(new PathDescriptionBuilder()
+                    .setAToZDirection(new AToZDirectionBuilder()
+                        .setAToZ(Map.of(tpA.key(), tpA, link.key(), link, tpZ.key(), tpZ))
+                        .build())
+                    .build())
+                .build())
+            .build();
+    }
+
+    @Test
+    void requestsDifferingByNameAndRequestIdShareTheirResult() {
+        PathComputationResultCache.Key key =
+            PathComputationResultCache.key(request("service1", "request1"), OR_PCE_OPER_MODE);
+        assertNull(cache.get(key));
+        PathComputationRequestOutput output = output("request1", "ROADM-A1-DEG1", "link-AC", "ROADM-C1-DEG1");
+        cache.put(key, cache.getGeneration(), output);
+
+        PathComputationResultCache.Key sameKey =
+            PathComputationResultCache.key(request("service2", "request2"), OR_PCE_OPER_MODE);
+        assertEquals(key, sameKey);
+        assertSame(output, cache.get(sameKey));
+        assertNotEquals(key,
+            PathComputationResultCache.key(request("service1", "request1"), TAPI_PCE_OPER_MODE));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void requestsReservingResourcesAreNotCacheable() {
+        assertTrue(cache.isCacheable(request("service1", "request1"), OR_PCE_OPER_MODE));
+        assertFalse(cache.isCacheable(PceTestData.getPCERequest(), OR_PCE_OPER_MODE));
+        assertFalse(new PathComputationResultCache(PathComputationResultCache.DEFAULT_MAXIMUM_SIZE, null)
+            .isCacheable(request("service1", "request1"), OR_PCE_OPER_MODE),
+            "Without topology notifications nothing is cached");
+    }
+
+    @Test
+    void requestsOfTapiOperationalModeAreNotCacheable() {
+        assertFalse(cache.isCacheable(request("service1", "request1"), TAPI_PCE_OPER_MODE),
+            "The T-API topology is not followed by the cache");
+    }
+
+    @Test
+    void changeOfAResourceInvalidatesThePathsCrossingIt() {
+        PathComputationRequestInput requestAC = request("service1", "request1");
+        PathComputationRequestInput requestAB = new PathComputationRequestInputBuilder(requestAC)
+            .setServiceAEnd(null)
+            .build();
+        PathComputationResultCache.Key keyAC = PathComputationResultCache.key(requestAC, "mode");
+        PathComputationResultCache.Key keyAB = PathComputationResultCache.key(requestAB, "mode");
+        cache.put(keyAC, cache.getGeneration(), output("request1", "ROADM-A1-DEG1", "link-AC", "ROADM-C1-DEG1"));
+        cache.put(keyAB, cache.getGeneration(), output("request2", "ROADM-A1-DEG2", "link-AB", "ROADM-B1-DEG1"));
+        assertEquals(2, cache.size());
+
+        cache.invalidateResource("ROADM-C1-DEG1");
+        assertNull(cache.get(keyAC));
+        assertEquals("request2", cache.get(keyAB).getConfigurationResponseCommon().getRequestId());
+
+        cache.invalidateResource("link-AB");
+        assertNull(cache.get(keyAB));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void resultComputedDuringATopologyChangeIsNotCached() {
+        PathComputationResultCache.Key key = PathComputationResultCache.key(request("service1", "request1"), "mode");
+        long generation = cache.getGeneration();
+        cache.invalidateResource("ROADM-B1-DEG1");
+        cache.put(key, generation, output("request1", "ROADM-A1-DEG1", "link-AC", "ROADM-C1-DEG1"));
+        assertNull(cache.get(key));
+
+        cache.put(key, cache.getGeneration(), output("request1", "ROADM-A1-DEG1", "link-AC", "ROADM-C1-DEG1"));
+        cache.invalidateAll();
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    void failedResultsAreNotCached() {
+        PathComputationResultCache.Key key = PathComputationResultCache.key(request("service1", "request1"), "mode");
+        cache.put(key, cache.getGeneration(), new PathComputationRequestOutputBuilder()
+            .setConfigurationResponseCommon(new ConfigurationResponseCommonBuilder()
+                .setAckFinalIndicator("Yes")
+                .setRequestId("request1")
+                .setResponseCode("Path not calculated")
+                .build())
+            .build());
+        assertNull(cache.get(key));
+    }
+}
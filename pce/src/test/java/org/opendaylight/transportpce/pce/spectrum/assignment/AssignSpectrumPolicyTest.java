@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2026 Smartoptics and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.pce.spectrum.assignment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.transportpce.pce.spectrum.index.SpectrumIndex;
+
+class AssignSpectrumPolicyTest {
+
+    @Test
+    @DisplayName("Policies should be found by name, falling back to high-to-low")
+    void testForName() {
+        assertEquals(AssignSpectrumPolicy.BEST_FIT, AssignSpectrumPolicy.forName("best-fit"));
+        assertEquals(AssignSpectrumPolicy.LOW_TO_HIGH, AssignSpectrumPolicy.forName("LOW_TO_HIGH"));
+        assertEquals(AssignSpectrumPolicy.RANDOM_FIT, AssignSpectrumPolicy.forName(" Random-Fit "));
+        assertEquals(AssignSpectrumPolicy.HIGH_TO_LOW, AssignSpectrumPolicy.forName("worst-fit"));
+        assertEquals(AssignSpectrumPolicy.HIGH_TO_LOW, AssignSpectrumPolicy.forName(null));
+    }
+
+    @Test
+    @DisplayName("Low-to-high should select the lowest available range")
+    void testLowToHigh() {
+        BitSet available = new BitSet();
+        available.set(3, 10);
+        available.set(100, 140);
+        available.set(700, 768);
+
+        Assign assignSpectrum = AssignSpectrumPolicy.LOW_TO_HIGH.assign(new SpectrumIndex());
+        // Center frequencies are 4 slots away from a multiple of 8 (284 % 8)
+        assertEquals(new IndexRange(104, 111), assignSpectrum.range(768, 284, available, 8, 8));
+        assertEquals(new IndexRange(3, 6), assignSpectrum.range(768, 284, available, 1, 4));
+        assertEquals(new IndexRange(0, 0), assignSpectrum.range(768, 284, new BitSet(), 8, 8));
+    }
+
+    @Test
+    @DisplayName("Best-fit should select the smallest block able to host the service")
+    void testBestFit() {
+        BitSet available = new BitSet();
+        available.set(0, 64);
+        available.set(200, 220);
+        available.set(400, 416);
+        available.set(600, 606);
+
+        Assign assignSpectrum = AssignSpectrumPolicy.BEST_FIT.assign(new SpectrumIndex());
+        // 600-605 is too small, 400-415 is the smallest block left
+        assertEquals(new IndexRange(400, 407), assignSpectrum.range(768, 284, available, 4, 8));
+        // Exact fit
+        assertEquals(new IndexRange(400, 415), assignSpectrum.range(768, 284, available, 4, 16));
+        // No center frequency of 200-219 can host 20 slots on a 4 slots grid
+        assertEquals(new IndexRange(2, 21), assignSpectrum.range(768, 284, available, 4, 20));
+        assertEquals(new IndexRange(0, 0), assignSpectrum.range(768, 284, available, 4, 80));
+    }
+
+    @Test
+    @DisplayName("Random-fit should only select available ranges, and all of them eventually")
+    void testRandomFit() {
+        BitSet available = new BitSet();
+        available.set(0, 16);
+        available.set(300, 316);
+
+        Random random = new Random(7);
+        Assign assignSpectrum = new AssignSpectrumRandomFit(new SpectrumIndex(), () -> random);
+        Set<Range> ranges = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            ranges.add(assignSpectrum.range(768, 284, available, 4, 8));
+        }
+        assertEquals(Set.of(new IndexRange(0, 7), new IndexRange(4, 11), new IndexRange(8, 15),
+                new IndexRange(300, 307), new IndexRange(304, 311), new IndexRange(308, 315)), ranges);
+        assertEquals(new IndexRange(0, 0), assignSpectrum.range(768, 284, new BitSet(), 4, 8));
+    }
+
+    @Test
+    @DisplayName("All policies should return an available range aligned on the center frequency grid")
+    void testAllPoliciesOnRandomSpectrum() {
+        Random random = new Random(1);
+        for (int map = 0; map < 200; map++) {
+            BitSet available = randomSpectrum(random);
+            int granularity = random.nextBoolean() ? 8 : 1;
+            int slotWidth = 2 * (1 + random.nextInt(8));
+            boolean feasible = !referenceHighToLow(available, granularity, slotWidth).equals(new IndexRange(0, 0));
+            for (AssignSpectrumPolicy policy : AssignSpectrumPolicy.values()) {
+                Range range = policy.assign(new SpectrumIndex()).range(768, 284, available, granularity, slotWidth);
+                if (!feasible) {
+                    assertEquals(new IndexRange(0, 0), range, policy.getPolicyName());
+                    continue;
+                }
+                assertEquals(slotWidth - 1, range.upper() - range.lower(), policy.getPolicyName());
+                assertEquals(284 % granularity, (range.lower() + slotWidth / 2) % granularity,
+                        policy.getPolicyName());
+                assertTrue(available.get(range.lower(), range.upper() + 1).cardinality() == slotWidth,
+                        policy.getPolicyName());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("High-to-low should give the same ranges as the slot by slot search it replaces")
+    void testHighToLowSameAsReference() {
+        Random random = new Random(2);
+        Assign assignSpectrum = new AssignSpectrumHighToLow(new SpectrumIndex());
+        for (int map = 0; map < 500; map++) {
+            BitSet available = randomSpectrum(random);
+            int granularity = new int[] {1, 2, 4, 8, 16}[random.nextInt(5)];
+            int slotWidth = 2 * (1 + random.nextInt(12));
+            assertEquals(referenceHighToLow(available, granularity, slotWidth),
+                    assignSpectrum.range(768, 284, available, granularity, slotWidth));
+        }
+    }
+
+    private static BitSet randomSpectrum(Random random) {
+        BitSet available = new BitSet(768);
+        int slot = 0;
+        while (slot < 768) {
+            int length = 1 + random.nextInt(40);
+            if (random.nextBoolean()) {
+                available.set(slot, Math.min(768, slot + length));
+            }
+            slot += length;
+        }
+        return available;
+    }
+
+    private static Range referenceHighToLow(BitSet available, int granularity, int slotWidth) {
+        int last = new SpectrumIndex().lastCenterFrequencyIndex(granularity, 284, slotWidth, 768);
+        for (int center = last; center >= slotWidth / 2; center -= granularity) {
+            if (available.get(center - slotWidth / 2, center + slotWidth / 2).cardinality() == slotWidth) {
+                return new IndexRange(center - slotWidth / 2, center + slotWidth / 2 - 1);
+            }
+        }
+        return new IndexRange(0, 0);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2026 Smartoptics and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.pce.spectrum.assignment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpectrumWordsTest {
+
+    @Test
+    @DisplayName("Word scanning should give the same results as java.util.BitSet on random spectrum maps")
+    void testSameResultsAsBitSet() {
+        Random random = new Random(42);
+        for (int map = 0; map < 50; map++) {
+            BitSet bitSet = new BitSet(768);
+            for (int i = 0; i < 768; i++) {
+                if (random.nextInt(4) != 0) {
+                    bitSet.set(i);
+                }
+            }
+            long[] words = bitSet.toLongArray();
+            for (int i = 0; i < 768; i++) {
+                assertEquals(bitSet.nextSetBit(i), SpectrumWords.nextSetBit(words, i));
+                assertEquals(bitSet.nextClearBit(i), SpectrumWords.nextClearBit(words, i));
+                assertEquals(bitSet.previousSetBit(i), SpectrumWords.previousSetBit(words, i));
+                assertEquals(bitSet.previousClearBit(i), SpectrumWords.previousClearBit(words, i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Slots beyond the last word should be considered occupied")
+    void testBeyondLastWord() {
+        BitSet bitSet = new BitSet();
+        bitSet.set(60, 64);
+        long[] words = bitSet.toLongArray();
+
+        assertEquals(-1, SpectrumWords.nextSetBit(words, 64));
+        assertEquals(64, SpectrumWords.nextClearBit(words, 60));
+        assertEquals(63, SpectrumWords.previousSetBit(words, 700));
+        assertEquals(700, SpectrumWords.previousClearBit(words, 700));
+        assertEquals(-1, SpectrumWords.nextSetBit(new long[0], 0));
+    }
+
+    @Test
+    @DisplayName("isRangeSet() should only be true when all the slots of the range are available")
+    void testIsRangeSet() {
+        BitSet bitSet = new BitSet();
+        bitSet.set(100, 200);
+        long[] words = bitSet.toLongArray();
+
+        assertTrue(SpectrumWords.isRangeSet(words, 100, 200));
+        assertTrue(SpectrumWords.isRangeSet(words, 120, 136));
+        assertFalse(SpectrumWords.isRangeSet(words, 99, 110));
+        assertFalse(SpectrumWords.isRangeSet(words, 190, 201));
+        assertFalse(SpectrumWords.isRangeSet(words, 150, 150));
+    }
+}
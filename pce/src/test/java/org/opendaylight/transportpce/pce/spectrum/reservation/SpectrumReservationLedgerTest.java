@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.pce.spectrum.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.transportpce.pce.spectrum.reservation.SpectrumReservationLedger.Reservation;
+
+class SpectrumReservationLedgerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private SpectrumReservationLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new SpectrumReservationLedger(Duration.ofSeconds(60), clock::get);
+    }
+
+    private static BitSet slots(int begin, int stop) {
+        BitSet bitSet = new BitSet();
+        bitSet.set(begin, stop + 1);
+        return bitSet;
+    }
+
+    @Test
+    void reservedSlotsAreHiddenFromTheOtherServices() {
+        assertNotNull(ledger.reserve("service1", Set.of("ROADM-A1-DEG1", "ROADM-C1-DEG1"), 752, 759));
+
+        assertEquals(slots(752, 759), ledger.getReservedSlots("ROADM-A1-DEG1", "service2"));
+        assertEquals(slots(752, 759), ledger.getReservedSlots("ROADM-C1-DEG1", null));
+        assertTrue(ledger.getReservedSlots("ROADM-A1-DEG1", "service1").isEmpty());
+        assertTrue(ledger.getReservedSlots("ROADM-B1-DEG1", "service2").isEmpty());
+    }
+
+    @Test
+    void reservedSlotsAreWithdrawnFromTheAvailableSlotsOfTheirBand() {
+        ledger.reserve("service1", Set.of("ROADM-A1-DEG1"), 760, 767);
+        ledger.reserve("service2", Set.of("ROADM-A1-DEG1"), 1024, 1031);
+        ledger.reserve("service3", Set.of("ROADM-A1-DEG1"), 1784, 1791);
+
+        BitSet cBand = slots(0, 767);
+        ledger.withdrawReservedSlots(cBand, "ROADM-A1-DEG1", "service3", 0, 768);
+        assertEquals(slots(0, 759), cBand);
+        BitSet lBand = slots(0, 767);
+        ledger.withdrawReservedSlots(lBand, "ROADM-A1-DEG1", "service3", 1024, 1792);
+        assertEquals(slots(8, 767), lBand, "L band slots are indexed from the start of the band");
+        ledger.withdrawReservedSlots(lBand, "ROADM-A1-DEG1", null, 1024, 1792);
+        assertEquals(slots(8, 759), lBand);
+    }
+
+    @Test
+    void overlappingReservationOfAnotherServiceConflicts() {
+        assertNotNull(ledger.reserve("service1", Set.of("ROADM-A1-DEG1", "ROADM-C1-DEG1"), 752, 759));
+
+        assertNull(ledger.reserve("service2", Set.of("ROADM-C1-DEG1", "ROADM-C1-SRG1"), 756, 763));
+        assertEquals(1, ledger.getConflictCount());
+        assertNotNull(ledger.reserve("service2", Set.of("ROADM-C1-DEG1", "ROADM-C1-SRG1"), 760, 767),
+            "Adjacent slots do not conflict");
+        assertNotNull(ledger.reserve("service3", Set.of("ROADM-B1-DEG1"), 752, 759),
+            "Slots of other nodes do not conflict");
+        assertNotNull(ledger.reserve("service1", Set.of("ROADM-C1-DEG1"), 752, 755),
+            "A service does not conflict with itself");
+        assertEquals(4, ledger.size());
+        assertEquals(4, ledger.getReservedCount());
+    }
+
+    @Test
+    void reservationsAreReleased() {
+        Reservation working = ledger.reserve("service1", Set.of("ROADM-A1-DEG1"), 752, 759);
+        ledger.reserve("service1", Set.of("ROADM-A1-DEG2"), 752, 759);
+        ledger.reserve("service2", Set.of("ROADM-A1-DEG1"), 760, 767);
+
+        ledger.release(working);
+        assertEquals(slots(760, 767), ledger.getReservedSlots("ROADM-A1-DEG1", null));
+        assertEquals(1, ledger.release("service1"));
+        assertEquals(0, ledger.release("service1"));
+        assertTrue(ledger.getReservedSlots("ROADM-A1-DEG2", null).isEmpty());
+        assertEquals(1, ledger.size());
+    }
+
+    @Test
+    void reservationsExpire() {
+        ledger.reserve("service1", Set.of("ROADM-A1-DEG1"), 752, 759);
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        ledger.reserve("service2", Set.of("ROADM-A1-DEG1"), 760, 767);
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertEquals(slots(760, 767), ledger.getReservedSlots("ROADM-A1-DEG1", null));
+        assertNotNull(ledger.reserve("service3", Set.of("ROADM-A1-DEG1"), 752, 759));
+        assertEquals(1, ledger.getExpiredCount());
+    }
+}
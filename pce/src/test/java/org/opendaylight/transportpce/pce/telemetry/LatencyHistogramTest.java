@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.telemetry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void valuesAreBucketedLogLinearly() {
+        assertEquals(15, LatencyHistogram.bucketIndex(15));
+        assertEquals(16, LatencyHistogram.bucketIndex(16));
+        assertEquals(16, LatencyHistogram.bucketIndex(17));
+        assertEquals(17, LatencyHistogram.bucketIndex(18));
+        assertEquals(1023, LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(1000)));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(Long.MAX_VALUE)));
+        for (long value = 1; value < 1_000_000; value = value * 3 + 1) {
+            long upperBound = LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(value));
+            assertTrue(upperBound >= value && upperBound - value <= value / 8,
+                "Relative error too high for " + value);
+        }
+    }
+
+    @Test
+    void quantilesAreComputedFromBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getQuantile(0.5), "No latency recorded");
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(50, histogram.getMean());
+        assertEquals(100, histogram.getMax());
+        assertEquals(51, histogram.getQuantile(0.5));
+        assertEquals(100, histogram.getQuantile(0.99), "The quantile should be capped by the maximum");
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+    }
+}
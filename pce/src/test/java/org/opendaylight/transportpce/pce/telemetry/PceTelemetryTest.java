@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.telemetry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+import org.opendaylight.transportpce.pce.networkanalyzer.PceResult.LocalCause;
+
+class PceTelemetryTest {
+
+    @Test
+    void stagesAndRejectionsAreCounted() {
+        PceTelemetry telemetry = new PceTelemetry();
+        telemetry.record(PceTelemetry.Stage.GRAPH_BUILD, telemetry.start());
+        telemetry.record(PceTelemetry.Stage.GRAPH_BUILD, telemetry.start());
+        telemetry.candidateEvaluated();
+        telemetry.rejected(LocalCause.TOO_HIGH_LATENCY);
+        telemetry.rejected(LocalCause.NONE);
+        telemetry.rejected(null);
+
+        assertEquals(2, telemetry.getHistogram(PceTelemetry.Stage.GRAPH_BUILD).getCount());
+        assertEquals(2L, telemetry.getStageCounts().get("graph-build"));
+        assertEquals(0L, telemetry.getStageCounts().get("gnpy"));
+        assertEquals(1, telemetry.getCandidatesEvaluated());
+        assertEquals(1, telemetry.getRejections(LocalCause.TOO_HIGH_LATENCY));
+        assertFalse(telemetry.getRejections().containsKey(LocalCause.NONE.name()));
+
+        telemetry.reset();
+        assertEquals(0, telemetry.getHistogram(PceTelemetry.Stage.GRAPH_BUILD).getCount());
+        assertEquals(0, telemetry.getCandidatesEvaluated());
+        assertEquals(0, telemetry.getRejections(LocalCause.TOO_HIGH_LATENCY));
+    }
+
+    @Test
+    void disabledTelemetryRecordsNothing() {
+        PceTelemetry telemetry = PceTelemetry.DISABLED;
+        assertEquals(0, telemetry.start());
+        telemetry.record(PceTelemetry.Stage.REQUEST, telemetry.start());
+        telemetry.candidateEvaluated();
+        telemetry.rejected(LocalCause.NO_PATH_EXISTS);
+
+        assertEquals(0, telemetry.getHistogram(PceTelemetry.Stage.REQUEST).getCount());
+        assertEquals(0, telemetry.getCandidatesEvaluated());
+        assertEquals(0, telemetry.getRejections(LocalCause.NO_PATH_EXISTS));
+    }
+}
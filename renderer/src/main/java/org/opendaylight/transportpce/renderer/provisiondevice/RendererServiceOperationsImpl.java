@@ -50,7 +50,7 @@ import org.opendaylight.transportpce.renderer.provisiondevice.transaction.histor
 import org.opendaylight.transportpce.renderer.provisiondevice.transaction.history.TransactionHistory;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.device.renderer.rev260212.Action;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.device.renderer.rev260212.OtnServicePathInput;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.OtnLinkType;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.OtnLinkType;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.olm.rev210618.GetPm;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.olm.rev210618.GetPmInputBuilder;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.olm.rev210618.GetPmOutput;
@@ -404,7 +404,7 @@ public class RendererServiceOperationsImpl implements RendererServiceOperations
             RpcStatusEx.Pending,
             RENDERING_DEVICES_A_Z_MSG);
 
-        History transactionHistory = new TransactionHistory();
+        History transactionHistory = new TransactionHistory(this.executor);
         ListenableFuture<DeviceRenderingResult> atozrenderingFuture =
             this.executor.submit(
                 new DeviceRenderingTask(this.deviceRenderer, servicePathDataAtoZ, ServicePathDirection.A_TO_Z,
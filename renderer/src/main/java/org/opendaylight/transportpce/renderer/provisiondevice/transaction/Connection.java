@@ -47,6 +47,11 @@ public class Connection implements Transaction {
 
     }
 
+    @Override
+    public String nodeId() {
+        return deviceId;
+    }
+
     @Override
     public String description() {
         return String.format("Connection %s connection number %s isOtn %s", deviceId,
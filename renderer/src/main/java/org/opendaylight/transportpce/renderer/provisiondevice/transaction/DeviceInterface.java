@@ -27,6 +27,11 @@ public class DeviceInterface implements Transaction {
         return delete.deleteInterface(nodeId, interfaceId);
     }
 
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
     @Override
     public String description() {
         return String.format("Node: %s interface id: %s", nodeId, interfaceId);
@@ -31,6 +31,11 @@ public class DevicePort implements Transaction {
         return delete.disablePort(nodeId, portId);
     }
 
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
     @Override
     public String description() {
         return String.format("Node: %s port id: %s", nodeId, portId);
@@ -21,6 +21,12 @@ public interface Transaction {
      */
     boolean rollback(Delete delete);
 
+    /**
+     * Node on which this transaction was made.
+     * Transactions on different nodes may be rolled back concurrently.
+     */
+    String nodeId();
+
     String description();
 
     int hashCode();
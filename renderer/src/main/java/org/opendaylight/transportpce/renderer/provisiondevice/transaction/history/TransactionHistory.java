@@ -8,13 +8,20 @@
 
 package org.opendaylight.transportpce.renderer.provisiondevice.transaction.history;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import org.opendaylight.transportpce.renderer.provisiondevice.transaction.DeviceInterface;
 import org.opendaylight.transportpce.renderer.provisiondevice.transaction.Transaction;
 import org.opendaylight.transportpce.renderer.provisiondevice.transaction.delete.Delete;
@@ -26,11 +33,33 @@ import org.slf4j.LoggerFactory;
  *
  * <p>A transaction can be something like an interface or a roadm connection, that may need to be
  * rolled back in the future.
+ *
+ * <p>Transactions are rolled back in reverse order on each node, nodes being rolled back
+ * concurrently when an executor is provided.
  */
 public class TransactionHistory implements History {
 
     private static final Logger LOG = LoggerFactory.getLogger(TransactionHistory.class);
     Set<Transaction> transactionHistory = Collections.synchronizedSet(new LinkedHashSet<>());
+    private final Executor executor;
+
+    /**
+     * Create a transaction history rolled back by the calling thread.
+     */
+    public TransactionHistory() {
+        this(MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Create a transaction history rolling back the transactions of different nodes concurrently.
+     *
+     * <p>The transactions of a node are always rolled back in reverse order, by a single thread.
+     *
+     * @param executor executor used to roll back each node
+     */
+    public TransactionHistory(Executor executor) {
+        this.executor = executor;
+    }
 
     @Override
     public boolean add(Transaction transaction) {
@@ -92,16 +121,58 @@ public class TransactionHistory implements History {
     @Override
     public boolean rollback(Delete delete) {
 
-        LOG.info("History contains {} items. Rolling them back in reverse order.",
-                transactionHistory.size());
+        // Transactions per node, each list in reverse order, nodes ordered by their last transaction
+        Map<String, List<Transaction>> nodeTransactions = new LinkedHashMap<>();
+        synchronized (transactionHistory) {
+            LOG.info("History contains {} items. Rolling them back in reverse order per node.",
+                    transactionHistory.size());
+            List<Transaction> reverse = new ArrayList<>(transactionHistory);
+            Collections.reverse(reverse);
+            for (Transaction transaction : reverse) {
+                nodeTransactions.computeIfAbsent(transaction.nodeId(), nodeId -> new ArrayList<>()).add(transaction);
+            }
+        }
 
-        List<Transaction> reverse = new ArrayList<>(transactionHistory);
+        List<FutureTask<Boolean>> nodeRollbacks = new ArrayList<>(nodeTransactions.size());
+        for (Map.Entry<String, List<Transaction>> entry : nodeTransactions.entrySet()) {
+            FutureTask<Boolean> nodeRollback = new FutureTask<>(() -> rollback(entry.getValue(), delete));
+            nodeRollbacks.add(nodeRollback);
+            try {
+                executor.execute(nodeRollback);
+            } catch (RejectedExecutionException e) {
+                LOG.warn("Rollback of node {} rejected by executor, rolling it back in current thread",
+                        entry.getKey(), e);
+            }
+        }
 
-        Collections.reverse(reverse);
+        boolean success = true;
+        for (FutureTask<Boolean> nodeRollback : nodeRollbacks) {
+            // Rollbacks not started yet by the executor are run by the current thread,
+            // so that a busy executor does not delay or block the rollback.
+            nodeRollback.run();
+            try {
+                if (!nodeRollback.get()) {
+                    success = false;
+                }
+            } catch (ExecutionException e) {
+                LOG.error("Rollback failed", e);
+                success = false;
+            } catch (InterruptedException e) {
+                LOG.error("Interrupted while waiting for rollback", e);
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        return success;
+
+    }
+
+    private boolean rollback(List<Transaction> transactions, Delete delete) {
 
         boolean success = true;
 
-        for (Transaction transaction : reverse) {
+        for (Transaction transaction : transactions) {
             LOG.info("Rolling back {}", transaction.description());
             if (!transaction.rollback(delete)) {
                 success = false;
@@ -8,17 +8,26 @@
 
 package org.opendaylight.transportpce.renderer.provisiondevice.transaction.history;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
+import org.opendaylight.transportpce.renderer.provisiondevice.transaction.Connection;
 import org.opendaylight.transportpce.renderer.provisiondevice.transaction.DeviceInterface;
 import org.opendaylight.transportpce.renderer.provisiondevice.transaction.Transaction;
 import org.opendaylight.transportpce.renderer.provisiondevice.transaction.delete.Delete;
@@ -125,4 +134,62 @@ class TransactionHistoryTest {
         inOrder.verify(delete, times(1))
                 .deleteInterface("ROADM-A", "DEG1");
     }
+
+    @Test
+    void rollbackKeepsReverseOrderPerNode() {
+        History history = new TransactionHistory();
+        history.addInterfaces("ROADM-A", List.of("DEG1", "DEG2"));
+        history.add(new Connection("ROADM-B", "SRG1-PP1-TXRX-DEG1-TTP-TXRX-761:768", false));
+        history.addInterfaces("ROADM-B", "DEG1");
+        Delete delete = mock(Delete.class);
+        when(delete.deleteInterface(anyString(), anyString())).thenReturn(true);
+        when(delete.deleteCrossConnect("ROADM-B", "SRG1-PP1-TXRX-DEG1-TTP-TXRX-761:768", false))
+                .thenReturn(List.of("DEG1"));
+
+        assertTrue(history.rollback(delete));
+        InOrder inOrderA = inOrder(delete);
+        inOrderA.verify(delete).deleteInterface("ROADM-A", "DEG2");
+        inOrderA.verify(delete).deleteInterface("ROADM-A", "DEG1");
+        InOrder inOrderB = inOrder(delete);
+        inOrderB.verify(delete).deleteInterface("ROADM-B", "DEG1");
+        inOrderB.verify(delete).deleteCrossConnect("ROADM-B", "SRG1-PP1-TXRX-DEG1-TTP-TXRX-761:768", false);
+    }
+
+    @Test
+    void rollbackNodesConcurrently() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        History history = new TransactionHistory(executor);
+        history.addInterfaces("ROADM-A", "DEG1");
+        history.addInterfaces("ROADM-B", "DEG1");
+        CountDownLatch bothNodesStarted = new CountDownLatch(2);
+        Delete delete = mock(Delete.class);
+        // Each node waits for the other one: the rollback only succeeds if both nodes are rolled back together
+        when(delete.deleteInterface(anyString(), eq("DEG1"))).thenAnswer(invocation -> {
+            bothNodesStarted.countDown();
+            return bothNodesStarted.await(10, TimeUnit.SECONDS);
+        });
+
+        try {
+            assertTrue(history.rollback(delete));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rollbackDoesNotDependOnABusyExecutor() {
+        // An executor never running its tasks
+        List<Runnable> pending = new ArrayList<>();
+        History history = new TransactionHistory(pending::add);
+        history.addInterfaces("ROADM-A", "DEG1");
+        history.addInterfaces("ROADM-B", "DEG1");
+        Delete delete = mock(Delete.class);
+        when(delete.deleteInterface("ROADM-A", "DEG1")).thenReturn(true);
+        when(delete.deleteInterface("ROADM-B", "DEG1")).thenReturn(false);
+
+        assertFalse(history.rollback(delete));
+        assertEquals(2, pending.size());
+        verify(delete, times(1)).deleteInterface("ROADM-A", "DEG1");
+        verify(delete, times(1)).deleteInterface("ROADM-B", "DEG1");
+    }
 }
@@ -0,0 +1,444 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.servicehandler.impl;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.opendaylight.mdsal.binding.api.NotificationPublishService;
+import org.opendaylight.transportpce.common.OperationResult;
+import org.opendaylight.transportpce.common.ResponseCodes;
+import org.opendaylight.transportpce.common.Timeouts;
+import org.opendaylight.transportpce.renderer.provisiondevice.RendererServiceOperations;
+import org.opendaylight.transportpce.servicehandler.ModelMappingUtils;
+import org.opendaylight.transportpce.servicehandler.ServiceInput;
+import org.opendaylight.transportpce.servicehandler.impl.ServicehandlerImpl.LogMessages;
+import org.opendaylight.transportpce.servicehandler.listeners.NetworkListener;
+import org.opendaylight.transportpce.servicehandler.listeners.RendererListener;
+import org.opendaylight.transportpce.servicehandler.listeners.ServiceOperationContext;
+import org.opendaylight.transportpce.servicehandler.service.PCEServiceWrapper;
+import org.opendaylight.transportpce.servicehandler.service.ServiceDataStoreOperations;
+import org.opendaylight.transportpce.servicehandler.validation.ServiceCreateValidation;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestOutput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.service.path.rpc.result.PathDescription;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.service.path.rpc.result.PathDescriptionBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.ServiceImplementationRequestInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.ServiceImplementationRequestOutput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.bulk.rev261019.BulkServiceCreate;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.bulk.rev261019.BulkServiceCreateInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.bulk.rev261019.BulkServiceCreateOutput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.bulk.rev261019.BulkServiceCreateOutputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.bulk.rev261019.bulk.service.create.input.ServiceRequest;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.bulk.rev261019.bulk.service.create.output.ServiceResult;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.bulk.rev261019.bulk.service.create.output.ServiceResultBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.bulk.rev261019.bulk.service.create.output.ServiceResultKey;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.RpcActions;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.ServiceEndpoint;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.configuration.response.common.ConfigurationResponseCommonBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.sdnc.request.header.SdncRequestHeader;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.sdnc.request.header.SdncRequestHeaderBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.state.types.rev191129.State;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.ServiceCreateInput;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.ServiceCreateInputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.service.create.input.ServiceAEndBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.service.create.input.ServiceZEndBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.resource.resource.TerminationPoint;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationProcessService;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationProcessServiceBuilder;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Create several services with a single request.
+ * All the requests are validated before any path computation. The paths of the accepted services are then computed
+ * one after the other on a single topology snapshot, the services and their paths are written to the datastore in a
+ * few transactions, and the services are rendered a few at a time, without rendering at the same time two services
+ * which share a device. Each service is still rendered by its own renderer request, the device configurations of
+ * several services are not grouped in a single transaction per device.
+ * The result of each service is reported by the same notifications as a service-create request.
+ */
+public class BulkServiceCreateImpl implements BulkServiceCreate, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(BulkServiceCreateImpl.class);
+    private static final String BULK_SERVICE_CREATE_MSG = "bulkServiceCreate: {}";
+    private static final String PUBLISHER = "ServiceHandler";
+    // Number of services written to the datastore in a single transaction
+    static final int DATASTORE_BATCH_SIZE = 50;
+    // The renderer waits on its own thread pool for the rendering of both directions of a service,
+    // so only a few service implementations can be requested at the same time
+    static final int DEFAULT_RENDERING_PARALLELISM = 2;
+    private static final long RENDERING_TIMEOUT_NANOS =
+        TimeUnit.MILLISECONDS.toNanos(Timeouts.RENDERING_TIMEOUT + Timeouts.OLM_TIMEOUT);
+
+    private final ServiceDataStoreOperations serviceDataStoreOperations;
+    private final RendererListener rendererListener;
+    private final NetworkListener networkListener;
+    private final PCEServiceWrapper pceServiceWrapper;
+    private final RendererServiceOperations rendererServiceOperations;
+    private final NotificationPublishService notificationPublishService;
+    private final int renderingParallelism;
+    // Bulk requests are processed one at a time, so that their path computations do not compete for the spectrum
+    private final ExecutorService executor;
+
+    public BulkServiceCreateImpl(final ServiceDataStoreOperations serviceDataStoreOperations,
+            RendererListener rendererListener, NetworkListener networkListener, PCEServiceWrapper pceServiceWrapper,
+            RendererServiceOperations rendererServiceOperations,
+            NotificationPublishService notificationPublishService, int renderingParallelism) {
+        this(serviceDataStoreOperations, rendererListener, networkListener, pceServiceWrapper,
+                rendererServiceOperations, notificationPublishService, renderingParallelism,
+                Executors.newSingleThreadExecutor());
+    }
+
+    BulkServiceCreateImpl(final ServiceDataStoreOperations serviceDataStoreOperations,
+            RendererListener rendererListener, NetworkListener networkListener, PCEServiceWrapper pceServiceWrapper,
+            RendererServiceOperations rendererServiceOperations,
+            NotificationPublishService notificationPublishService, int renderingParallelism,
+            ExecutorService executor) {
+        this.serviceDataStoreOperations = serviceDataStoreOperations;
+        this.rendererListener = rendererListener;
+        this.networkListener = networkListener;
+        this.pceServiceWrapper = pceServiceWrapper;
+        this.rendererServiceOperations = rendererServiceOperations;
+        this.notificationPublishService = notificationPublishService;
+        this.renderingParallelism = renderingParallelism;
+        this.executor = executor;
+    }
+
+    @Override
+    public ListenableFuture<RpcResult<BulkServiceCreateOutput>> invoke(BulkServiceCreateInput input) {
+        Collection<ServiceRequest> serviceRequests = input.nonnullServiceRequest().values();
+        LOG.info("RPC bulkServiceCreate received for {} services", serviceRequests.size());
+        Map<ServiceResultKey, ServiceResult> serviceResults = new LinkedHashMap<>();
+        List<ServiceCreateInput> acceptedServices = new ArrayList<>();
+        Set<String> requestedPorts = new HashSet<>();
+        for (ServiceRequest serviceRequest : serviceRequests) {
+            ServiceCreateInput serviceCreateInput =
+                createServiceCreateInput(input.getSdncRequestHeader(), serviceRequest);
+            String rejection = validateServiceCreateInput(serviceCreateInput, requestedPorts);
+            ServiceResultBuilder serviceResult = new ServiceResultBuilder()
+                .setServiceName(serviceRequest.getServiceName());
+            if (rejection == null) {
+                acceptedServices.add(serviceCreateInput);
+                serviceResult.setAccepted(true).setMessage("Service creation in progress");
+            } else {
+                LOG.warn("bulkServiceCreate: service {} rejected: {}", serviceRequest.getServiceName(), rejection);
+                sendFailureNotification(serviceCreateInput, rejection);
+                serviceResult.setAccepted(false).setMessage(rejection);
+            }
+            ServiceResult result = serviceResult.build();
+            serviceResults.put(result.key(), result);
+        }
+        if (!acceptedServices.isEmpty()) {
+            this.rendererListener.setserviceDataStoreOperations(serviceDataStoreOperations);
+            this.networkListener.setserviceDataStoreOperations(serviceDataStoreOperations);
+            executor.execute(() -> createServices(acceptedServices));
+        }
+        LOG.info("RPC bulkServiceCreate: {} services accepted out of {}", acceptedServices.size(),
+                serviceRequests.size());
+        return RpcResultBuilder
+            .success(
+                new BulkServiceCreateOutputBuilder()
+                    .setConfigurationResponseCommon(
+                        new ConfigurationResponseCommonBuilder()
+                            .setAckFinalIndicator(
+                                acceptedServices.isEmpty() ? ResponseCodes.FINAL_ACK_YES : ResponseCodes.FINAL_ACK_NO)
+                            .setRequestId(
+                                input.getSdncRequestHeader() == null
+                                    ? null
+                                    : input.getSdncRequestHeader().getRequestId())
+                            .setResponseCode(
+                                acceptedServices.isEmpty() ? ResponseCodes.RESPONSE_FAILED : ResponseCodes.RESPONSE_OK)
+                            .setResponseMessage(
+                                acceptedServices.size() + " services accepted out of " + serviceRequests.size())
+                            .build())
+                    .setServiceResult(serviceResults)
+                    .build())
+            .buildFuture();
+    }
+
+    private static ServiceCreateInput createServiceCreateInput(SdncRequestHeader sdncRequestHeader,
+            ServiceRequest serviceRequest) {
+        return new ServiceCreateInputBuilder()
+            // Each service of the batch is validated as a service-create request
+            .setSdncRequestHeader(
+                sdncRequestHeader == null
+                    ? null
+                    : new SdncRequestHeaderBuilder(sdncRequestHeader).setRpcAction(RpcActions.ServiceCreate).build())
+            .setServiceName(serviceRequest.getServiceName())
+            .setCommonId(serviceRequest.getCommonId())
+            .setConnectionType(serviceRequest.getConnectionType())
+            .setCustomer(serviceRequest.getCustomer())
+            .setServiceAEnd(
+                serviceRequest.getServiceAEnd() == null
+                    ? null
+                    : new ServiceAEndBuilder(serviceRequest.getServiceAEnd()).build())
+            .setServiceZEnd(
+                serviceRequest.getServiceZEnd() == null
+                    ? null
+                    : new ServiceZEndBuilder(serviceRequest.getServiceZEnd()).build())
+            .setHardConstraints(serviceRequest.getHardConstraints())
+            .setSoftConstraints(serviceRequest.getSoftConstraints())
+            .build();
+    }
+
+    /**
+     * Validate a service of the batch.
+     * @param serviceCreateInput the service to validate.
+     * @param requestedPorts the ports requested by the services of the batch already accepted, updated with the ports
+     *     of the service if it is accepted.
+     * @return the reason of the rejection of the service, null if it is accepted.
+     */
+    private String validateServiceCreateInput(ServiceCreateInput serviceCreateInput, Set<String> requestedPorts) {
+        OperationResult validationResult = ServiceCreateValidation.validateServiceCreateRequest(
+                new ServiceInput(serviceCreateInput), RpcActions.ServiceCreate);
+        if (!validationResult.isSuccess()) {
+            LOG.warn(BULK_SERVICE_CREATE_MSG, LogMessages.ABORT_VALID_FAILED);
+            return validationResult.getResultMessage();
+        }
+        String serviceName = serviceCreateInput.getServiceName();
+        if (this.serviceDataStoreOperations.getService(serviceName).isPresent()) {
+            LOG.warn(BULK_SERVICE_CREATE_MSG, LogMessages.serviceInDS(serviceName));
+            return LogMessages.serviceInDS(serviceName);
+        }
+        Set<String> ports = Stream.concat(getTxPorts(serviceCreateInput.getServiceAEnd()),
+                getTxPorts(serviceCreateInput.getServiceZEnd()))
+            .collect(Collectors.toSet());
+        for (String port : ports) {
+            if (requestedPorts.contains(port)) {
+                return "Port " + port + " is already requested by another service of the batch";
+            }
+        }
+        requestedPorts.addAll(ports);
+        return null;
+    }
+
+    private static Stream<String> getTxPorts(ServiceEndpoint serviceEndpoint) {
+        if (serviceEndpoint.getTxDirection() == null) {
+            return Stream.empty();
+        }
+        String node = serviceEndpoint.getNodeId() == null
+            ? serviceEndpoint.getClli()
+            : serviceEndpoint.getNodeId().getValue();
+        return serviceEndpoint.getTxDirection().values().stream()
+            .filter(txDirection -> txDirection.getPort() != null && txDirection.getPort().getPortName() != null)
+            .map(txDirection -> String.join("/", node, txDirection.getPort().getPortDeviceName(),
+                txDirection.getPort().getPortName()));
+    }
+
+    private void createServices(List<ServiceCreateInput> serviceCreateInputs) {
+        List<PathComputationRequestOutput> pceOutputs;
+        try {
+            pceOutputs = pceServiceWrapper.performBulkPCE(serviceCreateInputs).get();
+        } catch (InterruptedException | ExecutionException e) {
+            LOG.error("bulkServiceCreate: path computation failed", e);
+            serviceCreateInputs.forEach(input -> sendFailureNotification(input, LogMessages.ABORT_PCE_FAILED));
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return;
+        }
+        Map<ServiceInput, PathComputationRequestOutput> computedServices = new LinkedHashMap<>();
+        for (int i = 0; i < serviceCreateInputs.size(); i++) {
+            PathComputationRequestOutput pceOutput = pceOutputs.get(i);
+            if (pceOutput.getResponseParameters() == null
+                    || pceOutput.getResponseParameters().getPathDescription() == null) {
+                LOG.warn("bulkServiceCreate: no path found for service {}",
+                        serviceCreateInputs.get(i).getServiceName());
+                sendFailureNotification(serviceCreateInputs.get(i), "PCE path computation failed !");
+                continue;
+            }
+            computedServices.put(new ServiceInput(serviceCreateInputs.get(i)), pceOutput);
+        }
+        List<ServiceImplementationRequestInput> serviceImplementationRequests = new ArrayList<>();
+        for (List<Map.Entry<ServiceInput, PathComputationRequestOutput>> batch
+                : Lists.partition(new ArrayList<>(computedServices.entrySet()), DATASTORE_BATCH_SIZE)) {
+            Map<ServiceInput, PathComputationRequestOutput> servicePaths = new LinkedHashMap<>();
+            batch.forEach(entry -> servicePaths.put(entry.getKey(), entry.getValue()));
+            OperationResult operationResult = serviceDataStoreOperations.createServicesAndPaths(servicePaths);
+            if (!operationResult.isSuccess()) {
+                LOG.error("bulkServiceCreate: {}", operationResult.getResultMessage());
+                servicePaths.keySet().forEach(serviceInput -> sendFailureNotification(
+                        serviceInput.getServiceCreateInput(), operationResult.getResultMessage()));
+                continue;
+            }
+            for (Map.Entry<ServiceInput, PathComputationRequestOutput> servicePath : servicePaths.entrySet()) {
+                ServiceInput serviceInput = servicePath.getKey();
+                this.rendererListener.registerServiceOperation(
+                        new ServiceOperationContext(serviceInput, false, false, false));
+                var responsePathDescription = servicePath.getValue().getResponseParameters().getPathDescription();
+                PathDescription pathDescription = new PathDescriptionBuilder()
+                    .setAToZDirection(responsePathDescription.getAToZDirection())
+                    .setZToADirection(responsePathDescription.getZToADirection())
+                    .build();
+                serviceImplementationRequests.add(
+                        ModelMappingUtils.createServiceImplementationRequest(serviceInput, pathDescription));
+            }
+        }
+        LOG.info("bulkServiceCreate: rendering {} services, {} at a time", serviceImplementationRequests.size(),
+                renderingParallelism);
+        try {
+            renderServices(serviceImplementationRequests);
+        } catch (InterruptedException e) {
+            LOG.warn("bulkServiceCreate: interrupted while rendering services", e);
+            Thread.currentThread().interrupt();
+            return;
+        }
+        LOG.info("bulkServiceCreate: rendering of {} services completed", serviceImplementationRequests.size());
+    }
+
+    /**
+     * Render the services, a few at a time.
+     * A service is rendered as soon as fewer than renderingParallelism services are being rendered and none of its
+     * devices is used by a service being rendered, so that device configurations do not wait for each other. The
+     * services of a device are rendered in the order of the requests.
+     * @param serviceImplementationRequests the services to render.
+     * @throws InterruptedException if interrupted while waiting for the renderings.
+     */
+    void renderServices(List<ServiceImplementationRequestInput> serviceImplementationRequests)
+            throws InterruptedException {
+        List<ServiceImplementationRequestInput> pendingRenderings = new LinkedList<>(serviceImplementationRequests);
+        Map<ListenableFuture<ServiceImplementationRequestOutput>, Rendering> runningRenderings = new HashMap<>();
+        BlockingQueue<ListenableFuture<ServiceImplementationRequestOutput>> completedRenderings =
+            new LinkedBlockingQueue<>();
+        while (!pendingRenderings.isEmpty() || !runningRenderings.isEmpty()) {
+            startRenderings(pendingRenderings, runningRenderings, completedRenderings);
+            long nextDeadline = runningRenderings.values().stream().mapToLong(Rendering::deadline).min().orElseThrow();
+            ListenableFuture<ServiceImplementationRequestOutput> completedRendering =
+                completedRenderings.poll(Math.max(0, nextDeadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (completedRendering != null) {
+                // Renderings which timed out are not running anymore
+                Rendering rendering = runningRenderings.remove(completedRendering);
+                if (rendering != null) {
+                    LOG.debug("bulkServiceCreate: rendering of service {} completed", rendering.serviceName());
+                }
+                continue;
+            }
+            // Each service result is notified by the renderer, a service which takes too long only frees its devices
+            long now = System.nanoTime();
+            runningRenderings.values().removeIf(rendering -> {
+                if (rendering.deadline() > now) {
+                    return false;
+                }
+                LOG.warn("bulkServiceCreate: rendering of service {} not completed", rendering.serviceName());
+                return true;
+            });
+        }
+    }
+
+    private void startRenderings(List<ServiceImplementationRequestInput> pendingRenderings,
+            Map<ListenableFuture<ServiceImplementationRequestOutput>, Rendering> runningRenderings,
+            BlockingQueue<ListenableFuture<ServiceImplementationRequestOutput>> completedRenderings) {
+        Set<String> busyDevices = runningRenderings.values().stream()
+            .flatMap(rendering -> rendering.devices().stream())
+            .collect(Collectors.toSet());
+        Iterator<ServiceImplementationRequestInput> iterator = pendingRenderings.iterator();
+        while (iterator.hasNext() && runningRenderings.size() < renderingParallelism) {
+            ServiceImplementationRequestInput serviceImplementationRequest = iterator.next();
+            Set<String> devices = getDevices(serviceImplementationRequest);
+            boolean devicesAvailable = devices.stream().noneMatch(busyDevices::contains);
+            // The devices of a waiting service are kept for it, so that it is not overtaken by the next services
+            busyDevices.addAll(devices);
+            if (!devicesAvailable) {
+                continue;
+            }
+            iterator.remove();
+            LOG.debug("bulkServiceCreate: sending serviceImplementation request for {}",
+                    serviceImplementationRequest.getServiceName());
+            ListenableFuture<ServiceImplementationRequestOutput> rendering =
+                rendererServiceOperations.serviceImplementation(serviceImplementationRequest, false);
+            runningRenderings.put(rendering, new Rendering(serviceImplementationRequest.getServiceName(), devices,
+                    System.nanoTime() + RENDERING_TIMEOUT_NANOS));
+            rendering.addListener(() -> completedRenderings.add(rendering), MoreExecutors.directExecutor());
+        }
+    }
+
+    private static Set<String> getDevices(ServiceImplementationRequestInput serviceImplementationRequest) {
+        Set<String> devices = new HashSet<>();
+        if (serviceImplementationRequest.getPathDescription() == null
+                || serviceImplementationRequest.getPathDescription().getAToZDirection() == null) {
+            return devices;
+        }
+        serviceImplementationRequest.getPathDescription().getAToZDirection().nonnullAToZ().values().stream()
+            .filter(atoZ -> atoZ.getResource() != null && atoZ.getResource().getResource() instanceof TerminationPoint)
+            .map(atoZ -> ((TerminationPoint) atoZ.getResource().getResource()).getTpNodeId())
+            .filter(tpNodeId -> tpNodeId != null)
+            .forEach(tpNodeId -> devices.add(getDeviceId(tpNodeId)));
+        return devices;
+    }
+
+    // Same naming rule as the renderer to retrieve the device of an openroadm-topology node
+    private static String getDeviceId(String tpNodeId) {
+        for (String nodeSuffix : List.of("-DEG", "-SRG", "-XPDR")) {
+            int index = tpNodeId.indexOf(nodeSuffix);
+            if (index > 0) {
+                return tpNodeId.substring(0, index);
+            }
+        }
+        return tpNodeId;
+    }
+
+    private record Rendering(String serviceName, Set<String> devices, long deadline) {
+    }
+
+    private void sendFailureNotification(ServiceCreateInput serviceCreateInput, String message) {
+        PublishNotificationProcessServiceBuilder notification = new PublishNotificationProcessServiceBuilder()
+            .setServiceName(serviceCreateInput.getServiceName())
+            .setCommonId(serviceCreateInput.getCommonId())
+            .setConnectionType(serviceCreateInput.getConnectionType())
+            .setResponseFailed(message)
+            .setMessage("ServiceCreate request failed ...")
+            .setOperationalState(State.Degraded)
+            .setPublisherName(PUBLISHER);
+        if (serviceCreateInput.getServiceAEnd() != null) {
+            notification.setServiceAEnd(new org.opendaylight.yang.gen.v1.nbi.notifications.rev230728
+                    .notification.process.service.ServiceAEndBuilder(serviceCreateInput.getServiceAEnd()).build());
+        }
+        if (serviceCreateInput.getServiceZEnd() != null) {
+            notification.setServiceZEnd(new org.opendaylight.yang.gen.v1.nbi.notifications.rev230728
+                    .notification.process.service.ServiceZEndBuilder(serviceCreateInput.getServiceZEnd()).build());
+        }
+        sendNbiNotification(notification.build());
+    }
+
+    /**
+     * Send notification to NBI notification in order to publish message.
+     * @param service PublishNotificationService
+     */
+    private void sendNbiNotification(PublishNotificationProcessService service) {
+        try {
+            notificationPublishService.putNotification(service);
+        } catch (InterruptedException e) {
+            LOG.warn("Cannot send notification to nbi", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -17,6 +17,7 @@ import org.opendaylight.transportpce.servicehandler.impl.ServicehandlerImpl.LogM
 import org.opendaylight.transportpce.servicehandler.listeners.NetworkListener;
 import org.opendaylight.transportpce.servicehandler.listeners.PceListener;
 import org.opendaylight.transportpce.servicehandler.listeners.RendererListener;
+import org.opendaylight.transportpce.servicehandler.listeners.ServiceOperationContext;
 import org.opendaylight.transportpce.servicehandler.service.PCEServiceWrapper;
 import org.opendaylight.transportpce.servicehandler.service.ServiceDataStoreOperations;
 import org.opendaylight.transportpce.servicehandler.validation.ServiceCreateValidation;
@@ -80,21 +81,20 @@ public class ServiceCreateImpl implements ServiceCreate {
         }
         // TODO: Here we also have to check if there is an associated temp-service.
         // TODO: If there is one, delete it from the temp-service-list??
-        this.pceListener.setInput(new ServiceInput(input));
-        this.pceListener.setServiceReconfigure(false);
-        this.pceListener.setServiceFeasiblity(false);
-        this.pceListener.setTempService(false);
+        // The operation is registered per service so that concurrent requests do not share their input
+        ServiceOperationContext context = new ServiceOperationContext(new ServiceInput(input), false, false, false);
+        this.pceListener.registerServiceOperation(context);
         this.pceListener.setserviceDataStoreOperations(this.serviceDataStoreOperations);
         this.rendererListener.setserviceDataStoreOperations(serviceDataStoreOperations);
-        this.rendererListener.setServiceInput(new ServiceInput(input));
-        // This ensures that the temp-service boolean is false, especially, when
-        // service-create is initiated after the temp-service-create
-        this.rendererListener.setTempService(false);
+        this.rendererListener.registerServiceOperation(context);
         this.networkListener.setserviceDataStoreOperations(serviceDataStoreOperations);
         LOG.debug(SERVICE_CREATE_MSG, LogMessages.PCE_CALLING);
         PathComputationRequestOutput output = this.pceServiceWrapper.performPCE(input, true);
         if (output == null) {
             LOG.warn(SERVICE_CREATE_MSG, LogMessages.ABORT_PCE_FAILED);
+            // Neither a PCE nor a renderer notification will complete the operation
+            this.pceListener.unregisterServiceOperation(context.serviceName());
+            this.rendererListener.unregisterServiceOperation(context.serviceName());
             sendNbiNotification(new PublishNotificationProcessServiceBuilder()
                     .setServiceName(serviceName)
                     .setServiceAEnd(new ServiceAEndBuilder(input.getServiceAEnd()).build())
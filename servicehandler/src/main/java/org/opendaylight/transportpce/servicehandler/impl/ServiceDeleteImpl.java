@@ -17,6 +17,7 @@ import org.opendaylight.transportpce.servicehandler.impl.ServicehandlerImpl.LogM
 import org.opendaylight.transportpce.servicehandler.listeners.NetworkListener;
 import org.opendaylight.transportpce.servicehandler.listeners.PceListener;
 import org.opendaylight.transportpce.servicehandler.listeners.RendererListener;
+import org.opendaylight.transportpce.servicehandler.listeners.ServiceOperationContext;
 import org.opendaylight.transportpce.servicehandler.service.RendererServiceWrapper;
 import org.opendaylight.transportpce.servicehandler.service.ServiceDataStoreOperations;
 import org.opendaylight.transportpce.servicehandler.validation.checks.ComplianceCheckResult;
@@ -89,13 +90,11 @@ public class ServiceDeleteImpl implements ServiceDelete {
                     LogMessages.serviceNotInDS(serviceName), ResponseCodes.RESPONSE_FAILED);
         }
         LOG.debug("serviceDelete: Service '{}' found in datastore", serviceName);
-        this.pceListener.setInput(new ServiceInput(input));
-        this.pceListener.setServiceReconfigure(false);
-        this.pceListener.setTempService(false);
+        ServiceOperationContext context = new ServiceOperationContext(new ServiceInput(input), false, false, false);
+        this.pceListener.registerServiceOperation(context);
         this.pceListener.setserviceDataStoreOperations(this.serviceDataStoreOperations);
-        this.rendererListener.setTempService(false);
         this.rendererListener.setserviceDataStoreOperations(serviceDataStoreOperations);
-        this.rendererListener.setServiceInput(new ServiceInput(input));
+        this.rendererListener.registerServiceOperation(context);
         this.networkListener.setserviceDataStoreOperations(serviceDataStoreOperations);
         org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.ServiceDeleteInput
                 serviceDeleteInput = ModelMappingUtils.createServiceDeleteInput(new ServiceInput(input));
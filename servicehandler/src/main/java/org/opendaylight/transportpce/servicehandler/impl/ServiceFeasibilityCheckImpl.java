@@ -16,6 +16,7 @@ import org.opendaylight.transportpce.servicehandler.impl.ServicehandlerImpl.LogM
 import org.opendaylight.transportpce.servicehandler.listeners.NetworkListener;
 import org.opendaylight.transportpce.servicehandler.listeners.PceListener;
 import org.opendaylight.transportpce.servicehandler.listeners.RendererListener;
+import org.opendaylight.transportpce.servicehandler.listeners.ServiceOperationContext;
 import org.opendaylight.transportpce.servicehandler.service.PCEServiceWrapper;
 import org.opendaylight.transportpce.servicehandler.service.ServiceDataStoreOperations;
 import org.opendaylight.transportpce.servicehandler.validation.ServiceCreateValidation;
@@ -63,15 +64,15 @@ public class ServiceFeasibilityCheckImpl implements ServiceFeasibilityCheck {
                     input, ResponseCodes.FINAL_ACK_YES,
                     validationResult.getResultMessage(), ResponseCodes.RESPONSE_FAILED);
         }
-        this.pceListener.setInput(new ServiceInput(input));
-        this.pceListener.setServiceReconfigure(false);
-        this.pceListener.setServiceFeasiblity(true);
+        // No renderer operation follows a feasibility check
+        this.pceListener.registerServiceOperation(
+                new ServiceOperationContext(new ServiceInput(input), false, false, true));
         this.pceListener.setserviceDataStoreOperations(this.serviceDataStoreOperations);
         this.rendererListener.setserviceDataStoreOperations(serviceDataStoreOperations);
-        this.rendererListener.setServiceInput(new ServiceInput(input));
         this.networkListener.setserviceDataStoreOperations(serviceDataStoreOperations);
         LOG.debug(SERVICE_FEASIBILITY_CHECK_MSG, LogMessages.PCE_CALLING);
-        PathComputationRequestOutput output = this.pceServiceWrapper.performPCE(input, true);
+        // No resource is reserved for a feasibility check, so that the PCE may answer from its result cache
+        PathComputationRequestOutput output = this.pceServiceWrapper.performPCE(input, false);
         if (output == null) {
             LOG.warn(SERVICE_FEASIBILITY_CHECK_MSG, LogMessages.ABORT_PCE_FAILED);
             return ModelMappingUtils.createCreateServiceReply(input, ResponseCodes.FINAL_ACK_YES,
@@ -16,6 +16,7 @@ import org.opendaylight.transportpce.servicehandler.impl.ServicehandlerImpl.LogM
 import org.opendaylight.transportpce.servicehandler.listeners.NetworkListener;
 import org.opendaylight.transportpce.servicehandler.listeners.PceListener;
 import org.opendaylight.transportpce.servicehandler.listeners.RendererListener;
+import org.opendaylight.transportpce.servicehandler.listeners.ServiceOperationContext;
 import org.opendaylight.transportpce.servicehandler.service.RendererServiceWrapper;
 import org.opendaylight.transportpce.servicehandler.service.ServiceDataStoreOperations;
 import org.opendaylight.transportpce.servicehandler.validation.ServiceCreateValidation;
@@ -72,12 +73,11 @@ public class ServiceReconfigureImpl implements ServiceReconfigure {
                     input,
                     validationResult.getResultMessage());
         }
-        this.pceListener.setInput(new ServiceInput(input));
-        this.pceListener.setServiceReconfigure(true);
-        this.pceListener.setServiceFeasiblity(false);
+        ServiceOperationContext context = new ServiceOperationContext(new ServiceInput(input), true, false, false);
+        this.pceListener.registerServiceOperation(context);
         this.pceListener.setserviceDataStoreOperations(this.serviceDataStoreOperations);
         this.rendererListener.setserviceDataStoreOperations(serviceDataStoreOperations);
-        this.rendererListener.setServiceInput(new ServiceInput(input));
+        this.rendererListener.registerServiceOperation(context);
         this.networkListener.setserviceDataStoreOperations(serviceDataStoreOperations);
         org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915
                 .ServiceDeleteInput serviceDeleteInput =
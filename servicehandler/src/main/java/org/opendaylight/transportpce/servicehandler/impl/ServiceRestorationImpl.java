@@ -19,6 +19,7 @@ import org.opendaylight.transportpce.servicehandler.impl.ServicehandlerImpl.LogM
 import org.opendaylight.transportpce.servicehandler.listeners.NetworkListener;
 import org.opendaylight.transportpce.servicehandler.listeners.PceListener;
 import org.opendaylight.transportpce.servicehandler.listeners.RendererListener;
+import org.opendaylight.transportpce.servicehandler.listeners.ServiceOperationContext;
 import org.opendaylight.transportpce.servicehandler.service.RendererServiceWrapper;
 import org.opendaylight.transportpce.servicehandler.service.ServiceDataStoreOperations;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.RpcActions;
@@ -115,10 +116,10 @@ public class ServiceRestorationImpl implements ServiceRestoration {
             }
             serviceInput.setHardConstraints(DowngradeConstraints.downgradeHardConstraints(hardConstraints));
         }
-        this.pceListener.setInput(serviceInput);
-        this.pceListener.setServiceReconfigure(true);
+        ServiceOperationContext context = new ServiceOperationContext(serviceInput, true, false, false);
+        this.pceListener.registerServiceOperation(context);
         this.pceListener.setserviceDataStoreOperations(this.serviceDataStoreOperations);
-        this.rendererListener.setServiceInput(serviceInput);
+        this.rendererListener.registerServiceOperation(context);
         this.rendererListener.setserviceDataStoreOperations(this.serviceDataStoreOperations);
         this.networkListener.setserviceDataStoreOperations(serviceDataStoreOperations);
         org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915
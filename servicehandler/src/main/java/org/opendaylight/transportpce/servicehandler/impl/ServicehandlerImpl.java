@@ -23,6 +23,9 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,11 +34,20 @@ import org.slf4j.LoggerFactory;
  * Top level service interface providing main OpenROADM controller services.
  */
 @Component
+@Designate(ocd = ServicehandlerImpl.Configuration.class)
 public class ServicehandlerImpl {
+    @ObjectClassDefinition
+    public @interface Configuration {
+        @AttributeDefinition(description = "Maximum number of services of a bulk request rendered at the same time",
+            min = "1")
+        int bulkRenderingParallelism() default BulkServiceCreateImpl.DEFAULT_RENDERING_PARALLELISM;
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(ServicehandlerImpl.class);
 
     private PCEServiceWrapper pceServiceWrapper;
     private RendererServiceWrapper rendererServiceWrapper;
+    private BulkServiceCreateImpl bulkServiceCreate;
     private Registration rpcRegistration;
 
     @Activate
@@ -47,9 +59,35 @@ public class ServicehandlerImpl {
             @Reference CatalogDataStoreOperations catalogDataStoreOperations,
             @Reference PathComputationService pathComputationService,
             @Reference RendererServiceOperations rendererServiceOperations,
-            @Reference NotificationPublishService notificationPublishService) {
+            @Reference NotificationPublishService notificationPublishService,
+            Configuration configuration) {
+        this(rpcProviderService, serviceDataStoreOperations, pceListenerImpl, rendererListenerImpl,
+            networkModelListenerImpl, catalogDataStoreOperations, pathComputationService, rendererServiceOperations,
+            notificationPublishService, configuration.bulkRenderingParallelism());
+    }
+
+    public ServicehandlerImpl(RpcProviderService rpcProviderService,
+            ServiceDataStoreOperations serviceDataStoreOperations, PceListener pceListenerImpl,
+            RendererListener rendererListenerImpl, NetworkListener networkModelListenerImpl,
+            CatalogDataStoreOperations catalogDataStoreOperations, PathComputationService pathComputationService,
+            RendererServiceOperations rendererServiceOperations,
+            NotificationPublishService notificationPublishService) {
+        this(rpcProviderService, serviceDataStoreOperations, pceListenerImpl, rendererListenerImpl,
+            networkModelListenerImpl, catalogDataStoreOperations, pathComputationService, rendererServiceOperations,
+            notificationPublishService, BulkServiceCreateImpl.DEFAULT_RENDERING_PARALLELISM);
+    }
+
+    public ServicehandlerImpl(RpcProviderService rpcProviderService,
+            ServiceDataStoreOperations serviceDataStoreOperations, PceListener pceListenerImpl,
+            RendererListener rendererListenerImpl, NetworkListener networkModelListenerImpl,
+            CatalogDataStoreOperations catalogDataStoreOperations, PathComputationService pathComputationService,
+            RendererServiceOperations rendererServiceOperations,
+            NotificationPublishService notificationPublishService, int bulkRenderingParallelism) {
         this.pceServiceWrapper = new PCEServiceWrapper(pathComputationService, notificationPublishService);
         this.rendererServiceWrapper = new RendererServiceWrapper(rendererServiceOperations, notificationPublishService);
+        this.bulkServiceCreate = new BulkServiceCreateImpl(serviceDataStoreOperations, rendererListenerImpl,
+                networkModelListenerImpl, pceServiceWrapper, rendererServiceOperations, notificationPublishService,
+                bulkRenderingParallelism);
         this.rpcRegistration = rpcProviderService.registerRpcImplementations(
                 new ServiceCreateImpl(serviceDataStoreOperations, pceListenerImpl, rendererListenerImpl,
                         networkModelListenerImpl, pceServiceWrapper, notificationPublishService),
@@ -67,13 +105,15 @@ public class ServicehandlerImpl {
                 new TempServiceDeleteImpl(serviceDataStoreOperations, pceListenerImpl, rendererListenerImpl,
                         rendererServiceWrapper),
                 new AddOpenroadmOperationalModesToCatalogImpl(catalogDataStoreOperations),
-                new AddSpecificOperationalModesToCatalogImpl(catalogDataStoreOperations));
+                new AddSpecificOperationalModesToCatalogImpl(catalogDataStoreOperations),
+                bulkServiceCreate);
         LOG.info("ServicehandlerImpl Initiated");
     }
 
     @Deactivate
     public void close() {
         this.rpcRegistration.close();
+        this.bulkServiceCreate.close();
         LOG.info("ServicehandlerImpl Closed");
     }
 
@@ -16,6 +16,7 @@ import org.opendaylight.transportpce.servicehandler.impl.ServicehandlerImpl.LogM
 import org.opendaylight.transportpce.servicehandler.listeners.NetworkListener;
 import org.opendaylight.transportpce.servicehandler.listeners.PceListener;
 import org.opendaylight.transportpce.servicehandler.listeners.RendererListener;
+import org.opendaylight.transportpce.servicehandler.listeners.ServiceOperationContext;
 import org.opendaylight.transportpce.servicehandler.service.PCEServiceWrapper;
 import org.opendaylight.transportpce.servicehandler.service.ServiceDataStoreOperations;
 import org.opendaylight.transportpce.servicehandler.validation.ServiceCreateValidation;
@@ -73,18 +74,18 @@ public class TempServiceCreateImpl implements TempServiceCreate {
 
         // Starting service create operation
         LOG.debug(TEMP_SERVICE_CREATE_MSG, LogMessages.PCE_CALLING);
-        this.pceListener.setInput(new ServiceInput(input));
-        this.pceListener.setServiceReconfigure(false);
+        ServiceOperationContext context = new ServiceOperationContext(new ServiceInput(input), false, true, false);
+        this.pceListener.registerServiceOperation(context);
         this.pceListener.setserviceDataStoreOperations(this.serviceDataStoreOperations);
-        this.pceListener.setServiceFeasiblity(false);
-        this.pceListener.setTempService(true);
         this.rendererListener.setserviceDataStoreOperations(serviceDataStoreOperations);
-        this.rendererListener.setServiceInput(new ServiceInput(input));
-        this.rendererListener.setTempService(true);
+        this.rendererListener.registerServiceOperation(context);
         this.networkListener.setserviceDataStoreOperations(serviceDataStoreOperations);
         PathComputationRequestOutput output = this.pceServiceWrapper.performPCE(input, true);
         if (output == null) {
             LOG.warn(TEMP_SERVICE_CREATE_MSG, LogMessages.ABORT_PCE_FAILED);
+            // Neither a PCE nor a renderer notification will complete the operation
+            this.pceListener.unregisterServiceOperation(context.serviceName());
+            this.rendererListener.unregisterServiceOperation(context.serviceName());
             return ModelMappingUtils.createCreateServiceReply(
                     input, ResponseCodes.FINAL_ACK_YES,
                     LogMessages.PCE_FAILED, ResponseCodes.RESPONSE_FAILED);
@@ -15,6 +15,7 @@ import org.opendaylight.transportpce.servicehandler.ServiceInput;
 import org.opendaylight.transportpce.servicehandler.impl.ServicehandlerImpl.LogMessages;
 import org.opendaylight.transportpce.servicehandler.listeners.PceListener;
 import org.opendaylight.transportpce.servicehandler.listeners.RendererListener;
+import org.opendaylight.transportpce.servicehandler.listeners.ServiceOperationContext;
 import org.opendaylight.transportpce.servicehandler.service.RendererServiceWrapper;
 import org.opendaylight.transportpce.servicehandler.service.ServiceDataStoreOperations;
 import org.opendaylight.transportpce.servicehandler.validation.checks.ComplianceCheckResult;
@@ -80,14 +81,11 @@ public class TempServiceDeleteImpl implements TempServiceDelete {
                     LogMessages.serviceNotInDS(commonId), ResponseCodes.RESPONSE_FAILED);
         }
         LOG.info("Service '{}' present in datastore !", commonId);
-        this.pceListener.setInput(new ServiceInput(input));
-        this.pceListener.setServiceReconfigure(false);
-        this.pceListener.setTempService(true);
+        ServiceOperationContext context = new ServiceOperationContext(new ServiceInput(input), false, true, false);
+        this.pceListener.registerServiceOperation(context);
         this.pceListener.setserviceDataStoreOperations(this.serviceDataStoreOperations);
         this.rendererListener.setserviceDataStoreOperations(this.serviceDataStoreOperations);
-        this.rendererListener.setServiceInput(new ServiceInput(input));
-        this.rendererListener.setTempService(true);
-        this.rendererListener.setserviceDataStoreOperations(serviceDataStoreOperations);
+        this.rendererListener.registerServiceOperation(context);
         org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110
                 .temp.service.list.Services service = serviceOpt.orElseThrow();
         org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.ServiceDeleteOutput output =
@@ -7,18 +7,25 @@
  */
 package org.opendaylight.transportpce.servicehandler.listeners;
 
-import org.opendaylight.transportpce.servicehandler.ServiceInput;
 import org.opendaylight.transportpce.servicehandler.service.ServiceDataStoreOperations;
 
 public interface PceListener {
 
-    void setInput(ServiceInput serviceInput);
+    /**
+     * Register a service operation waiting for PCE notifications.
+     * The operation is correlated with the notifications by service name, so that several operations on different
+     * services can be processed concurrently.
+     *
+     * @param context the service operation
+     */
+    void registerServiceOperation(ServiceOperationContext context);
 
-    void setServiceReconfigure(Boolean serv);
+    /**
+     * Unregister the service operation of a service, when no PCE notification is expected anymore for it.
+     *
+     * @param serviceName the service name the operation is registered under
+     */
+    void unregisterServiceOperation(String serviceName);
 
     void setserviceDataStoreOperations(ServiceDataStoreOperations serviceData);
-
-    void setTempService(Boolean tempService);
-
-    void setServiceFeasiblity(Boolean serviceFeasiblity);
 }
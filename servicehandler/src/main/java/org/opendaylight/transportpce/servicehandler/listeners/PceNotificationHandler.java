@@ -24,6 +24,7 @@ import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev24
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.service.path.rpc.result.PathDescriptionBuilder;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.ServiceImplementationRequestInput;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.state.types.rev191129.State;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.ServiceCreateInput;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.service.list.Services;
 import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.RpcStatusEx;
 import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.response.parameters.sp.ResponseParametersBuilder;
@@ -43,29 +44,25 @@ public class PceNotificationHandler implements PceListener {
     private static final Logger LOG = LoggerFactory.getLogger(PceNotificationHandler.class);
     private static final String PUBLISHER = "PceListener";
 
-    private ServicePathRpcResult servicePathRpcResult;
+    private volatile ServicePathRpcResult servicePathRpcResult;
     private RendererServiceOperations rendererServiceOperations;
     private ServiceDataStoreOperations serviceDataStoreOperations;
     private PCEServiceWrapper pceServiceWrapper;
-    private ServiceInput input;
-    private Boolean serviceReconfigure;
-    private Boolean tempService;
-    private Boolean serviceFeasiblity;
+    private final ServiceOperationContexts serviceOperations = new ServiceOperationContexts();
     private NotificationPublishService notificationPublishService;
+    private final RendererListener rendererListener;
 
     @Activate
     public PceNotificationHandler(
             @Reference RendererServiceOperations rendererServiceOperations,
             @Reference PathComputationService pathComputationService,
             @Reference NotificationPublishService notificationPublishService,
-            @Reference ServiceDataStoreOperations serviceDataStoreOperations) {
+            @Reference ServiceDataStoreOperations serviceDataStoreOperations,
+            @Reference RendererListener rendererListener) {
         this.rendererServiceOperations = rendererServiceOperations;
+        this.rendererListener = rendererListener;
         this.pceServiceWrapper = new PCEServiceWrapper(pathComputationService, notificationPublishService);
         this.serviceDataStoreOperations = serviceDataStoreOperations;
-        this.serviceReconfigure = false;
-        this.input = null;
-        this.tempService = false;
-        this.serviceFeasiblity = false;
         this.notificationPublishService = notificationPublishService;
     }
 
@@ -74,20 +71,21 @@ public class PceNotificationHandler implements PceListener {
             new CompositeListener.Component<>(ServicePathRpcResult.class, this::onServicePathRpcResult)));
     }
 
-    private void onServicePathRpcResult(ServicePathRpcResult notification) {
+    void onServicePathRpcResult(ServicePathRpcResult notification) {
         if (compareServicePathRpcResult(notification)) {
             LOG.warn("ServicePathRpcResult already wired !");
             return;
         }
         servicePathRpcResult = notification;
-        switch (servicePathRpcResult.getNotificationType().getIntValue()) {
+        ServiceOperationContext context = serviceOperations.get(notification.getServiceName());
+        switch (notification.getNotificationType().getIntValue()) {
             /* path-computation-request. */
             case 1:
-                onPathComputationResult(notification);
+                onPathComputationResult(notification, context);
                 break;
             /* cancel-resource-reserve. */
             case 2:
-                onCancelResourceResult();
+                onCancelResourceResult(notification, context);
                 break;
             default:
                 break;
@@ -97,32 +95,44 @@ public class PceNotificationHandler implements PceListener {
     /**
      * Process path computation request result.
      * @param notification the result notification.
+     * @param context the service operation waiting for this notification, null if none.
      */
-    private void onPathComputationResult(ServicePathRpcResult notification) {
-        LOG.info("PCE '{}' Notification received : {}", servicePathRpcResult.getNotificationType().getName(),
+    private void onPathComputationResult(ServicePathRpcResult notification, ServiceOperationContext context) {
+        LOG.info("PCE '{}' Notification received : {}", notification.getNotificationType().getName(),
                 notification);
 
-        if (!checkStatus(notification)) {
-            return;
+        ServiceInput input = context == null ? null : context.input();
+        switch (checkStatus(notification, input)) {
+            case Successful:
+                break;
+            case Pending:
+                return;
+            default:
+                serviceOperations.remove(notification.getServiceName());
+                // The service is not implemented, no renderer notification will complete the operation
+                rendererListener.unregisterServiceOperation(notification.getServiceName());
+                return;
         }
-        if (servicePathRpcResult.getPathDescription() == null) {
+        if (notification.getPathDescription() == null) {
             LOG.error("'PathDescription' parameter is null ");
             return;
         }
         PathDescription pathDescription =
             new PathDescriptionBuilder()
-                .setAToZDirection(servicePathRpcResult.getPathDescription().getAToZDirection())
-                .setZToADirection(servicePathRpcResult.getPathDescription().getZToADirection())
+                .setAToZDirection(notification.getPathDescription().getAToZDirection())
+                .setZToADirection(notification.getPathDescription().getZToADirection())
                 .build();
         LOG.info("PathDescription gets : {}", pathDescription);
-        if (serviceFeasiblity) {
-            LOG.warn("service-feasibility-check RPC ");
+        if (input == null) {
+            LOG.error("Input is null ! No operation in progress for service '{}'", notification.getServiceName());
             return;
         }
-        if (input == null) {
-            LOG.error("Input is null !");
+        serviceOperations.remove(notification.getServiceName());
+        if (context.serviceFeasibility()) {
+            LOG.warn("service-feasibility-check RPC ");
             return;
         }
+        boolean tempService = context.tempService();
         OperationResult operationResult = null;
         if (tempService) {
             operationResult =
@@ -165,14 +175,15 @@ public class PceNotificationHandler implements PceListener {
     /**
      * Check status of notification and send nbi notification.
      * @param notification ServicePathRpcResult the notification to check.
-     * @return true is status is Successful, false otherwise.
+     * @param input ServiceInput of the service operation, null if none.
+     * @return the status of the notification, Failed if unknown.
      */
-    private boolean checkStatus(ServicePathRpcResult notification) {
-        PublishNotificationProcessService nbiNotification = getPublishNotificationProcessService(notification);
+    private RpcStatusEx checkStatus(ServicePathRpcResult notification, ServiceInput input) {
+        PublishNotificationProcessService nbiNotification = getPublishNotificationProcessService(notification, input);
         PublishNotificationProcessServiceBuilder publishNotificationProcessServiceBuilder =
                 new PublishNotificationProcessServiceBuilder(nbiNotification);
         //TODO is it worth to instantiate the 2 variables above if status is 'Pending' or 'Successful' ?
-        switch (servicePathRpcResult.getStatus()) {
+        switch (notification.getStatus()) {
             case Failed:
                 LOG.error("PCE path computation failed !");
                 nbiNotification = publishNotificationProcessServiceBuilder
@@ -180,26 +191,27 @@ public class PceNotificationHandler implements PceListener {
                         .setResponseFailed("PCE path computation failed !")
                         .setOperationalState(State.Degraded).build();
                 sendNbiNotification(nbiNotification);
-                return false;
+                return RpcStatusEx.Failed;
             case Pending:
                 LOG.warn("PCE path computation returned a Pending RpcStatusEx code!");
-                return false;
+                return RpcStatusEx.Pending;
             case Successful:
                 LOG.info("PCE calculation done OK !");
-                return true;
+                return RpcStatusEx.Successful;
             default:
                 LOG.error("PCE path computation returned an unknown RpcStatusEx code {}",
-                        servicePathRpcResult.getStatus());
+                        notification.getStatus());
                 nbiNotification = publishNotificationProcessServiceBuilder
                         .setMessage("ServiceCreate request failed ...")
                         .setResponseFailed("PCE path computation returned an unknown RpcStatusEx code!")
                         .setOperationalState(State.Degraded).build();
                 sendNbiNotification(nbiNotification);
-                return false;
+                return RpcStatusEx.Failed;
         }
     }
 
-    private PublishNotificationProcessService getPublishNotificationProcessService(ServicePathRpcResult notification) {
+    private PublishNotificationProcessService getPublishNotificationProcessService(ServicePathRpcResult notification,
+            ServiceInput input) {
         if (input == null) {
             return new PublishNotificationProcessServiceBuilder()
                 .setServiceName(notification.getServiceName())
@@ -218,16 +230,26 @@ public class PceNotificationHandler implements PceListener {
 
     /**
      * Process cancel resource result.
+     * @param notification the result notification.
+     * @param context the service operation waiting for this notification, null if none.
      */
-    private void onCancelResourceResult() {
-        if (servicePathRpcResult.getStatus() == RpcStatusEx.Pending) {
+    private void onCancelResourceResult(ServicePathRpcResult notification, ServiceOperationContext context) {
+        if (notification.getStatus() == RpcStatusEx.Pending) {
             LOG.warn("PCE cancel returned a Pending RpcStatusEx code !");
             return;
-        } else if (servicePathRpcResult.getStatus() != RpcStatusEx.Successful
-                && servicePathRpcResult.getStatus() != RpcStatusEx.Failed) {
+        } else if (notification.getStatus() != RpcStatusEx.Successful
+                && notification.getStatus() != RpcStatusEx.Failed) {
             LOG.error("PCE cancel returned an unknown RpcStatusEx code !");
+            serviceOperations.remove(notification.getServiceName());
+            return;
+        }
+        if (context == null) {
+            LOG.error("Input is null ! No operation in progress for service '{}'", notification.getServiceName());
             return;
         }
+        serviceOperations.remove(notification.getServiceName());
+        ServiceInput input = context.input();
+        boolean tempService = context.tempService();
         PublishNotificationProcessServiceBuilder nbiNotificationBuilder;
         State serviceOpState;
         if (tempService) {
@@ -257,7 +279,7 @@ public class PceNotificationHandler implements PceListener {
 
         }
 
-        if (servicePathRpcResult.getStatus() == RpcStatusEx.Failed) {
+        if (notification.getStatus() == RpcStatusEx.Failed) {
             LOG.info("PCE cancel resource failed !");
             sendNbiNotification(
                 nbiNotificationBuilder
@@ -298,14 +320,16 @@ public class PceNotificationHandler implements PceListener {
                     .setOperationalState(serviceOpState)
                     .build());
         }
-        // TODO: should we re-initialize the temp-service boolean to false?
         /**
          * if it was an RPC serviceReconfigure, re-launch PCR.
+         * The path computation result refers to the new service name, if any.
          */
-        if (this.serviceReconfigure) {
+        if (context.serviceReconfigure()) {
             LOG.info("cancel resource reserve done, relaunching PCE path computation ...");
-            this.pceServiceWrapper.performPCE(input.getServiceCreateInput(), true);
-            this.serviceReconfigure = false;
+            ServiceCreateInput serviceCreateInput = input.getServiceCreateInput();
+            serviceOperations.put(serviceCreateInput.getServiceName(),
+                new ServiceOperationContext(input, false, false, false));
+            this.pceServiceWrapper.performPCE(serviceCreateInput, true);
         }
     }
 
@@ -329,13 +353,13 @@ public class PceNotificationHandler implements PceListener {
     }
 
     @Override
-    public void setInput(ServiceInput serviceInput) {
-        this.input = serviceInput;
+    public void registerServiceOperation(ServiceOperationContext context) {
+        serviceOperations.put(context);
     }
 
     @Override
-    public void setServiceReconfigure(Boolean serv) {
-        this.serviceReconfigure = serv;
+    public void unregisterServiceOperation(String serviceName) {
+        serviceOperations.remove(serviceName);
     }
 
     @Override
@@ -343,14 +367,12 @@ public class PceNotificationHandler implements PceListener {
         this.serviceDataStoreOperations = serviceData;
     }
 
-    @Override
-    public void setTempService(Boolean tempService) {
-        this.tempService = tempService;
-    }
-
-    @Override
-    public void setServiceFeasiblity(Boolean serviceFeasiblity) {
-        this.serviceFeasiblity = serviceFeasiblity;
+    /**
+     * Get the number of service operations waiting for a PCE notification.
+     * @return the number of service operations in progress.
+     */
+    public int getServiceOperationCount() {
+        return serviceOperations.size();
     }
 
     /**
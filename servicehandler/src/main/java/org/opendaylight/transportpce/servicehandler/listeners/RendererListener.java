@@ -7,14 +7,25 @@
  */
 package org.opendaylight.transportpce.servicehandler.listeners;
 
-import org.opendaylight.transportpce.servicehandler.ServiceInput;
 import org.opendaylight.transportpce.servicehandler.service.ServiceDataStoreOperations;
 
 public interface RendererListener {
 
-    void setServiceInput(ServiceInput serviceInput);
+    /**
+     * Register a service operation waiting for renderer notifications.
+     * The operation is correlated with the notifications by service name, so that several operations on different
+     * services can be processed concurrently.
+     *
+     * @param context the service operation
+     */
+    void registerServiceOperation(ServiceOperationContext context);
 
-    void setserviceDataStoreOperations(ServiceDataStoreOperations serviceData);
+    /**
+     * Unregister the service operation of a service, when no renderer notification is expected anymore for it.
+     *
+     * @param serviceName the service name the operation is registered under
+     */
+    void unregisterServiceOperation(String serviceName);
 
-    void setTempService(Boolean tempService);
+    void setserviceDataStoreOperations(ServiceDataStoreOperations serviceData);
 }
@@ -21,7 +21,7 @@ import org.opendaylight.transportpce.pce.service.PathComputationService;
 import org.opendaylight.transportpce.servicehandler.ServiceInput;
 import org.opendaylight.transportpce.servicehandler.service.PCEServiceWrapper;
 import org.opendaylight.transportpce.servicehandler.service.ServiceDataStoreOperations;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.OtnLinkType;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.OtnLinkType;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.RendererRpcResultSp;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.renderer.rpc.result.sp.Link;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.rev201125.ServiceRpcResultSh;
@@ -56,11 +56,10 @@ public class RendererNotificationHandler implements RendererListener {
 
     private static final String PUBLISHER = "RendererListener";
     private static final Logger LOG = LoggerFactory.getLogger(RendererNotificationHandler.class);
-    private RendererRpcResultSp serviceRpcResultSp;
+    private volatile RendererRpcResultSp serviceRpcResultSp;
     private ServiceDataStoreOperations serviceDataStoreOperations;
-    private ServiceInput input;
+    private final ServiceOperationContexts serviceOperations = new ServiceOperationContexts();
     private PCEServiceWrapper pceServiceWrapper;
-    private Boolean tempService;
     private NotificationPublishService notificationPublishService;
     private final NetworkModelService networkModelService;
 
@@ -69,8 +68,6 @@ public class RendererNotificationHandler implements RendererListener {
             @Reference NotificationPublishService notificationPublishService,
             @Reference NetworkModelService networkModelService) {
         this.pceServiceWrapper = new PCEServiceWrapper(pathComputationService, notificationPublishService);
-        this.input = null;
-        this.tempService = false;
         this.notificationPublishService = notificationPublishService;
         this.networkModelService = networkModelService;
     }
@@ -80,23 +77,24 @@ public class RendererNotificationHandler implements RendererListener {
             new CompositeListener.Component<>(RendererRpcResultSp.class, this::onRendererRpcResultSp)));
     }
 
-    private void onRendererRpcResultSp(RendererRpcResultSp notification) {
+    void onRendererRpcResultSp(RendererRpcResultSp notification) {
         if (compareServiceRpcResultSp(notification)) {
             LOG.warn("ServiceRpcResultSp already wired !");
             return;
         }
         serviceRpcResultSp = notification;
-        int notifType = serviceRpcResultSp.getNotificationType().getIntValue();
-        LOG.info("Renderer '{}' Notification received : {}", serviceRpcResultSp.getNotificationType().getName(),
+        int notifType = notification.getNotificationType().getIntValue();
+        LOG.info("Renderer '{}' Notification received : {}", notification.getNotificationType().getName(),
                 notification);
+        ServiceOperationContext context = serviceOperations.get(notification.getServiceName());
         switch (notifType) {
             /* service-implementation-request. */
             case 3:
-                onServiceImplementationResult(notification);
+                onServiceImplementationResult(notification, context);
                 break;
             /* service-delete. */
             case 4:
-                onServiceDeleteResult(notification);
+                onServiceDeleteResult(notification, context);
                 break;
             default:
                 break;
@@ -106,15 +104,22 @@ public class RendererNotificationHandler implements RendererListener {
     /**
      * Process service delete result for serviceName.
      * @param notification RendererRpcResultSp
+     * @param context the service operation waiting for this notification, null if none.
      */
-    private void onServiceDeleteResult(RendererRpcResultSp notification) {
-        switch (serviceRpcResultSp.getStatus()) {
+    private void onServiceDeleteResult(RendererRpcResultSp notification, ServiceOperationContext context) {
+        switch (notification.getStatus()) {
             case Successful:
                 updateOtnTopology(notification, true);
                 break;
             case Failed:
                 LOG.error("Renderer service delete failed !");
-                Services service = serviceDataStoreOperations.getService(input.getServiceName()).orElseThrow();
+                serviceOperations.remove(notification.getServiceName());
+                if (context == null) {
+                    LOG.error("ServiceInput parameter is null !");
+                    return;
+                }
+                Services service = serviceDataStoreOperations.getService(context.input().getServiceName())
+                    .orElseThrow();
                 sendNbiNotification(new PublishNotificationProcessServiceBuilder()
                         .setServiceName(service.getServiceName())
                         .setServiceAEnd(new ServiceAEndBuilder(service.getServiceAEnd()).build())
@@ -133,15 +138,23 @@ public class RendererNotificationHandler implements RendererListener {
                 return;
             default:
                 LOG.error("Renderer service delete returned an unknown RpcStatusEx code!");
+                serviceOperations.remove(notification.getServiceName());
                 return;
         }
         LOG.info("Service '{}' deleted !", notification.getServiceName());
-        if (this.input == null) {
+        if (context == null) {
             LOG.error("ServiceInput parameter is null !");
             return;
         }
-        LOG.info("sending PCE cancel resource reserve for '{}'", this.input.getServiceName());
-        this.pceServiceWrapper.cancelPCEResource(this.input.getServiceName(),
+        ServiceInput input = context.input();
+        serviceOperations.remove(notification.getServiceName());
+        if (context.serviceReconfigure()) {
+            // The service is implemented again once the path is recomputed, under its new name if it is renamed
+            serviceOperations.put(input.getNewServiceName() == null
+                ? notification.getServiceName() : input.getNewServiceName(), context);
+        }
+        LOG.info("sending PCE cancel resource reserve for '{}'", input.getServiceName());
+        this.pceServiceWrapper.cancelPCEResource(input.getServiceName(),
                 ServiceNotificationTypes.ServiceDeleteResult);
         sendServiceHandlerNotification(notification, ServiceNotificationTypes.ServiceDeleteResult);
     }
@@ -149,14 +162,17 @@ public class RendererNotificationHandler implements RendererListener {
     /**
      * Process service implementation result for serviceName.
      * @param notification RendererRpcResultSp
+     * @param context the service operation waiting for this notification, null if none.
      */
-    private void onServiceImplementationResult(RendererRpcResultSp notification) {
-        switch (serviceRpcResultSp.getStatus()) {
+    private void onServiceImplementationResult(RendererRpcResultSp notification, ServiceOperationContext context) {
+        switch (notification.getStatus()) {
             case Successful:
-                onSuccededServiceImplementation(notification);
+                serviceOperations.remove(notification.getServiceName());
+                onSuccededServiceImplementation(notification, context);
                 break;
             case Failed:
-                onFailedServiceImplementation(notification.getServiceName());
+                serviceOperations.remove(notification.getServiceName());
+                onFailedServiceImplementation(notification.getServiceName(), context);
                 break;
             case Pending:
                 LOG.warn("Service Implementation still pending according to RpcStatusEx");
@@ -170,28 +186,35 @@ public class RendererNotificationHandler implements RendererListener {
     /**
      * Process succeeded service implementation for service.
      * @param notification RendererRpcResultSp
+     * @param context the service operation waiting for this notification, null if none.
      */
-    private void onSuccededServiceImplementation(RendererRpcResultSp notification) {
+    private void onSuccededServiceImplementation(RendererRpcResultSp notification, ServiceOperationContext context) {
         LOG.info("Service implemented !");
         if (serviceDataStoreOperations == null) {
             LOG.debug("serviceDataStoreOperations is null");
             return;
         }
         updateOtnTopology(notification, false);
+        if (context == null) {
+            LOG.error("ServiceInput parameter is null ! No operation in progress for service '{}'",
+                    notification.getServiceName());
+            return;
+        }
+        ServiceInput input = context.input();
         PublishNotificationProcessServiceBuilder nbiNotificationBuilder =
             new PublishNotificationProcessServiceBuilder()
                 .setServiceAEnd(new ServiceAEndBuilder(input.getServiceAEnd()).build())
                 .setServiceZEnd(new ServiceZEndBuilder(input.getServiceZEnd()).build())
                 .setPublisherName(PUBLISHER);
         String serviceTemp = "";
-        if (tempService) {
+        if (context.tempService()) {
             nbiNotificationBuilder.setCommonId(input.getCommonId()).setConnectionType(input.getConnectionType());
             nbiNotificationBuilder.setIsTempService(true);
             if (input.getServiceName() != null) {
                 nbiNotificationBuilder.setServiceName(input.getServiceName());
             }
             OperationResult operationResult = this.serviceDataStoreOperations.modifyTempService(
-                    serviceRpcResultSp.getServiceName(), State.InService, AdminStates.InService);
+                    notification.getServiceName(), State.InService, AdminStates.InService);
             serviceTemp = "Temp ";
             if (operationResult.isSuccess()) {
                 ServiceRpcResult serviceRpcResult =
@@ -240,7 +263,7 @@ public class RendererNotificationHandler implements RendererListener {
                 }
             }
             OperationResult operationResult = this.serviceDataStoreOperations.modifyService(
-                    serviceRpcResultSp.getServiceName(), State.InService, AdminStates.InService);
+                    notification.getServiceName(), State.InService, AdminStates.InService);
             if (operationResult.isSuccess()) {
                 sendNbiNotification(nbiNotificationBuilder
                     .setResponseFailed("")
@@ -279,7 +302,7 @@ public class RendererNotificationHandler implements RendererListener {
             notificationPublishService.putNotification(serviceHandlerNotification);
         } catch (InterruptedException e) {
             LOG.warn("Something went wrong while sending notification for service {}",
-                    serviceRpcResultSp.getServiceName(), e);
+                    notification.getServiceName(), e);
             Thread.currentThread().interrupt();
         }
     }
@@ -322,7 +345,7 @@ public class RendererNotificationHandler implements RendererListener {
             return serviceRpcResult;
         } catch (InterruptedException e) {
             LOG.warn("Something went wrong while sending notification for service {}",
-                    serviceRpcResultSp.getServiceName(), e);
+                    notification.getServiceName(), e);
             Thread.currentThread().interrupt();
         }
         return null;
@@ -333,10 +356,15 @@ public class RendererNotificationHandler implements RendererListener {
     /**
      * Process failed service implementation for serviceName.
      * @param serviceName String
+     * @param context the service operation waiting for this notification, null if none.
      */
-    private void onFailedServiceImplementation(String serviceName) {
+    private void onFailedServiceImplementation(String serviceName, ServiceOperationContext context) {
         LOG.error("Renderer implementation failed !");
-        Services service = serviceDataStoreOperations.getService(input.getServiceName()).orElseThrow();
+        if (context == null) {
+            LOG.error("ServiceInput parameter is null ! No operation in progress for service '{}'", serviceName);
+            return;
+        }
+        Services service = serviceDataStoreOperations.getService(context.input().getServiceName()).orElseThrow();
         sendNbiNotification(new PublishNotificationProcessServiceBuilder()
                 .setServiceName(service.getServiceName())
                 .setServiceAEnd(new ServiceAEndBuilder(service.getServiceAEnd()).build())
@@ -356,7 +384,7 @@ public class RendererNotificationHandler implements RendererListener {
         }
         OperationResult deleteServiceOperationResult;
         String serviceType = "";
-        if (tempService) {
+        if (context.tempService()) {
             deleteServiceOperationResult = this.serviceDataStoreOperations.deleteTempService(serviceName);
             serviceType = "Temp ";
         } else {
@@ -382,8 +410,13 @@ public class RendererNotificationHandler implements RendererListener {
     }
 
     @Override
-    public void setServiceInput(ServiceInput serviceInput) {
-        this.input = serviceInput;
+    public void registerServiceOperation(ServiceOperationContext context) {
+        serviceOperations.put(context);
+    }
+
+    @Override
+    public void unregisterServiceOperation(String serviceName) {
+        serviceOperations.remove(serviceName);
     }
 
     @Override
@@ -391,9 +424,12 @@ public class RendererNotificationHandler implements RendererListener {
         this.serviceDataStoreOperations = serviceData;
     }
 
-    @Override
-    public void setTempService(Boolean tempService) {
-        this.tempService = tempService;
+    /**
+     * Get the number of service operations waiting for a renderer notification.
+     * @return the number of service operations in progress.
+     */
+    public int getServiceOperationCount() {
+        return serviceOperations.size();
     }
 
     /**
@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.servicehandler.listeners;
+
+import org.opendaylight.transportpce.servicehandler.ServiceInput;
+
+/**
+ * State of a service operation (creation, deletion, reconfiguration...) carried from the RPC starting it to the PCE
+ * and renderer notifications completing it.
+ *
+ * @param input the service input of the RPC
+ * @param serviceReconfigure true if a path computation has to be relaunched once the resources are released
+ * @param tempService true if the operation applies to a temp-service
+ * @param serviceFeasibility true if the path computation is only a feasibility check
+ */
+public record ServiceOperationContext(ServiceInput input, boolean serviceReconfigure, boolean tempService,
+        boolean serviceFeasibility) {
+
+    /**
+     * Get the name of the service the notifications related to this operation refer to.
+     * For temp-services, this is the common-id.
+     *
+     * @return the service name.
+     */
+    public String serviceName() {
+        return input.getServiceName();
+    }
+}
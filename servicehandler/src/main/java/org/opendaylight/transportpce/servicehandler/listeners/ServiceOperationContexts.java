@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.servicehandler.listeners;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Service operations in progress, correlated with the PCE and renderer notifications by service name.
+ * A new operation on a service replaces the previous one, so that an operation which never received its final
+ * notification does not prevent the service from being operated again.
+ */
+public class ServiceOperationContexts {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ServiceOperationContexts.class);
+    private final ConcurrentMap<String, ServiceOperationContext> contexts = new ConcurrentHashMap<>();
+
+    /**
+     * Register a service operation under its own service name.
+     *
+     * @param context the service operation
+     */
+    public void put(ServiceOperationContext context) {
+        put(context.serviceName(), context);
+    }
+
+    /**
+     * Register a service operation under a given service name.
+     *
+     * @param serviceName the service name of the notifications expected for this operation
+     * @param context the service operation
+     */
+    public void put(String serviceName, ServiceOperationContext context) {
+        if (serviceName == null) {
+            LOG.warn("Cannot register a service operation without service name");
+            return;
+        }
+        if (contexts.put(serviceName, context) != null) {
+            LOG.warn("Service operation in progress for service '{}' replaced", serviceName);
+        }
+    }
+
+    public @Nullable ServiceOperationContext get(String serviceName) {
+        return serviceName == null ? null : contexts.get(serviceName);
+    }
+
+    public @Nullable ServiceOperationContext remove(String serviceName) {
+        return serviceName == null ? null : contexts.remove(serviceName);
+    }
+
+    public int size() {
+        return contexts.size();
+    }
+}
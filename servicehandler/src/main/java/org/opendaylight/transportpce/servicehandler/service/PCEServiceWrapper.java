@@ -12,6 +12,8 @@ import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
@@ -203,6 +205,43 @@ public class PCEServiceWrapper {
                 .build();
     }
 
+    /**
+     * Compute the paths of a batch of services on a single topology snapshot.
+     * A pending service-rpc-result is notified for each service of the batch.
+     *
+     * @param serviceCreateInputs services of the batch, already validated
+     * @return the path computation outputs, in the order of the services.
+     */
+    public ListenableFuture<List<PathComputationRequestOutput>> performBulkPCE(
+            List<ServiceCreateInput> serviceCreateInputs) {
+        LOG.info("Calling bulk path computation for {} services", serviceCreateInputs.size());
+        List<PathComputationRequestInput> pathComputationRequestInputs = new ArrayList<>();
+        for (ServiceCreateInput serviceCreateInput : serviceCreateInputs) {
+            notification = new ServiceRpcResultShBuilder()
+                    .setNotificationType(ServiceNotificationTypes.ServiceCreateResult)
+                    .setServiceName(serviceCreateInput.getServiceName())
+                    .setStatus(RpcStatusEx.Pending)
+                    .setStatusMessage("Service compliant, submitting bulk PathComputation Request ...").build();
+            try {
+                notificationPublishService.putNotification(notification);
+            } catch (InterruptedException e) {
+                LOG.info(NOTIFICATION_OFFER_REJECTED_MSG, e);
+            }
+            pathComputationRequestInputs.add(createPceRequestInput(
+                    serviceCreateInput.getServiceName(),
+                    serviceCreateInput.getSdncRequestHeader(),
+                    serviceCreateInput.getHardConstraints(),
+                    serviceCreateInput.getSoftConstraints(),
+                    true,
+                    serviceCreateInput.getServiceAEnd(),
+                    serviceCreateInput.getServiceZEnd(),
+                    serviceCreateInput.getCustomer(),
+                    serviceCreateInput.getServiceAEnd().augmentation(ServiceAEnd2.class),
+                    serviceCreateInput.getServiceZEnd().augmentation(ServiceZEnd2.class)));
+        }
+        return pathComputationService.bulkPathComputationRequest(pathComputationRequestInputs);
+    }
+
     public PathComputationRerouteRequestOutput performPCEReroute(HardConstraints hardConstraints,
            SoftConstraints softConstraints, SdncRequestHeader serviceHandler, ServiceEndpoint serviceAEnd,
            ServiceEndpoint serviceZEnd,
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.transportpce.servicehandler.service;
 
+import java.util.Map;
 import java.util.Optional;
 import org.opendaylight.transportpce.common.OperationResult;
 import org.opendaylight.transportpce.servicehandler.ServiceInput;
@@ -119,6 +120,15 @@ public interface ServiceDataStoreOperations {
      */
     OperationResult createServicePath(ServiceInput serviceInput, PathComputationRequestOutput outputFromPce);
 
+    /**
+     * create new service and servicePath entries for several services in a single transaction.
+     *
+     * @param servicePaths
+     *     ServiceInput data of the services with the output of their pce request.
+     * @return result of createServicesAndPaths operation, none of the entries being created if it failed.
+     */
+    OperationResult createServicesAndPaths(Map<ServiceInput, PathComputationRequestOutput> servicePaths);
+
     /**
      * create new Temp service entry.
      *
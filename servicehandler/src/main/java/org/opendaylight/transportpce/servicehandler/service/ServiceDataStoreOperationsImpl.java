@@ -8,6 +8,7 @@
 package org.opendaylight.transportpce.servicehandler.service;
 
 import com.google.common.util.concurrent.FluentFuture;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -366,6 +367,35 @@ public class ServiceDataStoreOperationsImpl implements ServiceDataStoreOperation
         }
     }
 
+    @Override
+    public OperationResult createServicesAndPaths(Map<ServiceInput, PathComputationRequestOutput> servicePaths) {
+        LOG.debug("Writing {} Services and ServicePaths", servicePaths.size());
+        try {
+            WriteTransaction writeTx = this.dataBroker.newWriteOnlyTransaction();
+            for (Map.Entry<ServiceInput, PathComputationRequestOutput> servicePath : servicePaths.entrySet()) {
+                ServiceInput serviceInput = servicePath.getKey();
+                writeTx.put(
+                    LogicalDatastoreType.OPERATIONAL,
+                    DataObjectIdentifier.builder(ServiceList.class)
+                        .child(Services.class, new ServicesKey(serviceInput.getServiceName()))
+                        .build(),
+                    ModelMappingUtils.mappingServices(serviceInput.getServiceCreateInput(), null));
+                writeTx.put(
+                    LogicalDatastoreType.OPERATIONAL,
+                    DataObjectIdentifier.builder(ServicePathList.class)
+                        .child(ServicePaths.class, new ServicePathsKey(serviceInput.getServiceName()))
+                        .build(),
+                    ModelMappingUtils.mappingServicePaths(serviceInput, servicePath.getValue()));
+            }
+            writeTx.commit().get(Timeouts.DATASTORE_WRITE, TimeUnit.MILLISECONDS);
+            return OperationResult.ok(LogMessages.SUCCESSFUL_MESSAGE);
+        } catch (TimeoutException | InterruptedException | ExecutionException e) {
+            String message = "Failed to create " + servicePaths.size() + " services";
+            LOG.warn("createServicesAndPaths : {}", message, e);
+            return OperationResult.failed(message);
+        }
+    }
+
     @Override
     public OperationResult modifyServicePath(PathDescription pathDescription, String serviceName) {
         LOG.debug("Updating servicePath because of a change in the openroadm-topology");
@@ -0,0 +1,289 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.servicehandler.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendaylight.mdsal.binding.api.NotificationPublishService;
+import org.opendaylight.transportpce.common.OperationResult;
+import org.opendaylight.transportpce.pce.service.PathComputationService;
+import org.opendaylight.transportpce.renderer.provisiondevice.RendererServiceOperations;
+import org.opendaylight.transportpce.servicehandler.ServiceInput;
+import org.opendaylight.transportpce.servicehandler.listeners.NetworkListener;
+import org.opendaylight.transportpce.servicehandler.listeners.RendererListener;
+import org.opendaylight.transportpce.servicehandler.service.PCEServiceWrapper;
+import org.opendaylight.transportpce.servicehandler.service.ServiceDataStoreOperations;
+import org.opendaylight.transportpce.servicehandler.utils.ServiceDataUtils;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestOutput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestOutputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.ServiceImplementationRequestInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.ServiceImplementationRequestInputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.ServiceImplementationRequestOutput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.service.implementation.request.input.PathDescriptionBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.bulk.rev261019.BulkServiceCreateInputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.bulk.rev261019.BulkServiceCreateOutput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.bulk.rev261019.bulk.service.create.input.ServiceRequest;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.bulk.rev261019.bulk.service.create.input.ServiceRequestBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.bulk.rev261019.bulk.service.create.input.service.request.ServiceAEndBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.bulk.rev261019.bulk.service.create.input.service.request.ServiceZEndBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.bulk.rev261019.bulk.service.create.output.ServiceResult;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.bulk.rev261019.bulk.service.create.output.ServiceResultKey;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.node.types.rev210528.NodeIdType;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.ServiceCreateInput;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.AToZDirectionBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.ZToADirectionBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.atoz.direction.AToZ;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.atoz.direction.AToZBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.atoz.direction.AToZKey;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.ResourceBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.resource.resource.TerminationPointBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.response.parameters.sp.ResponseParametersBuilder;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationProcessService;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+
+@ExtendWith(MockitoExtension.class)
+class BulkServiceCreateImplTest {
+
+    @Mock
+    private ServiceDataStoreOperations serviceDataStoreOperations;
+    @Mock
+    private RendererListener rendererListener;
+    @Mock
+    private NetworkListener networkListener;
+    @Mock
+    private PathComputationService pathComputationService;
+    @Mock
+    private RendererServiceOperations rendererServiceOperations;
+    @Mock
+    private NotificationPublishService notificationPublishService;
+    private BulkServiceCreateImpl bulkServiceCreate;
+
+    @BeforeEach
+    void setUp() {
+        // The services are created synchronously by the RPC call
+        bulkServiceCreate = new BulkServiceCreateImpl(serviceDataStoreOperations, rendererListener, networkListener,
+                new PCEServiceWrapper(pathComputationService, notificationPublishService), rendererServiceOperations,
+                notificationPublishService, BulkServiceCreateImpl.DEFAULT_RENDERING_PARALLELISM,
+                MoreExecutors.newDirectExecutorService());
+    }
+
+    private static ServiceRequest serviceRequest(String serviceName, String aendNode, String zendNode) {
+        ServiceCreateInput serviceCreateInput = ServiceDataUtils.buildServiceCreateInput();
+        return new ServiceRequestBuilder()
+            .setServiceName(serviceName)
+            .setCommonId(serviceCreateInput.getCommonId())
+            .setConnectionType(serviceCreateInput.getConnectionType())
+            .setCustomer(serviceCreateInput.getCustomer())
+            .setServiceAEnd(new ServiceAEndBuilder(serviceCreateInput.getServiceAEnd())
+                .setNodeId(new NodeIdType(aendNode))
+                .build())
+            .setServiceZEnd(new ServiceZEndBuilder(serviceCreateInput.getServiceZEnd())
+                .setNodeId(new NodeIdType(zendNode))
+                .build())
+            .build();
+    }
+
+    private static Map<ServiceResultKey, ServiceResult> invoke(BulkServiceCreateImpl bulkServiceCreate,
+            ServiceRequest... serviceRequests) throws InterruptedException, ExecutionException {
+        RpcResult<BulkServiceCreateOutput> result = bulkServiceCreate.invoke(new BulkServiceCreateInputBuilder()
+                .setSdncRequestHeader(ServiceDataUtils.buildServiceCreateInput().getSdncRequestHeader())
+                .setServiceRequest(Stream.of(serviceRequests)
+                    .collect(Collectors.toMap(ServiceRequest::key, request -> request,
+                        (request1, request2) -> request1, LinkedHashMap::new)))
+                .build())
+            .get();
+        assertTrue(result.isSuccessful());
+        return result.getResult().nonnullServiceResult();
+    }
+
+    private static PathComputationRequestOutput pceOutput(String... tpNodeIds) {
+        return new PathComputationRequestOutputBuilder()
+            .setResponseParameters(new ResponseParametersBuilder()
+                .setPathDescription(new org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service
+                        .types.rev220118.response.parameters.sp.response.parameters.PathDescriptionBuilder()
+                    .setAToZDirection(new AToZDirectionBuilder().setAToZ(atoZ(tpNodeIds)).build())
+                    .setZToADirection(new ZToADirectionBuilder().build())
+                    .build())
+                .build())
+            .build();
+    }
+
+    private static Map<AToZKey, AToZ> atoZ(String... tpNodeIds) {
+        List<AToZ> atoZ = new ArrayList<>();
+        for (String tpNodeId : tpNodeIds) {
+            atoZ.add(new AToZBuilder()
+                .setId(String.valueOf(atoZ.size()))
+                .setResource(new ResourceBuilder()
+                    .setResource(new TerminationPointBuilder().setTpNodeId(tpNodeId).setTpId("TP").build())
+                    .build())
+                .build());
+        }
+        return atoZ.stream().collect(Collectors.toMap(AToZ::key, tp -> tp));
+    }
+
+    private static ServiceImplementationRequestInput serviceImplementationRequest(String serviceName,
+            String... tpNodeIds) {
+        return new ServiceImplementationRequestInputBuilder()
+            .setServiceName(serviceName)
+            .setPathDescription(new PathDescriptionBuilder()
+                .setAToZDirection(new AToZDirectionBuilder().setAToZ(atoZ(tpNodeIds)).build())
+                .build())
+            .build();
+    }
+
+    @Test
+    void invalidAndConflictingServicesAreRejectedUpFront() throws InterruptedException, ExecutionException {
+        when(serviceDataStoreOperations.getService(anyString())).thenReturn(Optional.empty());
+        when(pathComputationService.bulkPathComputationRequest(anyList()))
+            .thenReturn(Futures.immediateFuture(List.of(pceOutput("XPDR-A1-XPDR1", "XPDR-C1-XPDR1"))));
+        when(serviceDataStoreOperations.createServicesAndPaths(any())).thenReturn(OperationResult.ok("created"));
+        ServiceRequest invalid = new ServiceRequestBuilder(serviceRequest("service 2", "XPONDER-A2", "XPONDER-Z2"))
+            .setServiceZEnd(null)
+            .build();
+
+        Map<ServiceResultKey, ServiceResult> results = invoke(bulkServiceCreate,
+            serviceRequest("service 1", "XPONDER-A1", "XPONDER-Z1"),
+            invalid,
+            serviceRequest("service 3", "XPONDER-A1", "XPONDER-Z3"));
+
+        assertTrue(results.get(new ServiceResultKey("service 1")).getAccepted());
+        assertFalse(results.get(new ServiceResultKey("service 2")).getAccepted());
+        assertFalse(results.get(new ServiceResultKey("service 3")).getAccepted());
+        verify(notificationPublishService, times(2)).putNotification(any(PublishNotificationProcessService.class));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PathComputationRequestInput>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pathComputationService).bulkPathComputationRequest(captor.capture());
+        assertEquals(List.of("service 1"),
+            captor.getValue().stream().map(PathComputationRequestInput::getServiceName).toList());
+    }
+
+    @Test
+    void computedServicesAreWrittenTogetherAndRendered() throws InterruptedException, ExecutionException {
+        when(serviceDataStoreOperations.getService(anyString())).thenReturn(Optional.empty());
+        when(pathComputationService.bulkPathComputationRequest(anyList()))
+            .thenReturn(Futures.immediateFuture(List.of(
+                pceOutput("XPDR-A1-XPDR1", "ROADM-A1-SRG1", "ROADM-A1-DEG2", "ROADM-C1-DEG1", "XPDR-C1-XPDR1"),
+                new PathComputationRequestOutputBuilder().build(),
+                pceOutput("XPDR-A2-XPDR1", "ROADM-A1-SRG1", "ROADM-A1-DEG2", "ROADM-C1-DEG1", "XPDR-C2-XPDR1"))));
+        when(serviceDataStoreOperations.createServicesAndPaths(any())).thenReturn(OperationResult.ok("created"));
+        when(rendererServiceOperations.serviceImplementation(any(), eq(false)))
+            .thenReturn(Futures.immediateFuture(null));
+
+        Map<ServiceResultKey, ServiceResult> results = invoke(bulkServiceCreate,
+            serviceRequest("service 1", "XPONDER-A1", "XPONDER-Z1"),
+            serviceRequest("service 2", "XPONDER-A2", "XPONDER-Z2"),
+            serviceRequest("service 3", "XPONDER-A3", "XPONDER-Z3"));
+
+        assertEquals(3, results.values().stream().filter(ServiceResult::getAccepted).count());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<ServiceInput, PathComputationRequestOutput>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(serviceDataStoreOperations, times(1)).createServicesAndPaths(captor.capture());
+        assertEquals(List.of("service 1", "service 3"),
+            captor.getValue().keySet().stream().map(ServiceInput::getServiceName).toList());
+        verify(rendererListener, times(2)).registerServiceOperation(any());
+        verify(rendererServiceOperations, times(2)).serviceImplementation(any(), eq(false));
+        // Service 2 has no path
+        verify(notificationPublishService, times(1)).putNotification(any(PublishNotificationProcessService.class));
+    }
+
+    @Test
+    void servicesAreNotRenderedIfNotWrittenInDatastore() throws InterruptedException, ExecutionException {
+        when(serviceDataStoreOperations.getService(anyString())).thenReturn(Optional.empty());
+        when(pathComputationService.bulkPathComputationRequest(anyList()))
+            .thenReturn(Futures.immediateFuture(List.of(pceOutput("XPDR-A1-XPDR1", "XPDR-C1-XPDR1"))));
+        when(serviceDataStoreOperations.createServicesAndPaths(any())).thenReturn(OperationResult.failed("failed"));
+
+        invoke(bulkServiceCreate, serviceRequest("service 1", "XPONDER-A1", "XPONDER-Z1"));
+
+        verify(rendererServiceOperations, never()).serviceImplementation(any(), eq(false));
+        verify(notificationPublishService, times(1)).putNotification(any(PublishNotificationProcessService.class));
+    }
+
+    @Test
+    void servicesSharingDevicesAreNotRenderedAtTheSameTime() throws InterruptedException {
+        ServiceImplementationRequestInput service1 =
+            serviceImplementationRequest("service 1", "XPDR-A1-XPDR1", "ROADM-A1-DEG1", "ROADM-C1-DEG1");
+        ServiceImplementationRequestInput service2 =
+            serviceImplementationRequest("service 2", "XPDR-A2-XPDR1", "ROADM-A1-DEG2", "ROADM-B1-DEG1");
+        ServiceImplementationRequestInput service3 =
+            serviceImplementationRequest("service 3", "XPDR-B1-XPDR1", "ROADM-B1-SRG1", "ROADM-D1-DEG1");
+        ServiceImplementationRequestInput service4 =
+            serviceImplementationRequest("service 4", "ROADM-E1-DEG1", "ROADM-F1-DEG1");
+        ServiceImplementationRequestInput service5 =
+            serviceImplementationRequest("service 5", "ROADM-G1-DEG1", "ROADM-H1-DEG1");
+        when(rendererServiceOperations.serviceImplementation(any(), eq(false)))
+            .thenReturn(Futures.immediateFuture(null));
+
+        bulkServiceCreate.renderServices(List.of(service1, service2, service3, service4, service5));
+
+        // Service 2 shares ROADM-A1 with service 1, and service 3 shares ROADM-B1 with service 2 so it waits for it
+        InOrder inOrder = inOrder(rendererServiceOperations);
+        for (ServiceImplementationRequestInput service : List.of(service1, service4, service2, service5, service3)) {
+            inOrder.verify(rendererServiceOperations).serviceImplementation(service, false);
+        }
+    }
+
+    @Test
+    void renderingsAreLimitedToTheConfiguredParallelism() throws InterruptedException {
+        BulkServiceCreateImpl sequentialBulkServiceCreate = new BulkServiceCreateImpl(serviceDataStoreOperations,
+                rendererListener, networkListener,
+                new PCEServiceWrapper(pathComputationService, notificationPublishService), rendererServiceOperations,
+                notificationPublishService, 1, MoreExecutors.newDirectExecutorService());
+        ServiceImplementationRequestInput service1 =
+            serviceImplementationRequest("service 1", "XPDR-A1-XPDR1", "ROADM-A1-DEG1");
+        ServiceImplementationRequestInput service2 =
+            serviceImplementationRequest("service 2", "XPDR-B1-XPDR1", "ROADM-B1-DEG1");
+        SettableFuture<ServiceImplementationRequestOutput> rendering1 = SettableFuture.create();
+        when(rendererServiceOperations.serviceImplementation(service1, false)).thenReturn(rendering1);
+        when(rendererServiceOperations.serviceImplementation(service2, false)).thenAnswer(invocation -> {
+            // Service 2 is only rendered once service 1 is
+            assertTrue(rendering1.isDone());
+            return Futures.immediateFuture(null);
+        });
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.schedule(() -> rendering1.set(null), 100, TimeUnit.MILLISECONDS);
+
+        sequentialBulkServiceCreate.renderServices(List.of(service1, service2));
+
+        verify(rendererServiceOperations).serviceImplementation(service2, false);
+        scheduler.shutdown();
+    }
+}
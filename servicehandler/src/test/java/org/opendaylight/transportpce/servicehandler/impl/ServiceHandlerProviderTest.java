@@ -46,10 +46,10 @@ public class ServiceHandlerProviderTest extends AbstractTest {
     @Mock
     DataTreeChangeListener<Services> serviceListener;
 
-    private final PceNotificationHandler pceNotificationHandler = new PceNotificationHandler(rendererServiceOperations,
-        pathComputationService, notificationPublishService, serviceDataStoreOperations);
     private final RendererNotificationHandler rendererNotificationHandler = new RendererNotificationHandler(
         pathComputationService, notificationPublishService, networkModelService);
+    private final PceNotificationHandler pceNotificationHandler = new PceNotificationHandler(rendererServiceOperations,
+        pathComputationService, notificationPublishService, serviceDataStoreOperations, rendererNotificationHandler);
     private final NetworkModelNotificationHandler networkModelNotificationHandler = new NetworkModelNotificationHandler(
         notificationPublishService, serviceDataStoreOperations);
 
@@ -152,7 +152,7 @@ public class ServicehandlerImplTest extends AbstractTest {
                 any(ServiceDeleteImpl.class), any(ServiceFeasibilityCheckImpl.class), any(ServiceReconfigureImpl.class),
                 any(ServiceRestorationImpl.class), any(ServiceRerouteImpl.class), any(TempServiceCreateImpl.class),
                 any(TempServiceDeleteImpl.class), any(AddOpenroadmOperationalModesToCatalogImpl.class),
-                any(AddSpecificOperationalModesToCatalogImpl.class));
+                any(AddSpecificOperationalModesToCatalogImpl.class), any(BulkServiceCreateImpl.class));
     }
 
     @Test
@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.servicehandler.listeners;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opendaylight.transportpce.servicehandler.utils.ConcurrentRunner.runConcurrently;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendaylight.mdsal.binding.api.NotificationPublishService;
+import org.opendaylight.transportpce.common.OperationResult;
+import org.opendaylight.transportpce.pce.service.PathComputationService;
+import org.opendaylight.transportpce.renderer.provisiondevice.RendererServiceOperations;
+import org.opendaylight.transportpce.servicehandler.ServiceInput;
+import org.opendaylight.transportpce.servicehandler.service.ServiceDataStoreOperations;
+import org.opendaylight.transportpce.servicehandler.utils.ServiceDataUtils;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.ServiceImplementationRequestInput;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.ServiceCreateInputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.RpcStatusEx;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.ServicePathNotificationTypes;
+
+@ExtendWith(MockitoExtension.class)
+public class PceNotificationHandlerTest {
+
+    private static final int SERVICE_NUMBER = 500;
+
+    @Mock
+    private RendererServiceOperations rendererServiceOperations;
+    @Mock
+    private PathComputationService pathComputationService;
+    @Mock
+    private NotificationPublishService notificationPublishService;
+    @Mock
+    private ServiceDataStoreOperations serviceDataStoreOperations;
+    @Mock
+    private RendererListener rendererListener;
+    private PceNotificationHandler pceNotificationHandler;
+
+    @BeforeEach
+    void setUp() {
+        pceNotificationHandler = new PceNotificationHandler(rendererServiceOperations, pathComputationService,
+                notificationPublishService, serviceDataStoreOperations, rendererListener);
+    }
+
+    private static ServiceInput serviceInput(String serviceName) {
+        return new ServiceInput(new ServiceCreateInputBuilder(ServiceDataUtils.buildServiceCreateInput())
+                .setServiceName(serviceName)
+                .build());
+    }
+
+    @Test
+    void concurrentServiceCreationsKeepTheirOwnInput()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        when(serviceDataStoreOperations.createService(any())).thenReturn(OperationResult.ok("created"));
+        when(serviceDataStoreOperations.createServicePath(any(), any())).thenReturn(OperationResult.ok("created"));
+        List<String> serviceNames = IntStream.range(0, SERVICE_NUMBER).mapToObj(i -> "service " + i).toList();
+        runConcurrently(serviceNames, serviceName -> pceNotificationHandler.registerServiceOperation(
+                new ServiceOperationContext(serviceInput(serviceName), false, false, false)));
+        assertEquals(SERVICE_NUMBER, pceNotificationHandler.getServiceOperationCount());
+
+        // PCE results come back in any order
+        runConcurrently(serviceNames.reversed(), serviceName ->
+            pceNotificationHandler.onServicePathRpcResult(ServiceDataUtils.buildServicePathRpcResult(
+                ServicePathNotificationTypes.PathComputationRequest, serviceName, RpcStatusEx.Successful,
+                "success", true)));
+
+        ArgumentCaptor<ServiceImplementationRequestInput> captor =
+                ArgumentCaptor.forClass(ServiceImplementationRequestInput.class);
+        verify(rendererServiceOperations, times(SERVICE_NUMBER)).serviceImplementation(captor.capture(), eq(false));
+        List<String> implementedServices = captor.getAllValues().stream()
+                .map(ServiceImplementationRequestInput::getServiceName)
+                .sorted()
+                .toList();
+        assertEquals(serviceNames.stream().sorted().toList(), implementedServices);
+        assertEquals(0, pceNotificationHandler.getServiceOperationCount());
+    }
+
+    @Test
+    void failedPathComputationOnlyReleasesItsOwnService() {
+        pceNotificationHandler.registerServiceOperation(
+                new ServiceOperationContext(serviceInput("service 1"), false, false, false));
+        pceNotificationHandler.registerServiceOperation(
+                new ServiceOperationContext(serviceInput("service 2"), false, false, false));
+
+        pceNotificationHandler.onServicePathRpcResult(ServiceDataUtils.buildServicePathRpcResult(
+                ServicePathNotificationTypes.PathComputationRequest, "service 1", RpcStatusEx.Pending,
+                "pending", false));
+        assertEquals(2, pceNotificationHandler.getServiceOperationCount());
+        pceNotificationHandler.onServicePathRpcResult(ServiceDataUtils.buildServicePathRpcResult(
+                ServicePathNotificationTypes.PathComputationRequest, "service 1", RpcStatusEx.Failed,
+                "failed", false));
+        assertEquals(1, pceNotificationHandler.getServiceOperationCount());
+        verify(rendererServiceOperations, never()).serviceImplementation(any(), anyBoolean());
+        verify(rendererListener).unregisterServiceOperation("service 1");
+        verify(rendererListener, never()).unregisterServiceOperation("service 2");
+    }
+
+    @Test
+    void feasibilityCheckDoesNotImplementService() {
+        pceNotificationHandler.registerServiceOperation(
+                new ServiceOperationContext(serviceInput("service 1"), false, false, true));
+        pceNotificationHandler.onServicePathRpcResult(ServiceDataUtils.buildServicePathRpcResult(
+                ServicePathNotificationTypes.PathComputationRequest, "service 1", RpcStatusEx.Successful,
+                "success", true));
+        verify(serviceDataStoreOperations, never()).createService(any());
+        verify(rendererServiceOperations, never()).serviceImplementation(any(), anyBoolean());
+        assertEquals(0, pceNotificationHandler.getServiceOperationCount());
+    }
+
+    @Test
+    void notificationForUnknownServiceIsIgnored() {
+        pceNotificationHandler.registerServiceOperation(
+                new ServiceOperationContext(serviceInput("service 1"), false, false, false));
+        pceNotificationHandler.onServicePathRpcResult(ServiceDataUtils.buildServicePathRpcResult(
+                ServicePathNotificationTypes.PathComputationRequest, "service 2", RpcStatusEx.Successful,
+                "success", true));
+        verify(rendererServiceOperations, never()).serviceImplementation(any(), anyBoolean());
+        assertEquals(1, pceNotificationHandler.getServiceOperationCount());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.servicehandler.listeners;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opendaylight.transportpce.servicehandler.utils.ConcurrentRunner.runConcurrently;
+
+import com.google.common.util.concurrent.Futures;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendaylight.mdsal.binding.api.NotificationPublishService;
+import org.opendaylight.transportpce.common.OperationResult;
+import org.opendaylight.transportpce.networkmodel.service.NetworkModelService;
+import org.opendaylight.transportpce.pce.service.PathComputationService;
+import org.opendaylight.transportpce.servicehandler.ServiceInput;
+import org.opendaylight.transportpce.servicehandler.service.ServiceDataStoreOperations;
+import org.opendaylight.transportpce.servicehandler.utils.ServiceDataUtils;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.CancelResourceReserveOutputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.rev201125.ServiceRpcResultSh;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.state.types.rev191129.State;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.equipment.states.types.rev191129.AdminStates;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.ServiceCreateInput;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.ServiceCreateInputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.RpcStatusEx;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.ServicePathNotificationTypes;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationProcessService;
+import org.opendaylight.yangtools.binding.Notification;
+
+@ExtendWith(MockitoExtension.class)
+public class RendererNotificationHandlerTest {
+
+    private static final int SERVICE_NUMBER = 500;
+
+    @Mock
+    private PathComputationService pathComputationService;
+    @Mock
+    private NotificationPublishService notificationPublishService;
+    @Mock
+    private NetworkModelService networkModelService;
+    @Mock
+    private ServiceDataStoreOperations serviceDataStoreOperations;
+    @Captor
+    private ArgumentCaptor<Notification<?>> notificationCaptor;
+    private RendererNotificationHandler rendererNotificationHandler;
+
+    @BeforeEach
+    void setUp() {
+        rendererNotificationHandler = new RendererNotificationHandler(pathComputationService,
+                notificationPublishService, networkModelService);
+        rendererNotificationHandler.setserviceDataStoreOperations(serviceDataStoreOperations);
+    }
+
+    private static ServiceInput serviceInput(String serviceName) {
+        return new ServiceInput(new ServiceCreateInputBuilder(ServiceDataUtils.buildServiceCreateInput())
+                .setServiceName(serviceName)
+                .build());
+    }
+
+    @Test
+    void concurrentServiceImplementationsAreCompletedForTheirOwnService()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        when(serviceDataStoreOperations.modifyService(anyString(), eq(State.InService), eq(AdminStates.InService)))
+            .thenReturn(OperationResult.ok("modified"));
+        List<String> serviceNames = IntStream.range(0, SERVICE_NUMBER).mapToObj(i -> "service " + i).toList();
+        runConcurrently(serviceNames, serviceName -> rendererNotificationHandler.registerServiceOperation(
+                new ServiceOperationContext(serviceInput(serviceName), false, false, false)));
+        assertEquals(SERVICE_NUMBER, rendererNotificationHandler.getServiceOperationCount());
+
+        // Renderer results come back in any order
+        runConcurrently(serviceNames.reversed(), serviceName ->
+            rendererNotificationHandler.onRendererRpcResultSp(ServiceDataUtils.buildRendererRpcResultSp(
+                ServicePathNotificationTypes.ServiceImplementationRequest, serviceName, RpcStatusEx.Successful,
+                "success")));
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(serviceDataStoreOperations, times(SERVICE_NUMBER))
+            .modifyService(captor.capture(), eq(State.InService), eq(AdminStates.InService));
+        assertEquals(serviceNames.stream().sorted().toList(), captor.getAllValues().stream().sorted().toList());
+        // One NBI notification and one service handler notification per service
+        verify(notificationPublishService, times(2 * SERVICE_NUMBER)).putNotification(notificationCaptor.capture());
+        List<PublishNotificationProcessService> nbiNotifications = notificationCaptor.getAllValues().stream()
+                .filter(PublishNotificationProcessService.class::isInstance)
+                .map(PublishNotificationProcessService.class::cast)
+                .toList();
+        nbiNotifications.forEach(nbiNotification ->
+            assertEquals("Service implemented !", nbiNotification.getMessage()));
+        assertEquals(serviceNames.stream().sorted().toList(), nbiNotifications.stream()
+                .map(PublishNotificationProcessService::getServiceName)
+                .sorted()
+                .toList());
+        assertEquals(serviceNames.stream().sorted().toList(), notificationCaptor.getAllValues().stream()
+                .filter(ServiceRpcResultSh.class::isInstance)
+                .map(notification -> ((ServiceRpcResultSh) notification).getServiceName())
+                .sorted()
+                .toList());
+        assertEquals(0, rendererNotificationHandler.getServiceOperationCount());
+    }
+
+    @Test
+    void notificationForUnknownServiceIsIgnored() {
+        rendererNotificationHandler.registerServiceOperation(
+                new ServiceOperationContext(serviceInput("service 1"), false, false, false));
+        rendererNotificationHandler.onRendererRpcResultSp(ServiceDataUtils.buildRendererRpcResultSp(
+                ServicePathNotificationTypes.ServiceImplementationRequest, "service 2", RpcStatusEx.Successful,
+                "success"));
+        verify(serviceDataStoreOperations, never()).modifyService(anyString(), any(), any());
+        assertEquals(1, rendererNotificationHandler.getServiceOperationCount());
+    }
+
+    @Test
+    void restoredServiceIsImplementedAfterItsDeletion() {
+        when(pathComputationService.cancelResourceReserve(any()))
+            .thenReturn(Futures.immediateFuture(new CancelResourceReserveOutputBuilder().build()));
+        when(serviceDataStoreOperations.modifyService("service 1", State.InService, AdminStates.InService))
+            .thenReturn(OperationResult.ok("modified"));
+        // Service restoration registers an operation built from the delete input of the service
+        ServiceCreateInput serviceCreateInput = ServiceDataUtils.buildServiceCreateInput();
+        ServiceInput restorationInput = new ServiceInput(ServiceDataUtils.buildServiceDeleteInput());
+        restorationInput.setServiceAEnd(serviceCreateInput.getServiceAEnd());
+        restorationInput.setServiceZEnd(serviceCreateInput.getServiceZEnd());
+        restorationInput.setConnectionType(serviceCreateInput.getConnectionType());
+        rendererNotificationHandler.registerServiceOperation(
+                new ServiceOperationContext(restorationInput, true, false, false));
+
+        rendererNotificationHandler.onRendererRpcResultSp(ServiceDataUtils.buildRendererRpcResultSp(
+                ServicePathNotificationTypes.ServiceDelete, "service 1", RpcStatusEx.Successful, "deleted"));
+        assertEquals(1, rendererNotificationHandler.getServiceOperationCount());
+        rendererNotificationHandler.onRendererRpcResultSp(ServiceDataUtils.buildRendererRpcResultSp(
+                ServicePathNotificationTypes.ServiceImplementationRequest, "service 1", RpcStatusEx.Successful,
+                "implemented"));
+
+        verify(serviceDataStoreOperations).modifyService("service 1", State.InService, AdminStates.InService);
+        verify(notificationPublishService, atLeastOnce()).putNotification(notificationCaptor.capture());
+        assertEquals(List.of("Service implemented !"), notificationCaptor.getAllValues().stream()
+                .filter(PublishNotificationProcessService.class::isInstance)
+                .map(notification -> ((PublishNotificationProcessService) notification).getMessage())
+                .toList());
+        assertEquals(0, rendererNotificationHandler.getServiceOperationCount());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.servicehandler.utils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Run a task for many items from a pool of threads released at the same time, to exercise concurrent accesses.
+ */
+public final class ConcurrentRunner {
+
+    public static final int THREAD_NUMBER = 32;
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private ConcurrentRunner() {
+    }
+
+    public static <T> void runConcurrently(List<T> items, Consumer<T> task)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_NUMBER);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = items.stream()
+                .<Future<?>>map(item -> executor.submit(() -> {
+                    startSignal.await();
+                    task.accept(item);
+                    return null;
+                }))
+                .toList();
+            startSignal.countDown();
+            for (Future<?> future : futures) {
+                future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -10,6 +10,8 @@ package org.opendaylight.transportpce.tapi.impl;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
 import org.opendaylight.mdsal.binding.api.NotificationService;
@@ -57,6 +59,7 @@ import org.opendaylight.transportpce.tapi.topology.TopologyUtils;
 import org.opendaylight.transportpce.tapi.utils.TapiContext;
 import org.opendaylight.transportpce.tapi.utils.TapiInitialORMapping;
 import org.opendaylight.transportpce.tapi.utils.TapiLink;
+import org.opendaylight.transportpce.tapi.utils.TapiListIndex;
 import org.opendaylight.transportpce.tapi.utils.TapiListener;
 import org.opendaylight.transportpce.tapi.utils.TapiTopoContextInit;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.NetworkId;
@@ -111,12 +114,12 @@ public class TapiProvider {
     private final NetworkModelService netModServ;
     private final NetworkTransactionService networkTransactionService;
     private final ServiceDataStoreOperations serviceDataStoreOperations;
-    private List<Registration> listeners;
+    private final TapiContext tapiContext;
+    private final TapiListIndex tapiListIndex;
+    private final List<Registration> listeners = new ArrayList<>();
+    private final ExecutorService initialMappingExecutor;
     private Registration rpcRegistration;
-    private Registration pcelistenerRegistration;
-    private Registration rendererlistenerRegistration;
-    private Registration servicehandlerlistenerRegistration;
-    private Registration tapinetworkmodellistenerRegistration;
+    private boolean closed;
 
     @Activate
     public TapiProvider(@Reference DataBroker dataBroker,
@@ -135,6 +138,7 @@ public class TapiProvider {
         this.networkTransactionService = networkTransactionService;
         this.serviceDataStoreOperations = serviceDataStoreOperations;
         this.netModServ = networkModelService;
+        this.tapiContext = tapiContext;
         netModServ.createTapiExtNodeAtInit();
         LOG.info("TapiProvider Session Initiated");
         LOG.info("Empty TAPI context created: {}", tapiContext.getTapiContext());
@@ -143,30 +147,54 @@ public class TapiProvider {
                 tapiContext, this.networkTransactionService, TAPI_TOPO_UUID, topologyUtils);
         TapiTopoContextInit tapiTopoContextInit = new TapiTopoContextInit(tapiContext);
         tapiTopoContextInit.initializeTopoContext();
+        this.tapiListIndex = new TapiListIndex(dataBroker);
         TapiInitialORMapping tapiInitialORMapping = new TapiInitialORMapping(topologyUtils, connectivityUtils,
                 tapiContext, this.serviceDataStoreOperations);
-        tapiInitialORMapping.performTopoInitialMapping();
-        tapiInitialORMapping.performServInitialMapping();
         TapiPceNotificationHandler pceListenerImpl = new TapiPceNotificationHandler(dataBroker, connectivityUtils);
         TapiRendererNotificationHandler rendererListenerImpl = new TapiRendererNotificationHandler(dataBroker,
                 notificationPublishService);
 
+        // The PCE and renderer listeners complete the connectivity services created through the RPCs, they are
+        // registered before the RPCs are exposed so that no result of a service created during the initial
+        // mapping is lost.
+        listeners.add(notificationService.registerCompositeListener(pceListenerImpl.getCompositeListener()));
+        LOG.debug("Pce Listener Registration in TapiProvider done");
+        listeners.add(notificationService.registerCompositeListener(rendererListenerImpl.getCompositeListener()));
+        LOG.debug("Renderer Listener Registration in TapiProvider done");
+        // RPCs are served as soon as the context skeleton exists, the readiness of the context being
+        // given by its initial mapping status.
         rpcRegistration = rpcProviderService.registerRpcImplementations(
                 new CreateConnectivityServiceImpl(rpcService, tapiContext, connectivityUtils, pceListenerImpl,
                         rendererListenerImpl),
                 new GetConnectivityServiceDetailsImpl(tapiContext),
                 new GetConnectionDetailsImpl(tapiContext),
                 new DeleteConnectivityServiceImpl(rpcService, tapiContext, networkTransactionService),
-                new GetConnectivityServiceListImpl(tapiContext),
+                new GetConnectivityServiceListImpl(tapiListIndex),
                 new GetNodeDetailsImpl(tapiContext),
                 new GetTopologyDetailsImpl(tapiContext, topologyUtils, tapiLink, networkTransactionService),
                 new GetNodeEdgePointDetailsImpl(tapiContext),
                 new GetLinkDetailsImpl(tapiContext),
                 new GetTopologyListImpl(tapiContext, topologyUtils),
                 new GetServiceInterfacePointDetailsImpl(tapiContext),
-                new GetServiceInterfacePointListImpl(tapiContext));
+                new GetServiceInterfacePointListImpl(tapiListIndex));
 
-        this.listeners = new ArrayList<>();
+        // The topology and service listeners are registered once the initial mapping is done, so that their
+        // updates are not overwritten by the initial mapping.
+        this.initialMappingExecutor = Executors.newSingleThreadExecutor();
+        this.initialMappingExecutor.execute(() -> {
+            tapiInitialORMapping.performInitialMapping();
+            registerListeners(notificationService, tapiNetworkModelNotificationHandler, tapiNetworkModelServiceImpl,
+                tapiLink, topologyUtils);
+        });
+        LOG.info("TAPI RPCs registered, initial mapping between OR and TAPI models in progress");
+    }
+
+    private synchronized void registerListeners(NotificationService notificationService,
+            TapiNetworkModelNotificationHandler tapiNetworkModelNotificationHandler,
+            TapiNetworkModelService tapiNetworkModelServiceImpl, TapiLink tapiLink, TopologyUtils topologyUtils) {
+        if (closed) {
+            return;
+        }
         TapiNetconfTopologyListener topologyListener = new TapiNetconfTopologyListener(tapiNetworkModelServiceImpl);
         TapiOrLinkListener orLinkListener = new TapiOrLinkListener(tapiLink, networkTransactionService, topologyUtils);
         TapiPortMappingListener tapiPortMappingListener = new TapiPortMappingListener(tapiNetworkModelServiceImpl,
@@ -182,11 +210,6 @@ public class TapiProvider {
                 DataObjectReference.builder(ServiceInterfacePoints.class).build(),
                 tapiListener));
         // Notification Listener
-        pcelistenerRegistration = notificationService.registerCompositeListener(pceListenerImpl.getCompositeListener());
-        LOG.debug("Pce Listener Registration in TapiProvider : {}", pcelistenerRegistration);
-        rendererlistenerRegistration = notificationService
-            .registerCompositeListener(rendererListenerImpl.getCompositeListener());
-        LOG.debug("Renderer Listener Registration in TapiProvider : {}", rendererlistenerRegistration);
         TapiServiceNotificationHandler serviceHandlerListenerImpl = new TapiServiceNotificationHandler(
                 dataBroker,
                 new OpenRoadmServiceCopier(
@@ -208,12 +231,11 @@ public class TapiProvider {
                         )
                 )
         );
-        servicehandlerlistenerRegistration = notificationService
-            .registerCompositeListener(serviceHandlerListenerImpl.getCompositeListener());
-        LOG.debug("SH Listener Registration in TapiProvider : {}", servicehandlerlistenerRegistration);
-        tapinetworkmodellistenerRegistration = notificationService
-            .registerCompositeListener(tapiNetworkModelNotificationHandler.getCompositeListener());
-        LOG.debug("Network Model Listener Registration in TapiProvider : {}", tapinetworkmodellistenerRegistration);
+        listeners.add(notificationService.registerCompositeListener(serviceHandlerListenerImpl.getCompositeListener()));
+        LOG.debug("SH Listener Registration in TapiProvider done");
+        listeners.add(notificationService
+            .registerCompositeListener(tapiNetworkModelNotificationHandler.getCompositeListener()));
+        LOG.debug("Network Model Listener Registration in TapiProvider done");
     }
 
     /**
@@ -221,17 +243,27 @@ public class TapiProvider {
      */
     @Deactivate
     public void close() {
-        netModServ.deleteTapiExtNode();
-        listeners.forEach(lis -> lis.close());
-        listeners.clear();
-        pcelistenerRegistration.close();
-        rendererlistenerRegistration.close();
-        servicehandlerlistenerRegistration.close();
-        tapinetworkmodellistenerRegistration.close();
+        initialMappingExecutor.shutdownNow();
+        synchronized (this) {
+            closed = true;
+            netModServ.deleteTapiExtNode();
+            listeners.forEach(lis -> lis.close());
+            listeners.clear();
+        }
         rpcRegistration.close();
+        tapiListIndex.close();
         LOG.info("TapiProvider Session Closed");
     }
 
+    /**
+     * Get the progress of the initial mapping of the OpenROADM topology and services to TAPI.
+     *
+     * @return the status of the initial mapping
+     */
+    public TapiInitialORMapping.Status getInitialMappingStatus() {
+        return tapiContext.getInitialMappingStatus();
+    }
+
     public Registration getRegisteredRpcs() {
         return rpcRegistration;
     }
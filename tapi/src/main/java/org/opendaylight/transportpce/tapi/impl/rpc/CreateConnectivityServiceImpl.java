@@ -21,6 +21,7 @@ import org.opendaylight.transportpce.tapi.connectivity.ConnectivityUtils;
 import org.opendaylight.transportpce.tapi.listeners.TapiPceNotificationHandler;
 import org.opendaylight.transportpce.tapi.listeners.TapiRendererNotificationHandler;
 import org.opendaylight.transportpce.tapi.utils.TapiContext;
+import org.opendaylight.transportpce.tapi.utils.TapiInitialORMapping;
 import org.opendaylight.transportpce.tapi.validation.CreateConnectivityServiceValidation;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.ServiceCreate;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.ServiceCreateInput;
@@ -99,6 +100,10 @@ public class CreateConnectivityServiceImpl implements CreateConnectivityService
                 .buildFuture();
         }
         LOG.info("input parameter of RPC create-connectivity are being handled");
+        TapiInitialORMapping.Status initialMappingStatus = this.tapiContext.getInitialMappingStatus();
+        if (initialMappingStatus != TapiInitialORMapping.Status.COMPLETED) {
+            LOG.warn("Initial mapping between OR and TAPI models not completed: {}", initialMappingStatus);
+        }
         // check uuid of SIP in tapi context
         Map<ServiceInterfacePointKey, ServiceInterfacePoint> sipMap =
                 this.tapiContext.getTapiContext().getServiceInterfacePoint();
@@ -113,7 +118,9 @@ public class CreateConnectivityServiceImpl implements CreateConnectivityService
                     .findFirst().orElseThrow().getServiceInterfacePoint().getServiceInterfacePointUuid()))) {
             LOG.error("Unknown UUID");
             return RpcResultBuilder.<CreateConnectivityServiceOutput>failed()
-                .withError(ErrorType.RPC, "SIPs do not exist in tapi context")
+                .withError(ErrorType.RPC, initialMappingStatus == TapiInitialORMapping.Status.COMPLETED
+                    ? "SIPs do not exist in tapi context"
+                    : "SIPs do not exist in tapi context, initial mapping status is " + initialMappingStatus)
                 .buildFuture();
         }
         LOG.info("SIPs found in sipMap");
@@ -10,13 +10,14 @@ package org.opendaylight.transportpce.tapi.impl.rpc;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.HashMap;
 import java.util.Map;
-import org.opendaylight.transportpce.tapi.utils.TapiContext;
+import org.opendaylight.transportpce.tapi.utils.TapiListIndex;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.pagination.rev261019.GetConnectivityServiceListInput1;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.pagination.rev261019.GetConnectivityServiceListOutput1Builder;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.GetConnectivityServiceList;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.GetConnectivityServiceListInput;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.GetConnectivityServiceListOutput;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.GetConnectivityServiceListOutputBuilder;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.context.ConnectivityService;
-import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.context.ConnectivityServiceKey;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.get.connectivity.service.list.output.Service;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.get.connectivity.service.list.output.ServiceBuilder;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.get.connectivity.service.list.output.ServiceKey;
@@ -30,30 +31,41 @@ import org.slf4j.LoggerFactory;
 public class GetConnectivityServiceListImpl implements GetConnectivityServiceList {
     private static final Logger LOG = LoggerFactory.getLogger(GetConnectivityServiceListImpl.class);
 
-    private final TapiContext tapiContext;
+    private final TapiListIndex tapiListIndex;
 
-    public GetConnectivityServiceListImpl(TapiContext tapiContext) {
-        this.tapiContext = tapiContext;
+    public GetConnectivityServiceListImpl(TapiListIndex tapiListIndex) {
+        this.tapiListIndex = tapiListIndex;
     }
 
     @Override
     public ListenableFuture<RpcResult<GetConnectivityServiceListOutput>> invoke(GetConnectivityServiceListInput input) {
-        // TODO Auto-generated method stub
-        Map<ConnectivityServiceKey, ConnectivityService> connMap = this.tapiContext.getConnectivityServices();
-        if (connMap == null) {
+        if (!this.tapiListIndex.hasConnectivityServices()) {
             LOG.error("No services in tapi context");
             return RpcResultBuilder.<GetConnectivityServiceListOutput>failed()
                 .withError(ErrorType.RPC, "No services exist in datastore")
                 .buildFuture();
         }
+        GetConnectivityServiceListInput1 pageInput = input == null ? null
+            : input.augmentation(GetConnectivityServiceListInput1.class);
+        TapiListIndex.Page<ConnectivityService> page = this.tapiListIndex.getConnectivityServices(
+            TapiListIndex.Filter.of(pageInput), pageInput == null ? null : pageInput.getCursor(),
+            TapiListIndex.getPageSize(pageInput));
+        LOG.debug("{} services in page, next cursor {}", page.entries().size(), page.nextCursor());
 
         Map<ServiceKey, Service> serviceMap = new HashMap<>();
-        for (ConnectivityService connectivityService: connMap.values()) {
+        for (ConnectivityService connectivityService: page.entries()) {
             Service service = new ServiceBuilder(connectivityService).build();
             serviceMap.put(service.key(), service);
         }
+        GetConnectivityServiceListOutputBuilder outputBuilder = new GetConnectivityServiceListOutputBuilder()
+            .setService(serviceMap);
+        if (page.nextCursor() != null) {
+            outputBuilder.addAugmentation(new GetConnectivityServiceListOutput1Builder()
+                .setNextCursor(page.nextCursor())
+                .build());
+        }
         return RpcResultBuilder
-            .success(new GetConnectivityServiceListOutputBuilder().setService(serviceMap).build())
+            .success(outputBuilder.build())
             .buildFuture();
     }
 
@@ -10,7 +10,9 @@ package org.opendaylight.transportpce.tapi.impl.rpc;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.HashMap;
 import java.util.Map;
-import org.opendaylight.transportpce.tapi.utils.TapiContext;
+import org.opendaylight.transportpce.tapi.utils.TapiListIndex;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.pagination.rev261019.GetServiceInterfacePointListInput1;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.pagination.rev261019.GetServiceInterfacePointListOutput1Builder;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.GetServiceInterfacePointList;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.GetServiceInterfacePointListInput;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.GetServiceInterfacePointListOutput;
@@ -19,36 +21,45 @@ import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.get.
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.get.service._interface.point.list.output.SipBuilder;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.get.service._interface.point.list.output.SipKey;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.tapi.context.ServiceInterfacePoint;
-import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.tapi.context.ServiceInterfacePointKey;
 import org.opendaylight.yangtools.yang.common.ErrorType;
 import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
 
 
 public class GetServiceInterfacePointListImpl implements GetServiceInterfacePointList {
-    private final TapiContext tapiContext;
+    private final TapiListIndex tapiListIndex;
 
-    public GetServiceInterfacePointListImpl(TapiContext tapiContext) {
-        this.tapiContext = tapiContext;
+    public GetServiceInterfacePointListImpl(TapiListIndex tapiListIndex) {
+        this.tapiListIndex = tapiListIndex;
     }
 
     @Override
     public ListenableFuture<RpcResult<GetServiceInterfacePointListOutput>> invoke(
             GetServiceInterfacePointListInput input) {
-        Map<ServiceInterfacePointKey, ServiceInterfacePoint> sips =
-                this.tapiContext.getTapiContext().getServiceInterfacePoint();
-        if (sips == null || sips.isEmpty()) {
+        if (!this.tapiListIndex.hasSips()) {
             return RpcResultBuilder.<GetServiceInterfacePointListOutput>failed()
                 .withError(ErrorType.RPC, "No sips in datastore")
                 .buildFuture();
         }
+        GetServiceInterfacePointListInput1 pageInput = input == null ? null
+            : input.augmentation(GetServiceInterfacePointListInput1.class);
+        TapiListIndex.Page<ServiceInterfacePoint> page = this.tapiListIndex.getSips(
+            TapiListIndex.Filter.of(pageInput), pageInput == null ? null : pageInput.getCursor(),
+            TapiListIndex.getPageSize(pageInput));
         Map<SipKey, Sip> outSipMap = new HashMap<>();
-        for (ServiceInterfacePoint sip : sips.values()) {
+        for (ServiceInterfacePoint sip : page.entries()) {
             Sip si = new SipBuilder(sip).build();
             outSipMap.put(si.key(), si);
         }
+        GetServiceInterfacePointListOutputBuilder outputBuilder = new GetServiceInterfacePointListOutputBuilder()
+            .setSip(outSipMap);
+        if (page.nextCursor() != null) {
+            outputBuilder.addAugmentation(new GetServiceInterfacePointListOutput1Builder()
+                .setNextCursor(page.nextCursor())
+                .build());
+        }
         return RpcResultBuilder
-            .success(new GetServiceInterfacePointListOutputBuilder().setSip(outSipMap).build())
+            .success(outputBuilder.build())
             .buildFuture();
     }
 
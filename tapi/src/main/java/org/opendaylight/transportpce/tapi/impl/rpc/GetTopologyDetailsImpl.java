@@ -30,9 +30,9 @@ import org.opendaylight.transportpce.common.network.NetworkTransactionService;
 import org.opendaylight.transportpce.tapi.TapiConstants;
 import org.opendaylight.transportpce.tapi.topology.ConvertTopoORtoTapiNbi;
 import org.opendaylight.transportpce.tapi.topology.ConvertTopoTapiToTapiNbi;
-import org.opendaylight.transportpce.tapi.topology.ORtoTapiTopoConversionTools;
 import org.opendaylight.transportpce.tapi.topology.TapiTopologyException;
 import org.opendaylight.transportpce.tapi.topology.TopologyUtils;
+import org.opendaylight.transportpce.tapi.topology.XpdrNodeConversionEngine;
 import org.opendaylight.transportpce.tapi.utils.TapiContext;
 import org.opendaylight.transportpce.tapi.utils.TapiLink;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.Mapping;
@@ -250,16 +250,12 @@ public class GetTopologyDetailsImpl implements GetTopologyDetails {
         Uuid topoUuid = new Uuid(
                 UUID.nameUUIDFromBytes(TapiConstants.T0_MULTILAYER.getBytes(StandardCharsets.UTF_8)).toString());
         ConvertTopoORtoTapiNbi tapiAbstractFactory = new ConvertTopoORtoTapiNbi(topoUuid, this.tapiLink);
-        ORtoTapiTopoConversionTools tapiFactory = new ORtoTapiTopoConversionTools(topoUuid);
-        Iterator<Entry<String, List<String>>> it = networkPortMap.entrySet().iterator();
-        while (it.hasNext()) {
-            String nodeId = it.next().getKey();
-            tapiFactory.convertNode(otnNodeMap.get(new NodeId(nodeId)), networkPortMap.get(nodeId));
-            tapiAbstractFactory.setTapiNodes(tapiFactory.getTapiNodes());
-            tapiAbstractFactory.setTapiSips(tapiFactory.getTapiSips());
-            tapiNodeList.putAll(tapiAbstractFactory.getTapiNodes());
-            tapiLinkList.putAll(tapiAbstractFactory.getTapiLinks());
-        }
+        XpdrNodeConversionEngine.Conversion xpdrConversion = XpdrNodeConversionEngine.getInstance()
+            .convertNodes(topoUuid, networkPortMap, otnNodeMap);
+        tapiAbstractFactory.setTapiNodes(xpdrConversion.tapiNodes());
+        tapiAbstractFactory.setTapiSips(xpdrConversion.tapiSips());
+        tapiNodeList.putAll(tapiAbstractFactory.getTapiNodes());
+        tapiLinkList.putAll(tapiAbstractFactory.getTapiLinks());
         if (openroadmTopo.nonnullNode().values().stream()
                 .filter(nt -> !nt.getNodeId().getValue().equals("TAPI-SBI-ABS-NODE"))
                 .filter(nt -> nt.augmentation(org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110
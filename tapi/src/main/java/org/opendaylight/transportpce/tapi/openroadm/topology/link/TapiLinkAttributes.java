@@ -59,7 +59,7 @@ public record TapiLinkAttributes(
 
     private static TapiLinkAttributes fromOpenRoadmOtnLinkType(Link link) {
         var otnLinkTypeAugmentation = link.augmentation(
-                org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.Link1.class);
+                org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.Link1.class);
 
         if (otnLinkTypeAugmentation != null) {
             switch (otnLinkTypeAugmentation.getOtnLinkType()) {
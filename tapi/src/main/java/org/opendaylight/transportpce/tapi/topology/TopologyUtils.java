@@ -210,15 +210,14 @@ public final class TopologyUtils {
         Map<LinkKey, org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Link>
             tapiLinkList = new HashMap<>();
         ConvertTopoORtoTapiAtInit tapiFullFactory = new ConvertTopoORtoTapiAtInit(topoUuid, this.tapiLink);
-        ORtoTapiTopoConversionTools tapiFactory = new ORtoTapiTopoConversionTools(topoUuid);
-        for (var entry : networkPortMap.entrySet()) {
-            tapiFactory.convertNode(otnNodeMap.get(new NodeId(entry.getKey())), entry.getValue());
-            this.tapiSips.putAll(tapiFactory.getTapiSips());
-            tapiFullFactory.setTapiNodes(tapiFactory.getTapiNodes());
-            tapiFullFactory.setTapiSips(tapiFactory.getTapiSips());
-            tapiNodeList.putAll(tapiFactory.getTapiNodes());
-            tapiLinkList.putAll(tapiFullFactory.getTapiLinks());
-        }
+        // Xponder nodes are converted in parallel, unchanged nodes reusing their previous conversion.
+        XpdrNodeConversionEngine.Conversion xpdrConversion = XpdrNodeConversionEngine.getInstance()
+            .convertNodes(topoUuid, networkPortMap, otnNodeMap);
+        this.tapiSips.putAll(xpdrConversion.tapiSips());
+        tapiFullFactory.setTapiNodes(xpdrConversion.tapiNodes());
+        tapiFullFactory.setTapiSips(xpdrConversion.tapiSips());
+        tapiNodeList.putAll(xpdrConversion.tapiNodes());
+        tapiLinkList.putAll(tapiFullFactory.getTapiLinks());
         // roadm infrastructure not abstracted
         // read openroadm-network
         Network openroadmNet = readTopology(InstanceIdentifiers.OPENROADM_NETWORK_II);
@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.topology;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.NodeId;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.network.Node;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.tapi.context.ServiceInterfacePoint;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.tapi.context.ServiceInterfacePointKey;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.NodeKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts the Xponder nodes of the OpenROADM otn-topology to TAPI nodes and SIPs.
+ * Each Xponder node is converted independently of the others, in parallel, with its own
+ * {@link ORtoTapiTopoConversionTools} instance. The nodes and SIPs produced are then merged in a single thread.
+ * The result of the conversion of a node is cached per TAPI topology, and reused as long as the source node
+ * (compared by hash code first, then by value) and its list of network ports do not change.
+ */
+public class XpdrNodeConversionEngine {
+
+    private static final Logger LOG = LoggerFactory.getLogger(XpdrNodeConversionEngine.class);
+    private static final XpdrNodeConversionEngine INSTANCE = new XpdrNodeConversionEngine();
+
+    /**
+     * TAPI nodes and SIPs resulting from the conversion of one or several Xponder nodes.
+     */
+    public record Conversion(
+            Map<NodeKey, org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Node>
+                tapiNodes,
+            Map<ServiceInterfacePointKey, ServiceInterfacePoint> tapiSips) {
+    }
+
+    /**
+     * Conversion of a single Xponder node.
+     */
+    @FunctionalInterface
+    interface NodeConverter {
+        Conversion convert(Uuid topoUuid, Node node, List<String> networkPorts);
+    }
+
+    private record CacheKey(Uuid topoUuid, NodeId nodeId) {
+    }
+
+    private record CacheEntry(int sourceHash, Node sourceNode, List<String> networkPorts, Conversion conversion) {
+
+        boolean matches(int hash, Node node, List<String> ports) {
+            return sourceHash == hash && networkPorts.equals(ports) && sourceNode.equals(node);
+        }
+    }
+
+    private final Map<CacheKey, CacheEntry> cache = new ConcurrentHashMap<>();
+    private final NodeConverter nodeConverter;
+    private final AtomicLong cacheHits = new AtomicLong();
+
+    /**
+     * Instantiate an engine converting the nodes with {@link ORtoTapiTopoConversionTools}.
+     */
+    public XpdrNodeConversionEngine() {
+        this(XpdrNodeConversionEngine::convertWithTools);
+    }
+
+    XpdrNodeConversionEngine(NodeConverter nodeConverter) {
+        this.nodeConverter = nodeConverter;
+    }
+
+    /**
+     * Get the engine shared by the TAPI topology conversions, so that its cache survives between them.
+     *
+     * @return the shared engine
+     */
+    public static XpdrNodeConversionEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Convert a set of Xponder nodes.
+     *
+     * @param topoUuid Uuid of the TAPI topology the nodes are converted for
+     * @param networkPortMap network ports to convert, by OpenROADM node id
+     * @param otnNodeMap OpenROADM otn-topology nodes
+     * @return the TAPI nodes and SIPs of all the converted nodes
+     */
+    public Conversion convertNodes(Uuid topoUuid, Map<String, List<String>> networkPortMap,
+            Map<NodeId, Node> otnNodeMap) {
+        List<Conversion> conversions = networkPortMap.entrySet().parallelStream()
+            .map(entry -> convertNode(topoUuid, otnNodeMap.get(new NodeId(entry.getKey())), entry.getValue()))
+            .toList();
+        cache.keySet().removeIf(key -> key.topoUuid().equals(topoUuid)
+            && !networkPortMap.containsKey(key.nodeId().getValue()));
+        Map<NodeKey, org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Node>
+            tapiNodes = new HashMap<>();
+        Map<ServiceInterfacePointKey, ServiceInterfacePoint> tapiSips = new HashMap<>();
+        for (Conversion conversion : conversions) {
+            tapiNodes.putAll(conversion.tapiNodes());
+            tapiSips.putAll(conversion.tapiSips());
+        }
+        return new Conversion(tapiNodes, tapiSips);
+    }
+
+    /**
+     * Convert a single Xponder node, reusing the result of its previous conversion if it did not change.
+     *
+     * @param topoUuid Uuid of the TAPI topology the node is converted for
+     * @param node OpenROADM otn-topology node
+     * @param networkPorts network ports of the node to convert
+     * @return the TAPI nodes and SIPs of the node
+     */
+    public Conversion convertNode(Uuid topoUuid, Node node, List<String> networkPorts) {
+        CacheKey key = new CacheKey(topoUuid, node.getNodeId());
+        int hash = node.hashCode();
+        CacheEntry entry = cache.get(key);
+        if (entry != null && entry.matches(hash, node, networkPorts)) {
+            cacheHits.incrementAndGet();
+            LOG.debug("Reusing the TAPI conversion of node {}", node.getNodeId().getValue());
+            return entry.conversion();
+        }
+        Conversion result = nodeConverter.convert(topoUuid, node, networkPorts);
+        Conversion conversion = new Conversion(Map.copyOf(result.tapiNodes()), Map.copyOf(result.tapiSips()));
+        cache.put(key, new CacheEntry(hash, node, List.copyOf(networkPorts), conversion));
+        return conversion;
+    }
+
+    /**
+     * Get the number of conversions answered from the cache.
+     *
+     * @return the number of cache hits since the engine was instantiated
+     */
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    private static Conversion convertWithTools(Uuid topoUuid, Node node, List<String> networkPorts) {
+        ORtoTapiTopoConversionTools tapiFactory = new ORtoTapiTopoConversionTools(topoUuid);
+        tapiFactory.convertNode(node, networkPorts);
+        return new Conversion(tapiFactory.getTapiNodes(), tapiFactory.getTapiSips());
+    }
+}
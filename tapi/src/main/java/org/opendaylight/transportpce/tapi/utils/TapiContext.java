@@ -20,6 +20,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
+import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.transportpce.common.StringConstants;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
@@ -63,6 +64,7 @@ import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.to
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,6 +76,8 @@ public class TapiContext {
     public static final String TAPI_CONTEXT = "T-API context";
     public static final String NODE_NOT_PRESENT = "Node is not present in datastore";
     private final NetworkTransactionService networkTransactionService;
+    private final TapiTopologyIndex topologyIndex;
+    private volatile TapiInitialORMapping.Status initialMappingStatus = TapiInitialORMapping.Status.PENDING;
 
     private static final List<Uuid> TOPO_UUID_LIST = new ArrayList<>(List.of(
         StringConstants.T0_MULTILAYER_UUID, StringConstants.T0_FULL_MULTILAYER_UUID,
@@ -83,9 +87,30 @@ public class TapiContext {
     public TapiContext(@Reference NetworkTransactionService networkTransactionService) {
         this.networkTransactionService = networkTransactionService;
         createTapiContext();
+        DataBroker dataBroker = networkTransactionService.getDataBroker();
+        this.topologyIndex = dataBroker == null ? new TapiTopologyIndex() : new TapiTopologyIndex(dataBroker);
         LOG.info("TapiContext initialized");
     }
 
+    @Deactivate
+    public void close() {
+        this.topologyIndex.close();
+    }
+
+    /**
+     * Get the progress of the initial mapping of the OpenROADM topology and services.
+     * The TAPI context is complete only once the initial mapping is completed.
+     *
+     * @return the status of the initial mapping
+     */
+    public TapiInitialORMapping.Status getInitialMappingStatus() {
+        return initialMappingStatus;
+    }
+
+    public void setInitialMappingStatus(TapiInitialORMapping.Status initialMappingStatus) {
+        this.initialMappingStatus = initialMappingStatus;
+    }
+
     private void createTapiContext() {
         try {
             // Augmenting tapi context to include topology and connectivity contexts
@@ -435,7 +460,13 @@ public class TapiContext {
     }
 
     public Uuid getTopoUuidFromNode(Uuid nodeUuid) {
-
+        Set<Uuid> nodeTopologies = this.topologyIndex.getNodeTopologies(nodeUuid);
+        for (Uuid topoUuid : TOPO_UUID_LIST) {
+            if (nodeTopologies.contains(topoUuid)) {
+                return topoUuid;
+            }
+        }
+        // The node may not be indexed yet
         for (Uuid topoUuid : TOPO_UUID_LIST) {
             try {
                 Optional<Node> optNode =
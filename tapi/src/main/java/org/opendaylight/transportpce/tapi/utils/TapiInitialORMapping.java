@@ -12,6 +12,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import org.opendaylight.transportpce.servicehandler.service.ServiceDataStoreOperations;
 import org.opendaylight.transportpce.tapi.connectivity.ConnectivityUtils;
 import org.opendaylight.transportpce.tapi.topology.TapiTopologyException;
@@ -32,6 +33,17 @@ import org.slf4j.LoggerFactory;
 
 public class TapiInitialORMapping {
 
+    /**
+     * Progress of the initial mapping of the OpenROADM topology and services to TAPI.
+     */
+    public enum Status {
+        PENDING,
+        TOPOLOGY_MAPPING,
+        SERVICE_MAPPING,
+        COMPLETED,
+        FAILED
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(TapiInitialORMapping.class);
     private final TapiContext tapiContext;
     private final TopologyUtils topologyUtils;
@@ -46,6 +58,31 @@ public class TapiInitialORMapping {
         this.serviceDataStoreOperations = serviceDataStoreOperations;
     }
 
+    /**
+     * Map the OpenROADM topology and then the OpenROADM services to TAPI,
+     * publishing the progress of the mapping in the TAPI context.
+     *
+     * @return true if the mapping is completed.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public boolean performInitialMapping() {
+        long start = System.nanoTime();
+        try {
+            this.tapiContext.setInitialMappingStatus(Status.TOPOLOGY_MAPPING);
+            performTopoInitialMapping();
+            this.tapiContext.setInitialMappingStatus(Status.SERVICE_MAPPING);
+            performServInitialMapping();
+        } catch (RuntimeException e) {
+            LOG.error("Initial mapping between OR and TAPI models failed", e);
+            this.tapiContext.setInitialMappingStatus(Status.FAILED);
+            return false;
+        }
+        this.tapiContext.setInitialMappingStatus(Status.COMPLETED);
+        LOG.info("Initial mapping between OR and TAPI models completed in {} ms",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return true;
+    }
+
     public void performTopoInitialMapping() {
         // creation of both topologies but with the fully roadm infrastructure.
         try {
@@ -0,0 +1,382 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataObjectDeleted;
+import org.opendaylight.mdsal.binding.api.DataObjectModified;
+import org.opendaylight.mdsal.binding.api.DataObjectWritten;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.pagination.rev261019.ListFilter;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.pagination.rev261019.PageRequest;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.AdministrativeState;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Context;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.LayerProtocolName;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.OperationalState;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.global._class.Name;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.global._class.NameKey;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.tapi.context.ServiceInterfacePoint;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.Context1;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.context.ConnectivityService;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.service.EndPoint;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.context.ConnectivityContext;
+import org.opendaylight.yangtools.binding.DataObjectReference;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the service interface points and connectivity services of the TAPI context, serving the list RPCs.
+ * The entries are loaded from the initial content of the TAPI context and followed through data tree change
+ * notifications. They are sorted by uuid, the uuid of the last entry of a page being the cursor of the next page.
+ * Secondary indexes per layer protocol and per OpenROADM node bound the cost of a filtered page to the entries of
+ * the filtered layer or node.
+ */
+public class TapiListIndex implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TapiListIndex.class);
+    private static final NameKey SIP_NAME_KEY = new NameKey("SIP name");
+    private static final DataObjectReference<ServiceInterfacePoint> SIP_II = DataObjectReference.builder(Context.class)
+            .child(ServiceInterfacePoint.class)
+            .build();
+    private static final DataObjectReference<ConnectivityService> CONNECTIVITY_SERVICE_II =
+            DataObjectReference.builder(Context.class)
+                .augmentation(Context1.class)
+                .child(ConnectivityContext.class)
+                .child(ConnectivityService.class)
+                .build();
+
+    /**
+     * Filter of the list RPCs, a null criterion matching all the entries.
+     */
+    public record Filter(@Nullable LayerProtocolName layerProtocolName, @Nullable String nodeId,
+            @Nullable AdministrativeState administrativeState, @Nullable OperationalState operationalState) {
+
+        public static final Filter NONE = new Filter(null, null, null, null);
+
+        public static Filter of(@Nullable ListFilter listFilter) {
+            return listFilter == null ? NONE : new Filter(listFilter.getLayerProtocolName(), listFilter.getNodeId(),
+                listFilter.getAdministrativeState(), listFilter.getOperationalState());
+        }
+    }
+
+    /**
+     * Page of a list RPC.
+     *
+     * @param entries entries of the page, sorted by uuid
+     * @param nextCursor cursor of the next page, null if this page is the last one
+     */
+    public record Page<T>(List<T> entries, @Nullable Uuid nextCursor) {
+    }
+
+    // Updated under this lock, read without locking
+    private final NavigableMap<String, ServiceInterfacePoint> sips = new ConcurrentSkipListMap<>();
+    private final Map<LayerProtocolName, NavigableSet<String>> sipsByLayer = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<String>> sipsByNode = new ConcurrentHashMap<>();
+    private final NavigableMap<String, ConnectivityService> services = new ConcurrentSkipListMap<>();
+    private final Map<LayerProtocolName, NavigableSet<String>> servicesByLayer = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<String>> servicesByNode = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> serviceNodes = new ConcurrentHashMap<>();
+    // Guarded by this
+    private final Map<String, Set<String>> sipServices = new HashMap<>();
+    private final List<Registration> listeners = new ArrayList<>();
+
+    /**
+     * Instantiate an index only updated through its update methods.
+     */
+    public TapiListIndex() {
+    }
+
+    /**
+     * Instantiate an index following the TAPI context.
+     *
+     * @param dataBroker Provides access to the conceptual data tree store used by the implementation.
+     */
+    public TapiListIndex(DataBroker dataBroker) {
+        listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.OPERATIONAL, SIP_II,
+                this::onSipChanged));
+        listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.OPERATIONAL,
+                CONNECTIVITY_SERVICE_II, this::onConnectivityServiceChanged));
+        LOG.info("TapiListIndex instantiated");
+    }
+
+    @Override
+    public void close() {
+        listeners.forEach(Registration::close);
+        listeners.clear();
+        LOG.info("TapiListIndex closed");
+    }
+
+    public synchronized void updateSip(ServiceInterfacePoint sip) {
+        String uuid = sip.getUuid().getValue();
+        ServiceInterfacePoint previous = sips.put(uuid, sip);
+        if (previous != null) {
+            unindex(sipsByLayer, previous.getLayerProtocolName(), uuid);
+            unindex(sipsByNode, getNodeId(previous), uuid);
+        }
+        index(sipsByLayer, sip.getLayerProtocolName(), uuid);
+        index(sipsByNode, getNodeId(sip), uuid);
+        // The services may have been indexed before their service interface points
+        for (String serviceUuid : sipServices.getOrDefault(uuid, Set.of())) {
+            indexServiceNodes(services.get(serviceUuid));
+        }
+    }
+
+    public synchronized void removeSip(String uuid) {
+        ServiceInterfacePoint previous = sips.remove(uuid);
+        if (previous != null) {
+            unindex(sipsByLayer, previous.getLayerProtocolName(), uuid);
+            unindex(sipsByNode, getNodeId(previous), uuid);
+        }
+    }
+
+    public synchronized void updateConnectivityService(ConnectivityService service) {
+        String uuid = service.getUuid().getValue();
+        ConnectivityService previous = services.put(uuid, service);
+        if (previous != null) {
+            unindex(servicesByLayer, previous.getLayerProtocolName(), uuid);
+            unindexServiceSips(previous);
+        }
+        index(servicesByLayer, service.getLayerProtocolName(), uuid);
+        for (String sipUuid : getSipUuids(service)) {
+            sipServices.computeIfAbsent(sipUuid, k -> new HashSet<>()).add(uuid);
+        }
+        indexServiceNodes(service);
+    }
+
+    public synchronized void removeConnectivityService(String uuid) {
+        ConnectivityService previous = services.remove(uuid);
+        if (previous != null) {
+            unindex(servicesByLayer, previous.getLayerProtocolName(), uuid);
+            unindexServiceSips(previous);
+            for (String nodeId : serviceNodes.getOrDefault(uuid, Set.of())) {
+                unindex(servicesByNode, nodeId, uuid);
+            }
+            serviceNodes.remove(uuid);
+        }
+    }
+
+    /**
+     * Get a page of the service interface points.
+     *
+     * @param filter criteria the service interface points must match
+     * @param cursor uuid after which the page starts, null for the first page
+     * @param pageSize maximum number of entries of the page, null for all the matching entries
+     * @return the page of service interface points
+     */
+    public Page<ServiceInterfacePoint> getSips(Filter filter, @Nullable Uuid cursor, @Nullable Integer pageSize) {
+        return page(sips, candidates(sipsByLayer, sipsByNode, filter), cursor, pageSize,
+            sip -> (filter.layerProtocolName() == null || filter.layerProtocolName() == sip.getLayerProtocolName())
+                && (filter.nodeId() == null || filter.nodeId().equals(getNodeId(sip)))
+                && (filter.administrativeState() == null
+                    || filter.administrativeState() == sip.getAdministrativeState())
+                && (filter.operationalState() == null || filter.operationalState() == sip.getOperationalState()));
+    }
+
+    /**
+     * Get a page of the connectivity services.
+     *
+     * @param filter criteria the connectivity services must match
+     * @param cursor uuid after which the page starts, null for the first page
+     * @param pageSize maximum number of entries of the page, null for all the matching entries
+     * @return the page of connectivity services
+     */
+    public Page<ConnectivityService> getConnectivityServices(Filter filter, @Nullable Uuid cursor,
+            @Nullable Integer pageSize) {
+        return page(services, candidates(servicesByLayer, servicesByNode, filter), cursor, pageSize,
+            service -> (filter.layerProtocolName() == null
+                    || filter.layerProtocolName() == service.getLayerProtocolName())
+                && (filter.nodeId() == null
+                    || serviceNodes.getOrDefault(service.getUuid().getValue(), Set.of()).contains(filter.nodeId()))
+                && (filter.administrativeState() == null
+                    || filter.administrativeState() == service.getAdministrativeState())
+                && (filter.operationalState() == null
+                    || filter.operationalState() == service.getOperationalState()));
+    }
+
+    /**
+     * Get the size of the page requested by a list RPC.
+     *
+     * @param pageRequest page request of the list RPC input
+     * @return the page size, null if all the entries are requested
+     */
+    public static @Nullable Integer getPageSize(@Nullable PageRequest pageRequest) {
+        if (pageRequest == null || pageRequest.getPageSize() == null) {
+            return null;
+        }
+        return (int) Math.min(pageRequest.getPageSize().longValue(), Integer.MAX_VALUE);
+    }
+
+    public boolean hasSips() {
+        return !sips.isEmpty();
+    }
+
+    public boolean hasConnectivityServices() {
+        return !services.isEmpty();
+    }
+
+    /**
+     * Get the OpenROADM node of a service interface point, given by the first part of its name.
+     *
+     * @param sip service interface point
+     * @return the OpenROADM node id, null if the service interface point has no name
+     */
+    static @Nullable String getNodeId(ServiceInterfacePoint sip) {
+        Name name = sip.getName() == null ? null : sip.getName().get(SIP_NAME_KEY);
+        if (name == null || name.getValue() == null) {
+            return null;
+        }
+        return name.getValue().split("\\+")[0];
+    }
+
+    private static <T> Page<T> page(NavigableMap<String, T> entries, @Nullable NavigableSet<String> candidates,
+            @Nullable Uuid cursor, @Nullable Integer pageSize, Predicate<T> filter) {
+        NavigableSet<String> keys = candidates == null ? entries.navigableKeySet() : candidates;
+        if (cursor != null) {
+            keys = keys.tailSet(cursor.getValue(), false);
+        }
+        List<T> page = new ArrayList<>();
+        String last = null;
+        for (String key : keys) {
+            T entry = entries.get(key);
+            if (entry == null || !filter.test(entry)) {
+                continue;
+            }
+            if (pageSize != null && page.size() == pageSize) {
+                // At least one more matching entry, the page is not the last one
+                return new Page<>(page, new Uuid(last));
+            }
+            page.add(entry);
+            last = key;
+        }
+        return new Page<>(page, null);
+    }
+
+    private static @Nullable NavigableSet<String> candidates(Map<LayerProtocolName, NavigableSet<String>> byLayer,
+            Map<String, NavigableSet<String>> byNode, Filter filter) {
+        NavigableSet<String> candidates = null;
+        if (filter.nodeId() != null) {
+            candidates = byNode.getOrDefault(filter.nodeId(), new ConcurrentSkipListSet<>());
+        }
+        if (filter.layerProtocolName() != null) {
+            NavigableSet<String> layerCandidates =
+                byLayer.getOrDefault(filter.layerProtocolName(), new ConcurrentSkipListSet<>());
+            if (candidates == null || layerCandidates.size() < candidates.size()) {
+                candidates = layerCandidates;
+            }
+        }
+        return candidates;
+    }
+
+    private static <K> void index(Map<K, NavigableSet<String>> index, @Nullable K key, String uuid) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>()).add(uuid);
+        }
+    }
+
+    private static <K> void unindex(Map<K, NavigableSet<String>> index, @Nullable K key, String uuid) {
+        if (key == null) {
+            return;
+        }
+        NavigableSet<String> uuids = index.get(key);
+        if (uuids != null) {
+            uuids.remove(uuid);
+            if (uuids.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static Set<String> getSipUuids(ConnectivityService service) {
+        Set<String> sipUuids = new HashSet<>();
+        if (service.getEndPoint() == null) {
+            return sipUuids;
+        }
+        for (EndPoint endPoint : service.getEndPoint().values()) {
+            if (endPoint.getServiceInterfacePoint() != null
+                    && endPoint.getServiceInterfacePoint().getServiceInterfacePointUuid() != null) {
+                sipUuids.add(endPoint.getServiceInterfacePoint().getServiceInterfacePointUuid().getValue());
+            }
+        }
+        return sipUuids;
+    }
+
+    private void unindexServiceSips(ConnectivityService service) {
+        String uuid = service.getUuid().getValue();
+        for (String sipUuid : getSipUuids(service)) {
+            Set<String> serviceUuids = sipServices.get(sipUuid);
+            if (serviceUuids != null) {
+                serviceUuids.remove(uuid);
+                if (serviceUuids.isEmpty()) {
+                    sipServices.remove(sipUuid);
+                }
+            }
+        }
+    }
+
+    private void indexServiceNodes(@Nullable ConnectivityService service) {
+        if (service == null) {
+            return;
+        }
+        String uuid = service.getUuid().getValue();
+        Set<String> nodeIds = new HashSet<>();
+        for (String sipUuid : getSipUuids(service)) {
+            ServiceInterfacePoint sip = sips.get(sipUuid);
+            String nodeId = sip == null ? null : getNodeId(sip);
+            if (nodeId != null) {
+                nodeIds.add(nodeId);
+            }
+        }
+        Set<String> previous = serviceNodes.put(uuid, nodeIds);
+        for (String nodeId : previous == null ? Set.<String>of() : previous) {
+            if (!nodeIds.contains(nodeId)) {
+                unindex(servicesByNode, nodeId, uuid);
+            }
+        }
+        nodeIds.forEach(nodeId -> index(servicesByNode, nodeId, uuid));
+    }
+
+    private void onSipChanged(List<DataTreeModification<ServiceInterfacePoint>> changes) {
+        for (DataTreeModification<ServiceInterfacePoint> change : changes) {
+            switch (change.getRootNode()) {
+                case DataObjectWritten<ServiceInterfacePoint> writtenSip -> updateSip(writtenSip.dataAfter());
+                case DataObjectModified<ServiceInterfacePoint> modifiedSip -> updateSip(modifiedSip.dataAfter());
+                case DataObjectDeleted<ServiceInterfacePoint> deletedSip ->
+                    removeSip(deletedSip.dataBefore().getUuid().getValue());
+            }
+        }
+    }
+
+    private void onConnectivityServiceChanged(List<DataTreeModification<ConnectivityService>> changes) {
+        for (DataTreeModification<ConnectivityService> change : changes) {
+            switch (change.getRootNode()) {
+                case DataObjectWritten<ConnectivityService> writtenService ->
+                    updateConnectivityService(writtenService.dataAfter());
+                case DataObjectModified<ConnectivityService> modifiedService ->
+                    updateConnectivityService(modifiedService.dataAfter());
+                case DataObjectDeleted<ConnectivityService> deletedService ->
+                    removeConnectivityService(deletedService.dataBefore().getUuid().getValue());
+            }
+        }
+    }
+}
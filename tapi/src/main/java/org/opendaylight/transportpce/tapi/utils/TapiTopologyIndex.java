@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataObjectDeleted;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Context;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.Context1;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.context.TopologyContext;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Node;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.context.Topology;
+import org.opendaylight.yangtools.binding.DataObjectReference;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the topologies of the nodes of the TAPI context.
+ * The topologies are loaded from the initial content of the TAPI context and followed through data tree change
+ * notifications, so that the topology of a node can be found without reading the datastore.
+ * Since the notifications are received asynchronously, a node just created may not be indexed yet.
+ * The index is thus a shortcut, callers falling back to the datastore when a node is not found.
+ */
+public class TapiTopologyIndex implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TapiTopologyIndex.class);
+    private static final DataObjectReference<Node> NODE_II = DataObjectReference.builder(Context.class)
+            .augmentation(Context1.class)
+            .child(TopologyContext.class)
+            .child(Topology.class)
+            .child(Node.class)
+            .build();
+
+    private final Map<Uuid, Set<Uuid>> nodeTopologies = new ConcurrentHashMap<>();
+    private final List<Registration> listeners = new ArrayList<>();
+
+    /**
+     * Instantiate an index only updated through its update methods.
+     */
+    public TapiTopologyIndex() {
+    }
+
+    /**
+     * Instantiate an index following the TAPI topologies.
+     *
+     * @param dataBroker Provides access to the conceptual data tree store used by the implementation.
+     */
+    public TapiTopologyIndex(DataBroker dataBroker) {
+        listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.OPERATIONAL, NODE_II,
+                this::onNodeChanged));
+        LOG.info("TapiTopologyIndex instantiated");
+    }
+
+    @Override
+    public void close() {
+        listeners.forEach(Registration::close);
+        listeners.clear();
+        LOG.info("TapiTopologyIndex closed");
+    }
+
+    public synchronized void addNode(Uuid topoUuid, Uuid nodeUuid) {
+        nodeTopologies.computeIfAbsent(nodeUuid, k -> ConcurrentHashMap.newKeySet()).add(topoUuid);
+    }
+
+    public synchronized void removeNode(Uuid topoUuid, Uuid nodeUuid) {
+        Set<Uuid> topologies = nodeTopologies.get(nodeUuid);
+        if (topologies != null) {
+            topologies.remove(topoUuid);
+            if (topologies.isEmpty()) {
+                nodeTopologies.remove(nodeUuid);
+            }
+        }
+    }
+
+    /**
+     * Get the topologies of a node.
+     *
+     * @param nodeUuid uuid of the node
+     * @return the uuids of the topologies the node is indexed in
+     */
+    public Set<Uuid> getNodeTopologies(Uuid nodeUuid) {
+        return nodeTopologies.getOrDefault(nodeUuid, Set.of());
+    }
+
+    private void onNodeChanged(List<DataTreeModification<Node>> changes) {
+        for (DataTreeModification<Node> change : changes) {
+            Uuid topoUuid = change.path().firstKeyOf(Topology.class).getUuid();
+            Uuid nodeUuid = change.path().firstKeyOf(Node.class).getUuid();
+            // The topology of a node does not change when the node is modified
+            if (change.getRootNode() instanceof DataObjectDeleted) {
+                removeNode(topoUuid, nodeUuid);
+            } else {
+                addNode(topoUuid, nodeUuid);
+            }
+        }
+    }
+}
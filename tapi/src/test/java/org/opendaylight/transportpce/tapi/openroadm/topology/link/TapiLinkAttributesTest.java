@@ -11,7 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
-import static org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.OtnLinkType.OTU4;
+import static org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.OtnLinkType.OTU4;
 
 import org.junit.jupiter.api.Test;
 import org.opendaylight.transportpce.tapi.TapiConstants;
@@ -38,14 +38,14 @@ class TapiLinkAttributesTest {
     void shouldMapOtnLinkWithOtu4Subtype() {
         Link link = mock(Link.class);
         Link1 openroadmLink1 = mock(Link1.class);
-        org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.Link1 otnAug =
-                mock(org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902
+        org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.Link1 otnAug =
+                mock(org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019
                         .Link1.class);
 
         when(link.augmentation(Link1.class)).thenReturn(openroadmLink1);
         when(openroadmLink1.getLinkType()).thenReturn(OpenroadmLinkType.OTNLINK);
         when(link.augmentation(
-                org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.Link1.class))
+                org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.Link1.class))
                 .thenReturn(otnAug);
         when(otnAug.getOtnLinkType()).thenReturn(OTU4);
 
@@ -63,13 +63,13 @@ class TapiLinkAttributesTest {
     void shouldMapNullLinkWithOduSubtype() {
         Link link = mock(Link.class);
         Link1 openroadmLink1 = mock(Link1.class);
-        org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.Link1 otnAug =
-            mock(org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.Link1.class);
+        org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.Link1 otnAug =
+            mock(org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.Link1.class);
 
         when(link.augmentation(Link1.class)).thenReturn(openroadmLink1);
         when(openroadmLink1.getLinkType()).thenReturn(OpenroadmLinkType.OTNLINK);
         when(link.augmentation(
-                org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.Link1.class))
+                org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.Link1.class))
                 .thenReturn(otnAug);
         when(otnAug.getOtnLinkType()).thenReturn(null);
 
@@ -91,7 +91,7 @@ class TapiLinkAttributesTest {
         when(link.augmentation(Link1.class)).thenReturn(openroadmLink1);
         when(openroadmLink1.getLinkType()).thenReturn(OpenroadmLinkType.OTNLINK);
         when(link.augmentation(
-                org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.Link1.class))
+                org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.Link1.class))
                 .thenReturn(null);
 
         TapiLinkAttributes attrs = TapiLinkAttributes.fromOpenRoadmLink(link);
@@ -8,6 +8,9 @@
 package org.opendaylight.transportpce.tapi.provider;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.calls;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -16,6 +19,7 @@ import com.google.common.util.concurrent.Futures;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opendaylight.mdsal.binding.api.DataBroker;
@@ -80,7 +84,10 @@ public class TapiProviderTest {
                 networkTransactionService, serviceDataStoreOperations, networkModelService,
                 tapiNetworkModelNotificationHandler, tapiNetworkModelServiceImpl, tapilink, tapiContext);
 
-        verify(rpcProviderService, times(1)).registerRpcImplementations(
+        // The PCE and renderer listeners are registered before the RPCs are exposed
+        InOrder inOrder = inOrder(notificationService, rpcProviderService);
+        inOrder.verify(notificationService, calls(2)).registerCompositeListener(any());
+        inOrder.verify(rpcProviderService, times(1)).registerRpcImplementations(
                 any(CreateConnectivityServiceImpl.class),
                 any(GetConnectivityServiceDetailsImpl.class),
                 any(GetConnectionDetailsImpl.class),
@@ -93,6 +100,6 @@ public class TapiProviderTest {
                 any(GetTopologyListImpl.class),
                 any(GetServiceInterfacePointDetailsImpl.class),
                 any(GetServiceInterfacePointListImpl.class));
-        verify(dataBroker, times(4)).registerTreeChangeListener(any(), any(), any());
+        verify(dataBroker, timeout(5000).times(6)).registerTreeChangeListener(any(), any(), any());
     }
 }
@@ -45,6 +45,7 @@ import org.opendaylight.transportpce.tapi.utils.TapiContext;
 import org.opendaylight.transportpce.tapi.utils.TapiInitialORMapping;
 import org.opendaylight.transportpce.tapi.utils.TapiLink;
 import org.opendaylight.transportpce.tapi.utils.TapiLinkImpl;
+import org.opendaylight.transportpce.tapi.utils.TapiListIndex;
 import org.opendaylight.transportpce.tapi.utils.TapiTopologyDataUtils;
 import org.opendaylight.transportpce.test.AbstractTest;
 import org.opendaylight.transportpce.test.utils.TopologyDataUtils;
@@ -558,7 +559,7 @@ public class TapiTopologyImplTest extends AbstractTest {
     void getSipDetailsWhenSuccessful() throws ExecutionException, InterruptedException {
         GetServiceInterfacePointListInput input = TapiTopologyDataUtils.buildServiceInterfacePointListInput();
         ListenableFuture<RpcResult<GetServiceInterfacePointListOutput>> result =
-                new GetServiceInterfacePointListImpl(tapiContext).invoke(input);
+                new GetServiceInterfacePointListImpl(tapiListIndex()).invoke(input);
         RpcResult<GetServiceInterfacePointListOutput> rpcResult = result.get();
         Map<SipKey, Sip> sipMap = rpcResult.getResult().getSip();
         for (Sip sip:sipMap.values()) {
@@ -575,6 +576,12 @@ public class TapiTopologyImplTest extends AbstractTest {
         }
     }
 
+    private static TapiListIndex tapiListIndex() {
+        TapiListIndex tapiListIndex = new TapiListIndex();
+        tapiContext.getTapiContext().nonnullServiceInterfacePoint().values().forEach(tapiListIndex::updateSip);
+        return tapiListIndex;
+    }
+
     private void checkOtnLink(Link link, Uuid topoUuid, Uuid node1Uuid, Uuid node2Uuid, Uuid tp1Uuid, Uuid tp2Uuid,
             Uuid linkUuid, String linkName) {
         assertEquals(linkName, link.getName().get(new NameKey("otn link name")).getValue(), "bad name for the link");
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.topology;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.NetworkId;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.NodeId;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.network.Node;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.network.NodeBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.network.node.SupportingNode;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.network.node.SupportingNodeBuilder;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+
+class XpdrNodeConversionEngineTest {
+
+    private static final Uuid TOPO_UUID = new Uuid("393f09a4-0a0b-3d82-a4f6-1fbbc14ca1a7");
+
+    private final AtomicInteger conversions = new AtomicInteger();
+    private XpdrNodeConversionEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new XpdrNodeConversionEngine((topoUuid, node, networkPorts) -> {
+            conversions.incrementAndGet();
+            var tapiNode = new org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology
+                    .NodeBuilder()
+                .setUuid(new Uuid(UUID.nameUUIDFromBytes(node.getNodeId().getValue()
+                    .getBytes(StandardCharsets.UTF_8)).toString()))
+                .build();
+            return new XpdrNodeConversionEngine.Conversion(Map.of(tapiNode.key(), tapiNode), Map.of());
+        });
+    }
+
+    private static Node node(String nodeId, String supportingNodeId) {
+        SupportingNode supportingNode = new SupportingNodeBuilder()
+            .setNetworkRef(new NetworkId("openroadm-network"))
+            .setNodeRef(new NodeId(supportingNodeId))
+            .build();
+        return new NodeBuilder()
+            .setNodeId(new NodeId(nodeId))
+            .setSupportingNode(Map.of(supportingNode.key(), supportingNode))
+            .build();
+    }
+
+    @Test
+    void unchangedNodesAreNotConvertedAgain() {
+        Node xpdrA = node("XPDR-A1-XPDR1", "XPDR-A1");
+        var conversion = engine.convertNode(TOPO_UUID, xpdrA, List.of("XPDR1-NETWORK1"));
+        assertSame(conversion, engine.convertNode(TOPO_UUID, node("XPDR-A1-XPDR1", "XPDR-A1"),
+            List.of("XPDR1-NETWORK1")), "An equal node should reuse the previous conversion");
+        assertEquals(1, conversions.get());
+        assertEquals(1, engine.getCacheHits());
+
+        assertNotSame(conversion, engine.convertNode(TOPO_UUID, xpdrA, List.of("XPDR1-NETWORK2")),
+            "A change of network ports should trigger a new conversion");
+        assertNotSame(conversion, engine.convertNode(TOPO_UUID, node("XPDR-A1-XPDR1", "XPDR-A2"),
+            List.of("XPDR1-NETWORK2")), "A change of the node should trigger a new conversion");
+        assertEquals(3, conversions.get());
+    }
+
+    @Test
+    void nodeConversionsAreMerged() {
+        Map<NodeId, Node> otnNodeMap = Map.of(
+            new NodeId("XPDR-A1-XPDR1"), node("XPDR-A1-XPDR1", "XPDR-A1"),
+            new NodeId("XPDR-C1-XPDR1"), node("XPDR-C1-XPDR1", "XPDR-C1"),
+            new NodeId("SPDR-SA1-XPDR1"), node("SPDR-SA1-XPDR1", "SPDR-SA1"));
+        Map<String, List<String>> networkPortMap = Map.of(
+            "XPDR-A1-XPDR1", List.of("XPDR1-NETWORK1"),
+            "XPDR-C1-XPDR1", List.of("XPDR1-NETWORK1"),
+            "SPDR-SA1-XPDR1", List.of("XPDR1-NETWORK1"));
+
+        assertEquals(3, engine.convertNodes(TOPO_UUID, networkPortMap, otnNodeMap).tapiNodes().size());
+        assertEquals(3, conversions.get());
+        assertEquals(3, engine.convertNodes(TOPO_UUID, networkPortMap, otnNodeMap).tapiNodes().size());
+        assertEquals(3, conversions.get(), "No node changed, no conversion expected");
+
+        // A node removed from the topology is removed from the cache
+        engine.convertNodes(TOPO_UUID, Map.of("XPDR-A1-XPDR1", List.of("XPDR1-NETWORK1")), otnNodeMap);
+        engine.convertNodes(TOPO_UUID, networkPortMap, otnNodeMap);
+        assertEquals(5, conversions.get());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendaylight.transportpce.servicehandler.service.ServiceDataStoreOperations;
+import org.opendaylight.transportpce.tapi.connectivity.ConnectivityUtils;
+import org.opendaylight.transportpce.tapi.topology.TapiTopologyException;
+import org.opendaylight.transportpce.tapi.topology.TopologyUtils;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.context.TopologyBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class TapiInitialORMappingTest {
+
+    @Mock
+    private TopologyUtils topologyUtils;
+    @Mock
+    private ConnectivityUtils connectivityUtils;
+    @Mock
+    private TapiContext tapiContext;
+    @Mock
+    private ServiceDataStoreOperations serviceDataStoreOperations;
+    private TapiInitialORMapping tapiInitialORMapping;
+
+    @BeforeEach
+    void setUp() {
+        tapiInitialORMapping = new TapiInitialORMapping(topologyUtils, connectivityUtils, tapiContext,
+            serviceDataStoreOperations);
+    }
+
+    @Test
+    void statusIsCompletedAfterTopologyAndServiceMapping() throws TapiTopologyException {
+        when(topologyUtils.createOtnTopology())
+            .thenReturn(new TopologyBuilder().setUuid(new Uuid("a21e4756-4d70-3d40-95b6-f7f630b4a13b")).build());
+        when(serviceDataStoreOperations.getServices()).thenReturn(Optional.empty());
+
+        assertTrue(tapiInitialORMapping.performInitialMapping());
+        InOrder inOrder = inOrder(tapiContext, topologyUtils, serviceDataStoreOperations);
+        inOrder.verify(tapiContext).setInitialMappingStatus(TapiInitialORMapping.Status.TOPOLOGY_MAPPING);
+        inOrder.verify(topologyUtils).createOtnTopology();
+        inOrder.verify(tapiContext).setInitialMappingStatus(TapiInitialORMapping.Status.SERVICE_MAPPING);
+        inOrder.verify(serviceDataStoreOperations).getServices();
+        inOrder.verify(tapiContext).setInitialMappingStatus(TapiInitialORMapping.Status.COMPLETED);
+    }
+
+    @Test
+    void statusIsFailedWhenMappingThrows() throws TapiTopologyException {
+        when(topologyUtils.createOtnTopology()).thenThrow(new IllegalStateException("broken topology"));
+
+        assertFalse(tapiInitialORMapping.performInitialMapping());
+        verify(tapiContext).setInitialMappingStatus(TapiInitialORMapping.Status.FAILED);
+        verify(tapiContext, never()).setInitialMappingStatus(TapiInitialORMapping.Status.COMPLETED);
+        verify(serviceDataStoreOperations, never()).getServices();
+    }
+}
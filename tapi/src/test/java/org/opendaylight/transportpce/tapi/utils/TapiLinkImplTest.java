@@ -41,7 +41,7 @@ import org.opendaylight.transportpce.tapi.topology.TapiTopologyException;
 import org.opendaylight.transportpce.tapi.topology.TopologyUtils;
 import org.opendaylight.transportpce.test.AbstractTest;
 import org.opendaylight.transportpce.test.utils.TopologyDataUtils;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902.OtnLinkType;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019.OtnLinkType;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Link1Builder;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.state.types.rev191129.State;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.equipment.states.types.rev191129.AdminStates;
@@ -1325,7 +1325,7 @@ class TapiLinkImplTest extends AbstractTest {
 
         var otuLink = orLinkBuilder(srcNodeId, srcTpId, destNodeId, destTpId, linkType, srcLinkId, oppLinkId);
         otuLink.addAugmentation(
-                new org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902
+                new org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019
                         .Link1Builder()
                         .setOtnLinkType(OtnLinkType.OTU4)
                         .build()
@@ -1347,7 +1347,7 @@ class TapiLinkImplTest extends AbstractTest {
 
         var otuLink = orLinkBuilder(srcNodeId, srcTpId, destNodeId, destTpId, linkType, srcLinkId, oppLinkId);
         otuLink.addAugmentation(
-                new org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902
+                new org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019
                         .Link1Builder()
                         .setOtnLinkType(OtnLinkType.ODTU4)
                         .build()
@@ -1370,7 +1370,7 @@ class TapiLinkImplTest extends AbstractTest {
 
         var otnLink = orLinkBuilder(srcNodeId, srcTpId, destNodeId, destTpId, linkType, srcLinkId, oppLinkId);
         otnLink.addAugmentation(
-                new org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev250902
+                new org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkutils.rev261019
                         .Link1Builder()
                         .setOtnLinkType(OtnLinkType.ODU0)
                         .build()
@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.AdministrativeState;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.LayerProtocolName;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.OperationalState;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.global._class.Name;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.global._class.NameBuilder;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.tapi.context.ServiceInterfacePoint;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.tapi.context.ServiceInterfacePointBuilder;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.context.ConnectivityService;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.context.ConnectivityServiceBuilder;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.service.EndPoint;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.service.EndPointBuilder;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.service.EndPointKey;
+
+class TapiListIndexTest {
+
+    private TapiListIndex tapiListIndex;
+
+    @BeforeEach
+    void setUp() {
+        tapiListIndex = new TapiListIndex();
+    }
+
+    private static ServiceInterfacePoint sip(String uuid, String name, LayerProtocolName layerProtocolName,
+            OperationalState operationalState) {
+        Name sipName = new NameBuilder().setValueName("SIP name").setValue(name).build();
+        return new ServiceInterfacePointBuilder()
+            .setUuid(new Uuid(uuid))
+            .setName(Map.of(sipName.key(), sipName))
+            .setLayerProtocolName(layerProtocolName)
+            .setAdministrativeState(AdministrativeState.UNLOCKED)
+            .setOperationalState(operationalState)
+            .build();
+    }
+
+    private static ConnectivityService service(String uuid, LayerProtocolName layerProtocolName, String... sipUuids) {
+        ConnectivityServiceBuilder builder = new ConnectivityServiceBuilder()
+            .setUuid(new Uuid(uuid))
+            .setLayerProtocolName(layerProtocolName)
+            .setAdministrativeState(AdministrativeState.UNLOCKED)
+            .setOperationalState(OperationalState.ENABLED);
+        Map<EndPointKey, EndPoint> endPoints = new HashMap<>();
+        for (int i = 0; i < sipUuids.length; i++) {
+            EndPoint endPoint = new EndPointBuilder()
+                .setLocalId(String.valueOf(i))
+                .setServiceInterfacePoint(new org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity
+                        .rev221121.connectivity.service.end.point.ServiceInterfacePointBuilder()
+                    .setServiceInterfacePointUuid(new Uuid(sipUuids[i]))
+                    .build())
+                .build();
+            endPoints.put(endPoint.key(), endPoint);
+        }
+        return builder.setEndPoint(endPoints).build();
+    }
+
+    private static List<String> uuids(TapiListIndex.Page<?> page) {
+        return page.entries().stream()
+            .map(entry -> entry instanceof ServiceInterfacePoint sip ? sip.getUuid().getValue()
+                : ((ConnectivityService) entry).getUuid().getValue())
+            .toList();
+    }
+
+    @Test
+    void sipsArePaginatedInUuidOrder() {
+        for (String uuid : List.of("05", "01", "04", "02", "03")) {
+            tapiListIndex.updateSip(sip(uuid, "XPDR-A1-XPDR1+DSR+XPDR1-CLIENT" + uuid, LayerProtocolName.DSR,
+                OperationalState.ENABLED));
+        }
+
+        TapiListIndex.Page<ServiceInterfacePoint> page = tapiListIndex.getSips(TapiListIndex.Filter.NONE, null, 2);
+        assertEquals(List.of("01", "02"), uuids(page));
+        assertEquals(new Uuid("02"), page.nextCursor());
+        page = tapiListIndex.getSips(TapiListIndex.Filter.NONE, page.nextCursor(), 2);
+        assertEquals(List.of("03", "04"), uuids(page));
+        page = tapiListIndex.getSips(TapiListIndex.Filter.NONE, page.nextCursor(), 2);
+        assertEquals(List.of("05"), uuids(page));
+        assertNull(page.nextCursor(), "The last page should have no next cursor");
+        assertEquals(5, tapiListIndex.getSips(TapiListIndex.Filter.NONE, null, null).entries().size());
+    }
+
+    @Test
+    void sipsAreFilteredByLayerNodeAndState() {
+        tapiListIndex.updateSip(sip("01", "XPDR-A1-XPDR1+DSR+XPDR1-CLIENT1", LayerProtocolName.DSR,
+            OperationalState.ENABLED));
+        tapiListIndex.updateSip(sip("02", "XPDR-A1-XPDR1+iOTSi+XPDR1-NETWORK1", LayerProtocolName.PHOTONICMEDIA,
+            OperationalState.ENABLED));
+        tapiListIndex.updateSip(sip("03", "XPDR-C1-XPDR1+DSR+XPDR1-CLIENT1", LayerProtocolName.DSR,
+            OperationalState.DISABLED));
+
+        assertEquals(List.of("01", "03"), uuids(tapiListIndex.getSips(
+            new TapiListIndex.Filter(LayerProtocolName.DSR, null, null, null), null, null)));
+        assertEquals(List.of("01", "02"), uuids(tapiListIndex.getSips(
+            new TapiListIndex.Filter(null, "XPDR-A1-XPDR1", null, null), null, null)));
+        assertEquals(List.of("01"), uuids(tapiListIndex.getSips(
+            new TapiListIndex.Filter(LayerProtocolName.DSR, null, null, OperationalState.ENABLED), null, null)));
+
+        tapiListIndex.updateSip(sip("03", "XPDR-C1-XPDR1+DSR+XPDR1-CLIENT1", LayerProtocolName.DSR,
+            OperationalState.ENABLED));
+        tapiListIndex.removeSip("01");
+        assertEquals(List.of("03"), uuids(tapiListIndex.getSips(
+            new TapiListIndex.Filter(LayerProtocolName.DSR, null, null, OperationalState.ENABLED), null, null)));
+        assertEquals(List.of(), uuids(tapiListIndex.getSips(
+            new TapiListIndex.Filter(null, "XPDR-B1-XPDR1", null, null), null, null)));
+    }
+
+    @Test
+    void servicesAreFilteredByNodeOfTheirSips() {
+        assertFalse(tapiListIndex.hasConnectivityServices());
+        // The services are indexed before their service interface points
+        tapiListIndex.updateConnectivityService(service("s1", LayerProtocolName.DSR, "01", "03"));
+        tapiListIndex.updateConnectivityService(service("s2", LayerProtocolName.PHOTONICMEDIA, "02", "04"));
+        tapiListIndex.updateSip(sip("01", "XPDR-A1-XPDR1+DSR+XPDR1-CLIENT1", LayerProtocolName.DSR,
+            OperationalState.ENABLED));
+        tapiListIndex.updateSip(sip("02", "XPDR-A1-XPDR1+iOTSi+XPDR1-NETWORK1", LayerProtocolName.PHOTONICMEDIA,
+            OperationalState.ENABLED));
+        tapiListIndex.updateSip(sip("03", "XPDR-C1-XPDR1+DSR+XPDR1-CLIENT1", LayerProtocolName.DSR,
+            OperationalState.ENABLED));
+
+        TapiListIndex.Filter nodeA = new TapiListIndex.Filter(null, "XPDR-A1-XPDR1", null, null);
+        TapiListIndex.Page<ConnectivityService> page = tapiListIndex.getConnectivityServices(nodeA, null, 1);
+        assertEquals(List.of("s1"), uuids(page));
+        page = tapiListIndex.getConnectivityServices(nodeA, page.nextCursor(), 1);
+        assertEquals(List.of("s2"), uuids(page));
+        assertNull(page.nextCursor());
+        assertEquals(List.of("s1"), uuids(tapiListIndex.getConnectivityServices(
+            new TapiListIndex.Filter(null, "XPDR-C1-XPDR1", null, null), null, null)));
+
+        tapiListIndex.removeConnectivityService("s1");
+        assertEquals(List.of(), uuids(tapiListIndex.getConnectivityServices(
+            new TapiListIndex.Filter(null, "XPDR-C1-XPDR1", null, null), null, null)));
+        assertEquals(List.of("s2"), uuids(tapiListIndex.getConnectivityServices(
+            TapiListIndex.Filter.NONE, null, null)));
+        tapiListIndex.removeConnectivityService("s2");
+        assertFalse(tapiListIndex.hasConnectivityServices());
+    }
+}
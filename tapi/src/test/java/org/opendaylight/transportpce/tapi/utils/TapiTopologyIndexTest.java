@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2026 Orange, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+
+class TapiTopologyIndexTest {
+
+    private static final Uuid TOPO1 = new Uuid("393f09a4-0a0b-3d82-a4f6-1fbbc14ca1a7");
+    private static final Uuid TOPO2 = new Uuid("747c670e-7a07-3dab-b379-5b1cd17402a3");
+    private static final Uuid NODE = new Uuid("4e44bcc5-08d3-3fee-8fac-f021489e5a61");
+
+    private TapiTopologyIndex topologyIndex;
+
+    @BeforeEach
+    void setUp() {
+        topologyIndex = new TapiTopologyIndex();
+    }
+
+    @Test
+    void nodeTopologiesAreIndexed() {
+        assertTrue(topologyIndex.getNodeTopologies(NODE).isEmpty());
+        topologyIndex.addNode(TOPO1, NODE);
+        assertEquals(Set.of(TOPO1), topologyIndex.getNodeTopologies(NODE));
+        topologyIndex.addNode(TOPO2, NODE);
+        topologyIndex.addNode(TOPO2, NODE);
+        assertEquals(Set.of(TOPO1, TOPO2), topologyIndex.getNodeTopologies(NODE));
+
+        topologyIndex.removeNode(TOPO2, NODE);
+        assertEquals(Set.of(TOPO1), topologyIndex.getNodeTopologies(NODE));
+        topologyIndex.removeNode(TOPO1, NODE);
+        assertTrue(topologyIndex.getNodeTopologies(NODE).isEmpty());
+    }
+}